@@ -0,0 +1,85 @@
+package com.rpggame.benchmarks;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.rpggame.core.GamePanel;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogLevel;
+import com.rpggame.entities.Goblin;
+import com.rpggame.entities.Player;
+import com.rpggame.systems.CharacterStats;
+import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.TileMap;
+
+/**
+ * Montagem do mundo usada pelos benchmarks: mapa real de maps/, jogador e
+ * goblins em tiles caminháveis. Roda sem tela e só com logs de aviso.
+ */
+final class BenchmarkWorld {
+  static final String GOBLIN_MAP = "maps/goblin_territories_25x25.rmap";
+  static final String GOBLIN_MAP_ID = "goblin_territories";
+
+  private BenchmarkWorld() {
+  }
+
+  /**
+   * Sem tela e só logs de aviso (os prints do jogo distorcem as medições)
+   */
+  static void configure() {
+    System.setProperty("java.awt.headless", "true");
+    Log.setLevel(LogLevel.WARN);
+  }
+
+  static TileMap loadMap(String path, String mapId) {
+    configure();
+    return new TileMap(path, mapId);
+  }
+
+  /**
+   * Jogador no centro do tile informado
+   */
+  static Player createPlayer(TileMap tileMap, int tileX, int tileY) {
+    int size = GamePanel.TILE_SIZE;
+    Player player = new Player(tileX * size + 8, tileY * size, "sprites/WarriorPlayer.png", "Warrior",
+        new CharacterStats("Warrior"));
+    player.setTileMap(tileMap);
+    return player;
+  }
+
+  static EnemyManager createEnemyManager(Player player, TileMap tileMap) {
+    EnemyManager enemyManager = new EnemyManager(player, tileMap);
+    player.setEnemyManager(enemyManager);
+    enemyManager.setCurrentMapId(GOBLIN_MAP_ID);
+    return enemyManager;
+  }
+
+  /**
+   * Espalha goblins pelos tiles caminháveis (mais de um por tile quando
+   * faltam tiles), sempre na mesma ordem para a semente dada
+   */
+  static void spawnGoblins(EnemyManager enemyManager, TileMap tileMap, int count, long seed) {
+    List<Point> tiles = walkableTiles(tileMap);
+    Random random = new Random(seed);
+    int size = GamePanel.TILE_SIZE;
+    for (int i = 0; i < count; i++) {
+      Point tile = tiles.get(random.nextInt(tiles.size()));
+      enemyManager.addEnemy(new Goblin(enemyManager.getStore(), tile.x * size + random.nextInt(size / 2), tile.y * size
+          + random.nextInt(size / 2)));
+    }
+  }
+
+  static List<Point> walkableTiles(TileMap tileMap) {
+    List<Point> tiles = new ArrayList<>();
+    for (int y = 0; y < tileMap.getHeight(); y++) {
+      for (int x = 0; x < tileMap.getWidth(); x++) {
+        if (tileMap.isWalkable(x, y)) {
+          tiles.add(new Point(x, y));
+        }
+      }
+    }
+    return tiles;
+  }
+}
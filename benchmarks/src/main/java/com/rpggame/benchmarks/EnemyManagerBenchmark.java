@@ -0,0 +1,66 @@
+package com.rpggame.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rpggame.entities.Player;
+import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.TileMap;
+
+/**
+ * Um tick do EnemyManager (efeitos, IA, movimento no EntityStore e índice
+ * espacial) com 10, 100 e 1000 goblins. O mundo é refeito a cada iteração
+ * para que mortes e deslocamentos de uma não contaminem a próxima.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyManagerBenchmark {
+  @Param({ "10", "100", "1000" })
+  public int goblins;
+
+  private TileMap tileMap;
+  private Player player;
+  private EnemyManager enemyManager;
+
+  @Setup(Level.Trial)
+  public void loadMap() {
+    tileMap = BenchmarkWorld.loadMap(BenchmarkWorld.GOBLIN_MAP, BenchmarkWorld.GOBLIN_MAP_ID);
+  }
+
+  @Setup(Level.Iteration)
+  public void spawn() {
+    player = BenchmarkWorld.createPlayer(tileMap, 12, 3);
+    enemyManager = BenchmarkWorld.createEnemyManager(player, tileMap);
+    BenchmarkWorld.spawnGoblins(enemyManager, tileMap, goblins, 42L);
+    tileMap.updatePlayerFlowField(player);
+  }
+
+  @TearDown(Level.Iteration)
+  public void clear() {
+    enemyManager.clearAllEnemies(); // Libera os slots do EntityStore compartilhado
+  }
+
+  @Benchmark
+  public EnemyManager update() {
+    enemyManager.update();
+    tileMap.getPathService().update();
+    return enemyManager;
+  }
+}
@@ -0,0 +1,57 @@
+package com.rpggame.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rpggame.entities.Player;
+import com.rpggame.world.FogOfWar;
+import com.rpggame.world.TileGrid;
+import com.rpggame.world.TileMap;
+
+/**
+ * FogOfWar.updateVisibility: recálculo completo (shadowcasting) e o caso
+ * comum em que o jogador continua no mesmo tile
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FogOfWarBenchmark {
+  private FogOfWar fogOfWar;
+  private TileGrid map;
+  private Player player;
+
+  @Setup
+  public void setup() {
+    TileMap tileMap = BenchmarkWorld.loadMap(BenchmarkWorld.GOBLIN_MAP, BenchmarkWorld.GOBLIN_MAP_ID);
+    fogOfWar = tileMap.getFogOfWar();
+    map = tileMap.getGrid();
+    player = BenchmarkWorld.createPlayer(tileMap, 12, 12);
+    fogOfWar.updateVisibility(player, map);
+  }
+
+  @Benchmark
+  public FogOfWar recompute() {
+    fogOfWar.invalidate();
+    fogOfWar.updateVisibility(player, map);
+    return fogOfWar;
+  }
+
+  @Benchmark
+  public FogOfWar sameTile() {
+    fogOfWar.updateVisibility(player, map);
+    return fogOfWar;
+  }
+}
@@ -0,0 +1,49 @@
+package com.rpggame.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rpggame.world.MapFile;
+import com.rpggame.world.MapLoader;
+import com.rpggame.world.TileGrid;
+
+/**
+ * MapLoader.loadMapFromFile dos mapas do jogo (leitura do .txt e conversão
+ * em tiles) e MapLoader.loadMap do .rmap correspondente
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLoaderBenchmark {
+  @Param({ "maps/village.txt", "maps/goblin_territories_25x25.txt", "maps/secret_area.txt" })
+  public String mapPath;
+
+  @Setup
+  public void setup() {
+    BenchmarkWorld.configure();
+  }
+
+  @Benchmark
+  public TileGrid loadMapFromFile() {
+    return MapLoader.loadMapFromFile(mapPath);
+  }
+
+  @Benchmark
+  public MapFile loadBinaryMap() {
+    return MapLoader.loadMap(mapPath.replace(".txt", MapFile.EXTENSION));
+  }
+}
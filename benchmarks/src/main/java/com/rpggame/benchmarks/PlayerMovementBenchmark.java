@@ -0,0 +1,66 @@
+package com.rpggame.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.rpggame.core.GamePanel;
+import com.rpggame.entities.Player;
+import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.TileMap;
+
+/**
+ * Player.canMoveToPosition (4 cantos da hitbox + estruturas) em posições
+ * espalhadas pelo mapa da vila, que tem estruturas
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerMovementBenchmark {
+  private static final int POSITIONS = 1024;
+
+  private Player player;
+  private double[] xs;
+  private double[] ys;
+  private int next;
+
+  @Setup
+  public void setup() {
+    TileMap tileMap = BenchmarkWorld.loadMap("maps/village.txt", "village");
+    player = BenchmarkWorld.createPlayer(tileMap, 12, 22);
+    EnemyManager enemyManager = new EnemyManager(player, tileMap);
+    player.setEnemyManager(enemyManager);
+    enemyManager.setCurrentMapId("village");
+    enemyManager.initializeVillageStructures();
+
+    // Posições fixas em uma grade com passo ímpar (cobre bordas de tile)
+    xs = new double[POSITIONS];
+    ys = new double[POSITIONS];
+    double width = tileMap.getWidth() * GamePanel.TILE_SIZE;
+    double height = tileMap.getHeight() * GamePanel.TILE_SIZE;
+    for (int i = 0; i < POSITIONS; i++) {
+      xs[i] = (i * 37.0) % width;
+      ys[i] = (i * 53.0) % height;
+    }
+  }
+
+  @Benchmark
+  public void canMoveToPosition(Blackhole blackhole) {
+    int i = next;
+    next = (i + 1) & (POSITIONS - 1);
+    blackhole.consume(player.canMoveToPosition(xs[i], ys[i]));
+  }
+}
@@ -0,0 +1,92 @@
+package com.rpggame.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rpggame.core.GamePanel;
+import com.rpggame.entities.Player;
+import com.rpggame.entities.Projectile;
+import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.TileMap;
+
+/**
+ * EnemyManager.checkProjectileCollisions com 50 projéteis espalhados pelo
+ * mapa. Os projéteis não causam dano (0), então o estado dos goblins não muda
+ * entre chamadas. Acertos devolvem o projétil ao pool (Projectile.free), então
+ * cada chamada tira os 50 do pool com Projectile.obtain e devolve os que
+ * sobraram, como o jogo faz.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectileCollisionBenchmark {
+  private static final int PROJECTILES = 50;
+
+  @Param({ "10", "100", "1000" })
+  public int goblins;
+
+  private EnemyManager enemyManager;
+  private double[] startX;
+  private double[] startY;
+  private double[] angle;
+  private ArrayList<Projectile> working;
+
+  @Setup
+  public void setup() {
+    TileMap tileMap = BenchmarkWorld.loadMap(BenchmarkWorld.GOBLIN_MAP, BenchmarkWorld.GOBLIN_MAP_ID);
+    Player player = BenchmarkWorld.createPlayer(tileMap, 12, 3);
+    enemyManager = BenchmarkWorld.createEnemyManager(player, tileMap);
+    BenchmarkWorld.spawnGoblins(enemyManager, tileMap, goblins, 42L);
+
+    Random random = new Random(7L);
+    int worldWidth = tileMap.getWidth() * GamePanel.TILE_SIZE;
+    int worldHeight = tileMap.getHeight() * GamePanel.TILE_SIZE;
+    startX = new double[PROJECTILES];
+    startY = new double[PROJECTILES];
+    angle = new double[PROJECTILES];
+    for (int i = 0; i < PROJECTILES; i++) {
+      startX[i] = random.nextInt(worldWidth);
+      startY[i] = random.nextInt(worldHeight);
+      angle[i] = random.nextDouble() * Math.PI * 2;
+    }
+    working = new ArrayList<>(PROJECTILES);
+  }
+
+  @TearDown
+  public void tearDown() {
+    enemyManager.clearAllEnemies();
+  }
+
+  @Benchmark
+  public int checkProjectileCollisions() {
+    for (int i = 0; i < PROJECTILES; i++) {
+      working.add(Projectile.obtain(startX[i], startY[i], angle[i], Projectile.ARROW, 0));
+    }
+    enemyManager.checkProjectileCollisions(working);
+
+    // Os que acertaram já voltaram ao pool
+    int remaining = working.size();
+    for (int i = 0; i < remaining; i++) {
+      Projectile.free(working.get(i));
+    }
+    working.clear();
+    return remaining;
+  }
+}
@@ -0,0 +1,64 @@
+package com.rpggame.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rpggame.core.Game;
+import com.rpggame.entities.Player;
+import com.rpggame.world.Camera;
+import com.rpggame.world.TileMap;
+
+/**
+ * TileMap.render (chão em blocos + fog of war) numa imagem fora da tela do
+ * tamanho da janela do jogo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileMapRenderBenchmark {
+  private TileMap tileMap;
+  private Camera camera;
+  private BufferedImage target;
+  private Graphics2D g;
+
+  @Setup
+  public void setup() {
+    tileMap = BenchmarkWorld.loadMap(BenchmarkWorld.GOBLIN_MAP, BenchmarkWorld.GOBLIN_MAP_ID);
+    Player player = BenchmarkWorld.createPlayer(tileMap, 12, 12);
+    tileMap.updateFogOfWar(player);
+
+    camera = new Camera(0, 0);
+    camera.centerOnPlayer(player, tileMap);
+    camera.storePreviousPosition();
+
+    target = new BufferedImage(Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    g = target.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage render() {
+    tileMap.render(g, camera);
+    return target;
+  }
+}
@@ -0,0 +1,201 @@
+package com.rpggame.core;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Renderização ativa: desenha o GamePanel num Canvas com BufferStrategy a
+ * partir de uma thread própria, sem depender do repaint() do EDT.
+ *
+ * Configuração por propriedades de sistema:
+ * -Drpggame.activeRendering=false volta para o paintComponent do Swing
+ * -Drpggame.vsync=true sincroniza com a taxa de atualização do monitor
+ */
+public class ActiveRenderer implements Runnable {
+  private static final int BUFFER_COUNT = 3; // Triple buffering
+  private static final long IDLE_WAIT = 10_000_000L; // 10ms enquanto o canvas não está visível
+  private static final int ERROR_LOG_INTERVAL = 100; // Com erro repetido, logar 1 a cada N frames
+
+  private final GamePanel panel;
+  private final Canvas canvas;
+  private final boolean vsync;
+  private final long frameTime;
+
+  private Thread renderThread;
+  private volatile boolean running = false;
+  private volatile boolean failed = false;
+  private int renderErrors = 0; // Só a thread de renderização acessa
+
+  public ActiveRenderer(GamePanel panel, long defaultFrameTime) {
+    this.panel = panel;
+    this.vsync = Boolean.getBoolean("rpggame.vsync");
+    this.frameTime = vsync ? getDisplayFrameTime(defaultFrameTime) : defaultFrameTime;
+
+    canvas = new Canvas();
+    canvas.setIgnoreRepaint(true);
+    canvas.setBackground(Color.BLACK);
+    canvas.setFocusable(false); // Foco fica no GamePanel, que trata o teclado
+    canvas.addMouseListener(panel);
+
+    // Manter o canvas do tamanho do painel
+    panel.addComponentListener(new ComponentAdapter() {
+      @Override
+      public void componentResized(ComponentEvent e) {
+        canvas.setBounds(0, 0, panel.getWidth(), panel.getHeight());
+      }
+    });
+  }
+
+  /**
+   * Verifica se a renderização ativa está habilitada nas propriedades
+   */
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty("rpggame.activeRendering", "true"));
+  }
+
+  /**
+   * Adiciona o canvas ao painel (também usado ao voltar de telas Swing)
+   */
+  public void attach() {
+    if (failed) {
+      return;
+    }
+    canvas.setBounds(0, 0, panel.getWidth(), panel.getHeight());
+    panel.add(canvas);
+  }
+
+  /**
+   * Inicia a thread de renderização
+   */
+  public void start() {
+    if (failed || (renderThread != null && renderThread.isAlive())) {
+      return;
+    }
+    running = true;
+    renderThread = new Thread(this, "RenderThread");
+    renderThread.setDaemon(true);
+    renderThread.start();
+    System.out.println("🖥️ Renderização ativa iniciada (" + BUFFER_COUNT + " buffers"
+        + (vsync ? ", vsync" : "") + ")");
+  }
+
+  public void stop() {
+    running = false;
+  }
+
+  /**
+   * Retorna true enquanto o canvas for o responsável por desenhar o jogo
+   */
+  public boolean isActive() {
+    return !failed;
+  }
+
+  @Override
+  public void run() {
+    FramePacer pacer = new FramePacer();
+    long nextFrame = System.nanoTime();
+
+    try {
+      while (running) {
+        if (!canvas.isDisplayable() || canvas.getWidth() <= 0) {
+          pacer.waitUntil(System.nanoTime() + IDLE_WAIT);
+          nextFrame = System.nanoTime();
+          continue;
+        }
+
+        try {
+          renderFrame();
+        } catch (AWTException e) {
+          fallbackToPassive(e.getMessage());
+          return;
+        } catch (IllegalStateException e) {
+          // Canvas removido durante o frame (ex: tela de características) - tentar de
+          // novo no próximo frame
+        } catch (RuntimeException e) {
+          // Erro ao desenhar perde só este frame, como no paintComponent
+          if (renderErrors++ % ERROR_LOG_INTERVAL == 0) {
+            Log.error(LogCategory.GAME, "Erro ao desenhar frame (" + renderErrors + "x): " + e);
+          }
+        }
+
+        nextFrame += frameTime;
+        long now = System.nanoTime();
+        if (nextFrame < now) {
+          nextFrame = now; // Não acumular atraso
+        }
+        pacer.waitUntil(nextFrame);
+      }
+    } finally {
+      if (running && !failed) {
+        // A thread morreu sem stop() (Error): voltar para o paintComponent
+        fallbackToPassive("thread de renderização encerrada");
+      }
+    }
+  }
+
+  /**
+   * Desenha um frame completo e apresenta na tela
+   */
+  private void renderFrame() throws AWTException {
+    BufferStrategy strategy = canvas.getBufferStrategy();
+    if (strategy == null) {
+      canvas.createBufferStrategy(BUFFER_COUNT);
+      strategy = canvas.getBufferStrategy();
+      if (strategy == null) {
+        throw new AWTException("BufferStrategy indisponível");
+      }
+    }
+
+    panel.prepareInterpolation(System.nanoTime());
+
+    do {
+      do {
+        Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+        try {
+          g.setColor(Color.BLACK);
+          g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+          panel.renderFrame(g);
+        } finally {
+          g.dispose();
+        }
+      } while (strategy.contentsRestored());
+
+      strategy.show();
+    } while (strategy.contentsLost());
+
+    if (vsync) {
+      Toolkit.getDefaultToolkit().sync();
+    }
+  }
+
+  /**
+   * Desativa a renderização ativa e devolve o desenho ao paintComponent
+   */
+  private void fallbackToPassive(String reason) {
+    failed = true;
+    running = false;
+    System.err.println("⚠️ Renderização ativa indisponível (" + reason + ") - usando paintComponent");
+    EventQueue.invokeLater(() -> {
+      panel.remove(canvas);
+      panel.repaint();
+    });
+  }
+
+  /**
+   * Duração de um frame na taxa de atualização do monitor principal
+   */
+  private static long getDisplayFrameTime(long defaultFrameTime) {
+    try {
+      GraphicsDevice device = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+      int refreshRate = device.getDisplayMode().getRefreshRate();
+      if (refreshRate != DisplayMode.REFRESH_RATE_UNKNOWN && refreshRate > 0) {
+        return 1_000_000_000L / refreshRate;
+      }
+    } catch (HeadlessException e) {
+      // Sem monitor - manter taxa padrão
+    }
+    return defaultFrameTime;
+  }
+}
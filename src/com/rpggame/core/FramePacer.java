@@ -0,0 +1,41 @@
+package com.rpggame.core;
+
+/**
+ * Controla o ritmo do loop principal combinando sleep e espera ativa.
+ * Dorme em fatias de 1ms enquanto há folga e gira apenas no final,
+ * onde a granularidade do Thread.sleep comprometeria a precisão.
+ */
+public class FramePacer {
+  private static final long ONE_MILLI = 1_000_000L;
+  private static final long SPIN_MARGIN = 500_000L; // 0.5ms sempre em espera ativa
+
+  // Estimativa do atraso médio do Thread.sleep(1) (ajustada em tempo de execução)
+  private long sleepOvershoot = ONE_MILLI;
+
+  /**
+   * Bloqueia até o instante informado (em System.nanoTime)
+   */
+  public void waitUntil(long deadline) {
+    while (true) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+
+      if (remaining > ONE_MILLI + sleepOvershoot + SPIN_MARGIN) {
+        long before = System.nanoTime();
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        // Média móvel do quanto o sleep passou do 1ms pedido
+        long overshoot = Math.max(0, System.nanoTime() - before - ONE_MILLI);
+        sleepOvershoot = (sleepOvershoot * 7 + overshoot) / 8;
+      } else {
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.rpggame.core;
+
+/**
+ * Profiler de frame com seções fixas em volta das fases do tick
+ * (GameWorld.update) e do desenho (GamePanel.renderFrame). Cada seção guarda
+ * as últimas WINDOW durações; getStats calcula mínimo, média, p99 e máximo
+ * dessa janela. Ligado pelo comando "profiler" do console, que também mostra
+ * o ProfilerOverlay.
+ *
+ * Uso: long start = FrameProfiler.begin(); ...; FrameProfiler.end(Section.X, start);
+ * Desligado, begin() é uma leitura de campo e end() um teste de zero.
+ *
+ * As seções de update são escritas pela thread do jogo e as de render pela de
+ * renderização; a leitura das estatísticas não sincroniza com elas (uma
+ * amostra atrasada não importa para o overlay).
+ */
+public final class FrameProfiler {
+  /**
+   * Fases medidas. As filhas (child = true) ficam dentro da seção total
+   * anterior (UPDATE ou RENDER).
+   */
+  public enum Section {
+    UPDATE("Update (tick)", false),
+    PLAYER("Jogador", true),
+    NPCS("NPCs e baús", true),
+    ENEMIES("Inimigos (IA)", true),
+    COLLISIONS("Colisões", true),
+    FOG("Fog e fluxo", true),
+    PATHS("Caminhos A*", true),
+    RENDER("Render (frame)", false),
+    MAP("Mapa e fog", true),
+    ENEMY_RENDER("Inimigos", true),
+    ENTITIES("NPCs, baús, jogador", true),
+    SKILLS("Habilidades", true),
+    UI("Interface", true);
+
+    private final String label;
+    private final boolean child;
+
+    Section(String label, boolean child) {
+      this.label = label;
+      this.child = child;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+
+    public boolean isChild() {
+      return child;
+    }
+  }
+
+  /**
+   * Estatísticas de uma seção na janela atual, em milissegundos
+   */
+  public static class Stats {
+    public double min;
+    public double avg;
+    public double p99;
+    public double max;
+    public int samples;
+  }
+
+  public static final double FRAME_BUDGET_MS = 1000.0 / 60.0;
+  private static final int WINDOW = 256; // ~4s de amostras a 60 Hz (potência de 2)
+
+  private static final Section[] SECTIONS = Section.values();
+  private static final long[][] samples = new long[SECTIONS.length][WINDOW];
+  private static final int[] written = new int[SECTIONS.length];
+
+  private static volatile boolean enabled = false;
+
+  private FrameProfiler() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Liga ou desliga a medição; ao ligar começa com as janelas vazias
+   */
+  public static void setEnabled(boolean value) {
+    if (value && !enabled) {
+      reset();
+    }
+    enabled = value;
+  }
+
+  public static void reset() {
+    java.util.Arrays.fill(written, 0);
+  }
+
+  /**
+   * Início de uma seção (0 se o profiler está desligado)
+   */
+  public static long begin() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Fim de uma seção iniciada com begin()
+   */
+  public static void end(Section section, long start) {
+    if (start != 0L) {
+      int index = section.ordinal();
+      int count = written[index];
+      samples[index][count & (WINDOW - 1)] = System.nanoTime() - start;
+      written[index] = count + 1;
+    }
+  }
+
+  /**
+   * Calcula as estatísticas da seção na janela atual
+   */
+  public static Stats getStats(Section section, Stats out) {
+    int index = section.ordinal();
+    int count = Math.min(written[index], WINDOW);
+    out.samples = count;
+    if (count == 0) {
+      out.min = out.avg = out.p99 = out.max = 0;
+      return out;
+    }
+
+    long[] sorted = java.util.Arrays.copyOf(samples[index], count);
+    java.util.Arrays.sort(sorted);
+    long sum = 0;
+    for (long value : sorted) {
+      sum += value;
+    }
+    out.min = sorted[0] / 1e6;
+    out.avg = sum / 1e6 / count;
+    out.p99 = sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)] / 1e6;
+    out.max = sorted[count - 1] / 1e6;
+    return out;
+  }
+
+  /**
+   * Tabela com as estatísticas de todas as seções (para o log)
+   */
+  public static String report() {
+    StringBuilder builder = new StringBuilder("📊 Profiler (ms, últimas " + WINDOW + " amostras)\n");
+    builder.append(String.format("%-24s %7s %7s %7s %7s%n", "Seção", "min", "média", "p99", "máx"));
+    Stats stats = new Stats();
+    for (Section section : SECTIONS) {
+      getStats(section, stats);
+      builder.append(String.format("%-24s %7.3f %7.3f %7.3f %7.3f%n",
+          (section.isChild() ? "  " : "") + section.getLabel(), stats.min, stats.avg, stats.p99, stats.max));
+    }
+    return builder.toString();
+  }
+}
@@ -3,6 +3,7 @@ package com.rpggame.core;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 import com.rpggame.ui.MainMenuScreen;
+import com.rpggame.world.AssetPreloader;
 
 /**
  * Classe principal do jogo RPG 2.5D.
@@ -47,6 +48,9 @@ public class Game {
    * @param args argumentos da linha de comando
    */
   public static void main(String[] args) {
+    // Decodificar sprites em segundo plano enquanto o menu abre
+    AssetPreloader.start();
+
     SwingUtilities.invokeLater(() -> {
       try {
         // Usar o look and feel padrão do sistema
@@ -13,9 +13,6 @@ import com.rpggame.entities.Chest;
 import com.rpggame.enemies.mimic.Mimic;
 import com.rpggame.npcs.NPC;
 import com.rpggame.npcs.MerchantNPC;
-import com.rpggame.npcs.GuardNPC;
-import com.rpggame.npcs.VillagerNPC;
-import com.rpggame.npcs.WiseManNPC;
 import com.rpggame.world.*;
 import com.rpggame.systems.*;
 import com.rpggame.systems.MusicManager;
@@ -29,18 +26,33 @@ import com.rpggame.ui.GoldUI;
 import com.rpggame.ui.QuestChoiceBox;
 import com.rpggame.ui.ShopUI;
 import com.rpggame.ui.LockpickingMinigame;
+import com.rpggame.ui.ProfilerOverlay;
+import com.rpggame.world.RenderResources;
 
 /**
  * Painel principal onde o jogo é renderizado
  */
 public class GamePanel extends JPanel implements KeyListener, MouseListener, Runnable {
   public static final int TILE_SIZE = 48; // Aumentado para dar zoom
-  public static final int MAP_WIDTH = 25; // Mapa maior 25x25 para territórios distantes
-  public static final int MAP_HEIGHT = 25; // Novo mapa 15x15
+  // Tamanho do mapa gerado quando nenhum arquivo carrega (os mapas de maps/
+  // têm o tamanho do próprio arquivo; ver TileMap.getWidth/getHeight)
+  public static final int DEFAULT_MAP_WIDTH = 25;
+  public static final int DEFAULT_MAP_HEIGHT = 25;
 
   private Thread gameThread;
   private boolean running = false;
 
+  // Renderização ativa (Canvas + BufferStrategy); null = apenas paintComponent
+  private ActiveRenderer activeRenderer;
+
+  // Instante correspondente ao estado do último tick (para interpolação)
+  private volatile long lastTickTime = System.nanoTime();
+
+  // Snapshots das listas de entidades entregues à renderização a cada tick
+  private final SnapshotExchange snapshots = new SnapshotExchange();
+
+  // Mapa, jogador, inimigos, NPCs e baús (os campos abaixo são atalhos para ele)
+  private GameWorld world;
   private Player player;
   private TileMap tileMap;
   private Camera camera;
@@ -58,7 +70,6 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   private NPC currentTalkingNPC = null;
   private boolean showingDialog = false;
   private boolean waitingForQuestChoice = false; // Flag para aguardar escolha S/N
-  private MerchantNPC merchantNPC; // Referência para o mercador (para a loja)
 
   // Sistema de UI de habilidades
   private SkillSlotUI skillSlotUI;
@@ -88,12 +99,17 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   private boolean showingDeathScreen = false;
   private Rectangle newGameButton;
 
+  // Debug - Painel do profiler (comando "profiler" no console)
+  private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+
   // Debug - Visualização de campo de visão
   private boolean showVisionCones = false;
 
   // FPS
   private final int FPS = 60;
   private final long TARGET_TIME = 1000000000 / FPS;
+  private static final int MAX_CATCH_UP_TICKS = 5; // Máximo de ticks extras por frame
+  private static final long MAX_FRAME_TIME = 250_000_000L; // 250ms
 
   public GamePanel() {
     setPreferredSize(new Dimension(Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT));
@@ -105,6 +121,12 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     // Garantir que use layout null por padrão para renderização custom
     setLayout(null);
 
+    // Renderização ativa em thread própria (paintComponent fica como fallback)
+    if (ActiveRenderer.isEnabled()) {
+      activeRenderer = new ActiveRenderer(this, TARGET_TIME);
+      activeRenderer.attach();
+    }
+
     // Garantir que o painel receba foco
     requestFocusInWindow();
 
@@ -113,25 +135,22 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   }
 
   private void initializeGame() {
-    // Inicializar sistema de mapas primeiro
-    mapManager = new MapManager();
+    // Sprites pré-carregados desde o menu (normalmente já terminou)
+    AssetPreloader.awaitCompletion();
+
+    // Mundo do jogo: mapa inicial do MapManager e os NPCs dele
+    world = new GameWorld();
+    mapManager = world.getMapManager();
+    tileMap = world.getTileMap();
+    npcs = world.getNPCs();
+    chests = world.getChests();
 
     // Inicializar sistema de música
     musicManager = new MusicManager();
 
-    // Criar o mapa de tiles
-    tileMap = new TileMap();
-
-    // Carregar o mapa inicial correto baseado no MapManager
-    MapManager.MapData initialMap = mapManager.getCurrentMap();
-    if (initialMap != null) {
-      tileMap.reloadMap(initialMap.getFilePath(), mapManager.getCurrentMapId());
-      System.out.println("✅ Mapa inicial carregado: " + initialMap.getName());
-
-      // Iniciar música do mapa inicial
-      if (musicManager != null) {
-        musicManager.playMusicForMap(mapManager.getCurrentMapId());
-      }
+    // Iniciar música do mapa inicial
+    if (mapManager.getCurrentMap() != null) {
+      musicManager.playMusicForMap(mapManager.getCurrentMapId());
     }
 
     // Criar a câmera
@@ -140,18 +159,13 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     // Inicializar sistema de diálogos
     dialogBox = new DialogBox();
     questChoiceBox = new QuestChoiceBox();
-    npcs = new java.util.ArrayList<>();
 
-    // Inicializar sistema de baús
-    chests = new java.util.ArrayList<>();
+    // Inicializar minigame dos baús
     lockpickingMinigame = new LockpickingMinigame();
 
     // Inicializar sistema de transições
     mapTransition = new MapTransition();
 
-    // Criar NPCs de exemplo
-    createExampleNPCs();
-
     // Não criar player aqui - será criado quando setPlayerClass for chamado
     // Isso evita conflitos quando o jogo é iniciado através da tela de criação de
     // personagem
@@ -159,7 +173,7 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     System.out.println("=== SISTEMA INICIALIZADO ===");
     System.out.println("TileMap criado");
     System.out.println("Tamanho dos tiles: " + TILE_SIZE + "px");
-    System.out.println("Mapa: " + MAP_WIDTH + "x" + MAP_HEIGHT + " tiles");
+    System.out.println("Mapa: " + tileMap.getWidth() + "x" + tileMap.getHeight() + " tiles");
     System.out.println("Aguardando criação do personagem...");
     System.out.println("========================");
   }
@@ -167,15 +181,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   public void setPlayerClass(String playerClass, String spritePath) {
     // Verificar se o tileMap já foi inicializado antes de criar o player
     if (tileMap != null) {
-      // Posição inicial fixa no mapa village (x:558, y:217)
-      player = new Player(558, 217, spritePath);
-      player.setTileMap(tileMap);
-
-      // Reinicializar o gerenciador de inimigos com o novo player
-      enemyManager = new EnemyManager(player, tileMap);
-      player.setEnemyManager(enemyManager); // Conectar player ao enemy manager
-      enemyManager.setCurrentMapId(mapManager.getCurrentMapId());
-      enemyManager.initializeGoblinFamilies(tileMap);
+      // Posição inicial fixa no mapa village, com um novo gerenciador de inimigos
+      player = world.createPlayer(playerClass, spritePath, null);
+      enemyManager = world.getEnemyManager();
     } else {
       // Fallback para posição central se tileMap ainda não foi inicializado
       player = new Player(360, 360, spritePath);
@@ -186,15 +194,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   public void setPlayerClass(String playerClass, String spritePath, CharacterStats stats) {
     // Conectar o mapa ao jogador para verificação de colisão
     if (tileMap != null) {
-      // Posição inicial fixa no mapa village (x:558, y:217)
-      player = new Player(558, 217, spritePath, playerClass, stats);
-      player.setTileMap(tileMap);
-
-      // Criar o gerenciador de inimigos com o novo player
-      enemyManager = new EnemyManager(player, tileMap);
-      player.setEnemyManager(enemyManager); // Conectar player ao enemy manager
-      enemyManager.setCurrentMapId(mapManager.getCurrentMapId());
-      enemyManager.initializeGoblinFamilies(tileMap);
+      // Posição inicial fixa no mapa village, com um novo gerenciador de inimigos
+      player = world.createPlayer(playerClass, spritePath, stats);
+      enemyManager = world.getEnemyManager();
 
       // Inicializar UI de slots de habilidades
       if (player.getSkillManager() != null) {
@@ -212,6 +214,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
       // Inicializar console de desenvolvedor
       developerConsole = new DeveloperConsole(player);
 
+      // Agrupar os sprites carregados até aqui em páginas do atlas
+      AssetCache.packAtlas();
+
       // Iniciar o loop do jogo se ainda não estiver rodando
       if (gameThread == null || !gameThread.isAlive()) {
         startGameLoop();
@@ -233,31 +238,95 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
       gameThread = new Thread(this);
       running = true;
       gameThread.start();
+      if (activeRenderer != null) {
+        activeRenderer.start();
+      }
       System.out.println("Game loop iniciado");
     }
   }
 
   @Override
   public void run() {
-    long startTime, elapsed, wait;
+    FramePacer pacer = new FramePacer();
+    long previousTime = System.nanoTime();
+    long accumulator = 0;
 
     while (running) {
-      startTime = System.nanoTime();
+      long frameStart = System.nanoTime();
+      // Limitar o tempo de um frame para não tentar recuperar pausas longas
+      accumulator += Math.min(frameStart - previousTime, MAX_FRAME_TIME);
+      previousTime = frameStart;
+
+      // Lógica em passos fixos de 1/60s, independente do custo de render
+      int ticks = 0;
+      while (accumulator >= TARGET_TIME && ticks < MAX_CATCH_UP_TICKS) {
+        storeInterpolationState();
+        update();
+        accumulator -= TARGET_TIME;
+        ticks++;
+      }
 
-      update();
-      repaint();
+      // Atraso grande demais: descartar o excesso em vez de acelerar o jogo
+      if (accumulator >= TARGET_TIME) {
+        accumulator %= TARGET_TIME;
+      }
 
-      elapsed = System.nanoTime() - startTime;
-      wait = TARGET_TIME - elapsed;
+      // Publicar o estado do último tick para a renderização
+      if (ticks > 0) {
+        publishSnapshot();
+      }
 
-      if (wait > 0) {
-        try {
-          Thread.sleep(wait / 1000000);
-        } catch (InterruptedException e) {
-          e.printStackTrace();
-        }
+      // Estado atual corresponde ao instante (agora - atraso acumulado)
+      lastTickTime = frameStart - accumulator;
+      if (!isActiveRendering()) {
+        prepareInterpolation(frameStart);
+        repaint();
+      }
+
+      pacer.waitUntil(frameStart + TARGET_TIME);
+    }
+  }
+
+  /**
+   * Verifica se o desenho está a cargo da thread de renderização ativa
+   */
+  private boolean isActiveRendering() {
+    return activeRenderer != null && activeRenderer.isActive();
+  }
+
+  /**
+   * Calcula a fração de tick decorrida no instante do render
+   */
+  void prepareInterpolation(long renderTime) {
+    camera.setInterpolation((double) (renderTime - lastTickTime) / TARGET_TIME);
+  }
+
+  /**
+   * Guarda as posições do tick anterior para interpolação na renderização
+   */
+  private void storeInterpolationState() {
+    camera.storePreviousPosition();
+    world.storePreviousPositions();
+  }
+
+  /**
+   * Captura as listas de entidades do tick atual e as entrega à renderização
+   */
+  private void publishSnapshot() {
+    RenderSnapshot snapshot = snapshots.beginCapture();
+    if (player != null) {
+      snapshot.addProjectiles(player.getProjectiles());
+      snapshot.addFloatingTexts(player.getFloatingTexts());
+      if (player.getSkillManager() != null) {
+        player.getSkillManager().captureSnapshot(snapshot);
       }
     }
+    if (enemyManager != null) {
+      enemyManager.captureSnapshot(snapshot);
+    }
+    snapshot.addNPCs(npcs);
+    snapshot.addChests(chests);
+    snapshots.publish();
   }
 
   private void update() {
@@ -305,35 +374,24 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
       return;
     }
 
-    player.update();
+    // Jogador, NPCs, baús, inimigos, colisões, visibilidade e caminhos
+    world.update();
 
     // Verificar desbloqueio de habilidade pendente
     if (player.getPendingSkillUnlock() > 0 && !showingDialog) {
       showSkillUnlockDialog(player.getPendingSkillUnlock());
     }
 
-    // Atualizar NPCs
-    updateNPCs();
-
-    // Atualizar baús
-    updateChests();
+    // Atualizar diálogo aberto
+    updateDialog();
 
     // Atualizar minigame se estiver ativo
     if (playingMinigame && lockpickingMinigame != null) {
       lockpickingMinigame.update();
     }
 
-    // Atualizar inimigos
-    if (enemyManager != null) {
-      enemyManager.update();
-
-      // Verificar colisões
-      enemyManager.checkProjectileCollisions(player.getProjectiles());
-      enemyManager.checkPlayerCollisions();
-    }
-
     // Atualizar câmera para seguir o jogador
-    camera.centerOnPlayer(player);
+    camera.centerOnPlayer(player, tileMap);
 
     // Verificar se player está sobre um portal
     checkPortalCollision();
@@ -343,6 +401,19 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
 
+    // Com renderização ativa o canvas cobre o painel
+    if (isActiveRendering()) {
+      return;
+    }
+
+    renderFrame((Graphics2D) g);
+  }
+
+  /**
+   * Desenha um frame completo do jogo (usado pelo paintComponent e pelo
+   * ActiveRenderer)
+   */
+  void renderFrame(Graphics2D g2d) {
     // Se estiver mostrando a tela de características, não renderizar o jogo
     if (showingCharacterScreen) {
       return;
@@ -350,56 +421,68 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
 
     // Se player ainda não foi criado, mostrar tela de loading
     if (player == null) {
-      Graphics2D g2d = (Graphics2D) g;
       g2d.setColor(Color.WHITE);
-      g2d.setFont(new Font("Arial", Font.BOLD, 24));
+      g2d.setFont(RenderResources.font("Arial", Font.BOLD, 24));
       g2d.drawString("Aguardando criação do personagem...", 300, 400);
       return;
     }
 
-    Graphics2D g2d = (Graphics2D) g;
+    long renderStart = FrameProfiler.begin();
+
+    // Listas de entidades do último tick publicado
+    RenderSnapshot snapshot = snapshots.acquire();
 
     // Aplicar antialiasing
     g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     // Renderizar o mapa
-    tileMap.render(g2d, camera, player);
+    long start = FrameProfiler.begin();
+    tileMap.render(g2d, camera);
+    FrameProfiler.end(FrameProfiler.Section.MAP, start);
 
     // Renderizar estruturas (cabanas)
+    start = FrameProfiler.begin();
     if (enemyManager != null) {
-      enemyManager.renderStructures(g2d, camera);
+      enemyManager.renderStructures(g2d, camera, snapshot);
     }
 
     // Renderizar inimigos (apenas os visíveis)
     if (enemyManager != null) {
-      enemyManager.render(g2d, camera, tileMap.getFogOfWar());
+      enemyManager.render(g2d, camera, tileMap.getFogOfWar(), snapshot);
     }
 
     // Renderizar cones de visão (debug)
     if (showVisionCones && enemyManager != null) {
-      enemyManager.renderVisionCones(g2d, camera);
+      enemyManager.renderVisionCones(g2d, camera, snapshot);
     }
 
     // Renderizar efeitos visuais de ataque dos goblins
     if (enemyManager != null) {
-      enemyManager.renderAttackEffects(g2d, camera);
+      enemyManager.renderAttackEffects(g2d, camera, snapshot);
     }
+    FrameProfiler.end(FrameProfiler.Section.ENEMY_RENDER, start);
 
     // Renderizar NPCs
-    renderNPCs(g2d);
+    start = FrameProfiler.begin();
+    renderNPCs(g2d, snapshot);
 
     // Renderizar baús
-    renderChests(g2d);
+    renderChests(g2d, snapshot);
 
     // Renderizar o jogador
     player.render(g2d, camera);
 
+    // Renderizar projéteis e textos flutuantes do jogador
+    renderPlayerEffects(g2d, snapshot);
+    FrameProfiler.end(FrameProfiler.Section.ENTITIES, start);
+
     // Renderizar habilidades do jogador (efeitos visuais)
-    if (player.getSkillManager() != null) {
-      player.getSkillManager().render(g2d, camera);
-    }
+    start = FrameProfiler.begin();
+    SkillManager.render(g2d, camera, snapshot);
+    FrameProfiler.end(FrameProfiler.Section.SKILLS, start);
 
     // Renderizar UI
+    start = FrameProfiler.begin();
     renderUI(g2d);
 
     // Renderizar minigame por cima de tudo se estiver ativo
@@ -439,27 +522,31 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     }
 
     // Renderizar indicador de escape se player estiver preso
-    renderEscapeIndicator(g2d);
+    renderEscapeIndicator(g2d, snapshot);
 
     // Renderizar tela de morte (se ativa)
     if (showingDeathScreen) {
       renderDeathScreen(g2d);
     }
+    FrameProfiler.end(FrameProfiler.Section.UI, start);
+    FrameProfiler.end(FrameProfiler.Section.RENDER, renderStart);
+
+    // Profiler por cima de tudo (fora da medição)
+    profilerOverlay.render(g2d, getWidth());
   }
 
   /**
    * Renderiza indicador de progresso de escape quando player está preso no Mimic.
    */
-  private void renderEscapeIndicator(Graphics2D g) {
-    if (enemyManager == null)
-      return;
-
-    for (com.rpggame.entities.Enemy enemy : enemyManager.getEnemies()) {
+  private void renderEscapeIndicator(Graphics2D g, RenderSnapshot snapshot) {
+    java.util.List<com.rpggame.entities.Enemy> enemies = snapshot.getEnemies();
+    for (int i = 0; i < enemies.size(); i++) {
+      com.rpggame.entities.Enemy enemy = enemies.get(i);
       if (enemy instanceof com.rpggame.enemies.mimic.Mimic) {
         com.rpggame.enemies.mimic.Mimic mimic = (com.rpggame.enemies.mimic.Mimic) enemy;
         if (mimic.isPlayerGrabbed()) {
           // Fundo semi-transparente
-          g.setColor(new Color(0, 0, 0, 150));
+          g.setColor(RenderResources.color(0, 0, 0, 150));
           int boxWidth = 400;
           int boxHeight = 80;
           int boxX = (getWidth() - boxWidth) / 2;
@@ -468,7 +555,7 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
 
           // Texto de instrução
           g.setColor(Color.RED);
-          g.setFont(new Font("Arial", Font.BOLD, 24));
+          g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
           String text = "APERTE SPACE PARA ESCAPAR!";
           FontMetrics fm = g.getFontMetrics();
           int textWidth = fm.stringWidth(text);
@@ -489,12 +576,12 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
           double progressPercent = Math.min(1.0, progress / 15.0);
           int progressWidth = (int) (barWidth * progressPercent);
 
-          g.setColor(new Color(0, 255, 0));
+          g.setColor(RenderResources.color(0, 255, 0));
           g.fillRect(barX, barY, progressWidth, barHeight);
 
           // Borda da barra
           g.setColor(Color.WHITE);
-          g.setStroke(new BasicStroke(2));
+          g.setStroke(RenderResources.stroke(2));
           g.drawRect(barX, barY, barWidth, barHeight);
 
           break;
@@ -515,9 +602,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     // Texto "Você morreu" em vermelho sangue
-    Color bloodRed = new Color(139, 0, 0); // Vermelho escuro/sangue
+    Color bloodRed = RenderResources.color(139, 0, 0); // Vermelho escuro/sangue
     g.setColor(bloodRed);
-    g.setFont(new Font("Arial", Font.BOLD, 72));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 72));
 
     String deathText = "Você morreu";
     FontMetrics fm = g.getFontMetrics();
@@ -539,15 +626,15 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     }
 
     // Desenhar botão
-    g.setColor(new Color(60, 60, 60));
+    g.setColor(RenderResources.color(60, 60, 60));
     g.fillRoundRect(buttonX, buttonY, buttonWidth, buttonHeight, 10, 10);
 
     g.setColor(Color.WHITE);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(buttonX, buttonY, buttonWidth, buttonHeight, 10, 10);
 
     // Texto do botão
-    g.setFont(new Font("Arial", Font.BOLD, 24));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
     String buttonText = "Novo Jogo";
     fm = g.getFontMetrics();
     textWidth = fm.stringWidth(buttonText);
@@ -602,14 +689,14 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     drawXpBar(g, barX, barY + (barSpacing * 2), barWidth, barHeight - 5, expSys);
 
     // Classe e nível do jogador abaixo das barras
-    g.setFont(new Font("Arial", Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     g.setColor(Color.WHITE);
     g.drawString("Classe: " + player.getPlayerClass() + " | Nível: " + expSys.getCurrentLevel(),
         barX, barY + (barSpacing * 3) + 5);
 
     // Informações de debug (só aparece quando modo debug está ativo - tecla V)
     if (enemyManager != null && showVisionCones) {
-      g.setFont(new Font("Arial", Font.PLAIN, 10));
+      g.setFont(RenderResources.font("Arial", Font.PLAIN, 10));
       g.setColor(Color.LIGHT_GRAY);
 
       // Quantidade de inimigos
@@ -632,17 +719,17 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
         int yOffset = barY + (barSpacing * 3) + (showVisionCones ? 75 : 40);
 
         if (council.isAllianceAgainstPlayerActive()) {
-          g.setFont(new Font("Arial", Font.BOLD, 12));
-          g.setColor(new Color(255, 100, 100));
+          g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
+          g.setColor(RenderResources.color(255, 100, 100));
           int timeLeft = council.getAllianceTimeRemaining() / 60; // Converter frames para segundos
           g.drawString("⚔️ ALIANÇA GOBLIN ATIVA! (" + timeLeft + "s)", barX, yOffset);
         } else if (council.isGoblinEmpireActive()) {
-          g.setFont(new Font("Arial", Font.BOLD, 12));
-          g.setColor(new Color(255, 215, 0));
+          g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
+          g.setColor(RenderResources.color(255, 215, 0));
           g.drawString("👑 IMPÉRIO GOBLIN FORMADO!", barX, yOffset);
         } else if (council.isTechnologicalAdvanceActive()) {
-          g.setFont(new Font("Arial", Font.BOLD, 12));
-          g.setColor(new Color(100, 255, 100));
+          g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
+          g.setColor(RenderResources.color(100, 255, 100));
           g.drawString("🔧 AVANÇO TECNOLÓGICO ATIVO! (x2 Força)", barX, yOffset);
         }
       }
@@ -675,7 +762,7 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     }
 
     // Texto da barra
-    g.setFont(new Font("Arial", Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     g.setColor(Color.WHITE);
     String text = label + ": " + current + "/" + max;
     FontMetrics fm = g.getFontMetrics();
@@ -702,11 +789,11 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     int fillWidth = (int) (progress * width);
 
     // Cor do XP (dourado)
-    g.setColor(new Color(255, 215, 0)); // Dourado
+    g.setColor(RenderResources.color(255, 215, 0)); // Dourado
     g.fillRect(x + 1, y + 1, fillWidth - 1, height - 2);
 
     // Texto da barra
-    g.setFont(new Font("Arial", Font.BOLD, 10));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 10));
     g.setColor(Color.WHITE);
     String text = "XP: " + expSys.getCurrentXp() + "/" + expSys.getXpToNextLevel();
     FontMetrics fm = g.getFontMetrics();
@@ -880,6 +967,7 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     // Tecla L para abrir loja (apenas se estiver próximo do mercador e loja
     // desbloqueada)
     if (e.getKeyCode() == KeyEvent.VK_L) {
+      MerchantNPC merchantNPC = world.getMerchantNPC();
       if (merchantNPC != null && merchantNPC.isShopUnlocked() && merchantNPC.canInteract()) {
         if (shopUI != null) {
           shopUI.updatePosition(getWidth(), getHeight());
@@ -1046,6 +1134,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
 
     // Parar o game loop
     running = false;
+    if (activeRenderer != null) {
+      activeRenderer.stop();
+    }
 
     // Resetar estados
     playerDead = false;
@@ -1082,6 +1173,11 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
       // Restaurar layout null para renderização custom do jogo
       setLayout(null);
 
+      // Devolver o canvas de renderização ativa
+      if (activeRenderer != null) {
+        activeRenderer.attach();
+      }
+
       // Limpar referência primeiro
       characterScreen = null;
 
@@ -1101,82 +1197,13 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
     }
   }
 
-  /**
-   * Cria NPCs de acordo com o mapa atual
-   */
-  private void createExampleNPCs() {
-    String currentMapId = mapManager.getCurrentMapId();
-
-    if ("village".equals(currentMapId)) {
-      // Vila: Mercador, Aldeão, Sábio
-      merchantNPC = new MerchantNPC(500, 400);
-      npcs.add(merchantNPC);
-      npcs.add(new VillagerNPC(300, 300));
-      npcs.add(new WiseManNPC(900, 500));
-
-      // Inicializar ShopUI com o inventário do mercador
-      if (player != null && shopUI == null) {
-        shopUI = new ShopUI(merchantNPC.getShopInventory(), player);
-        shopUI.updatePosition(Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT);
-      }
-
-      System.out.println("🏘️ NPCs da vila criados: " + npcs.size());
-    } else if ("goblin_territories".equals(currentMapId)) {
-      // Territórios Goblin: Guards protegendo a entrada da vila (ao redor do spawn
-      // tile 12,3)
-      npcs.add(new GuardNPC(480, 144)); // Esquerda do spawn (tile 10, 3)
-      npcs.add(new GuardNPC(672, 144)); // Direita do spawn (tile 14, 3)
-      System.out.println("⚔️ Guards dos territórios criados: " + npcs.size());
-    } else if ("secret_area".equals(currentMapId)) {
-      // Área secreta: sem NPCs, mas com Mimic e Baú
-      System.out.println("🌿 Área secreta - sem NPCs");
-
-      // Spawnar 1 Mimic e 1 Baú
-      if (enemyManager != null) {
-        spawnMimicAndChest();
-      }
-    }
-    // Outros mapas podem não ter NPCs
-  }
-
-  /**
-   * Spawna 1 Mimic e 1 Baú no mapa secret_area.
-   */
-  private void spawnMimicAndChest() {
-    // Limpar listas primeiro
-    chests.clear();
-
-    // Coordenadas para spawnar (centro do mapa aproximadamente)
-    // Mimic na posição (300, 400)
-    Mimic mimic = new Mimic(300, 400);
-    enemyManager.addEnemy(mimic);
-    System.out.println("👹 Mimic spawnado em (300, 400)");
-
-    // Baú na posição (600, 400) - distante do mimic para criar confusão
-    Chest chest = new Chest(600, 400);
-    chests.add(chest);
-    System.out.println("📦 Baú spawnado em (600, 400)");
-  }
-
-  /**
-   * Atualiza todos os baús.
-   */
-  private void updateChests() {
-    if (player == null) {
-      return;
-    }
-
-    for (Chest chest : chests) {
-      chest.update(player);
-    }
-  }
-
   /**
    * Renderiza todos os baús.
    */
-  private void renderChests(Graphics2D g) {
-    for (Chest chest : chests) {
-      chest.render(g, camera, tileMap.getFogOfWar());
+  private void renderChests(Graphics2D g, RenderSnapshot snapshot) {
+    java.util.List<Chest> snapshotChests = snapshot.getChests();
+    for (int i = 0; i < snapshotChests.size(); i++) {
+      snapshotChests.get(i).render(g, camera, tileMap.getFogOfWar());
     }
   }
 
@@ -1198,18 +1225,9 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   }
 
   /*
-   * Atualiza NPCs
+   * Atualiza a caixa de diálogo e a escolha de quest abertas
    */
-  private void updateNPCs() {
-    for (NPC npc : npcs) {
-      npc.update(player);
-
-      // Se for um guarda, atualizar comportamento de combate
-      if (npc instanceof GuardNPC && enemyManager != null) {
-        ((GuardNPC) npc).updateGuardBehavior(enemyManager.getAllGoblins());
-      }
-    }
-
+  private void updateDialog() {
     if (showingDialog && dialogBox != null) {
       dialogBox.update();
       questChoiceBox.update();
@@ -1219,9 +1237,25 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
   /**
    * Renderiza NPCs
    */
-  private void renderNPCs(Graphics2D g) {
-    for (NPC npc : npcs) {
-      npc.render(g, camera);
+  private void renderNPCs(Graphics2D g, RenderSnapshot snapshot) {
+    java.util.List<NPC> snapshotNPCs = snapshot.getNPCs();
+    for (int i = 0; i < snapshotNPCs.size(); i++) {
+      snapshotNPCs.get(i).render(g, camera);
+    }
+  }
+
+  /**
+   * Renderiza projéteis e textos flutuantes do jogador
+   */
+  private void renderPlayerEffects(Graphics2D g, RenderSnapshot snapshot) {
+    java.util.List<com.rpggame.entities.Projectile> projectiles = snapshot.getProjectiles();
+    for (int i = 0; i < projectiles.size(); i++) {
+      projectiles.get(i).render(g, camera);
+    }
+
+    java.util.List<FloatingText> floatingTexts = snapshot.getFloatingTexts();
+    for (int i = 0; i < floatingTexts.size(); i++) {
+      floatingTexts.get(i).render(g, camera);
     }
   }
 
@@ -1376,12 +1410,8 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
       return;
     }
 
-    // Calcular posição do jogador em tiles
-    int playerTileX = (int) (player.getX() / TILE_SIZE);
-    int playerTileY = (int) (player.getY() / TILE_SIZE);
-
-    // Verificar se há portal nesta posição
-    Portal portal = tileMap.getPortalAt(playerTileX, playerTileY);
+    // Verificar se há portal no tile do jogador
+    Portal portal = world.getPortalUnderPlayer();
 
     if (portal != null) {
       System.out.println("🚪 Player entrou no portal: " + portal.getName());
@@ -1417,53 +1447,19 @@ public class GamePanel extends JPanel implements KeyListener, MouseListener, Run
    * Troca efetivamente o mapa (chamado no meio da transição)
    */
   private void changeMap(String mapPath, int playerX, int playerY) {
-    System.out.println("🔄 Trocando mapa...");
-
-    // Determinar ID do mapa baseado no caminho
-    String mapId;
-    if (mapPath.contains("village")) {
-      mapId = "village";
-    } else if (mapPath.contains("secret_area")) {
-      mapId = "secret_area";
-    } else if (mapPath.contains("goblin_territories")) {
-      mapId = "goblin_territories";
-    } else if (mapPath.contains("cave") || mapPath.contains("new_map")) {
-      mapId = "cave";
-    } else {
-      mapId = "goblin_territories"; // Padrão
-    }
-
-    // Recarregar mapa com ID
-    tileMap.reloadMap(mapPath, mapId);
-
-    // Reposicionar player
-    if (player != null) {
-      player.setPosition(playerX, playerY);
-    }
-
-    // Reinicializar fog of war
-    tileMap.getFogOfWar().resetFog();
-
-    // Atualizar mapa atual no MapManager
-    mapManager.setCurrentMap(mapId);
+    String mapId = world.changeMap(mapPath, playerX, playerY);
 
     // Tocar música do novo mapa
     if (musicManager != null) {
       musicManager.playMusicForMap(mapId);
     }
 
-    // Reinicializar inimigos
-    if (enemyManager != null) {
-      enemyManager.clearAllEnemies();
-      enemyManager.setCurrentMapId(mapManager.getCurrentMapId());
-      enemyManager.initializeGoblinFamilies(tileMap);
+    // Inicializar ShopUI com o inventário do mercador
+    MerchantNPC merchantNPC = world.getMerchantNPC();
+    if (merchantNPC != null && player != null && shopUI == null) {
+      shopUI = new ShopUI(merchantNPC.getShopInventory(), player);
+      shopUI.updatePosition(Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT);
     }
-
-    // Limpar NPCs antigos e criar novos
-    npcs.clear();
-    createExampleNPCs();
-
-    System.out.println("✅ Mapa trocado com sucesso!");
   }
 
 }
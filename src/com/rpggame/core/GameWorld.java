@@ -0,0 +1,320 @@
+package com.rpggame.core;
+
+import java.util.ArrayList;
+
+import com.rpggame.entities.Player;
+import com.rpggame.entities.Chest;
+import com.rpggame.enemies.mimic.Mimic;
+import com.rpggame.npcs.NPC;
+import com.rpggame.npcs.MerchantNPC;
+import com.rpggame.npcs.GuardNPC;
+import com.rpggame.npcs.VillagerNPC;
+import com.rpggame.npcs.WiseManNPC;
+import com.rpggame.systems.CharacterStats;
+import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.AssetCache;
+import com.rpggame.world.MapManager;
+import com.rpggame.world.Portal;
+import com.rpggame.world.TileMap;
+
+/**
+ * Estado do mundo do jogo (mapa, jogador, inimigos, NPCs e baús) e o tick da
+ * lógica, sem nada de janela, câmera, diálogos ou música. O GamePanel usa um
+ * GameWorld por baixo da interface; o HeadlessRuntime roda o mesmo mundo sem
+ * Swing.
+ */
+public class GameWorld {
+  // Posição inicial fixa no mapa village
+  public static final int PLAYER_START_X = 558;
+  public static final int PLAYER_START_Y = 217;
+
+  // Distância (em tiles) de um portal a partir da qual o destino é pré-carregado
+  private static final int PORTAL_PREFETCH_RADIUS = 8;
+
+  private final MapManager mapManager;
+  private final TileMap tileMap;
+  private final ArrayList<NPC> npcs = new ArrayList<>();
+  private final ArrayList<Chest> chests = new ArrayList<>();
+  private int lastPrefetchTileX = Integer.MIN_VALUE;
+  private int lastPrefetchTileY = Integer.MIN_VALUE;
+  private MerchantNPC merchantNPC; // Mercador do mapa atual (null fora da vila)
+
+  private Player player;
+  private EnemyManager enemyManager;
+
+  /**
+   * Carrega o mapa inicial do MapManager e os NPCs dele. O jogador é criado
+   * depois, em createPlayer.
+   */
+  public GameWorld() {
+    mapManager = new MapManager();
+
+    // Carregar direto o mapa inicial (sem passar por outro mapa antes)
+    MapManager.MapData initialMap = mapManager.getCurrentMap();
+    tileMap = new TileMap(mapManager.prepare(mapManager.getCurrentMapId()));
+    System.out.println("✅ Mapa inicial carregado: " + initialMap.getName());
+
+    createNPCsForMap();
+  }
+
+  /**
+   * Cria o jogador na posição inicial e o gerenciador de inimigos do mapa atual
+   */
+  public Player createPlayer(String playerClass, String spritePath, CharacterStats stats) {
+    if (stats != null) {
+      player = new Player(PLAYER_START_X, PLAYER_START_Y, spritePath, playerClass, stats);
+    } else {
+      player = new Player(PLAYER_START_X, PLAYER_START_Y, spritePath);
+    }
+    player.setTileMap(tileMap);
+
+    enemyManager = new EnemyManager(player, tileMap);
+    player.setEnemyManager(enemyManager); // Conectar player ao enemy manager
+    enemyManager.setCurrentMapId(mapManager.getCurrentMapId());
+    enemyManager.initializeGoblinFamilies(tileMap);
+    return player;
+  }
+
+  /**
+   * Guarda as posições do tick anterior para interpolação na renderização
+   */
+  public void storePreviousPositions() {
+    if (player != null) {
+      player.storePreviousPosition();
+    }
+    if (enemyManager != null) {
+      enemyManager.storePreviousPositions();
+    }
+  }
+
+  /**
+   * Um tick da lógica: jogador, NPCs, baús, inimigos e colisões, e depois
+   * visibilidade, campo de fluxo e buscas de caminho
+   */
+  public void update() {
+    if (player == null) {
+      return;
+    }
+
+    long updateStart = FrameProfiler.begin();
+    long start = FrameProfiler.begin();
+    player.update();
+    FrameProfiler.end(FrameProfiler.Section.PLAYER, start);
+
+    start = FrameProfiler.begin();
+    for (NPC npc : npcs) {
+      npc.update(player);
+
+      // Se for um guarda, atualizar comportamento de combate
+      if (npc instanceof GuardNPC && enemyManager != null) {
+        ((GuardNPC) npc).updateGuardBehavior(enemyManager.getEnemyIndex(), tileMap.getPathService());
+      }
+    }
+
+    for (Chest chest : chests) {
+      chest.update(player);
+    }
+    FrameProfiler.end(FrameProfiler.Section.NPCS, start);
+
+    if (enemyManager != null) {
+      start = FrameProfiler.begin();
+      enemyManager.update();
+      FrameProfiler.end(FrameProfiler.Section.ENEMIES, start);
+
+      // Verificar colisões
+      start = FrameProfiler.begin();
+      enemyManager.checkProjectileCollisions(player.getProjectiles());
+      enemyManager.checkPlayerCollisions();
+      FrameProfiler.end(FrameProfiler.Section.COLLISIONS, start);
+    }
+
+    prefetchNearbyPortals();
+
+    // Recalcular visibilidade e o campo de fluxo se o jogador mudou de tile
+    start = FrameProfiler.begin();
+    tileMap.updateFogOfWar(player);
+    tileMap.updatePlayerFlowField(player);
+    FrameProfiler.end(FrameProfiler.Section.FOG, start);
+
+    // Avançar as buscas de caminho na fila (orçamento fixo por tick)
+    start = FrameProfiler.begin();
+    tileMap.getPathService().update();
+    FrameProfiler.end(FrameProfiler.Section.PATHS, start);
+    FrameProfiler.end(FrameProfiler.Section.UPDATE, updateStart);
+  }
+
+  /**
+   * Portal no tile em que o jogador está (null se nenhum)
+   */
+  public Portal getPortalUnderPlayer() {
+    if (player == null) {
+      return null;
+    }
+    int playerTileX = (int) (player.getX() / GamePanel.TILE_SIZE);
+    int playerTileY = (int) (player.getY() / GamePanel.TILE_SIZE);
+    return tileMap.getPortalAt(playerTileX, playerTileY);
+  }
+
+  /**
+   * Quando o jogador muda de tile, pede ao MapManager que prepare em segundo
+   * plano o destino dos portais próximos (a troca de mapa fica quase
+   * instantânea)
+   */
+  private void prefetchNearbyPortals() {
+    int playerTileX = (int) (player.getX() / GamePanel.TILE_SIZE);
+    int playerTileY = (int) (player.getY() / GamePanel.TILE_SIZE);
+    if (playerTileX == lastPrefetchTileX && playerTileY == lastPrefetchTileY) {
+      return;
+    }
+    lastPrefetchTileX = playerTileX;
+    lastPrefetchTileY = playerTileY;
+
+    for (Portal portal : tileMap.getPortals()) {
+      if (Math.abs(portal.getX() - playerTileX) <= PORTAL_PREFETCH_RADIUS
+          && Math.abs(portal.getY() - playerTileY) <= PORTAL_PREFETCH_RADIUS) {
+        mapManager.prefetch(portal.getTargetMapId(), tileMap);
+      }
+    }
+  }
+
+  /**
+   * Troca o mapa: recarrega os tiles, reposiciona o jogador e recria
+   * inimigos e NPCs. Retorna o id do novo mapa.
+   */
+  public String changeMap(String mapPath, int playerX, int playerY) {
+    System.out.println("🔄 Trocando mapa...");
+
+    // Determinar ID do mapa baseado no caminho
+    String mapId;
+    if (mapPath.contains("village")) {
+      mapId = "village";
+    } else if (mapPath.contains("secret_area")) {
+      mapId = "secret_area";
+    } else if (mapPath.contains("goblin_territories")) {
+      mapId = "goblin_territories";
+    } else if (mapPath.contains("cave") || mapPath.contains("new_map")) {
+      mapId = "cave";
+    } else {
+      mapId = "goblin_territories"; // Padrão
+    }
+
+    // Mapa registrado: vem do cache do MapManager (ou do pré-carregamento)
+    MapManager.MapData mapData = mapManager.getMap(mapId);
+    if (mapData != null && mapData.getFilePath().equals(mapPath)) {
+      tileMap.installMap(mapManager.prepare(mapId));
+    } else {
+      tileMap.reloadMap(mapPath, mapId);
+    }
+
+    // Reposicionar player
+    if (player != null) {
+      player.setPosition(playerX, playerY);
+    }
+
+    // Reinicializar fog of war
+    tileMap.getFogOfWar().resetFog();
+
+    // Atualizar mapa atual no MapManager
+    mapManager.setCurrentMap(mapId);
+
+    // Reinicializar inimigos
+    if (enemyManager != null) {
+      enemyManager.clearAllEnemies();
+      enemyManager.setCurrentMapId(mapManager.getCurrentMapId());
+      enemyManager.initializeGoblinFamilies(tileMap);
+    }
+
+    // Limpar NPCs antigos e criar novos
+    for (NPC npc : npcs) {
+      npc.releaseAssets();
+    }
+    npcs.clear();
+    createNPCsForMap();
+
+    // Sprites que o novo mapa reaproveitou continuam em cache; o resto sai
+    AssetCache.evictUnused();
+    AssetCache.packAtlas();
+
+    System.out.println("✅ Mapa trocado com sucesso!");
+    return mapId;
+  }
+
+  /**
+   * Cria os NPCs (e, na área secreta, o Mimic e o baú) do mapa atual
+   */
+  private void createNPCsForMap() {
+    String currentMapId = mapManager.getCurrentMapId();
+    merchantNPC = null;
+
+    if ("village".equals(currentMapId)) {
+      // Vila: Mercador, Aldeão, Sábio
+      merchantNPC = new MerchantNPC(500, 400);
+      npcs.add(merchantNPC);
+      npcs.add(new VillagerNPC(300, 300));
+      npcs.add(new WiseManNPC(900, 500));
+      System.out.println("🏘️ NPCs da vila criados: " + npcs.size());
+    } else if ("goblin_territories".equals(currentMapId)) {
+      // Territórios Goblin: Guards protegendo a entrada da vila (ao redor do spawn
+      // tile 12,3)
+      npcs.add(new GuardNPC(480, 144)); // Esquerda do spawn (tile 10, 3)
+      npcs.add(new GuardNPC(672, 144)); // Direita do spawn (tile 14, 3)
+      System.out.println("⚔️ Guards dos territórios criados: " + npcs.size());
+    } else if ("secret_area".equals(currentMapId)) {
+      // Área secreta: sem NPCs, mas com Mimic e Baú
+      System.out.println("🌿 Área secreta - sem NPCs");
+
+      // Spawnar 1 Mimic e 1 Baú
+      if (enemyManager != null) {
+        spawnMimicAndChest();
+      }
+    }
+    // Outros mapas podem não ter NPCs
+  }
+
+  /**
+   * Spawna 1 Mimic e 1 Baú no mapa secret_area.
+   */
+  private void spawnMimicAndChest() {
+    // Limpar listas primeiro
+    chests.clear();
+
+    // Coordenadas para spawnar (centro do mapa aproximadamente)
+    // Mimic na posição (300, 400)
+    Mimic mimic = new Mimic(enemyManager.getStore(), 300, 400);
+    enemyManager.addEnemy(mimic);
+    System.out.println("👹 Mimic spawnado em (300, 400)");
+
+    // Baú na posição (600, 400) - distante do mimic para criar confusão
+    Chest chest = new Chest(600, 400);
+    chests.add(chest);
+    System.out.println("📦 Baú spawnado em (600, 400)");
+  }
+
+  public MapManager getMapManager() {
+    return mapManager;
+  }
+
+  public TileMap getTileMap() {
+    return tileMap;
+  }
+
+  public Player getPlayer() {
+    return player;
+  }
+
+  public EnemyManager getEnemyManager() {
+    return enemyManager;
+  }
+
+  public ArrayList<NPC> getNPCs() {
+    return npcs;
+  }
+
+  public ArrayList<Chest> getChests() {
+    return chests;
+  }
+
+  public MerchantNPC getMerchantNPC() {
+    return merchantNPC;
+  }
+}
@@ -0,0 +1,216 @@
+package com.rpggame.core;
+
+import java.util.Random;
+
+import com.rpggame.entities.Player;
+import com.rpggame.systems.CharacterStats;
+import com.rpggame.world.MapManager;
+import com.rpggame.world.Portal;
+
+/**
+ * Roda o GameWorld sem janela nem Swing: sem câmera, diálogos, transições ou
+ * música. A entrada do jogador vem de um InputSource em código, e os ticks
+ * rodam o mais rápido possível (runTicks) ou num ritmo fixo (runAtRate).
+ * Serve para testes longos, ajuste de IA em velocidade acelerada e medições
+ * em máquinas sem tela.
+ *
+ * Os sprites continuam sendo carregados em BufferedImage, o que funciona com
+ * java.awt.headless=true (ligado pelo construtor se ainda não estiver).
+ *
+ * Pela linha de comando:
+ * java com.rpggame.core.HeadlessRuntime [ticks] [classe] [ticks por segundo, 0 = sem limite] [semente]
+ * (-Drpggame.profile=true imprime o tempo de cada fase do tick)
+ */
+public class HeadlessRuntime {
+  public static final int TICKS_PER_SECOND = 60;
+
+  /**
+   * Decide a entrada do jogador antes de cada tick. Movimento e ataque vão
+   * por Player.setInput; habilidades por player.getSkillManager().useSkill.
+   */
+  public interface InputSource {
+    void apply(long tick, Player player);
+  }
+
+  // Jogador parado
+  public static final InputSource IDLE = (tick, player) -> player.setInput(false, false, false, false, false);
+
+  private final GameWorld world;
+  private final Player player;
+  private InputSource input = IDLE;
+
+  private long tick;
+  private long updateNanos; // Tempo gasto só em tick(), somado
+  private boolean followPortals = true;
+
+  public HeadlessRuntime(String playerClass) {
+    this(playerClass, new CharacterStats(playerClass));
+  }
+
+  public HeadlessRuntime(String playerClass, CharacterStats stats) {
+    if (System.getProperty("java.awt.headless") == null) {
+      System.setProperty("java.awt.headless", "true");
+    }
+    world = new GameWorld();
+    player = world.createPlayer(playerClass, "sprites/" + playerClass + "Player.png", stats);
+  }
+
+  public void setInputSource(InputSource input) {
+    this.input = input != null ? input : IDLE;
+  }
+
+  /**
+   * Se o jogador em cima de um portal troca de mapa na hora (sem a transição
+   * da tela). Ligado por padrão.
+   */
+  public void setFollowPortals(boolean followPortals) {
+    this.followPortals = followPortals;
+  }
+
+  /**
+   * Um tick da simulação. Retorna false se o jogador morreu.
+   */
+  public boolean tick() {
+    if (!player.isAlive()) {
+      return false;
+    }
+    long start = System.nanoTime();
+
+    input.apply(tick, player);
+    world.storePreviousPositions();
+    world.update();
+
+    if (followPortals) {
+      Portal portal = world.getPortalUnderPlayer();
+      MapManager mapManager = world.getMapManager();
+      if (portal != null && mapManager.hasMap(portal.getTargetMapId())) {
+        MapManager.MapData target = mapManager.getMap(portal.getTargetMapId());
+        world.changeMap(target.getFilePath(), target.getDefaultSpawnX(), target.getDefaultSpawnY());
+      }
+    }
+
+    updateNanos += System.nanoTime() - start;
+    tick++;
+    return player.isAlive();
+  }
+
+  /**
+   * Roda até count ticks o mais rápido possível; para antes se o jogador
+   * morrer. Retorna quantos ticks rodaram.
+   */
+  public long runTicks(long count) {
+    long done = 0;
+    while (done < count) {
+      done++;
+      if (!tick()) {
+        break;
+      }
+    }
+    return done;
+  }
+
+  /**
+   * Roda até count ticks a ticksPerSecond (FramePacer entre eles), sem
+   * recuperar atrasos. Retorna quantos ticks rodaram.
+   */
+  public long runAtRate(long count, int ticksPerSecond) {
+    if (ticksPerSecond <= 0) {
+      return runTicks(count);
+    }
+    FramePacer pacer = new FramePacer();
+    long interval = 1_000_000_000L / ticksPerSecond;
+    long next = System.nanoTime();
+    long done = 0;
+    while (done < count) {
+      done++;
+      if (!tick()) {
+        break;
+      }
+      next += interval;
+      long now = System.nanoTime();
+      if (next < now) {
+        next = now; // Atrasado: seguir do instante atual
+      }
+      pacer.waitUntil(next);
+    }
+    return done;
+  }
+
+  public GameWorld getWorld() {
+    return world;
+  }
+
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Ticks rodados desde a criação
+   */
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * Tempo de jogo simulado, em segundos (a 60 ticks por segundo)
+   */
+  public double getSimulatedSeconds() {
+    return (double) tick / TICKS_PER_SECOND;
+  }
+
+  /**
+   * Tempo médio de um tick, em microssegundos
+   */
+  public double getAverageTickMicros() {
+    return tick == 0 ? 0 : updateNanos / 1000.0 / tick;
+  }
+
+  /**
+   * Entrada de exemplo para testes longos: anda em uma direção aleatória,
+   * troca a cada segundo e ataca de vez em quando
+   */
+  public static InputSource randomWalk(long seed) {
+    Random random = new Random(seed);
+    boolean[] keys = new boolean[5];
+    return (tick, player) -> {
+      if (tick % TICKS_PER_SECOND == 0) {
+        for (int i = 0; i < 4; i++) {
+          keys[i] = random.nextInt(3) == 0;
+        }
+      }
+      keys[4] = random.nextInt(10) == 0;
+      player.setInput(keys[0], keys[1], keys[2], keys[3], keys[4]);
+    };
+  }
+
+  public static void main(String[] args) {
+    long ticks = args.length > 0 ? Long.parseLong(args[0]) : 60L * TICKS_PER_SECOND;
+    String playerClass = args.length > 1 ? args[1] : "Warrior";
+    int rate = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+    long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+    HeadlessRuntime runtime = new HeadlessRuntime(playerClass);
+    runtime.setInputSource(randomWalk(seed));
+    // -Drpggame.profile=true: tempo por fase do tick no fim
+    FrameProfiler.setEnabled(Boolean.getBoolean("rpggame.profile"));
+
+    long start = System.nanoTime();
+    long done = runtime.runAtRate(ticks, rate);
+    double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+    Log.flush();
+    System.out.println("=== SIMULAÇÃO HEADLESS ===");
+    System.out.println("Ticks: " + done + " (" + String.format("%.1f", runtime.getSimulatedSeconds()) + "s de jogo em "
+        + String.format("%.2f", wallSeconds) + "s, " + String.format("%.0f", done / Math.max(wallSeconds, 1e-9))
+        + " ticks/s)");
+    System.out.println("Tick médio: " + String.format("%.1f", runtime.getAverageTickMicros()) + "µs");
+    System.out.println("Mapa: " + runtime.getWorld().getMapManager().getCurrentMapId()
+        + " | Inimigos: " + runtime.getWorld().getEnemyManager().getEnemies().size()
+        + " | Jogador vivo: " + runtime.getPlayer().isAlive());
+    if (FrameProfiler.isEnabled()) {
+      System.out.print(FrameProfiler.report());
+    }
+    System.out.println("========================");
+    System.exit(0);
+  }
+}
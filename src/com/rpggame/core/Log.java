@@ -0,0 +1,216 @@
+package com.rpggame.core;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Log assíncrono com nível por categoria, usado no lugar de System.out nos
+ * caminhos quentes do jogo (colisões, IA e efeitos por tick, uso de
+ * habilidades).
+ *
+ * Quem loga só confere o limite da categoria e coloca a mensagem numa fila
+ * sem trava (LogRing); uma thread daemon tira da fila e escreve no console ou
+ * em arquivo. Se a fila encher a mensagem é descartada e contada, em vez de
+ * segurar o loop do jogo. Mensagens abaixo do limite não chegam a ser
+ * montadas quando se usa a versão com Supplier ou isEnabled().
+ *
+ * Configuração:
+ * -Drpggame.log.level=INFO (limite de todas as categorias)
+ * -Drpggame.log.combat=DEBUG (limite de uma categoria, pelo nome em minúsculas)
+ * -Drpggame.log.file=rpggame.log (escreve em arquivo, com hora, nível e categoria)
+ */
+public final class Log {
+  private static final int QUEUE_CAPACITY = 8192;
+  private static final long IDLE_PARK_NANOS = 2_000_000L; // Espera do escritor com a fila vazia
+
+  private static final LogCategory[] CATEGORIES = LogCategory.values();
+  private static final int[] thresholds = new int[CATEGORIES.length];
+
+  private static final LogRing queue = new LogRing(QUEUE_CAPACITY);
+  private static final AtomicLong dropped = new AtomicLong();
+  private static final Object drainLock = new Object();
+  private static long droppedReported; // Protegido por drainLock
+
+  private static final Writer fileWriter = openFile(System.getProperty("rpggame.log.file"));
+  private static final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+  private static final LogRing.Consumer sink = Log::write;
+
+  static {
+    LogLevel global = LogLevel.parse(System.getProperty("rpggame.log.level"), LogLevel.INFO);
+    for (LogCategory category : CATEGORIES) {
+      String property = System.getProperty("rpggame.log." + category.name().toLowerCase());
+      thresholds[category.ordinal()] = LogLevel.parse(property, global).ordinal();
+    }
+
+    Thread writer = new Thread(Log::runWriter, "LogWriter");
+    writer.setDaemon(true);
+    writer.start();
+    // Escrever o que ficou na fila quando o jogo fechar (System.exit)
+    Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "LogFlush"));
+  }
+
+  private Log() {
+  }
+
+  /**
+   * Mensagens deste nível na categoria serão escritas?
+   */
+  public static boolean isEnabled(LogCategory category, LogLevel level) {
+    return level.ordinal() >= thresholds[category.ordinal()];
+  }
+
+  public static void setLevel(LogCategory category, LogLevel level) {
+    thresholds[category.ordinal()] = level.ordinal();
+  }
+
+  /**
+   * Muda o limite de todas as categorias
+   */
+  public static void setLevel(LogLevel level) {
+    for (LogCategory category : CATEGORIES) {
+      setLevel(category, level);
+    }
+  }
+
+  public static LogLevel getLevel(LogCategory category) {
+    return LogLevel.values()[thresholds[category.ordinal()]];
+  }
+
+  public static void debug(LogCategory category, String message) {
+    log(LogLevel.DEBUG, category, message);
+  }
+
+  public static void debug(LogCategory category, Supplier<String> message) {
+    log(LogLevel.DEBUG, category, message);
+  }
+
+  public static void info(LogCategory category, String message) {
+    log(LogLevel.INFO, category, message);
+  }
+
+  public static void info(LogCategory category, Supplier<String> message) {
+    log(LogLevel.INFO, category, message);
+  }
+
+  public static void warn(LogCategory category, String message) {
+    log(LogLevel.WARN, category, message);
+  }
+
+  public static void error(LogCategory category, String message) {
+    log(LogLevel.ERROR, category, message);
+  }
+
+  public static void log(LogLevel level, LogCategory category, String message) {
+    if (isEnabled(category, level)) {
+      publish(level, category, message);
+    }
+  }
+
+  /**
+   * Só monta a mensagem se o nível estiver ligado
+   */
+  public static void log(LogLevel level, LogCategory category, Supplier<String> message) {
+    if (isEnabled(category, level)) {
+      publish(level, category, message.get());
+    }
+  }
+
+  /**
+   * Mensagens descartadas por fila cheia desde o início
+   */
+  public static long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * Escreve agora tudo que está na fila (fechamento do jogo, testes)
+   */
+  public static void flush() {
+    synchronized (drainLock) {
+      drainQueue();
+    }
+  }
+
+  private static void publish(LogLevel level, LogCategory category, String message) {
+    if (!queue.offer(System.currentTimeMillis(), level, category, message)) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private static void runWriter() {
+    while (true) {
+      int drained;
+      synchronized (drainLock) {
+        drained = drainQueue();
+      }
+      if (drained == 0) {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+  }
+
+  /**
+   * Esvazia a fila no destino. Chamar com drainLock.
+   */
+  private static int drainQueue() {
+    int drained = queue.drain(sink);
+
+    long totalDropped = dropped.get();
+    if (totalDropped != droppedReported) {
+      write(System.currentTimeMillis(), LogLevel.WARN, LogCategory.GAME,
+          "⚠️ Log: " + (totalDropped - droppedReported) + " mensagens descartadas (fila cheia)");
+      droppedReported = totalDropped;
+      drained++;
+    }
+
+    if (drained > 0 && fileWriter != null) {
+      try {
+        fileWriter.flush();
+      } catch (IOException e) {
+        System.err.println("❌ Erro ao escrever o log: " + e.getMessage());
+      }
+    }
+    return drained;
+  }
+
+  private static void write(long timeMillis, LogLevel level, LogCategory category, String message) {
+    if (fileWriter == null) {
+      // Console: mesma cara dos prints de antes
+      if (level == LogLevel.ERROR) {
+        System.err.println(message);
+      } else {
+        System.out.println(message);
+      }
+      return;
+    }
+
+    try {
+      fileWriter.write(timeFormat.format(new Date(timeMillis)));
+      fileWriter.write(' ');
+      fileWriter.write(String.format("%-5s %-6s ", level, category));
+      fileWriter.write(message);
+      fileWriter.write(System.lineSeparator());
+    } catch (IOException e) {
+      System.err.println("❌ Erro ao escrever o log: " + e.getMessage());
+    }
+  }
+
+  private static Writer openFile(String path) {
+    if (path == null || path.isEmpty()) {
+      return null;
+    }
+    try {
+      return new BufferedWriter(new FileWriter(path, true));
+    } catch (IOException e) {
+      System.err.println("❌ Não foi possível abrir o arquivo de log " + path + ": " + e.getMessage());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.rpggame.core;
+
+/**
+ * Categorias do Log, cada uma com o seu limite de nível
+ * (-Drpggame.log.combat=DEBUG, por exemplo)
+ */
+public enum LogCategory {
+  GAME, // Loop, inicialização, estado do jogo
+  COMBAT, // Acertos, dano, mortes
+  AI, // Comportamento dos inimigos
+  SKILLS, // Habilidades e efeitos de status
+  WORLD, // Mapas, portais, spawn
+  ASSETS, // Sprites e sons carregados
+  UI
+}
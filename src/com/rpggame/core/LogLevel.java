@@ -0,0 +1,27 @@
+package com.rpggame.core;
+
+/**
+ * Níveis do Log, do mais detalhado ao mais grave. Uma mensagem só é escrita
+ * se o nível dela for igual ou maior que o limite da categoria.
+ */
+public enum LogLevel {
+  DEBUG, // Por tick ou por acerto (desligado por padrão)
+  INFO, // Eventos do jogo (spawn, morte, troca de mapa)
+  WARN,
+  ERROR,
+  OFF; // Só como limite: desliga a categoria
+
+  /**
+   * Nível pelo nome (sem diferenciar maiúsculas), ou o padrão se inválido
+   */
+  public static LogLevel parse(String name, LogLevel fallback) {
+    if (name == null) {
+      return fallback;
+    }
+    try {
+      return valueOf(name.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return fallback;
+    }
+  }
+}
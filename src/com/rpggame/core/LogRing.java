@@ -0,0 +1,100 @@
+package com.rpggame.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fila circular limitada de mensagens do Log: várias threads publicam sem
+ * trava e uma só consome (a do escritor, ou quem chamar Log.flush()).
+ *
+ * Cada posição tem um número de sequência: igual à posição de escrita quando
+ * está livre, posição + 1 depois de publicada, e posição + capacidade depois
+ * de consumida. Quem publica disputa só o contador de escrita; se a fila está
+ * cheia a mensagem é descartada (o jogo nunca espera pelo Log).
+ */
+class LogRing {
+  /**
+   * Recebe as mensagens retiradas da fila, em ordem
+   */
+  interface Consumer {
+    void accept(long timeMillis, LogLevel level, LogCategory category, String message);
+  }
+
+  private static final LogLevel[] LEVELS = LogLevel.values();
+  private static final LogCategory[] CATEGORIES = LogCategory.values();
+
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private long head; // Só o consumidor mexe
+
+  private final long[] times;
+  private final byte[] levels;
+  private final byte[] categories;
+  private final String[] messages;
+
+  /**
+   * Capacidade arredondada para a próxima potência de 2
+   */
+  LogRing(int requestedCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+    mask = capacity - 1;
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+    times = new long[capacity];
+    levels = new byte[capacity];
+    categories = new byte[capacity];
+    messages = new String[capacity];
+  }
+
+  /**
+   * Publica uma mensagem; false se a fila estava cheia
+   */
+  boolean offer(long timeMillis, LogLevel level, LogCategory category, String message) {
+    long position = tail.get();
+    int index;
+    while (true) {
+      index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          break;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false; // Posição ainda não consumida da volta anterior
+      } else {
+        position = tail.get(); // Outra thread já pegou esta posição
+      }
+    }
+
+    times[index] = timeMillis;
+    levels[index] = (byte) level.ordinal();
+    categories[index] = (byte) category.ordinal();
+    messages[index] = message;
+    sequences.set(index, position + 1); // Publica os campos acima
+    return true;
+  }
+
+  /**
+   * Entrega ao consumidor tudo que já foi publicado e retorna quantas
+   * mensagens saíram. Só uma thread por vez pode chamar.
+   */
+  int drain(Consumer consumer) {
+    int drained = 0;
+    while (true) {
+      int index = (int) (head & mask);
+      if (sequences.get(index) != head + 1) {
+        return drained; // Vazia (ou a próxima ainda está sendo escrita)
+      }
+      String message = messages[index];
+      messages[index] = null;
+      consumer.accept(times[index], LEVELS[levels[index]], CATEGORIES[categories[index]], message);
+      sequences.set(index, head + mask + 1); // Libera para a próxima volta
+      head++;
+      drained++;
+    }
+  }
+}
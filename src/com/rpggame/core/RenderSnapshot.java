@@ -0,0 +1,139 @@
+package com.rpggame.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rpggame.enemies.Golem.GolemStone;
+import com.rpggame.entities.Chest;
+import com.rpggame.entities.Enemy;
+import com.rpggame.entities.Projectile;
+import com.rpggame.entities.Structure;
+import com.rpggame.npcs.NPC;
+import com.rpggame.systems.FloatingText;
+import com.rpggame.systems.Skill;
+
+/**
+ * Retrato do que deve ser desenhado, capturado pela thread do jogo ao fim de
+ * cada tick. Os renderizadores percorrem estas listas em vez das listas vivas
+ * das entidades, que continuam sendo alteradas durante o update().
+ *
+ * As listas são reaproveitadas entre ticks (clear + add), então a captura não
+ * aloca em regime estável. Depois de publicado, o snapshot é somente leitura.
+ *
+ * As habilidades do jogador entram com a cópia dos seus efeitos
+ * (Skill.captureEffects). Os campos das entidades e dos efeitos (posição,
+ * vida, fase da habilidade) continuam sendo lidos ao vivo: o snapshot fixa
+ * quais objetos são desenhados, não o estado de cada um.
+ */
+public class RenderSnapshot {
+  private final ArrayList<Enemy> enemies = new ArrayList<>();
+  private final ArrayList<Structure> structures = new ArrayList<>();
+  private final ArrayList<GolemStone> golemStones = new ArrayList<>();
+  private final ArrayList<Projectile> projectiles = new ArrayList<>();
+  private final ArrayList<FloatingText> floatingTexts = new ArrayList<>();
+  private final ArrayList<NPC> npcs = new ArrayList<>();
+  private final ArrayList<Chest> chests = new ArrayList<>();
+  private final ArrayList<Skill> skills = new ArrayList<>();
+  private final ArrayList<ArrayList<Object>> skillEffects = new ArrayList<>(); // Uma lista por habilidade, reaproveitada
+
+  // Número do tick capturado (usado pela troca de buffers)
+  long sequence = -1;
+
+  /**
+   * Limpa o snapshot para uma nova captura
+   */
+  void clear() {
+    enemies.clear();
+    structures.clear();
+    golemStones.clear();
+    projectiles.clear();
+    floatingTexts.clear();
+    npcs.clear();
+    chests.clear();
+    for (int i = 0; i < skills.size(); i++) {
+      skillEffects.get(i).clear();
+    }
+    skills.clear();
+  }
+
+  // Métodos de captura (chamados apenas pela thread do jogo)
+  public void addEnemy(Enemy enemy) {
+    enemies.add(enemy);
+  }
+
+  public void addStructure(Structure structure) {
+    structures.add(structure);
+  }
+
+  public void addGolemStone(GolemStone stone) {
+    golemStones.add(stone);
+  }
+
+  public void addProjectiles(List<Projectile> source) {
+    projectiles.addAll(source);
+  }
+
+  public void addFloatingTexts(List<FloatingText> source) {
+    floatingTexts.addAll(source);
+  }
+
+  void addNPCs(List<NPC> source) {
+    npcs.addAll(source);
+  }
+
+  void addChests(List<Chest> source) {
+    chests.addAll(source);
+  }
+
+  /**
+   * Adiciona a habilidade e copia os efeitos que ela desenha
+   */
+  public void addSkill(Skill skill) {
+    int index = skills.size();
+    skills.add(skill);
+    if (index == skillEffects.size()) {
+      skillEffects.add(new ArrayList<>());
+    }
+    skill.captureEffects(skillEffects.get(index));
+  }
+
+  // Getters (somente leitura para os renderizadores)
+  public List<Enemy> getEnemies() {
+    return enemies;
+  }
+
+  public List<Structure> getStructures() {
+    return structures;
+  }
+
+  public List<GolemStone> getGolemStones() {
+    return golemStones;
+  }
+
+  public List<Projectile> getProjectiles() {
+    return projectiles;
+  }
+
+  public List<FloatingText> getFloatingTexts() {
+    return floatingTexts;
+  }
+
+  public List<NPC> getNPCs() {
+    return npcs;
+  }
+
+  public List<Chest> getChests() {
+    return chests;
+  }
+
+  public List<Skill> getSkills() {
+    return skills;
+  }
+
+  /**
+   * Efeitos copiados da habilidade de índice informado em getSkills()
+   */
+  public List<Object> getSkillEffects(int index) {
+    return skillEffects.get(index);
+  }
+}
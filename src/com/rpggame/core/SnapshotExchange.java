@@ -0,0 +1,52 @@
+package com.rpggame.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Troca de snapshots entre a thread do jogo (produtora) e a de renderização
+ * (consumidora) sem locks.
+ *
+ * São três snapshots: o que está sendo escrito, o que está sendo desenhado e
+ * um intermediário trocado atomicamente entre os dois. Assim nenhuma das
+ * threads espera pela outra e um snapshot nunca é reescrito enquanto ainda
+ * está sendo desenhado.
+ */
+public class SnapshotExchange {
+  private final AtomicReference<RenderSnapshot> pending;
+  private RenderSnapshot back; // Só a thread do jogo acessa
+  private RenderSnapshot front; // Só a thread de renderização acessa
+  private long nextSequence = 0;
+
+  public SnapshotExchange() {
+    back = new RenderSnapshot();
+    front = new RenderSnapshot();
+    pending = new AtomicReference<>(new RenderSnapshot());
+  }
+
+  /**
+   * Snapshot livre para a thread do jogo preencher (já limpo)
+   */
+  public RenderSnapshot beginCapture() {
+    back.clear();
+    return back;
+  }
+
+  /**
+   * Publica o snapshot preenchido e recupera um livre para o próximo tick
+   */
+  public void publish() {
+    back.sequence = nextSequence++;
+    back = pending.getAndSet(back);
+  }
+
+  /**
+   * Snapshot mais recente publicado. Deve ser chamado uma vez por frame, e a
+   * referência retornada só vale até a próxima chamada.
+   */
+  public RenderSnapshot acquire() {
+    if (pending.get().sequence > front.sequence) {
+      front = pending.getAndSet(front);
+    }
+    return front;
+  }
+}
@@ -1,6 +1,7 @@
 package com.rpggame.enemies.Goblins;
 
 import com.rpggame.entities.Enemy;
+import com.rpggame.systems.EntityStore;
 
 /**
  * Classe do inimigo Goblin - inimigo básico corpo a corpo
@@ -10,8 +11,8 @@ public class Goblin extends Enemy {
   /**
    * Construtor do Goblin
    */
-  public Goblin(double x, double y) {
-    super(x, y, "sprites/CommonGoblin.png");
+  public Goblin(EntityStore store, double x, double y) {
+    super(store, x, y, "sprites/CommonGoblin.png");
   }
 
   /**
@@ -21,7 +22,7 @@ public class Goblin extends Enemy {
   protected void initializeStats() {
     // Estatísticas do Goblin
     this.maxHealth = 25;
-    this.currentHealth = maxHealth;
+    setCurrentHealth(maxHealth);
     this.damage = 8;
     this.speed = 1.5;
     this.experienceReward = 15;
@@ -41,8 +42,8 @@ public class Goblin extends Enemy {
 
     // Verificar se o jogador está no alcance
     double distance = Math.sqrt(
-        Math.pow(target.getX() - x, 2) +
-            Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2) +
+            Math.pow(target.getY() - getY(), 2));
 
     if (distance <= attackRange) {
       // TODO: Implementar sistema de dano ao jogador
@@ -72,14 +73,13 @@ public class Goblin extends Enemy {
     // Goblin é mais agressivo - persegue mais longe
     if (target != null) {
       double distanceToPlayer = Math.sqrt(
-          Math.pow(target.getX() - x, 2) +
-              Math.pow(target.getY() - y, 2));
+          Math.pow(target.getX() - getX(), 2) +
+              Math.pow(target.getY() - getY(), 2));
 
       // Desistir apenas se muito longe
       if (distanceToPlayer > detectionRange * 2) {
-        aggressive = false;
-        dx = 0;
-        dy = 0;
+        setAggressive(false);
+        setVelocity(0, 0);
       }
     }
   }
@@ -5,6 +5,7 @@ import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.IOException;
+import com.rpggame.world.RenderResources;
 
 /**
  * Gerador de sprite para Goblin
@@ -27,11 +28,11 @@ public class GoblinSpriteGenerator {
     g.setComposite(AlphaComposite.SrcOver);
 
     // Corpo do Goblin (verde escuro)
-    g.setColor(new Color(34, 139, 34));
+    g.setColor(RenderResources.color(34, 139, 34));
     g.fillOval(8, 12, 16, 18);
 
     // Cabeça (verde mais claro)
-    g.setColor(new Color(50, 205, 50));
+    g.setColor(RenderResources.color(50, 205, 50));
     g.fillOval(10, 4, 12, 12);
 
     // Olhos (vermelho)
@@ -40,7 +41,7 @@ public class GoblinSpriteGenerator {
     g.fillOval(18, 7, 2, 2);
 
     // Orelhas pontudas
-    g.setColor(new Color(34, 139, 34));
+    g.setColor(RenderResources.color(34, 139, 34));
     int[] xPoints = { 8, 10, 12 };
     int[] yPoints = { 8, 4, 8 };
     g.fillPolygon(xPoints, yPoints, 3);
@@ -50,7 +51,7 @@ public class GoblinSpriteGenerator {
     g.fillPolygon(xPoints2, yPoints2, 3);
 
     // Braços
-    g.setColor(new Color(34, 139, 34));
+    g.setColor(RenderResources.color(34, 139, 34));
     g.fillOval(4, 14, 6, 8);
     g.fillOval(22, 14, 6, 8);
 
@@ -59,12 +60,12 @@ public class GoblinSpriteGenerator {
     g.fillOval(18, 26, 4, 6);
 
     // Arma (bastão)
-    g.setColor(new Color(139, 69, 19));
+    g.setColor(RenderResources.color(139, 69, 19));
     g.fillRect(28, 8, 2, 16);
 
     // Borda para definição
     g.setColor(Color.BLACK);
-    g.setStroke(new BasicStroke(1));
+    g.setStroke(RenderResources.stroke(1));
     g.drawOval(10, 4, 12, 12); // Cabeça
     g.drawOval(8, 12, 16, 18); // Corpo
 
@@ -1,14 +1,14 @@
 package com.rpggame.enemies.Golem;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.IOException;
-import java.io.InputStream;
 import com.rpggame.entities.Enemy;
 import com.rpggame.entities.Player;
+import com.rpggame.systems.EntityStore;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
+import com.rpggame.world.Sprite;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Boss Golem - Guardião do Equilíbrio do Ecossistema
@@ -17,11 +17,16 @@ import com.rpggame.core.GamePanel;
 public class Golem extends Enemy {
 
   // Sprites direcionais
-  private BufferedImage spriteFront;
-  private BufferedImage spriteBack;
-  private BufferedImage spriteLeft;
-  private BufferedImage spriteRight;
-  private BufferedImage currentSprite;
+  private static final String SPRITE_FRONT = "sprites/GOLEMFront.png";
+  private static final String SPRITE_BACK = "sprites/GOLEMBack.png";
+  private static final String SPRITE_LEFT = "sprites/GOLEMLeft.png";
+  private static final String SPRITE_RIGHT = "sprites/GOLEMRight.png";
+  private static final int SPRITE_SIZE = 64;
+  private Sprite spriteFront;
+  private Sprite spriteBack;
+  private Sprite spriteLeft;
+  private Sprite spriteRight;
+  private Sprite currentSprite;
 
   // Direção que o Golem está olhando
   private String facingDirection = "front"; // "front", "back", "left", "right"
@@ -53,8 +58,8 @@ public class Golem extends Enemy {
   /**
    * Construtor do Golem
    */
-  public Golem(double x, double y) {
-    super(x, y, "sprites/GOLEMFront.png");
+  public Golem(EntityStore store, double x, double y) {
+    super(store, x, y, SPRITE_FRONT);
     this.activeStones = new java.util.ArrayList<>();
     loadDirectionalSprites();
     this.currentSprite = spriteFront;
@@ -63,36 +68,34 @@ public class Golem extends Enemy {
   @Override
   protected void initializeStats() {
     this.maxHealth = 500;
-    this.currentHealth = maxHealth;
+    setCurrentHealth(maxHealth);
     this.damage = 30;
     this.speed = 0.8; // Lento mas poderoso
     this.experienceReward = 500;
-    this.width = 64;
-    this.height = 64;
+    setSize(SPRITE_SIZE, SPRITE_SIZE);
     this.detectionRange = 200.0;
     this.attackRange = 250.0; // Ataque de longo alcance
   }
 
   /**
-   * Carrega todos os sprites direcionais do Golem
+   * Carrega todos os sprites direcionais do Golem (já no tamanho de desenho)
    */
   private void loadDirectionalSprites() {
     int loadedCount = 0;
 
-    // Usar o mesmo método que a classe Enemy usa
-    spriteFront = loadSpriteFile("sprites/GOLEMFront.png");
+    spriteFront = AssetCache.acquire(SPRITE_FRONT, SPRITE_SIZE, SPRITE_SIZE);
     if (spriteFront != null)
       loadedCount++;
 
-    spriteBack = loadSpriteFile("sprites/GOLEMBack.png");
+    spriteBack = AssetCache.acquire(SPRITE_BACK, SPRITE_SIZE, SPRITE_SIZE);
     if (spriteBack != null)
       loadedCount++;
 
-    spriteLeft = loadSpriteFile("sprites/GOLEMLeft.png");
+    spriteLeft = AssetCache.acquire(SPRITE_LEFT, SPRITE_SIZE, SPRITE_SIZE);
     if (spriteLeft != null)
       loadedCount++;
 
-    spriteRight = loadSpriteFile("sprites/GOLEMRight.png");
+    spriteRight = AssetCache.acquire(SPRITE_RIGHT, SPRITE_SIZE, SPRITE_SIZE);
     if (spriteRight != null)
       loadedCount++;
 
@@ -103,59 +106,39 @@ public class Golem extends Enemy {
     }
   }
 
-  /**
-   * Carrega um arquivo de sprite (igual ao método da classe Enemy)
-   */
-  private BufferedImage loadSpriteFile(String path) {
-    try {
-      // Tentar carregar como recurso do classpath
-      InputStream is = getClass().getClassLoader().getResourceAsStream(path);
-      if (is != null) {
-        BufferedImage img = ImageIO.read(is);
-        is.close();
-        if (img != null) {
-          System.out.println("✅ " + path + " carregado do JAR");
-          return img;
-        }
-      }
-
-      // Fallback: tentar carregar como arquivo externo
-      String resolvedPath = com.rpggame.world.ResourceResolver.getResourcePath(path);
-      java.io.File file = new java.io.File(resolvedPath);
-      if (file.exists()) {
-        BufferedImage img = ImageIO.read(file);
-        if (img != null) {
-          System.out.println("✅ " + path + " carregado do arquivo");
-          return img;
-        }
-      }
-    } catch (IOException e) {
-      System.err.println("❌ Erro ao carregar " + path + ": " + e.getMessage());
+  @Override
+  public void releaseAssets() {
+    super.releaseAssets();
+    AssetCache.release(SPRITE_FRONT, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_BACK, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_LEFT, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_RIGHT, SPRITE_SIZE, SPRITE_SIZE);
+
+    for (GolemStone stone : activeStones) {
+      GolemStone.free(stone);
     }
-
-    System.err.println("❌ Não foi possível carregar: " + path);
-    return null;
+    activeStones.clear();
   }
 
   @Override
   public void takeDamage(int damage) {
-    if (!alive)
+    if (!isAlive())
       return;
 
     // Aplicar resistência de 50%
     int reducedDamage = (int) (damage * DAMAGE_RESISTANCE);
-    currentHealth -= reducedDamage;
+    setCurrentHealth(getCurrentHealth() - reducedDamage);
 
     System.out.println("🗿 Golem recebeu " + reducedDamage + " de dano (resistiu " + (damage - reducedDamage)
-        + ") - HP: " + currentHealth + "/" + maxHealth);
+        + ") - HP: " + getCurrentHealth() + "/" + maxHealth);
 
-    if (currentHealth <= 0) {
-      alive = false;
+    if (getCurrentHealth() <= 0) {
+      setAlive(false);
       System.out.println("💀 O Golem, guardião do equilíbrio, foi derrotado!");
     }
 
     // Enrage quando chega em 30% de vida
-    if (!enraged && currentHealth <= maxHealth * 0.3) {
+    if (!enraged && getCurrentHealth() <= maxHealth * 0.3) {
       enrage();
     }
   }
@@ -185,8 +168,8 @@ public class Golem extends Enemy {
       return;
 
     double distanceToPlayer = Math.sqrt(
-        Math.pow(target.getX() - x, 2) +
-            Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2) +
+            Math.pow(target.getY() - getY(), 2));
 
     // Se está preparando ataque, não se move
     if (preparingAttack) {
@@ -194,7 +177,7 @@ public class Golem extends Enemy {
       if (attackWindupTimer <= 0) {
         executeStoneThrow();
         preparingAttack = false;
-        attackCooldown = enraged ? ATTACK_RECOVERY_TIME / 2 : ATTACK_RECOVERY_TIME;
+        setAttackCooldown(enraged ? ATTACK_RECOVERY_TIME / 2 : ATTACK_RECOVERY_TIME);
       }
       return;
     }
@@ -209,7 +192,7 @@ public class Golem extends Enemy {
     }
 
     // Atacar se estiver no alcance e cooldown acabou
-    if (distanceToPlayer <= attackRange && attackCooldown <= 0) {
+    if (distanceToPlayer <= attackRange && getAttackCooldown() <= 0) {
       prepareStoneThrow();
     }
   }
@@ -238,9 +221,9 @@ public class Golem extends Enemy {
       return;
 
     // Criar projétil de pedra
-    GolemStone stone = new GolemStone(
-        x + width / 2,
-        y + height / 2,
+    GolemStone stone = GolemStone.obtain(
+        getX() + width / 2,
+        getY() + height / 2,
         targetTileX,
         targetTileY,
         damage,
@@ -258,13 +241,12 @@ public class Golem extends Enemy {
     if (target == null)
       return;
 
-    double deltaX = x - target.getX();
-    double deltaY = y - target.getY();
+    double deltaX = getX() - target.getX();
+    double deltaY = getY() - target.getY();
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
-      dx = (deltaX / distance) * speed;
-      dy = (deltaY / distance) * speed;
+      setVelocity((deltaX / distance) * speed, (deltaY / distance) * speed);
     }
   }
 
@@ -275,8 +257,8 @@ public class Golem extends Enemy {
     if (target == null)
       return;
 
-    double deltaX = target.getX() - x;
-    double deltaY = target.getY() - y;
+    double deltaX = target.getX() - getX();
+    double deltaY = target.getY() - getY();
 
     // Determinar direção baseada no maior delta
     if (Math.abs(deltaX) > Math.abs(deltaY)) {
@@ -303,7 +285,7 @@ public class Golem extends Enemy {
     super.update(player);
 
     // Atualizar animação de caminhada se estiver se movendo
-    if (Math.abs(dx) > 0.1 || Math.abs(dy) > 0.1) {
+    if (Math.abs(getDx()) > 0.1 || Math.abs(getDy()) > 0.1) {
       walkAnimationCounter++;
     }
 
@@ -315,28 +297,29 @@ public class Golem extends Enemy {
 
       if (!stone.isActive()) {
         iterator.remove();
+        GolemStone.free(stone);
       }
     }
   }
 
   @Override
   public void render(Graphics2D g, Camera camera) {
-    if (!alive)
+    if (!isAlive())
       return;
 
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = getScreenX(camera);
+    int screenY = getScreenY(camera);
 
     // Calcular offset de balanço se estiver se movendo
     int swayOffsetX = 0;
-    if (Math.abs(dx) > 0.1 || Math.abs(dy) > 0.1) {
+    if (Math.abs(getDx()) > 0.1 || Math.abs(getDy()) > 0.1) {
       double swayAngle = (walkAnimationCounter / (double) WALK_ANIMATION_SPEED) * Math.PI * 2;
       swayOffsetX = (int) (Math.sin(swayAngle) * WALK_SWAY_AMOUNT);
     }
 
     // Renderizar sprite atual com balanço
     if (currentSprite != null) {
-      g.drawImage(currentSprite, screenX + swayOffsetX, screenY, width, height, null);
+      currentSprite.draw(g, screenX + swayOffsetX, screenY);
     } else {
       // Fallback - retângulo cinza
       g.setColor(Color.GRAY);
@@ -348,20 +331,16 @@ public class Golem extends Enemy {
       renderAttackWarning(g, camera);
     }
 
-    // Renderizar pedras ativas (usar cópia para evitar
-    // ConcurrentModificationException)
-    for (GolemStone stone : new java.util.ArrayList<>(activeStones)) {
-      stone.render(g, camera);
-    }
+    // Pedras ativas são desenhadas pelo EnemyManager a partir do snapshot
 
     // Renderizar barra de vida
     renderHealthBar(g, screenX, screenY);
 
     // Renderizar indicador de enrage
     if (enraged) {
-      g.setColor(new Color(255, 0, 0, 150));
+      g.setColor(RenderResources.color(255, 0, 0, 150));
       g.drawOval(screenX - 10, screenY - 10, width + 20, height + 20);
-      g.setFont(new Font("Arial", Font.BOLD, 12));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
       g.setColor(Color.RED);
       g.drawString("ENFURECIDO!", screenX, screenY - 15);
     }
@@ -383,7 +362,7 @@ public class Golem extends Enemy {
     int areaSize = tileSize * 2;
 
     // Desenhar área de perigo
-    g.setColor(new Color(255, 0, 0, Math.min(255, alpha)));
+    g.setColor(RenderResources.color(255, 0, 0, Math.min(255, alpha)));
     g.fillRect(
         targetScreenX - areaSize / 2,
         targetScreenY - areaSize / 2,
@@ -391,8 +370,8 @@ public class Golem extends Enemy {
         areaSize);
 
     // Desenhar borda piscante
-    g.setColor(new Color(255, 255, 0, Math.min(255, alpha + 50)));
-    g.setStroke(new BasicStroke(3));
+    g.setColor(RenderResources.color(255, 255, 0, Math.min(255, alpha + 50)));
+    g.setStroke(RenderResources.stroke(3));
     g.drawRect(
         targetScreenX - areaSize / 2,
         targetScreenY - areaSize / 2,
@@ -400,8 +379,8 @@ public class Golem extends Enemy {
         areaSize);
 
     // Desenhar símbolo de alerta
-    g.setFont(new Font("Arial", Font.BOLD, 24));
-    g.setColor(new Color(255, 255, 0, Math.min(255, alpha + 100)));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
+    g.setColor(RenderResources.color(255, 255, 0, Math.min(255, alpha + 100)));
     String warning = "!";
     FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(warning);
@@ -422,9 +401,9 @@ public class Golem extends Enemy {
     g.fillRect(barX, barY, barWidth, barHeight);
 
     // Barra de vida
-    int healthWidth = (int) ((double) currentHealth / maxHealth * barWidth);
+    int healthWidth = (int) ((double) getCurrentHealth() / maxHealth * barWidth);
     Color healthColor = enraged ? Color.RED : Color.GREEN;
-    if (!enraged && currentHealth < maxHealth * 0.5) {
+    if (!enraged && getCurrentHealth() < maxHealth * 0.5) {
       healthColor = Color.YELLOW;
     }
 
@@ -436,16 +415,16 @@ public class Golem extends Enemy {
     g.drawRect(barX, barY, barWidth, barHeight);
 
     // Texto de HP
-    g.setFont(new Font("Arial", Font.BOLD, 10));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 10));
     g.setColor(Color.WHITE);
-    String hpText = currentHealth + "/" + maxHealth;
+    String hpText = getCurrentHealth() + "/" + maxHealth;
     FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(hpText);
     g.drawString(hpText, barX + (barWidth - textWidth) / 2, barY - 2);
 
     // Nome do boss
-    g.setFont(new Font("Arial", Font.BOLD, 12));
-    g.setColor(new Color(255, 215, 0)); // Dourado
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
+    g.setColor(RenderResources.color(255, 215, 0)); // Dourado
     String bossName = "GOLEM - Guardião do Equilíbrio";
     textWidth = fm.stringWidth(bossName);
     g.drawString(bossName, screenX + (width - textWidth) / 2, screenY - 25);
@@ -1,13 +1,13 @@
 package com.rpggame.enemies.Golem;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.IOException;
-import java.io.InputStream;
 import com.rpggame.entities.Player;
+import com.rpggame.systems.ObjectPool;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
+import com.rpggame.world.Sprite;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Projétil de pedra lançado pelo Golem
@@ -24,7 +24,11 @@ public class GolemStone {
   private Player player;
 
   // Sprites da pedra girando
-  private BufferedImage[] stoneSprites = new BufferedImage[4];
+  private static final String[] STONE_SPRITE_PATHS = {
+      "sprites/GOLEMStone1.png", "sprites/GOLEMStone2.png",
+      "sprites/GOLEMStone3.png", "sprites/GOLEMStone4.png" };
+  private Sprite[] stoneSprites = new Sprite[4];
+  private boolean spritesReleased = false;
   private int currentFrame = 0;
   private int animationTimer = 0;
   private static final int ANIMATION_SPEED = 5; // Frames entre cada sprite
@@ -42,10 +46,49 @@ public class GolemStone {
   // Tamanho da pedra
   private static final int STONE_SIZE = 32;
 
+  // Linha pontilhada da trajetória
+  private static final BasicStroke TRAJECTORY_STROKE = new BasicStroke(2, BasicStroke.CAP_BUTT,
+      BasicStroke.JOIN_BEVEL, 0, new float[] { 5 }, 0);
+
+  // Pedras reaproveitadas entre lançamentos (ver obtain/free)
+  private static final ObjectPool<GolemStone> POOL = new ObjectPool<>("GolemStone", 16, GolemStone::new);
+
   /**
    * Construtor do GolemStone
    */
   public GolemStone(double startX, double startY, double targetX, double targetY, int damage, Player player) {
+    this();
+    init(startX, startY, targetX, targetY, damage, player);
+  }
+
+  private GolemStone() {
+    loadStoneSprites();
+  }
+
+  /**
+   * Pedra do pool, já inicializada. Os sprites são obtidos só quando a pedra
+   * é criada e ficam com ela enquanto estiver no pool; free() devolve a pedra
+   * e só libera os sprites se o pool estiver cheio.
+   */
+  public static GolemStone obtain(double startX, double startY, double targetX, double targetY, int damage,
+      Player player) {
+    GolemStone stone = POOL.obtain();
+    stone.init(startX, startY, targetX, targetY, damage, player);
+    return stone;
+  }
+
+  /**
+   * Devolve a pedra ao pool (fica inativa)
+   */
+  public static void free(GolemStone stone) {
+    stone.active = false;
+    stone.player = null;
+    if (!POOL.free(stone)) {
+      stone.releaseAssets();
+    }
+  }
+
+  private void init(double startX, double startY, double targetX, double targetY, int damage, Player player) {
     this.startX = startX;
     this.startY = startY;
     this.x = startX;
@@ -54,58 +97,43 @@ public class GolemStone {
     this.targetY = targetY;
     this.damage = damage;
     this.player = player;
-    loadStoneSprites();
+    this.active = true;
+    this.currentFrame = 0;
+    this.animationTimer = 0;
+    this.travelProgress = 0.0;
+    this.hasImpacted = false;
+    this.impactTimer = 0;
   }
 
   /**
-   * Carrega os sprites da pedra girando
+   * Obtém do AssetCache os sprites da pedra girando (já no tamanho de desenho)
    */
   private void loadStoneSprites() {
     int loadedCount = 0;
-    for (int i = 0; i < 4; i++) {
-      String path = "sprites/GOLEMStone" + (i + 1) + ".png";
-      stoneSprites[i] = loadSpriteFile(path);
+    for (int i = 0; i < STONE_SPRITE_PATHS.length; i++) {
+      stoneSprites[i] = AssetCache.acquire(STONE_SPRITE_PATHS[i], STONE_SIZE, STONE_SIZE);
       if (stoneSprites[i] != null) {
         loadedCount++;
       }
     }
 
-    if (loadedCount == 4) {
-      System.out.println("✅ Todos os sprites da pedra do Golem carregados (" + loadedCount + "/4)");
-    } else {
+    if (loadedCount < STONE_SPRITE_PATHS.length) {
       System.err.println("⚠️ Apenas " + loadedCount + "/4 sprites da pedra foram carregados");
     }
   }
 
   /**
-   * Carrega um arquivo de sprite (igual ao método da classe Enemy)
+   * Devolve os sprites ao AssetCache (pedra removida do jogo)
    */
-  private BufferedImage loadSpriteFile(String path) {
-    try {
-      // Tentar carregar como recurso do classpath
-      InputStream is = getClass().getClassLoader().getResourceAsStream(path);
-      if (is != null) {
-        BufferedImage img = ImageIO.read(is);
-        is.close();
-        if (img != null) {
-          return img;
-        }
-      }
-
-      // Fallback: tentar carregar como arquivo externo
-      String resolvedPath = com.rpggame.world.ResourceResolver.getResourcePath(path);
-      java.io.File file = new java.io.File(resolvedPath);
-      if (file.exists()) {
-        BufferedImage img = ImageIO.read(file);
-        if (img != null) {
-          return img;
-        }
-      }
-    } catch (IOException e) {
-      System.err.println("❌ Erro ao carregar " + path + ": " + e.getMessage());
+  public void releaseAssets() {
+    // O snapshot em desenho ainda pode usar as imagens, então só o contador muda
+    if (spritesReleased) {
+      return;
     }
-
-    return null;
+    for (String path : STONE_SPRITE_PATHS) {
+      AssetCache.release(path, STONE_SIZE, STONE_SIZE);
+    }
+    spritesReleased = true;
   }
 
   /**
@@ -203,18 +231,12 @@ public class GolemStone {
       int heightOffset = (int) height;
 
       // Desenhar sombra no chão
-      g.setColor(new Color(0, 0, 0, 80));
+      g.setColor(RenderResources.color(0, 0, 0, 80));
       g.fillOval(screenX - STONE_SIZE / 2, screenY - STONE_SIZE / 2, STONE_SIZE, STONE_SIZE);
 
       // Desenhar pedra com offset de altura
       if (stoneSprites[currentFrame] != null) {
-        g.drawImage(
-            stoneSprites[currentFrame],
-            screenX - STONE_SIZE / 2,
-            screenY - STONE_SIZE / 2 - heightOffset,
-            STONE_SIZE,
-            STONE_SIZE,
-            null);
+        stoneSprites[currentFrame].draw(g, screenX - STONE_SIZE / 2, screenY - STONE_SIZE / 2 - heightOffset);
       } else {
         // Fallback
         g.setColor(Color.GRAY);
@@ -222,8 +244,8 @@ public class GolemStone {
       }
 
       // Indicador de trajetória (linha pontilhada até o alvo)
-      g.setColor(new Color(255, 0, 0, 100));
-      g.setStroke(new BasicStroke(2, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[] { 5 }, 0));
+      g.setColor(RenderResources.color(255, 0, 0, 100));
+      g.setStroke(TRAJECTORY_STROKE);
       int targetScreenX = (int) (targetX - camera.getX());
       int targetScreenY = (int) (targetY - camera.getY());
       g.drawLine(screenX, screenY, targetScreenX, targetScreenY);
@@ -251,13 +273,13 @@ public class GolemStone {
       int waveRadius = (int) ((1.0 - intensity) * (areaSize / 2 + i * 20));
       int alpha = (int) (255 * intensity);
 
-      g.setColor(new Color(255, 150, 0, Math.max(0, alpha - i * 50)));
-      g.setStroke(new BasicStroke(4 - i));
+      g.setColor(RenderResources.color(255, 150, 0, Math.max(0, alpha - i * 50)));
+      g.setStroke(RenderResources.stroke(4 - i));
       g.drawOval(screenX - waveRadius, screenY - waveRadius, waveRadius * 2, waveRadius * 2);
     }
 
     // Área de dano
-    g.setColor(new Color(255, 0, 0, (int) (150 * intensity)));
+    g.setColor(RenderResources.color(255, 0, 0, (int) (150 * intensity)));
     g.fillRect(screenX - areaSize / 2, screenY - areaSize / 2, areaSize, areaSize);
 
     // Partículas de destroços
@@ -267,14 +289,14 @@ public class GolemStone {
       int particleX = screenX + (int) (Math.cos(angle) * particleDistance);
       int particleY = screenY + (int) (Math.sin(angle) * particleDistance);
 
-      g.setColor(new Color(100, 100, 100, (int) (255 * intensity)));
+      g.setColor(RenderResources.color(100, 100, 100, (int) (255 * intensity)));
       g.fillRect(particleX - 3, particleY - 3, 6, 6);
     }
 
     // Efeito de tela tremendo (screen shake) - visual
     if (intensity > 0.7) {
-      g.setColor(new Color(255, 255, 255, (int) (100 * intensity)));
-      g.setStroke(new BasicStroke(2));
+      g.setColor(RenderResources.color(255, 255, 255, (int) (100 * intensity)));
+      g.setStroke(RenderResources.stroke(2));
 
       // Linhas de impacto radiais
       for (int i = 0; i < 12; i++) {
@@ -4,14 +4,13 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
-
-import javax.imageio.ImageIO;
 
 import com.rpggame.entities.Enemy;
+import com.rpggame.systems.EntityStore;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
+import com.rpggame.world.Sprite;
+import com.rpggame.world.RenderResources;
 
 /**
  * Mimic - Inimigo disfarçado de baú.
@@ -30,10 +29,20 @@ public class Mimic extends Enemy {
   private MimicState state = MimicState.DISGUISED;
 
   // Sprites
-  private BufferedImage disguisedSprite; // Baú fechado
-  private BufferedImage attack1Sprite; // Frame 1 do ataque
-  private BufferedImage attack2Sprite; // Frame 2 do ataque
-  private BufferedImage activeSprite; // Forma ativa
+  private Sprite disguisedSprite; // Baú fechado
+  private Sprite attack1Sprite; // Frame 1 do ataque
+  private Sprite attack2Sprite; // Frame 2 do ataque
+  private Sprite activeSprite; // Forma ativa
+  private boolean spritesReleased = false;
+
+  // Alvo da língua (tracejado)
+  private static final java.awt.BasicStroke TONGUE_TARGET_STROKE = new java.awt.BasicStroke(2,
+      java.awt.BasicStroke.CAP_ROUND, java.awt.BasicStroke.JOIN_ROUND, 10, new float[] { 5, 5 }, 0);
+  private static final String SPRITE_DISGUISED = "sprites/ClosedChest.png";
+  private static final String SPRITE_ATTACK1 = "sprites/MimicAttack1.png";
+  private static final String SPRITE_ATTACK2 = "sprites/MimicAttack2.png";
+  private static final String SPRITE_ACTIVE = "sprites/Mimic.png";
+  private static final int SPRITE_SIZE = 48;
 
   // Sistema de detecção
   private static final double DETECTION_RADIUS = 150.0;
@@ -74,32 +83,31 @@ public class Mimic extends Enemy {
   /**
    * Construtor do Mimic.
    */
-  public Mimic(double x, double y) {
-    super(x, y, "sprites/Mimic.png");
+  public Mimic(EntityStore store, double x, double y) {
+    super(store, x, y, SPRITE_ACTIVE);
     loadAllSprites();
   }
 
   @Override
   protected void initializeStats() {
     this.maxHealth = 80;
-    this.currentHealth = maxHealth;
+    setCurrentHealth(maxHealth);
     this.damage = 10; // Dano reduzido porque agora prende o player
     this.speed = 1.5;
     this.experienceReward = 100;
-    this.width = 48;
-    this.height = 48;
+    setSize(SPRITE_SIZE, SPRITE_SIZE);
     this.detectionRange = DETECTION_RADIUS;
     this.attackRange = 50.0;
   }
 
   /**
-   * Carrega todos os sprites do Mimic.
+   * Carrega todos os sprites do Mimic (já no tamanho de desenho).
    */
   private void loadAllSprites() {
-    disguisedSprite = loadSpriteFile("sprites/ClosedChest.png"); // Usa sprite do baú fechado
-    attack1Sprite = loadSpriteFile("sprites/MimicAttack1.png");
-    attack2Sprite = loadSpriteFile("sprites/MimicAttack2.png");
-    activeSprite = loadSpriteFile("sprites/Mimic.png"); // Sprite do Mimic revelado
+    disguisedSprite = AssetCache.acquire(SPRITE_DISGUISED, SPRITE_SIZE, SPRITE_SIZE); // Usa sprite do baú fechado
+    attack1Sprite = AssetCache.acquire(SPRITE_ATTACK1, SPRITE_SIZE, SPRITE_SIZE);
+    attack2Sprite = AssetCache.acquire(SPRITE_ATTACK2, SPRITE_SIZE, SPRITE_SIZE);
+    activeSprite = AssetCache.acquire(SPRITE_ACTIVE, SPRITE_SIZE, SPRITE_SIZE); // Sprite do Mimic revelado
 
     if (disguisedSprite != null && attack1Sprite != null && attack2Sprite != null && activeSprite != null) {
       System.out.println("✅ Sprites do Mimic carregados");
@@ -108,27 +116,17 @@ public class Mimic extends Enemy {
     }
   }
 
-  /**
-   * Carrega um sprite individual.
-   */
-  private BufferedImage loadSpriteFile(String path) {
-    try {
-      InputStream is = getClass().getClassLoader().getResourceAsStream(path);
-      if (is != null) {
-        BufferedImage img = ImageIO.read(is);
-        is.close();
-        return img;
-      }
-
-      String resolvedPath = com.rpggame.world.ResourceResolver.getResourcePath(path);
-      java.io.File file = new java.io.File(resolvedPath);
-      if (file.exists()) {
-        return ImageIO.read(file);
-      }
-    } catch (IOException e) {
-      System.err.println("❌ Erro ao carregar sprite: " + path);
+  @Override
+  public void releaseAssets() {
+    super.releaseAssets();
+    if (spritesReleased) {
+      return;
     }
-    return null;
+    AssetCache.release(SPRITE_DISGUISED, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_ATTACK1, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_ATTACK2, SPRITE_SIZE, SPRITE_SIZE);
+    AssetCache.release(SPRITE_ACTIVE, SPRITE_SIZE, SPRITE_SIZE);
+    spritesReleased = true;
   }
 
   @Override
@@ -138,8 +136,8 @@ public class Mimic extends Enemy {
     }
 
     double distanceToPlayer = Math.sqrt(
-        Math.pow(target.getX() - x, 2)
-            + Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2)
+            + Math.pow(target.getY() - getY(), 2));
 
     switch (state) {
       case DISGUISED:
@@ -250,9 +248,9 @@ public class Mimic extends Enemy {
             moveTowardsPlayer();
 
             // Ataque de língua quando estiver no alcance
-            if (distanceToPlayer <= MAX_TONGUE_LENGTH && attackCooldown <= 0) {
+            if (distanceToPlayer <= MAX_TONGUE_LENGTH && getAttackCooldown() <= 0) {
               executeInitialAttack();
-              attackCooldown = ATTACK_COOLDOWN_TIME;
+              setAttackCooldown(ATTACK_COOLDOWN_TIME);
             }
           }
         }
@@ -282,7 +280,7 @@ public class Mimic extends Enemy {
     }
 
     // Manter player na posição do Mimic
-    target.setPosition(x, y);
+    target.setPosition(getX(), getY());
 
     // Verificar se player escapou
     if (escapeProgress >= ESCAPE_REQUIRED) {
@@ -303,8 +301,8 @@ public class Mimic extends Enemy {
     }
 
     // Calcular direção até o player
-    double deltaX = pullTargetX - x;
-    double deltaY = pullTargetY - y;
+    double deltaX = pullTargetX - getX();
+    double deltaY = pullTargetY - getY();
     double distanceToPlayer = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     System.out.println("🔍 [DEBUG] Puxando player... Distância: " + distanceToPlayer + " (precisa <= 30)");
@@ -337,8 +335,7 @@ public class Mimic extends Enemy {
       double normalizedX = deltaX / distanceToPlayer;
       double normalizedY = deltaY / distanceToPlayer;
 
-      x += normalizedX * PULL_SPEED;
-      y += normalizedY * PULL_SPEED;
+      moveBy(normalizedX * PULL_SPEED, normalizedY * PULL_SPEED);
 
       // Retrair a língua gradualmente
       tongueLength = Math.max(0, distanceToPlayer);
@@ -407,16 +404,16 @@ public class Mimic extends Enemy {
     System.out.println("🔍 [DEBUG] Verificando colisão da língua - Length: " + tongueLength + "/" + MAX_TONGUE_LENGTH);
 
     // Calcular posição da ponta da língua
-    double deltaX = tongueTargetX - x;
-    double deltaY = tongueTargetY - y;
+    double deltaX = tongueTargetX - getX();
+    double deltaY = tongueTargetY - getY();
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
       double normalizedX = deltaX / distance;
       double normalizedY = deltaY / distance;
 
-      double tongueEndX = x + normalizedX * tongueLength;
-      double tongueEndY = y + normalizedY * tongueLength;
+      double tongueEndX = getX() + normalizedX * tongueLength;
+      double tongueEndY = getY() + normalizedY * tongueLength;
 
       // Verificar se a língua chegou perto da posição ALVO (onde o player estava)
       double distToTarget = Math.sqrt(
@@ -451,25 +448,6 @@ public class Mimic extends Enemy {
     }
   }
 
-  /**
-   * Move em direção ao player.
-   */
-  @Override
-  protected void moveTowardsPlayer() {
-    if (target == null) {
-      return;
-    }
-
-    double deltaX = target.getX() - x;
-    double deltaY = target.getY() - y;
-    double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-
-    if (distance > 0) {
-      dx = (deltaX / distance) * speed;
-      dy = (deltaY / distance) * speed;
-    }
-  }
-
   /**
    * Ataca o player.
    */
@@ -484,22 +462,22 @@ public class Mimic extends Enemy {
   private void attackPlayer() {
     if (target != null) {
       target.takeDamage(damage);
-      attackCooldown = ATTACK_COOLDOWN_TIME;
+      setAttackCooldown(ATTACK_COOLDOWN_TIME);
       System.out.println("👹 Mimic atacou o player!");
     }
   }
 
   @Override
   public void render(Graphics2D g, Camera camera) {
-    if (!alive) {
+    if (!isAlive()) {
       return;
     }
 
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = getScreenX(camera);
+    int screenY = getScreenY(camera);
 
     // Escolher sprite baseado no estado
-    BufferedImage currentSprite = disguisedSprite;
+    Sprite currentSprite = disguisedSprite;
 
     switch (state) {
       case DISGUISED:
@@ -531,7 +509,7 @@ public class Mimic extends Enemy {
 
     // Renderizar sprite
     if (currentSprite != null) {
-      g.drawImage(currentSprite, screenX, screenY, width, height, null);
+      currentSprite.draw(g, screenX, screenY);
     } else {
       // Fallback
       g.setColor(Color.YELLOW);
@@ -558,8 +536,8 @@ public class Mimic extends Enemy {
     double targetX = pullingToPlayer ? pullTargetX : tongueTargetX;
     double targetY = pullingToPlayer ? pullTargetY : tongueTargetY;
 
-    double deltaX = targetX - x;
-    double deltaY = targetY - y;
+    double deltaX = targetX - getX();
+    double deltaY = targetY - getY();
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
@@ -610,31 +588,30 @@ public class Mimic extends Enemy {
 
         // Desenhar língua com gradiente de cor
         // Parte interna (rosa mais escuro)
-        g.setColor(new Color(255, 100, 150, 200));
+        g.setColor(RenderResources.color(255, 100, 150, 200));
         g.fillPolygon(xPoints, yPoints, 4);
 
         // Borda da língua (mais escura)
-        g.setColor(new Color(200, 50, 100, 220));
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setColor(RenderResources.color(200, 50, 100, 220));
+        g.setStroke(RenderResources.stroke(2));
         g.drawPolygon(xPoints, yPoints, 4);
 
         // Desenhar ponta da língua (círculo)
-        g.setColor(new Color(255, 120, 160, 220));
+        g.setColor(RenderResources.color(255, 120, 160, 220));
         g.fillOval(tongueEndX - 6, tongueEndY - 6, 12, 12);
 
-        g.setColor(new Color(200, 50, 100, 240));
-        g.setStroke(new java.awt.BasicStroke(1.5f));
+        g.setColor(RenderResources.color(200, 50, 100, 240));
+        g.setStroke(RenderResources.stroke(1.5f));
         g.drawOval(tongueEndX - 6, tongueEndY - 6, 12, 12);
       }
 
       // Desenhar indicador de alvo (onde a língua está mirando)
       if (tongueLength < MAX_TONGUE_LENGTH * 0.5) {
-        int targetScreenX = (int) (tongueTargetX - (x - screenX));
-        int targetScreenY = (int) (tongueTargetY - (y - screenY));
+        int targetScreenX = (int) (tongueTargetX - (getX() - screenX));
+        int targetScreenY = (int) (tongueTargetY - (getY() - screenY));
 
-        g.setColor(new Color(255, 0, 0, 100));
-        g.setStroke(new java.awt.BasicStroke(2, java.awt.BasicStroke.CAP_ROUND,
-            java.awt.BasicStroke.JOIN_ROUND, 10, new float[] { 5, 5 }, 0));
+        g.setColor(RenderResources.color(255, 0, 0, 100));
+        g.setStroke(TONGUE_TARGET_STROKE);
         g.drawOval(targetScreenX - 20, targetScreenY - 20, 40, 40);
       }
     }
@@ -648,7 +625,7 @@ public class Mimic extends Enemy {
     float intensity = 1.0f - ((float) stateTimer / ATTACK_WARN_TIME);
     int alpha = (int) (100 + 155 * intensity);
 
-    g.setColor(new Color(255, 0, 0, Math.min(255, alpha)));
+    g.setColor(RenderResources.color(255, 0, 0, Math.min(255, alpha)));
     int warningSize = width + 20;
     g.fillOval(
         screenX - 10,
@@ -658,7 +635,7 @@ public class Mimic extends Enemy {
 
     // Texto de aviso
     g.setColor(Color.YELLOW);
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     String warning = "CUIDADO!";
     FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(warning);
@@ -678,7 +655,7 @@ public class Mimic extends Enemy {
     g.fillRect(screenX, barY, barWidth, barHeight);
 
     // Barra de vida
-    double healthPercent = (double) currentHealth / maxHealth;
+    double healthPercent = (double) getCurrentHealth() / maxHealth;
     int healthWidth = (int) (barWidth * healthPercent);
 
     g.setColor(healthPercent > 0.5 ? Color.GREEN : healthPercent > 0.25 ? Color.YELLOW : Color.RED);
@@ -10,6 +10,7 @@ import java.io.InputStream;
 import javax.imageio.ImageIO;
 
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Baú que contém itens e requer um minigame para abrir.
@@ -113,14 +114,14 @@ public class Chest {
       g.drawImage(currentSprite, screenX, screenY, width, height, null);
     } else {
       // Fallback
-      g.setColor(opened ? Color.GRAY : new Color(139, 69, 19));
+      g.setColor(opened ? Color.GRAY : RenderResources.color(139, 69, 19));
       g.fillRect(screenX, screenY, width, height);
     }
 
     // Mostrar indicador de interação
     if (playerNearby && !opened) {
       g.setColor(Color.YELLOW);
-      g.setFont(new Font("Arial", Font.BOLD, 12));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
       String text = "[F] Abrir";
       FontMetrics fm = g.getFontMetrics();
       int textWidth = fm.stringWidth(text);
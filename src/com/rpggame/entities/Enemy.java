@@ -2,61 +2,62 @@ package com.rpggame.entities;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
-import com.rpggame.core.GamePanel;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
+import com.rpggame.world.FlowField;
+import com.rpggame.world.PathFollower;
+import com.rpggame.world.Sprite;
 import com.rpggame.world.TileMap;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.systems.EntityStore;
+import com.rpggame.systems.StatusEffect;
+import com.rpggame.systems.StatusEffects;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
+import com.rpggame.world.RenderResources;
 
 /**
- * Classe base para todos os inimigos do jogo
+ * Classe base para todos os inimigos do jogo.
+ *
+ * Posição, velocidade, vida, flags de estado e cooldown ficam no EntityStore
+ * do EnemyManager; o objeto guarda só o handle e o estado frio (sprite,
+ * alcances, referências). Efeitos de status, cooldown, movimento e posição
+ * anterior são atualizados pelo EnemyManager em passes sobre o store inteiro.
+ * Depois de dispose() o handle deixa de valer: o inimigo lê como morto, sem
+ * vida e na origem, mesmo que o slot já seja de outro inimigo.
  */
-public abstract class Enemy {
-  protected double x, y;
-  protected double dx, dy;
+public abstract class Enemy implements StatusEffects.Target {
+  // Estado quente e efeitos de status dos inimigos do mesmo EnemyManager
+  private final EntityStore store;
+  private final StatusEffects effects;
+
+  private final int handle;
+
   protected double speed;
-  protected int width, height;
+  protected int width, height; // Alterar com setSize()
 
   // Atributos do inimigo
   protected int maxHealth;
-  protected int currentHealth;
   protected int damage;
   protected int experienceReward;
 
   // Sprite e animação
-  protected BufferedImage sprite;
+  protected Sprite sprite;
+
+  // Direção lida do campo de fluxo (reutilizada; só a thread do jogo usa)
+  private static final double[] flowDirection = new double[2];
+
+  // Caminho até alvos que não são o jogador (criado no primeiro uso)
+  private PathFollower pathFollower;
   protected String spritePath;
+  private boolean spriteFromCache = false; // Sprite obtido do AssetCache (precisa de release)
 
   // Estado do inimigo
-  protected boolean alive;
-  protected boolean aggressive;
   protected double detectionRange;
   protected double attackRange;
 
-  // Estado de congelamento
-  protected boolean frozen;
-  protected int freezeTimer;
-
-  // Estado de medo (fear)
-  protected boolean feared;
-  protected int fearTimer;
-  protected double fearDirectionX;
-  protected double fearDirectionY;
-
-  // Estado de encantamento (charm)
-  protected boolean charmed;
-  protected int charmTimer;
-
-  // Estado de atordoamento (stun)
-  protected boolean stunned;
-  protected int stunTimer;
-
   // Timer para ataques
-  protected int attackCooldown;
   protected final int ATTACK_COOLDOWN_TIME = 60; // frames
 
   // Referência para o jogador (para IA)
@@ -72,25 +73,15 @@ public abstract class Enemy {
   protected Enemy charmedTarget;
 
   /**
-   * Construtor da classe Enemy
+   * Construtor da classe Enemy. O store é o do EnemyManager que vai receber
+   * o inimigo.
    */
-  public Enemy(double x, double y, String spritePath) {
-    this.x = x;
-    this.y = y;
+  public Enemy(EntityStore store, double x, double y, String spritePath) {
+    this.store = store;
+    this.effects = store.getEffects();
+    // Vivo, sem velocidade, sem estados e sem cooldown
+    this.handle = store.create(x, y);
     this.spritePath = spritePath;
-    this.alive = true;
-    this.aggressive = false;
-    this.attackCooldown = 0;
-    this.frozen = false;
-    this.freezeTimer = 0;
-    this.feared = false;
-    this.fearTimer = 0;
-    this.fearDirectionX = 0;
-    this.fearDirectionY = 0;
-    this.charmed = false;
-    this.charmTimer = 0;
-    this.stunned = false;
-    this.stunTimer = 0;
 
     loadSprite();
     initializeStats();
@@ -100,56 +91,52 @@ public abstract class Enemy {
    * Carrega o sprite do inimigo
    */
   private void loadSprite() {
-    System.out.println("Tentando carregar sprite: " + spritePath);
-
-    boolean loaded = false;
-
-    try {
-      // Tentar carregar como recurso do classpath (funciona no JAR)
-      InputStream is = getClass().getClassLoader().getResourceAsStream(spritePath);
-      if (is != null) {
-        sprite = ImageIO.read(is);
-        is.close();
-        if (sprite != null) {
-          width = sprite.getWidth();
-          height = sprite.getHeight();
-          loaded = true;
-          System.out.println("✅ Sprite carregado do JAR: " + spritePath);
-        }
-      } else {
-        // Fallback: tentar carregar como arquivo externo (desenvolvimento)
-        String resolvedPath = com.rpggame.world.ResourceResolver.getResourcePath(spritePath);
-        File spriteFile = new File(resolvedPath);
-
-        if (spriteFile.exists()) {
-          sprite = ImageIO.read(spriteFile);
-          if (sprite != null) {
-            width = sprite.getWidth();
-            height = sprite.getHeight();
-            loaded = true;
-            System.out.println("✅ Sprite carregado do arquivo: " + resolvedPath);
-          }
-        }
-      }
-    } catch (IOException e) {
-      System.out.println("❌ Falha ao carregar sprite: " + e.getMessage());
+    // Imagem compartilhada entre todos os inimigos com o mesmo sprite
+    sprite = AssetCache.acquire(spritePath);
+    if (sprite != null) {
+      spriteFromCache = true;
+      setSize(sprite.getWidth(), sprite.getHeight());
+    } else {
+      Log.error(LogCategory.ASSETS, "ERRO: Não foi possível carregar sprite do inimigo!");
+      Log.error(LogCategory.ASSETS, "Sprite solicitado: " + spritePath);
+      createDefaultSprite();
     }
+  }
 
-    if (!loaded) {
-      System.err.println("ERRO: Não foi possível carregar sprite do inimigo!");
-      System.err.println("Sprite solicitado: " + spritePath);
-      createDefaultSprite();
+  /**
+   * Devolve ao AssetCache os sprites usados por este inimigo. Chamado quando o
+   * inimigo sai do jogo (morte ou troca de mapa).
+   */
+  public void releaseAssets() {
+    if (spriteFromCache) {
+      AssetCache.release(spritePath);
+      spriteFromCache = false;
     }
   }
 
+  /**
+   * Tira o inimigo do jogo: devolve os sprites e libera o slot no EntityStore.
+   * Chamado pelo EnemyManager quando o inimigo sai da lista.
+   */
+  public void dispose() {
+    releaseAssets();
+    store.destroy(handle);
+  }
+
+  /**
+   * Store onde o inimigo foi criado
+   */
+  public EntityStore getStore() {
+    return store;
+  }
+
   /**
    * Cria um sprite padrão para o inimigo
    */
   private void createDefaultSprite() {
-    width = 48;
-    height = 48;
-    sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-    Graphics2D g = sprite.createGraphics();
+    setSize(48, 48);
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
 
     // Fundo vermelho para inimigo
     g.setColor(Color.RED);
@@ -157,20 +144,21 @@ public abstract class Enemy {
 
     // Borda preta
     g.setColor(Color.BLACK);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRect(1, 1, width - 3, height - 3);
 
     // Desenhar um "G" para Goblin
     g.setColor(Color.WHITE);
-    g.setFont(new Font("Arial", Font.BOLD, 20));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 20));
     FontMetrics fm = g.getFontMetrics();
     int textX = (width - fm.stringWidth("G")) / 2;
     int textY = (height + fm.getAscent()) / 2 - 2;
     g.drawString("G", textX, textY);
 
     g.dispose();
+    sprite = Sprite.of(image);
 
-    System.out.println("Sprite padrão criado para inimigo: " + width + "x" + height + "px");
+    Log.debug(LogCategory.ASSETS, "Sprite padrão criado para inimigo: " + width + "x" + height + "px");
   }
 
   /**
@@ -180,83 +168,39 @@ public abstract class Enemy {
   protected abstract void initializeStats();
 
   /**
-   * Atualiza a lógica do inimigo
+   * Atualiza a lógica do inimigo. Efeitos de status e movimento são aplicados
+   * pelo EnemyManager em passes sobre todos os inimigos (antes e depois deste
+   * update).
    */
   public void update(Player player) {
-    if (!alive)
+    if (!isAlive())
       return;
 
     this.target = player;
 
-    // Atualizar estado de congelamento
-    if (frozen) {
-      freezeTimer--;
-      if (freezeTimer <= 0) {
-        frozen = false;
-        System.out.println("❄️ Inimigo descongelado!");
-      }
-      return; // Não fazer nada enquanto congelado
-    }
-
-    // Atualizar estado de encantamento (charm)
-    if (charmed) {
-      charmTimer--;
-      if (charmTimer <= 0) {
-        charmed = false;
-        charmedTarget = null;
-        System.out.println("💜 Encantamento dissipado!");
-      } else {
-        // Debug: mostrar que está encantado
-        if (charmTimer % 60 == 0) { // A cada segundo
-          System.out.println("💜 Inimigo está encantado! Tempo restante: " + (charmTimer / 60.0) + "s");
-        }
-      }
+    if (!isCharmed()) {
+      charmedTarget = null;
     }
 
-    // Atualizar estado de atordoamento (stun)
-    if (stunned) {
-      stunTimer--;
-      if (stunTimer <= 0) {
-        stunned = false;
-        System.out.println("💥 Inimigo recuperou do atordoamento!");
-      }
-      return; // Não fazer nada enquanto atordoado
-    }
-
-    // Atualizar estado de medo (fear)
-    if (feared) {
-      fearTimer--;
-      if (fearTimer <= 0) {
-        feared = false;
-        dx = 0;
-        dy = 0;
-        System.out.println("💢 Inimigo recuperou coragem!");
-      } else {
-        // Continuar fugindo na direção definida
-        dx = fearDirectionX;
-        dy = fearDirectionY;
-      }
+    // Congelado ou atordoado: não fazer nada
+    if (store.hasFlag(handle, EntityStore.DISABLED)) {
+      return;
     }
 
-    // Atualizar cooldown de ataque
-    if (attackCooldown > 0) {
-      attackCooldown--;
-    }
+    int charmTimer = isCharmed() ? effects.getRemaining(handle, StatusEffect.CHARM) : 0;
 
     // IA básica (sempre executar se encantado, ou se não estiver com medo)
-    if (charmed || !feared) {
-      if (charmed && charmTimer % 60 == 0) {
-        System.out.println("💜 Chamando updateAI() para inimigo encantado...");
+    if (isCharmed() || !isFeared()) {
+      if (isCharmed() && charmTimer % 60 == 0) {
+        Log.debug(LogCategory.AI, () -> "💜 Inimigo está encantado! Tempo restante: " + (charmTimer / 60.0) + "s");
+        Log.debug(LogCategory.AI, "💜 Chamando updateAI() para inimigo encantado...");
       }
       updateAI();
     } else {
-      if (charmTimer % 60 == 0 && charmed) {
-        System.out.println("⚠️ Inimigo encantado mas com medo! IA não executada.");
+      if (charmTimer % 60 == 0 && isCharmed()) {
+        Log.debug(LogCategory.AI, "⚠️ Inimigo encantado mas com medo! IA não executada.");
       }
     }
-
-    // Atualizar posição com verificação de colisão
-    updatePosition();
   }
 
   /**
@@ -264,13 +208,13 @@ public abstract class Enemy {
    */
   protected void updateAI() {
     // Debug geral
-    if (charmed && charmTimer % 60 == 0) {
-      System.out.println("💜 updateAI() chamado! charmed=" + charmed + ", feared=" + feared);
+    if (isCharmed() && effects.getRemaining(handle, StatusEffect.CHARM) % 60 == 0) {
+      Log.debug(LogCategory.AI, () -> "💜 updateAI() chamado! charmed=" + isCharmed() + ", feared=" + isFeared());
     }
 
     // Se estiver encantado, atacar outros inimigos (VERIFICAR ANTES DO TARGET!)
-    if (charmed) {
-      System.out.println("💜 updateAI() detectou charmed=true, chamando updateCharmedAI()");
+    if (isCharmed()) {
+      Log.debug(LogCategory.AI, "💜 updateAI() detectou charmed=true, chamando updateCharmedAI()");
       updateCharmedAI();
       return;
     }
@@ -283,10 +227,10 @@ public abstract class Enemy {
 
     // Detectar jogador
     if (distanceToPlayer <= detectionRange) {
-      aggressive = true;
+      setAggressive(true);
     }
 
-    if (aggressive) {
+    if (isAggressive()) {
       // Mover em direção ao jogador
       if (distanceToPlayer > attackRange) {
         moveTowardsPlayer();
@@ -302,34 +246,25 @@ public abstract class Enemy {
    */
   protected void updateCharmedAI() {
     if (enemyManager == null) {
-      System.out.println("⚠️ EnemyManager é null! Não pode procurar alvos.");
+      Log.warn(LogCategory.AI, "⚠️ EnemyManager é null! Não pode procurar alvos.");
       return;
     }
 
-    // Procurar inimigo mais próximo para atacar
-    Enemy nearestEnemy = null;
-    double nearestDistance = Double.MAX_VALUE;
-
-    ArrayList<Enemy> enemies = enemyManager.getEnemies();
-    System.out.println("💜 Procurando alvos... Total de inimigos: " + enemies.size());
+    Log.debug(LogCategory.AI, () -> "💜 Procurando alvos... Total de inimigos: " + enemyManager.getEnemies().size());
 
-    for (Enemy enemy : enemies) {
-      if (enemy == this || !enemy.isAlive())
-        continue;
-
-      double dx = enemy.getX() - this.x;
-      double dy = enemy.getY() - this.y;
-      double distance = Math.sqrt(dx * dx + dy * dy);
-
-      if (distance < nearestDistance) {
-        nearestDistance = distance;
-        nearestEnemy = enemy;
-      }
-    }
+    // Procurar inimigo mais próximo para atacar (pelo índice espacial)
+    double x = getX();
+    double y = getY();
+    Enemy nearestEnemy = enemyManager.getEnemyIndex().findNearest(
+        x + width / 2.0, y + height / 2.0, Double.MAX_VALUE,
+        enemy -> enemy != this && enemy.isAlive());
 
     if (nearestEnemy != null) {
+      double nearestDistance = Math.sqrt(
+          Math.pow(nearestEnemy.getX() - x, 2) +
+              Math.pow(nearestEnemy.getY() - y, 2));
       charmedTarget = nearestEnemy;
-      System.out.println("💜 Alvo encontrado! Distância: " + nearestDistance);
+      Log.debug(LogCategory.AI, () -> "💜 Alvo encontrado! Distância: " + nearestDistance);
 
       // Mover em direção ao inimigo
       if (nearestDistance > attackRange) {
@@ -338,17 +273,16 @@ public abstract class Enemy {
         double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
         if (distance > 0) {
-          this.dx = (deltaX / distance) * speed;
-          this.dy = (deltaY / distance) * speed;
-          System.out.println("💜 Movendo em direção ao alvo... dx=" + this.dx + ", dy=" + this.dy);
+          setVelocity((deltaX / distance) * speed, (deltaY / distance) * speed);
+          Log.debug(LogCategory.AI, () -> "💜 Movendo em direção ao alvo... dx=" + getDx() + ", dy=" + getDy());
         }
       } else {
         // Atacar o inimigo
-        System.out.println("💜 Alcance de ataque! Atacando...");
+        Log.debug(LogCategory.AI, "💜 Alcance de ataque! Atacando...");
         attackCharmedTarget();
       }
     } else {
-      System.out.println("⚠️ Nenhum alvo encontrado!");
+      Log.debug(LogCategory.AI, "⚠️ Nenhum alvo encontrado!");
     }
   }
 
@@ -359,14 +293,13 @@ public abstract class Enemy {
     if (charmedTarget == null || !charmedTarget.isAlive())
       return;
 
-    if (attackCooldown <= 0) {
+    if (getAttackCooldown() <= 0) {
       charmedTarget.takeDamageFromCharm(damage);
-      attackCooldown = ATTACK_COOLDOWN_TIME;
-      System.out.println("💜 Inimigo encantado atacou aliado causando " + damage + " de dano!");
+      setAttackCooldown(ATTACK_COOLDOWN_TIME);
+      Log.debug(LogCategory.COMBAT, () -> "💜 Inimigo encantado atacou aliado causando " + damage + " de dano!");
     }
 
-    dx = 0;
-    dy = 0;
+    setVelocity(0, 0);
   }
 
   /**
@@ -376,13 +309,50 @@ public abstract class Enemy {
     if (target == null)
       return;
 
+    double x = getX();
+    double y = getY();
+
+    // Seguir o campo de fluxo para contornar pedras e paredes
+    FlowField flowField = tileMap != null ? tileMap.getPlayerFlowField() : null;
+    if (flowField != null && flowField.getDirection(x + width / 2.0, y + height / 2.0, flowDirection)) {
+      setVelocity(flowDirection[0] * speed, flowDirection[1] * speed);
+      return;
+    }
+
+    // Perto do jogador (ou sem caminho): linha reta
     double deltaX = target.getX() - x;
     double deltaY = target.getY() - y;
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
-      dx = (deltaX / distance) * speed;
-      dy = (deltaY / distance) * speed;
+      setVelocity((deltaX / distance) * speed, (deltaY / distance) * speed);
+    }
+  }
+
+  /**
+   * Move o inimigo até um ponto do mapa (em pixels) pelo caminho do
+   * PathService; enquanto o caminho não fica pronto, vai em linha reta
+   */
+  protected void moveTowardsPoint(double targetX, double targetY, double moveSpeed) {
+    double x = getX();
+    double y = getY();
+    if (tileMap != null) {
+      if (pathFollower == null) {
+        pathFollower = new PathFollower();
+      }
+      if (pathFollower.getDirection(tileMap.getPathService(), x + width / 2.0, y + height / 2.0,
+          targetX + width / 2.0, targetY + height / 2.0, flowDirection)) {
+        setVelocity(flowDirection[0] * moveSpeed, flowDirection[1] * moveSpeed);
+        return;
+      }
+    }
+
+    double deltaX = targetX - x;
+    double deltaY = targetY - y;
+    double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+
+    if (distance > 0) {
+      setVelocity((deltaX / distance) * moveSpeed, (deltaY / distance) * moveSpeed);
     }
   }
 
@@ -390,14 +360,13 @@ public abstract class Enemy {
    * Tenta atacar o jogador
    */
   protected void attemptAttack() {
-    if (attackCooldown <= 0) {
+    if (getAttackCooldown() <= 0) {
       attack();
-      attackCooldown = ATTACK_COOLDOWN_TIME;
+      setAttackCooldown(ATTACK_COOLDOWN_TIME);
     }
 
     // Parar movimento durante ataque
-    dx = 0;
-    dy = 0;
+    setVelocity(0, 0);
   }
 
   /**
@@ -413,8 +382,8 @@ public abstract class Enemy {
     if (target == null)
       return Double.MAX_VALUE;
 
-    double deltaX = target.getX() - x;
-    double deltaY = target.getY() - y;
+    double deltaX = target.getX() - getX();
+    double deltaY = target.getY() - getY();
     return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
   }
 
@@ -423,18 +392,18 @@ public abstract class Enemy {
    */
   public void takeDamage(int damage) {
     // Não recebe dano enquanto congelado
-    if (frozen) {
-      System.out.println("❄️ Inimigo congelado não recebe dano!");
+    if (isFrozen()) {
+      Log.debug(LogCategory.COMBAT, "❄️ Inimigo congelado não recebe dano!");
       return;
     }
 
-    currentHealth -= damage;
-    if (currentHealth <= 0) {
+    setCurrentHealth(getCurrentHealth() - damage);
+    if (getCurrentHealth() <= 0) {
       die();
     }
 
     // Ficar agressivo quando receber dano
-    aggressive = true;
+    setAggressive(true);
   }
 
   /**
@@ -442,26 +411,26 @@ public abstract class Enemy {
    */
   public void takeDamageFromNPC(int damage) {
     // Não recebe dano enquanto congelado
-    if (frozen) {
-      System.out.println("❄️ Inimigo congelado não recebe dano!");
+    if (isFrozen()) {
+      Log.debug(LogCategory.COMBAT, "❄️ Inimigo congelado não recebe dano!");
       return;
     }
 
-    currentHealth -= damage;
-    if (currentHealth <= 0) {
+    setCurrentHealth(getCurrentHealth() - damage);
+    if (getCurrentHealth() <= 0) {
       dieWithoutXP();
     }
 
     // Ficar agressivo quando receber dano
-    aggressive = true;
+    setAggressive(true);
   }
 
   /**
    * Recebe dano de outro inimigo encantado (não dá XP)
    */
   public void takeDamageFromCharm(int damage) {
-    currentHealth -= damage;
-    if (currentHealth <= 0) {
+    setCurrentHealth(getCurrentHealth() - damage);
+    if (getCurrentHealth() <= 0) {
       dieWithoutXP();
     }
   }
@@ -470,15 +439,15 @@ public abstract class Enemy {
    * Morre sem conceder experiência (morto por NPC)
    */
   protected void dieWithoutXP() {
-    alive = false;
-    System.out.println("Inimigo foi derrotado por um NPC!");
+    setAlive(false);
+    Log.info(LogCategory.COMBAT, "Inimigo foi derrotado por um NPC!");
   }
 
   /**
    * Morre e concede experiência
    */
   protected void die() {
-    alive = false;
+    setAlive(false);
 
     // Dar experiência ao jogador
     if (target != null) {
@@ -494,88 +463,88 @@ public abstract class Enemy {
       }
     }
 
-    System.out.println("Inimigo morreu! XP: " + experienceReward + " | Gold: +2");
+    Log.info(LogCategory.COMBAT, "Inimigo morreu! XP: " + experienceReward + " | Gold: +2");
   }
 
   /**
    * Renderiza o inimigo na tela
    */
   public void render(Graphics2D g, Camera camera) {
-    if (!alive)
+    if (!isAlive())
       return;
 
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = getScreenX(camera);
+    int screenY = getScreenY(camera);
 
     // Desenhar sprite
     if (sprite != null) {
-      g.drawImage(sprite, screenX, screenY, null);
+      sprite.draw(g, screenX, screenY);
 
       // Se congelado, adicionar overlay azul
-      if (frozen) {
+      if (isFrozen()) {
         Composite oldComposite = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
-        g.setColor(new Color(150, 220, 255));
+        g.setComposite(RenderResources.composite(0.5f));
+        g.setColor(RenderResources.color(150, 220, 255));
         g.fillRect(screenX, screenY, width, height);
 
         // Desenhar cristais de gelo
-        g.setColor(new Color(200, 240, 255));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(RenderResources.color(200, 240, 255));
+        g.setStroke(RenderResources.stroke(2));
         g.drawLine(screenX + width / 2, screenY, screenX + width / 2, screenY + height);
         g.drawLine(screenX, screenY + height / 2, screenX + width, screenY + height / 2);
         g.drawLine(screenX + width / 4, screenY + height / 4, screenX + 3 * width / 4, screenY + 3 * height / 4);
         g.drawLine(screenX + 3 * width / 4, screenY + height / 4, screenX + width / 4, screenY + 3 * height / 4);
 
         g.setComposite(oldComposite);
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(RenderResources.stroke(1));
       }
 
       // Se com medo, adicionar overlay amarelo pulsante
-      if (feared) {
+      if (isFeared()) {
         Composite oldComposite = g.getComposite();
-        float pulse = 0.3f + 0.2f * (float) Math.sin(fearTimer * 0.2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulse));
-        g.setColor(new Color(255, 255, 100));
+        float pulse = 0.3f + 0.2f * (float) Math.sin(System.currentTimeMillis() * 0.012);
+        g.setComposite(RenderResources.composite(pulse));
+        g.setColor(RenderResources.color(255, 255, 100));
         g.fillRect(screenX, screenY, width, height);
 
         // Desenhar símbolo de exclamação
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f));
-        g.setColor(new Color(255, 200, 0));
-        g.setFont(new Font("Arial", Font.BOLD, 20));
+        g.setComposite(RenderResources.composite(0.8f));
+        g.setColor(RenderResources.color(255, 200, 0));
+        g.setFont(RenderResources.font("Arial", Font.BOLD, 20));
         g.drawString("!", screenX + width / 2 - 4, screenY - 5);
 
         g.setComposite(oldComposite);
       }
 
       // Se encantado, adicionar overlay roxo brilhante
-      if (charmed) {
+      if (isCharmed()) {
         Composite oldComposite = g.getComposite();
-        float pulse = 0.4f + 0.3f * (float) Math.sin(charmTimer * 0.15);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulse));
-        g.setColor(new Color(200, 100, 255));
+        float pulse = 0.4f + 0.3f * (float) Math.sin(System.currentTimeMillis() * 0.009);
+        g.setComposite(RenderResources.composite(pulse));
+        g.setColor(RenderResources.color(200, 100, 255));
         g.fillRect(screenX, screenY, width, height);
 
         // Desenhar símbolo de coração
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.9f));
-        g.setColor(new Color(220, 150, 255));
-        g.setFont(new Font("Arial", Font.BOLD, 18));
+        g.setComposite(RenderResources.composite(0.9f));
+        g.setColor(RenderResources.color(220, 150, 255));
+        g.setFont(RenderResources.font("Arial", Font.BOLD, 18));
         g.drawString("♥", screenX + width / 2 - 5, screenY - 5);
 
         g.setComposite(oldComposite);
       }
 
       // Se atordoado, adicionar overlay amarelo escuro com estrelas
-      if (stunned) {
+      if (isStunned()) {
         Composite oldComposite = g.getComposite();
-        float pulse = 0.3f + 0.2f * (float) Math.sin(stunTimer * 0.3);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulse));
-        g.setColor(new Color(255, 200, 0));
+        float pulse = 0.3f + 0.2f * (float) Math.sin(System.currentTimeMillis() * 0.018);
+        g.setComposite(RenderResources.composite(pulse));
+        g.setColor(RenderResources.color(255, 200, 0));
         g.fillRect(screenX, screenY, width, height);
 
         // Desenhar estrelas girando
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.9f));
-        g.setColor(new Color(255, 255, 100));
-        g.setFont(new Font("Arial", Font.BOLD, 16));
+        g.setComposite(RenderResources.composite(0.9f));
+        g.setColor(RenderResources.color(255, 255, 100));
+        g.setFont(RenderResources.font("Arial", Font.BOLD, 16));
 
         // Três estrelas girando ao redor da cabeça
         for (int i = 0; i < 3; i++) {
@@ -587,6 +556,31 @@ public abstract class Enemy {
 
         g.setComposite(oldComposite);
       }
+
+      // Se queimando, chamas acima do inimigo
+      if (store.hasFlag(handle, EntityStore.BURNING)) {
+        Composite oldComposite = g.getComposite();
+        float burnAlpha = 0.3f + 0.2f * (float) Math.sin(System.currentTimeMillis() * 0.009);
+        g.setComposite(RenderResources.composite(burnAlpha));
+        g.setColor(RenderResources.color(255, 100, 0));
+        g.fillOval(screenX + 10, screenY - 5, 8, 8);
+        g.setColor(RenderResources.color(255, 200, 0));
+        g.fillOval(screenX + 12, screenY - 3, 4, 4);
+        g.setComposite(oldComposite);
+      }
+
+      // Se sangrando, gotas de sangue caindo
+      if (store.hasFlag(handle, EntityStore.BLEEDING)) {
+        Composite oldComposite = g.getComposite();
+        long ticks = System.currentTimeMillis() / 16;
+        float bleedAlpha = 0.4f + 0.2f * (float) Math.sin(ticks * 0.1);
+        g.setComposite(RenderResources.composite(bleedAlpha));
+        g.setColor(RenderResources.color(200, 0, 0));
+        for (int i = 0; i < 3; i++) {
+          g.fillOval(screenX + 15 + (i * 10), screenY + (int) (ticks % 20), 4, 6);
+        }
+        g.setComposite(oldComposite);
+      }
     }
 
     // Desenhar barra de vida
@@ -607,7 +601,7 @@ public abstract class Enemy {
 
     // Vida atual (verde)
     g.setColor(Color.GREEN);
-    int healthWidth = (int) ((double) currentHealth / maxHealth * barWidth);
+    int healthWidth = (int) ((double) getCurrentHealth() / maxHealth * barWidth);
     g.fillRect(screenX, barY, healthWidth, barHeight);
 
     // Borda da barra
@@ -615,13 +609,41 @@ public abstract class Enemy {
     g.drawRect(screenX, barY, barWidth, barHeight);
   }
 
+  /**
+   * Posição X na tela, interpolada entre os dois últimos ticks
+   */
+  protected int getScreenX(Camera camera) {
+    return (int) (camera.interpolate(store.getPrevX(handle), store.getX(handle)) - camera.getX());
+  }
+
+  /**
+   * Posição Y na tela, interpolada entre os dois últimos ticks
+   */
+  protected int getScreenY(Camera camera) {
+    return (int) (camera.interpolate(store.getPrevY(handle), store.getY(handle)) - camera.getY());
+  }
+
   // Getters
   public double getX() {
-    return x;
+    return store.getX(handle);
   }
 
   public double getY() {
-    return y;
+    return store.getY(handle);
+  }
+
+  /**
+   * Move o inimigo para a posição informada, sem checar colisão
+   */
+  public void setPosition(double x, double y) {
+    store.setPosition(handle, x, y);
+  }
+
+  /**
+   * Desloca o inimigo (estocadas, knockback), sem checar colisão
+   */
+  public void moveBy(double offsetX, double offsetY) {
+    store.setPosition(handle, store.getX(handle) + offsetX, store.getY(handle) + offsetY);
   }
 
   public int getWidth() {
@@ -632,8 +654,70 @@ public abstract class Enemy {
     return height;
   }
 
+  /**
+   * Define o tamanho do inimigo (usado no desenho e na colisão)
+   */
+  protected void setSize(int width, int height) {
+    this.width = width;
+    this.height = height;
+    store.setSize(handle, width, height);
+  }
+
+  /**
+   * Vivo e ainda no jogo (handle válido)
+   */
   public boolean isAlive() {
-    return alive;
+    return store.hasFlag(handle, EntityStore.ALIVE);
+  }
+
+  protected void setAlive(boolean alive) {
+    store.setFlag(handle, EntityStore.ALIVE, alive);
+  }
+
+  public int getCurrentHealth() {
+    return store.getHealth(handle);
+  }
+
+  protected void setCurrentHealth(int health) {
+    store.setHealth(handle, health);
+  }
+
+  protected double getDx() {
+    return store.getDx(handle);
+  }
+
+  protected double getDy() {
+    return store.getDy(handle);
+  }
+
+  /**
+   * Velocidade aplicada pelo passe de movimento do EnemyManager
+   */
+  protected void setVelocity(double dx, double dy) {
+    store.setVelocity(handle, dx, dy);
+  }
+
+  protected boolean isAggressive() {
+    return store.hasFlag(handle, EntityStore.AGGRESSIVE);
+  }
+
+  protected void setAggressive(boolean aggressive) {
+    store.setFlag(handle, EntityStore.AGGRESSIVE, aggressive);
+  }
+
+  /**
+   * Anda sem checar colisão com tiles (spawn safety)
+   */
+  protected void setIgnoreCollision(boolean ignore) {
+    store.setFlag(handle, EntityStore.NO_COLLISION, ignore);
+  }
+
+  protected int getAttackCooldown() {
+    return store.getAttackCooldown(handle);
+  }
+
+  protected void setAttackCooldown(int ticks) {
+    store.setAttackCooldown(handle, ticks);
   }
 
   public int getDamage() {
@@ -658,102 +742,88 @@ public abstract class Enemy {
     this.enemyManager = manager;
   }
 
+  /**
+   * Aplica um efeito de status seguindo a regra de acúmulo do tipo. A
+   * magnitude só vale para a lentidão (fator de velocidade, 0.6 = 60%).
+   */
+  public void applyEffect(StatusEffect type, int duration, double magnitude) {
+    effects.apply(handle, this, type, duration, magnitude);
+  }
+
+  /**
+   * Aplica um efeito de status com a duração padrão do tipo
+   */
+  public void applyEffect(StatusEffect type) {
+    applyEffect(type, type.getDefaultDuration(), 1.0);
+  }
+
+  /**
+   * Verifica se o efeito está ativo no inimigo
+   */
+  public boolean hasEffect(StatusEffect type) {
+    return store.hasFlag(handle, type.getFlag());
+  }
+
   /**
    * Aplica estado de medo (fear) ao inimigo
    */
   public void applyFear(double directionX, double directionY, int duration, double fleeSpeed) {
-    this.feared = true;
-    this.fearTimer = duration;
-    this.fearDirectionX = directionX * fleeSpeed;
-    this.fearDirectionY = directionY * fleeSpeed;
-    System.out.println("💢 Inimigo com medo! Fugindo por " + (duration / 60.0) + " segundos");
+    store.setFearVelocity(handle, directionX * fleeSpeed, directionY * fleeSpeed);
+    applyEffect(StatusEffect.FEAR, duration, 1.0);
+    Log.info(LogCategory.SKILLS, "💢 Inimigo com medo! Fugindo por " + (duration / 60.0) + " segundos");
   }
 
   /**
    * Aplica estado de encantamento (charm) ao inimigo
    */
   public void applyCharm(int duration) {
-    this.charmed = true;
-    this.charmTimer = duration;
-    System.out.println("💜 Inimigo encantado! Atacará seus aliados por " + (duration / 60.0) + " segundos");
+    applyEffect(StatusEffect.CHARM, duration, 1.0);
+    Log.info(LogCategory.SKILLS, "💜 Inimigo encantado! Atacará seus aliados por " + (duration / 60.0) + " segundos");
   }
 
   /**
    * Verifica se o inimigo está encantado
    */
   public boolean isCharmed() {
-    return charmed;
+    return store.hasFlag(handle, EntityStore.CHARMED);
   }
 
   /**
    * Aplica estado de atordoamento (stun) ao inimigo
    */
   public void applyStun(int duration) {
-    this.stunned = true;
-    this.stunTimer = duration;
-    System.out.println("💥 Inimigo atordoado por " + (duration / 60.0) + " segundos!");
+    applyEffect(StatusEffect.STUN, duration, 1.0);
+    Log.info(LogCategory.SKILLS, "💥 Inimigo atordoado por " + (duration / 60.0) + " segundos!");
   }
 
   /**
    * Verifica se o inimigo está atordoado
    */
   public boolean isStunned() {
-    return stunned;
+    return store.hasFlag(handle, EntityStore.STUNNED);
   }
 
   /**
-   * Atualiza a posição do inimigo com verificação de colisão
+   * Aplica estado de congelamento ao inimigo (não age, não anda e não recebe
+   * dano)
    */
-  private void updatePosition() {
-    // Verificar se é um Goblin em spawn safety
-    boolean skipCollision = false;
-    if (this instanceof Goblin) {
-      Goblin goblin = (Goblin) this;
-      skipCollision = goblin.isInSpawnSafety();
-    }
-
-    if (tileMap == null || skipCollision) {
-      // Se não há mapa ou está em spawn safety, mover sem restrições
-      x += dx;
-      y += dy;
-      return;
-    }
-
-    // Testar movimento horizontal
-    double newX = x + dx;
-    if (isValidPosition(newX, y)) {
-      x = newX;
-    } else {
-      dx = 0; // Parar movimento horizontal se colidir
-    }
-
-    // Testar movimento vertical
-    double newY = y + dy;
-    if (isValidPosition(x, newY)) {
-      y = newY;
-    } else {
-      dy = 0; // Parar movimento vertical se colidir
-    }
+  public void applyFreeze(int duration) {
+    applyEffect(StatusEffect.FREEZE, duration, 1.0);
+    Log.info(LogCategory.SKILLS, "❄️ Inimigo congelado!");
   }
 
   /**
-   * Verifica se uma posição é válida (não colide com obstáculos)
+   * Verifica se o inimigo está congelado
    */
-  private boolean isValidPosition(double newX, double newY) {
-    if (tileMap == null)
-      return true;
-
-    // Verificar os 4 cantos do inimigo
-    int leftTile = (int) (newX / GamePanel.TILE_SIZE);
-    int rightTile = (int) ((newX + width - 1) / GamePanel.TILE_SIZE);
-    int topTile = (int) (newY / GamePanel.TILE_SIZE);
-    int bottomTile = (int) ((newY + height - 1) / GamePanel.TILE_SIZE);
+  public boolean isFrozen() {
+    return store.hasFlag(handle, EntityStore.FROZEN);
+  }
 
-    // Verificar se todos os cantos estão em tiles válidos (grama)
-    return tileMap.isWalkable(leftTile, topTile) &&
-        tileMap.isWalkable(rightTile, topTile) &&
-        tileMap.isWalkable(leftTile, bottomTile) &&
-        tileMap.isWalkable(rightTile, bottomTile);
+  /**
+   * Verifica se o inimigo está com medo
+   */
+  public boolean isFeared() {
+    return store.hasFlag(handle, EntityStore.FEARED);
   }
 
   /**
@@ -768,6 +838,6 @@ public abstract class Enemy {
    * Verifica colisão com retângulo
    */
   public Rectangle getBounds() {
-    return new Rectangle((int) x, (int) y, width, height);
+    return new Rectangle((int) getX(), (int) getY(), width, height);
   }
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package com.rpggame.entities;
 
 import java.awt.*;
 import com.rpggame.world.Camera;
+import com.rpggame.systems.EntityStore;
 import com.rpggame.core.GamePanel;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
+import com.rpggame.world.RenderResources;
 
 /**
  * Classe do inimigo Goblin - inimigo básico corpo a corpo
@@ -35,9 +39,6 @@ public class Goblin extends Enemy {
   private int alertTimer = 0; // Tempo em estado de alerta
   private static final int ALERT_DURATION = 180; // 3 segundos de alerta
 
-  // Lista de todos os goblins (para guerra)
-  private java.util.List<Goblin> allGoblins;
-
   // Referência ao conselho goblin
   private com.rpggame.systems.GoblinCouncil goblinCouncil;
 
@@ -63,8 +64,8 @@ public class Goblin extends Enemy {
   /**
    * Construtor do Goblin com personalidade
    */
-  public Goblin(double x, double y, GoblinPersonality personality) {
-    super(x, y, personality.getSpritePath());
+  public Goblin(EntityStore store, double x, double y, GoblinPersonality personality) {
+    super(store, x, y, personality.getSpritePath());
 
     // Inicializar personalidade ANTES que initializeStats seja chamado
     this.personality = personality;
@@ -82,13 +83,14 @@ public class Goblin extends Enemy {
     // Iniciar spawn safety
     this.inSpawnSafety = true;
     this.spawnSafetyTimer = SPAWN_SAFETY_DURATION;
+    setIgnoreCollision(true);
   }
 
   /**
    * Construtor legado do Goblin (personalidade comum)
    */
-  public Goblin(double x, double y) {
-    this(x, y, GoblinPersonality.COMMON);
+  public Goblin(EntityStore store, double x, double y) {
+    this(store, x, y, GoblinPersonality.COMMON);
   }
 
   /**
@@ -100,7 +102,7 @@ public class Goblin extends Enemy {
     // temporários
     if (personality == null) {
       this.maxHealth = 25;
-      this.currentHealth = maxHealth;
+      setCurrentHealth(maxHealth);
       this.damage = 8;
       this.speed = 1.5;
       this.experienceReward = 15;
@@ -112,7 +114,7 @@ public class Goblin extends Enemy {
     // Estatísticas baseadas na personalidade (segunda chamada após personality
     // estar definida)
     this.maxHealth = personality.getBaseHealth();
-    this.currentHealth = maxHealth;
+    setCurrentHealth(maxHealth);
     this.damage = personality.getBaseDamage();
     this.speed = 1.5 * personality.getSpeedMultiplier();
     this.experienceReward = 15;
@@ -139,8 +141,8 @@ public class Goblin extends Enemy {
 
     // Verificar se o jogador está no alcance
     double distance = Math.sqrt(
-        Math.pow(target.getX() - x, 2) +
-            Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2) +
+            Math.pow(target.getY() - getY(), 2));
 
     if (distance <= attackRange) {
       // Se não está preparando ataque, iniciar preparação
@@ -159,12 +161,12 @@ public class Goblin extends Enemy {
 
     // Calcular ângulos para o slash baseado na direção do target
     if (target != null) {
-      double angleToTarget = Math.atan2(target.getY() - y, target.getX() - x);
+      double angleToTarget = Math.atan2(target.getY() - getY(), target.getX() - getX());
       slashStartAngle = angleToTarget - Math.PI / 4; // -45 graus
       slashEndAngle = angleToTarget + Math.PI / 4; // +45 graus
     }
 
-    System.out.println("Goblin preparando ataque! CUIDADO!");
+    Log.debug(LogCategory.COMBAT, "Goblin preparando ataque! CUIDADO!");
   }
 
   /**
@@ -176,8 +178,8 @@ public class Goblin extends Enemy {
 
     // Verificar se ainda está no alcance
     double distance = Math.sqrt(
-        Math.pow(target.getX() - x, 2) +
-            Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2) +
+            Math.pow(target.getY() - getY(), 2));
 
     if (distance <= attackRange) {
       // Realizar estocada na direção do player
@@ -187,7 +189,7 @@ public class Goblin extends Enemy {
       if (target instanceof Player) {
         Player player = (Player) target;
         player.takeDamage(damage);
-        System.out.println("Goblin atacou o jogador! Dano: " + damage);
+        Log.debug(LogCategory.COMBAT, () -> "Goblin atacou o jogador! Dano: " + damage);
       }
 
       // Iniciar efeito visual de ataque
@@ -208,8 +210,8 @@ public class Goblin extends Enemy {
       return;
 
     // Calcular direção para o target
-    double deltaX = target.getX() - x;
-    double deltaY = target.getY() - y;
+    double deltaX = target.getX() - getX();
+    double deltaY = target.getY() - getY();
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
@@ -219,8 +221,7 @@ public class Goblin extends Enemy {
       double lungeY = (deltaY / distance) * lungeDistance;
 
       // Aplicar movimento da estocada
-      x += lungeX;
-      y += lungeY;
+      moveBy(lungeX, lungeY);
     }
   }
 
@@ -235,6 +236,7 @@ public class Goblin extends Enemy {
       spawnSafetyTimer--;
       if (spawnSafetyTimer <= 0) {
         inSpawnSafety = false;
+        setIgnoreCollision(false);
       }
     }
 
@@ -273,8 +275,8 @@ public class Goblin extends Enemy {
   @Override
   protected void updateAI() {
     // IMPORTANTE: Se estiver encantado, usar IA da classe base para atacar aliados
-    if (charmed) {
-      System.out.println("💜 Goblin.updateAI() detectou charmed, chamando super.updateAI()");
+    if (isCharmed()) {
+      Log.debug(LogCategory.AI, "💜 Goblin.updateAI() detectou charmed, chamando super.updateAI()");
       super.updateAI();
       return;
     }
@@ -294,10 +296,10 @@ public class Goblin extends Enemy {
       boolean playerDetected = detectPlayer();
       if (playerDetected && target != null) {
         double distanceToPlayer = Math.sqrt(
-            Math.pow(target.getX() - x, 2) +
-                Math.pow(target.getY() - y, 2));
+            Math.pow(target.getX() - getX(), 2) +
+                Math.pow(target.getY() - getY(), 2));
 
-        aggressive = true;
+        setAggressive(true);
         engagePlayer(distanceToPlayer);
       } else {
         patrol();
@@ -312,8 +314,8 @@ public class Goblin extends Enemy {
       if (nearestEnemy != null) {
         // Priorizar ataque a goblin inimigo sobre player
         double distanceToEnemy = Math.sqrt(
-            Math.pow(nearestEnemy.getX() - x, 2) +
-                Math.pow(nearestEnemy.getY() - y, 2));
+            Math.pow(nearestEnemy.getX() - getX(), 2) +
+                Math.pow(nearestEnemy.getY() - getY(), 2));
 
         if (distanceToEnemy > attackRange) {
           moveTowardsEnemyGoblin(nearestEnemy);
@@ -334,8 +336,8 @@ public class Goblin extends Enemy {
     }
 
     double distanceToPlayer = Math.sqrt(
-        Math.pow(target.getX() - x, 2) +
-            Math.pow(target.getY() - y, 2));
+        Math.pow(target.getX() - getX(), 2) +
+            Math.pow(target.getY() - getY(), 2));
 
     // Comportamento baseado na personalidade
     switch (personality) {
@@ -368,7 +370,7 @@ public class Goblin extends Enemy {
       if (!shouldEngage) {
         // Líder decidiu não perseguir
         fleeing = true;
-        aggressive = false;
+        setAggressive(false);
         return;
       }
     }
@@ -382,7 +384,7 @@ public class Goblin extends Enemy {
       // Com aliados: lutar!
       fleeing = false;
       fearLevel = Math.max(0.0, fearLevel - 0.01);
-      aggressive = true;
+      setAggressive(true);
     }
 
     if (fleeing) {
@@ -392,7 +394,7 @@ public class Goblin extends Enemy {
         fleeing = false;
         fearLevel = Math.max(0.0, fearLevel - 0.05);
       }
-    } else if (aggressive && hasNearbyAllies) {
+    } else if (isAggressive() && hasNearbyAllies) {
       engagePlayer(distanceToPlayer);
     } else {
       patrol();
@@ -411,21 +413,21 @@ public class Goblin extends Enemy {
         // Fora do território e líder decidiu não perseguir
         // Agressivo persegue um pouco mais, mas eventualmente desiste
         if (distanceToPlayer > detectionRange * 1.5) {
-          aggressive = false;
+          setAggressive(false);
           return;
         }
       }
     }
 
     // Player já foi detectado pelo sistema de visão
-    aggressive = true;
+    setAggressive(true);
 
-    if (aggressive) {
+    if (isAggressive()) {
       engagePlayer(distanceToPlayer);
       // Persegue por mais tempo - só para de ser agressivo se perder totalmente o
       // player
       if (!playerSpotted && alertTimer <= 0) {
-        aggressive = false;
+        setAggressive(false);
       }
     }
   }
@@ -439,27 +441,27 @@ public class Goblin extends Enemy {
       boolean shouldEngage = family.shouldPursuePlayer((Player) target);
 
       if (shouldEngage) {
-        if (!aggressive) {
+        if (!isAggressive()) {
           // Log quando líder decide perseguir
           boolean inTerritory = family.isPlayerInTerritory((Player) target);
-          System.out.println("⚔️ Líder de " + family.getFamilyName() + " decidiu perseguir o jogador! " +
+          Log.info(LogCategory.AI, "⚔️ Líder de " + family.getFamilyName() + " decidiu perseguir o jogador! " +
               (inTerritory ? "(Dentro do território)" : "(Fora do território)"));
         }
-        aggressive = true;
+        setAggressive(true);
       }
     } else {
       // Sem família, comportamento padrão mais cauteloso - player já detectado
-      aggressive = true;
+      setAggressive(true);
     }
 
-    if (aggressive) {
+    if (isAggressive()) {
       engagePlayer(distanceToPlayer);
       // Líder desiste mais facilmente fora do território
       if (family != null && !family.isPlayerInTerritory((Player) target) &&
           distanceToPlayer > detectionRange * 2) {
-        System.out
-            .println("🏳️ Líder de " + family.getFamilyName() + " desistiu da perseguição (muito longe do território)");
-        aggressive = false;
+        Log.info(LogCategory.AI,
+            "🏳️ Líder de " + family.getFamilyName() + " desistiu da perseguição (muito longe do território)");
+        setAggressive(false);
       }
     } else {
       patrol();
@@ -475,26 +477,26 @@ public class Goblin extends Enemy {
       boolean shouldEngage = family.shouldPursuePlayer((Player) target);
 
       if (shouldEngage) {
-        aggressive = true;
+        setAggressive(true);
       } else {
-        aggressive = false;
+        setAggressive(false);
         patrol();
         return;
       }
     } else {
       // Sem família, comportamento padrão
-      aggressive = true;
+      setAggressive(true);
     }
 
-    if (aggressive) {
+    if (isAggressive()) {
       engagePlayer(distanceToPlayer);
       // Desistir se perder totalmente o player ou líder decidir recuar
       if (!playerSpotted && alertTimer <= 0) {
-        aggressive = false;
+        setAggressive(false);
       }
       if (family != null && !family.isPlayerInTerritory((Player) target) &&
           distanceToPlayer > detectionRange * 2) {
-        aggressive = false;
+        setAggressive(false);
       }
     }
   }
@@ -518,15 +520,14 @@ public class Goblin extends Enemy {
       return;
 
     // Calcular direção oposta ao player
-    double deltaX = x - target.getX();
-    double deltaY = y - target.getY();
+    double deltaX = getX() - target.getX();
+    double deltaY = getY() - target.getY();
     double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     if (distance > 0) {
       // Velocidade aumentada pelo medo
       double fleeSpeed = speed * (1.0 + fearLevel * 0.5);
-      dx = (deltaX / distance) * fleeSpeed;
-      dy = (deltaY / distance) * fleeSpeed;
+      setVelocity((deltaX / distance) * fleeSpeed, (deltaY / distance) * fleeSpeed);
     }
   }
 
@@ -543,7 +544,7 @@ public class Goblin extends Enemy {
     for (Goblin ally : family.getMembers()) {
       if (ally != this) {
         double distance = Math.sqrt(
-            Math.pow(ally.getX() - x, 2) + Math.pow(ally.getY() - y, 2));
+            Math.pow(ally.getX() - getX(), 2) + Math.pow(ally.getY() - getY(), 2));
         if (distance <= 80.0) { // Aliado próximo
           return true;
         }
@@ -573,22 +574,15 @@ public class Goblin extends Enemy {
 
     // Verificar se chegou próximo ao alvo ou se é hora de mudar
     double distanceToTarget = Math.sqrt(
-        Math.pow(patrolTargetX - x, 2) +
-            Math.pow(patrolTargetY - y, 2));
+        Math.pow(patrolTargetX - getX(), 2) +
+            Math.pow(patrolTargetY - getY(), 2));
 
     if (distanceToTarget < 20 || patrolTimer <= 0) {
       setNewPatrolTarget();
     }
 
-    // Mover em direção ao alvo de patrulha
-    double deltaX = patrolTargetX - x;
-    double deltaY = patrolTargetY - y;
-    double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-
-    if (distance > 0) {
-      dx = (deltaX / distance) * speed * 0.5; // Patrulha mais devagar
-      dy = (deltaY / distance) * speed * 0.5;
-    }
+    // Mover em direção ao alvo de patrulha (mais devagar)
+    moveTowardsPoint(patrolTargetX, patrolTargetY, speed * 0.5);
   }
 
   // Getters e Setters para família e personalidade
@@ -620,42 +614,18 @@ public class Goblin extends Enemy {
       return null;
     }
 
-    Goblin nearestEnemy = null;
-    double nearestDistance = Double.MAX_VALUE;
-
-    // Procurar goblins inimigos em um raio de 200 pixels
-    for (Goblin otherGoblin : getAllGoblins()) {
-      if (otherGoblin != this && otherGoblin.getFamily() != null) {
-        // Verificar se são de famílias inimigas
-        if (family.isEnemyOf(otherGoblin.getFamily())) {
-          double distance = Math.sqrt(
-              Math.pow(otherGoblin.getX() - x, 2) +
-                  Math.pow(otherGoblin.getY() - y, 2));
-
-          if (distance < 200 && distance < nearestDistance) {
-            nearestDistance = distance;
-            nearestEnemy = otherGoblin;
-          }
-        }
-      }
+    if (enemyManager == null) {
+      return null;
     }
 
-    return nearestEnemy;
-  }
+    // Procurar goblins inimigos em um raio de 200 pixels
+    Enemy nearestEnemy = enemyManager.getEnemyIndex().findNearest(
+        getX() + width / 2.0, getY() + height / 2.0, 200,
+        enemy -> enemy != this && enemy instanceof Goblin && enemy.isAlive()
+            && ((Goblin) enemy).getFamily() != null
+            && family.isEnemyOf(((Goblin) enemy).getFamily()));
 
-  /**
-   * Obtém lista de todos os goblins (implementação via EnemyManager)
-   */
-  private java.util.List<Goblin> getAllGoblins() {
-    // Esta lista será preenchida pelo EnemyManager
-    return allGoblins != null ? allGoblins : new java.util.ArrayList<>();
-  }
-
-  /**
-   * Define a lista de todos os goblins (chamado pelo EnemyManager)
-   */
-  public void setAllGoblins(java.util.List<Goblin> goblins) {
-    this.allGoblins = goblins;
+    return (Goblin) nearestEnemy;
   }
 
   /**
@@ -676,36 +646,29 @@ public class Goblin extends Enemy {
    * Move em direção a um goblin inimigo
    */
   private void moveTowardsEnemyGoblin(Goblin enemy) {
-    double deltaX = enemy.getX() - x;
-    double deltaY = enemy.getY() - y;
-    double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-
-    if (distance > 0) {
-      dx = (deltaX / distance) * speed;
-      dy = (deltaY / distance) * speed;
-    }
+    moveTowardsPoint(enemy.getX(), enemy.getY(), speed);
   }
 
   /**
    * Ataca um goblin inimigo
    */
   private void attackEnemyGoblin(Goblin enemy) {
-    if (attackCooldown > 0) {
+    if (getAttackCooldown() > 0) {
       return;
     }
 
     double distance = Math.sqrt(
-        Math.pow(enemy.getX() - x, 2) +
-            Math.pow(enemy.getY() - y, 2));
+        Math.pow(enemy.getX() - getX(), 2) +
+            Math.pow(enemy.getY() - getY(), 2));
 
     if (distance <= attackRange) {
       // Causar dano ao goblin inimigo
       int attackDamage = (int) (damage * personality.getStrengthMultiplier());
       enemy.takeDamage(attackDamage);
-      attackCooldown = ATTACK_COOLDOWN_TIME;
+      setAttackCooldown(ATTACK_COOLDOWN_TIME);
 
       // Efeito visual do ataque
-      System.out.println("*CLASH* " + personality + " goblin ataca goblin inimigo!");
+      Log.debug(LogCategory.COMBAT, () -> "*CLASH* " + personality + " goblin ataca goblin inimigo!");
     }
   }
 
@@ -732,8 +695,8 @@ public class Goblin extends Enemy {
       return false;
 
     // Calcular distância ao player
-    double deltaX = target.getX() - x;
-    double deltaY = target.getY() - y;
+    double deltaX = target.getX() - getX();
+    double deltaY = target.getY() - getY();
     double distanceToPlayer = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
     // Área circular de detecção próxima (360 graus) - mais difícil de escapar
@@ -771,8 +734,8 @@ public class Goblin extends Enemy {
    * Atualiza a direção que o goblin está olhando baseado no movimento
    */
   private void updateFacingDirection() {
-    if (Math.abs(dx) > 0.1 || Math.abs(dy) > 0.1) {
-      facingDirection = Math.atan2(dy, dx);
+    if (Math.abs(getDx()) > 0.1 || Math.abs(getDy()) > 0.1) {
+      facingDirection = Math.atan2(getDy(), getDx());
     }
   }
 
@@ -789,7 +752,7 @@ public class Goblin extends Enemy {
     if (canSeePlayer()) {
       if (!playerSpotted) {
         playerSpotted = true;
-        System.out.println("👁 " + personality + " goblin avistou o player!");
+        Log.debug(LogCategory.AI, () -> "👁 " + personality + " goblin avistou o player!");
       }
       alertTimer = ALERT_DURATION;
       return true;
@@ -803,7 +766,7 @@ public class Goblin extends Enemy {
     // Perder o player
     if (playerSpotted) {
       playerSpotted = false;
-      System.out.println("❓ " + personality + " goblin perdeu o player de vista");
+      Log.debug(LogCategory.AI, () -> "❓ " + personality + " goblin perdeu o player de vista");
     }
 
     return false;
@@ -813,12 +776,12 @@ public class Goblin extends Enemy {
    * Renderiza o campo de visão do goblin (opcional para debug)
    */
   public void renderVisionCone(Graphics2D g, Camera camera) {
-    if (!alive)
+    if (!isAlive())
       return;
 
     // Posição na tela
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = getScreenX(camera);
+    int screenY = getScreenY(camera);
 
     // Só renderizar se o goblin estiver na tela
     if (screenX < -100 || screenX > 900 || screenY < -100 || screenY > 700) {
@@ -827,9 +790,9 @@ public class Goblin extends Enemy {
 
     // Cor do cone de visão
     if (playerSpotted) {
-      g.setColor(new Color(255, 0, 0, 30)); // Vermelho se detectou player
+      g.setColor(RenderResources.color(255, 0, 0, 30)); // Vermelho se detectou player
     } else {
-      g.setColor(new Color(255, 255, 0, 20)); // Amarelo normal
+      g.setColor(RenderResources.color(255, 255, 0, 20)); // Amarelo normal
     }
 
     // Calcular pontos do cone
@@ -860,20 +823,20 @@ public class Goblin extends Enemy {
     Color fillColor, borderColor;
     switch (personality) {
       case TIMID:
-        fillColor = new Color(100, 100, 255, 20); // Azul claro para tímidos
-        borderColor = new Color(100, 100, 255, 60);
+        fillColor = RenderResources.color(100, 100, 255, 20); // Azul claro para tímidos
+        borderColor = RenderResources.color(100, 100, 255, 60);
         break;
       case AGGRESSIVE:
-        fillColor = new Color(255, 50, 50, 30); // Vermelho forte para agressivos
-        borderColor = new Color(255, 50, 50, 90);
+        fillColor = RenderResources.color(255, 50, 50, 30); // Vermelho forte para agressivos
+        borderColor = RenderResources.color(255, 50, 50, 90);
         break;
       case LEADER:
-        fillColor = new Color(255, 215, 0, 35); // Dourado para líderes
-        borderColor = new Color(255, 215, 0, 100);
+        fillColor = RenderResources.color(255, 215, 0, 35); // Dourado para líderes
+        borderColor = RenderResources.color(255, 215, 0, 100);
         break;
       default: // COMMON
-        fillColor = new Color(255, 100, 100, 25); // Vermelho padrão
-        borderColor = new Color(255, 100, 100, 80);
+        fillColor = RenderResources.color(255, 100, 100, 25); // Vermelho padrão
+        borderColor = RenderResources.color(255, 100, 100, 80);
         break;
     }
 
@@ -905,8 +868,8 @@ public class Goblin extends Enemy {
    * Renderiza os efeitos visuais de ataque (preparação e execução)
    */
   public void renderAttackEffects(Graphics2D g, Camera camera) {
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = getScreenX(camera);
+    int screenY = getScreenY(camera);
 
     // Só renderizar se o goblin estiver na tela
     if (screenX < -100 || screenX > 900 || screenY < -100 || screenY > 700) {
@@ -936,7 +899,7 @@ public class Goblin extends Enemy {
 
     // Cor vermelha piscante mais intensa conforme se aproxima do ataque
     int alpha = (int) (100 + 155 * intensity); // De 100 a 255
-    Color warningColor = new Color(255, 0, 0, Math.min(255, alpha));
+    Color warningColor = RenderResources.color(255, 0, 0, Math.min(255, alpha));
 
     // Efeito de pulso - círculo que cresce
     int pulseRadius = (int) (20 + 15 * intensity);
@@ -946,14 +909,14 @@ public class Goblin extends Enemy {
 
     // Círculo interno mais sólido
     int innerRadius = (int) (5 + 10 * intensity);
-    Color innerColor = new Color(255, 100, 100, Math.min(255, alpha + 50));
+    Color innerColor = RenderResources.color(255, 100, 100, Math.min(255, alpha + 50));
     g.setColor(innerColor);
     g.fillOval(centerX - innerRadius, centerY - innerRadius,
         innerRadius * 2, innerRadius * 2);
 
     // Indicadores direcionais mostrando onde será o ataque
-    g.setStroke(new BasicStroke(2));
-    g.setColor(new Color(255, 255, 0, Math.min(255, alpha)));
+    g.setStroke(RenderResources.stroke(2));
+    g.setColor(RenderResources.color(255, 255, 0, Math.min(255, alpha)));
 
     // Linhas indicando a área de ataque
     int indicatorLength = slashRadius / 2;
@@ -972,9 +935,9 @@ public class Goblin extends Enemy {
     float intensity = (float) attackEffectTimer / ATTACK_EFFECT_DURATION;
 
     // Cor do slash - branco para amarelo
-    Color slashColor = new Color(255, 255, (int) (100 * intensity), (int) (200 * intensity));
+    Color slashColor = RenderResources.color(255, 255, (int) (100 * intensity), (int) (200 * intensity));
     g.setColor(slashColor);
-    g.setStroke(new BasicStroke(4));
+    g.setStroke(RenderResources.stroke(4));
 
     // Desenhar múltiplas linhas para criar efeito de slash
     int numLines = 5;
@@ -999,14 +962,14 @@ public class Goblin extends Enemy {
         int perpX2 = endX - (int) (Math.cos(perpAngle) * perpLength);
         int perpY2 = endY - (int) (Math.sin(perpAngle) * perpLength);
 
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(RenderResources.stroke(2));
         g.drawLine(perpX1, perpY1, perpX2, perpY2);
-        g.setStroke(new BasicStroke(4));
+        g.setStroke(RenderResources.stroke(4));
       }
     }
 
     // Efeito de partículas ao redor do slash
-    g.setColor(new Color(255, 200, 0, (int) (150 * intensity)));
+    g.setColor(RenderResources.color(255, 200, 0, (int) (150 * intensity)));
     for (int i = 0; i < 8; i++) {
       double particleAngle = slashStartAngle + Math.random() * (slashEndAngle - slashStartAngle);
       int particleDistance = slashRadius + (int) (Math.random() * 20);
@@ -1027,8 +990,8 @@ public class Goblin extends Enemy {
 
     // Verificar tiles ao redor para detectar paredes próximas
     int tileSize = GamePanel.TILE_SIZE;
-    int currentTileX = (int) (x / tileSize);
-    int currentTileY = (int) (y / tileSize);
+    int currentTileX = (int) (getX() / tileSize);
+    int currentTileY = (int) (getY() / tileSize);
 
     // Direção de escape (vetor que aponta para longe de paredes)
     double escapeX = 0.0;
@@ -1045,8 +1008,8 @@ public class Goblin extends Enemy {
           double wallCenterX = checkX * tileSize + tileSize / 2.0;
           double wallCenterY = checkY * tileSize + tileSize / 2.0;
 
-          double deltaX = x - wallCenterX;
-          double deltaY = y - wallCenterY;
+          double deltaX = getX() - wallCenterX;
+          double deltaY = getY() - wallCenterY;
           double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
           if (distance > 0 && distance < tileSize * 2) {
@@ -1065,12 +1028,10 @@ public class Goblin extends Enemy {
       if (magnitude > 0) {
         // Normalizar e aplicar velocidade de escape (mais rápido que velocidade normal)
         double escapeSpeed = speed * 3.0; // 3x mais rápido durante spawn safety
-        dx = (escapeX / magnitude) * escapeSpeed;
-        dy = (escapeY / magnitude) * escapeSpeed;
+        setVelocity((escapeX / magnitude) * escapeSpeed, (escapeY / magnitude) * escapeSpeed);
 
         // Aplicar movimento (sem verificação de colisão durante spawn safety)
-        x += dx;
-        y += dy;
+        moveBy(getDx(), getDy());
       }
     }
   }
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import com.rpggame.core.GamePanel;
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Classe para NPCs com os quais o jogador pode interagir e conversar
@@ -90,9 +91,9 @@ public class NPC {
     Graphics2D g = sprite.createGraphics();
 
     // Desenhar NPC padrão (pessoa simples)
-    g.setColor(new Color(100, 100, 200)); // Azul
+    g.setColor(RenderResources.color(100, 100, 200)); // Azul
     g.fillRect(14, 10, 20, 28); // Corpo
-    g.setColor(new Color(255, 200, 150)); // Pele
+    g.setColor(RenderResources.color(255, 200, 150)); // Pele
     g.fillOval(16, 5, 16, 16); // Cabeça
 
     g.dispose();
@@ -140,7 +141,7 @@ public class NPC {
     int promptX = screenX + (int) (width * 1.5) / 2; // Ajustado para o tamanho escalado
 
     // Fundo do prompt
-    g.setColor(new Color(0, 0, 0, 180));
+    g.setColor(RenderResources.color(0, 0, 0, 180));
     g.fillRoundRect(promptX - 12, promptY - 12, 24, 20, 5, 5);
 
     // Borda branca
@@ -148,7 +149,7 @@ public class NPC {
     g.drawRoundRect(promptX - 12, promptY - 12, 24, 20, 5, 5);
 
     // Letra E
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     g.drawString("E", promptX - 5, promptY + 4);
   }
 
@@ -3,9 +3,6 @@ package com.rpggame.entities;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.InputStream;
 import java.util.ArrayList;
 
 import com.rpggame.world.*;
@@ -15,6 +12,7 @@ import com.rpggame.core.Game;
 import com.rpggame.items.Inventory;
 import com.rpggame.items.consumables.HealthPotion;
 import com.rpggame.items.consumables.ManaPotion;
+import com.rpggame.world.RenderResources;
 import java.io.IOException;
 
 /**
@@ -25,10 +23,13 @@ public class Player {
   private double dx, dy;
   private double speed;
 
+  // Posição no tick anterior (para interpolação na renderização)
+  private double prevX, prevY;
+
   // Sistema de sprites para animação
-  private BufferedImage currentSprite;
-  private BufferedImage spriteRight1, spriteRight2;
-  private BufferedImage spriteLeft1, spriteLeft2;
+  private Sprite currentSprite;
+  private Sprite spriteRight1, spriteRight2;
+  private Sprite spriteLeft1, spriteLeft2;
 
   // Controle de animação
   private int animationFrame = 0;
@@ -136,6 +137,8 @@ public class Player {
     this.skillManager = new SkillManager(this);
     this.inventory = new Inventory(); // Inicializa inventário com 20 slots
     this.questManager = new QuestManager(); // Inicializa gerenciador de quests
+    this.prevX = x;
+    this.prevY = y;
     loadSprite(spritePath);
     initializeStartingItems(); // Adiciona itens iniciais
   }
@@ -156,6 +159,8 @@ public class Player {
     this.skillManager = new SkillManager(this);
     this.inventory = new Inventory(); // Inicializa inventário com 20 slots
     this.questManager = new QuestManager(); // Inicializa gerenciador de quests
+    this.prevX = x;
+    this.prevY = y;
     loadSprite(spritePath);
     initializeStartingItems(); // Adiciona itens iniciais
   }
@@ -164,10 +169,9 @@ public class Player {
     try {
       // Carregar sprites de animação baseado na classe
       String baseClass = playerClass.toLowerCase();
-      String spritesPath = com.rpggame.world.ResourceResolver.getResourcePath("sprites/");
 
-      // Usar o sistema de resolução de caminho
-      loadAnimationSprites(spritesPath, baseClass);
+      // O AssetCache resolve o caminho (JAR ou arquivo)
+      loadAnimationSprites("sprites/", baseClass);
 
       // Definir sprite inicial (direita)
       currentSprite = spriteRight1;
@@ -177,7 +181,7 @@ public class Player {
       e.printStackTrace();
       // Tentar carregar sprite original como fallback
       try {
-        BufferedImage fallbackSprite = loadSpriteFromPath(path);
+        Sprite fallbackSprite = loadSpriteFromPath(path);
         if (fallbackSprite != null) {
           currentSprite = fallbackSprite;
         } else {
@@ -188,34 +192,23 @@ public class Player {
       } catch (IOException e2) {
         System.err.println("Erro ao carregar sprite fallback: " + path);
         // Criar um retângulo simples como fallback final
-        currentSprite = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
-        Graphics g = currentSprite.getGraphics();
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
         g.setColor(Color.BLUE);
         g.fillRect(0, 0, WIDTH, HEIGHT);
         g.dispose();
+        currentSprite = Sprite.of(image);
         spriteRight1 = spriteRight2 = spriteLeft1 = spriteLeft2 = currentSprite;
       }
     }
   }
 
-  private BufferedImage loadSpriteFromPath(String path) throws IOException {
-    // Tentar carregar como recurso do classpath (funciona no JAR)
-    InputStream is = getClass().getClassLoader().getResourceAsStream(path);
-    if (is != null) {
-      BufferedImage img = ImageIO.read(is);
-      is.close();
-      System.out.println("✅ Sprite carregado do JAR: " + path);
-      return img;
-    }
-
-    // Fallback: tentar carregar como arquivo externo (desenvolvimento)
-    File file = new File(path);
-    if (file.exists()) {
-      System.out.println("✅ Sprite carregado do arquivo: " + path);
-      return ImageIO.read(file);
-    }
-
-    return null;
+  /**
+   * Obtém o sprite do AssetCache já no tamanho de desenho. Os sprites do
+   * jogador ficam em uso enquanto o jogo roda e nunca são liberados.
+   */
+  private Sprite loadSpriteFromPath(String path) {
+    return AssetCache.acquire(path, WIDTH, HEIGHT);
   }
 
   private void loadAnimationSprites(String basePath, String className) throws IOException {
@@ -345,6 +338,7 @@ public class Player {
       }
       if (!p.isActive()) {
         projectiles.remove(i);
+        Projectile.free(p);
       }
     }
 
@@ -354,6 +348,7 @@ public class Player {
       ft.update();
       if (!ft.isActive()) {
         floatingTexts.remove(i);
+        FloatingText.free(ft);
       }
     }
 
@@ -393,12 +388,12 @@ public class Player {
       lastLevelCheck = newLevel;
 
       // Mostrar texto de level up
-      FloatingText levelUpText = new FloatingText(x + WIDTH / 2, y - 20,
+      FloatingText levelUpText = FloatingText.obtain(x + WIDTH / 2, y - 20,
           "LEVEL UP!", Color.YELLOW);
       floatingTexts.add(levelUpText);
 
       // Mostrar texto de vida restaurada
-      FloatingText healText = new FloatingText(x + WIDTH / 2, y - 35,
+      FloatingText healText = FloatingText.obtain(x + WIDTH / 2, y - 35,
           "VIDA RESTAURADA!", Color.GREEN);
       floatingTexts.add(healText);
 
@@ -439,15 +434,15 @@ public class Player {
   }
 
   public void render(Graphics2D g, Camera camera) {
-    int screenX = (int) (x - camera.getX());
-    int screenY = (int) (y - camera.getY());
+    int screenX = (int) (camera.interpolate(prevX, x) - camera.getX());
+    int screenY = (int) (camera.interpolate(prevY, y) - camera.getY());
 
     // Só renderizar se estiver na tela
     if (screenX > -WIDTH && screenX < Game.SCREEN_WIDTH &&
         screenY > -HEIGHT && screenY < Game.SCREEN_HEIGHT) {
-      // Renderizar sprite atual com tamanho correto
-      BufferedImage spriteToRender = (currentSprite != null) ? currentSprite : spriteRight1;
-      g.drawImage(spriteToRender, screenX, screenY, WIDTH, HEIGHT, null);
+      // Sprites já estão no tamanho correto (WIDTH x HEIGHT)
+      Sprite spriteToRender = (currentSprite != null) ? currentSprite : spriteRight1;
+      spriteToRender.draw(g, screenX, screenY);
 
       // Renderizar efeito de atordoamento
       if (stunned) {
@@ -462,16 +457,8 @@ public class Player {
       // Barra de vida removida - agora exibida na UI
     }
 
-    // Renderizar projéteis (usar cópia para evitar ConcurrentModificationException)
-    for (Projectile p : new ArrayList<>(projectiles)) {
-      p.render(g, camera);
-    }
-
-    // Renderizar textos flutuantes (usar cópia para evitar
-    // ConcurrentModificationException)
-    for (FloatingText ft : new ArrayList<>(floatingTexts)) {
-      ft.render(g, camera);
-    }
+    // Projéteis e textos flutuantes são desenhados pelo GamePanel a partir do
+    // snapshot de renderização
   }
 
   // TODO: Implementar renderização de barra de vida
@@ -523,16 +510,16 @@ public class Player {
     Projectile projectile = null;
     switch (playerClass.toLowerCase()) {
       case "mage":
-        projectile = new Projectile(startX, startY, facing, Projectile.MAGIC_BOLT, totalDamage);
+        projectile = Projectile.obtain(startX, startY, facing, Projectile.MAGIC_BOLT, totalDamage);
         break;
       case "hunter":
-        projectile = new Projectile(startX, startY, facing, Projectile.ARROW, totalDamage);
+        projectile = Projectile.obtain(startX, startY, facing, Projectile.ARROW, totalDamage);
         break;
       case "warrior":
         // Guerreiro faz um ataque corpo a corpo à frente
         double slashX = startX + Math.cos(facing) * 30;
         double slashY = startY + Math.sin(facing) * 30;
-        projectile = new Projectile(slashX, slashY, facing, Projectile.SWORD_SLASH, totalDamage);
+        projectile = Projectile.obtain(slashX, slashY, facing, Projectile.SWORD_SLASH, totalDamage);
         break;
     }
 
@@ -564,7 +551,7 @@ public class Player {
           boolean destroyed = structure.takeDamage(damage);
 
           // Criar texto de dano
-          FloatingText damageText = new FloatingText(
+          FloatingText damageText = FloatingText.obtain(
               structure.getX() + structure.getWidth() / 2,
               structure.getY() + structure.getHeight() / 2,
               "-" + damage, Color.ORANGE);
@@ -576,7 +563,7 @@ public class Player {
             boolean leveledUp = experienceSystem.addExperience(xpReward);
 
             // Mostrar XP ganho
-            FloatingText xpText = new FloatingText(
+            FloatingText xpText = FloatingText.obtain(
                 structure.getX() + structure.getWidth() / 2,
                 structure.getY() + structure.getHeight() / 2 - 20,
                 "+" + xpReward + " XP", Color.CYAN);
@@ -670,6 +657,18 @@ public class Player {
     }
   }
 
+  /**
+   * Define as teclas de movimento e ataque sem eventos do AWT (simulação
+   * headless, bots). Habilidades: getSkillManager().useSkill(slot).
+   */
+  public void setInput(boolean up, boolean down, boolean left, boolean right, boolean attack) {
+    this.up = up;
+    this.down = down;
+    this.left = left;
+    this.right = right;
+    this.spacePressed = attack;
+  }
+
   // Getters
   public double getX() {
     return x;
@@ -682,6 +681,17 @@ public class Player {
   public void setPosition(double x, double y) {
     this.x = x;
     this.y = y;
+    // Teleporte não deve ser interpolado
+    this.prevX = x;
+    this.prevY = y;
+  }
+
+  /**
+   * Guarda a posição atual como posição do tick anterior
+   */
+  public void storePreviousPosition() {
+    prevX = x;
+    prevY = y;
   }
 
   public int getWidth() {
@@ -725,7 +735,7 @@ public class Player {
 
     if (leveledUp) {
       // Mostrar texto de level up
-      FloatingText levelUpText = new FloatingText(x + WIDTH / 2, y - 20,
+      FloatingText levelUpText = FloatingText.obtain(x + WIDTH / 2, y - 20,
           "LEVEL UP!", Color.YELLOW);
       floatingTexts.add(levelUpText);
 
@@ -739,7 +749,7 @@ public class Player {
     }
 
     // Mostrar XP ganho
-    FloatingText xpText = new FloatingText(x + WIDTH / 2, y - 10,
+    FloatingText xpText = FloatingText.obtain(x + WIDTH / 2, y - 10,
         "+" + xp + " XP", Color.GREEN);
     floatingTexts.add(xpText);
   }
@@ -748,13 +758,17 @@ public class Player {
     return projectiles;
   }
 
+  public ArrayList<FloatingText> getFloatingTexts() {
+    return floatingTexts;
+  }
+
   // Setters
   public void takeDamage(int damage) {
     // Verificar evasão baseada na destreza
     float evasionChance = stats.getEvasionChance();
     if (Math.random() < evasionChance) {
       // Ataque evadido - não recebe dano
-      FloatingText evasionText = new FloatingText(x + WIDTH / 2, y, "EVADIDO!", Color.CYAN);
+      FloatingText evasionText = FloatingText.obtain(x + WIDTH / 2, y, "EVADIDO!", Color.CYAN);
       floatingTexts.add(evasionText);
       return;
     }
@@ -772,8 +786,8 @@ public class Player {
     currentHealth = Math.max(0, currentHealth - reducedDamage);
 
     // Mostrar texto de dano (com cor diferente se em berserk)
-    Color damageColor = berserkActive ? new Color(255, 100, 0) : Color.RED;
-    FloatingText damageText = new FloatingText(x + WIDTH / 2, y, "-" + reducedDamage, damageColor);
+    Color damageColor = berserkActive ? RenderResources.color(255, 100, 0) : Color.RED;
+    FloatingText damageText = FloatingText.obtain(x + WIDTH / 2, y, "-" + reducedDamage, damageColor);
     floatingTexts.add(damageText);
   }
 
@@ -794,7 +808,7 @@ public class Player {
    */
   public boolean applyStun(int duration) {
     if (berserkActive) {
-      FloatingText immuneText = new FloatingText(x + WIDTH / 2, y - 10, "IMUNE!", new Color(255, 200, 0));
+      FloatingText immuneText = FloatingText.obtain(x + WIDTH / 2, y - 10, "IMUNE!", RenderResources.color(255, 200, 0));
       floatingTexts.add(immuneText);
       System.out.println("⚔️ Fúria Berserk: IMUNE a atordoamento!");
       return false;
@@ -810,7 +824,7 @@ public class Player {
     up = down = left = right = false;
 
     // Feedback visual
-    FloatingText stunText = new FloatingText(x + WIDTH / 2, y - 10, "ATORDOADO!", new Color(255, 255, 0));
+    FloatingText stunText = FloatingText.obtain(x + WIDTH / 2, y - 10, "ATORDOADO!", RenderResources.color(255, 255, 0));
     floatingTexts.add(stunText);
 
     System.out.println("💫 Player foi atordoado por " + (duration / 60.0) + " segundos!");
@@ -823,7 +837,7 @@ public class Player {
    */
   public boolean applyFear(int duration) {
     if (berserkActive) {
-      FloatingText immuneText = new FloatingText(x + WIDTH / 2, y - 10, "IMUNE!", new Color(255, 200, 0));
+      FloatingText immuneText = FloatingText.obtain(x + WIDTH / 2, y - 10, "IMUNE!", RenderResources.color(255, 200, 0));
       floatingTexts.add(immuneText);
       System.out.println("⚔️ Fúria Berserk: IMUNE a medo!");
       return false;
@@ -840,8 +854,8 @@ public class Player {
     currentMana = Math.max(0, currentMana - amount);
 
     // Mostrar texto de mana consumida
-    FloatingText manaText = new FloatingText(x + WIDTH / 2, y - 5,
-        "-" + amount + " MP", new Color(100, 150, 255));
+    FloatingText manaText = FloatingText.obtain(x + WIDTH / 2, y - 5,
+        "-" + amount + " MP", RenderResources.color(100, 150, 255));
     floatingTexts.add(manaText);
   }
 
@@ -916,9 +930,9 @@ public class Player {
 
     // Verificar limites do mapa (usando a hitbox para cálculos precisos)
     newX = Math.max(-HITBOX_OFFSET_X,
-        Math.min(newX, GamePanel.MAP_WIDTH * GamePanel.TILE_SIZE - HITBOX_WIDTH - HITBOX_OFFSET_X));
+        Math.min(newX, maxHitboxX()));
     newY = Math.max(-HITBOX_OFFSET_Y,
-        Math.min(newY, GamePanel.MAP_HEIGHT * GamePanel.TILE_SIZE - HITBOX_HEIGHT - HITBOX_OFFSET_Y));
+        Math.min(newY, maxHitboxY()));
 
     // Verificar colisão com tiles (checkar os 4 cantos do jogador)
     if (canMoveToPosition(newX, newY)) {
@@ -928,17 +942,21 @@ public class Player {
       // Tentar movimento apenas no eixo X
       if (dx != 0 && canMoveToPosition(x + dx, y)) {
         x = Math.max(-HITBOX_OFFSET_X,
-            Math.min(x + dx, GamePanel.MAP_WIDTH * GamePanel.TILE_SIZE - HITBOX_WIDTH - HITBOX_OFFSET_X));
+            Math.min(x + dx, maxHitboxX()));
       }
       // Tentar movimento apenas no eixo Y
       else if (dy != 0 && canMoveToPosition(x, y + dy)) {
         y = Math.max(-HITBOX_OFFSET_Y,
-            Math.min(y + dy, GamePanel.MAP_HEIGHT * GamePanel.TILE_SIZE - HITBOX_HEIGHT - HITBOX_OFFSET_Y));
+            Math.min(y + dy, maxHitboxY()));
       }
     }
   }
 
-  private boolean canMoveToPosition(double newX, double newY) {
+  /**
+   * O jogador cabe na posição (tiles caminháveis ou congelados e nenhuma
+   * estrutura no caminho)?
+   */
+  public boolean canMoveToPosition(double newX, double newY) {
     // Noclip bypass - permite atravessar qualquer coisa
     if (noclipEnabled) {
       return true;
@@ -1034,8 +1052,26 @@ public class Player {
   }
 
   private boolean isValidTile(int tileX, int tileY) {
-    return tileX >= 0 && tileX < GamePanel.MAP_WIDTH &&
-        tileY >= 0 && tileY < GamePanel.MAP_HEIGHT;
+    return tileX >= 0 && tileX < getMapWidthInTiles() &&
+        tileY >= 0 && tileY < getMapHeightInTiles();
+  }
+
+  // Dimensões do mapa carregado (ou do mapa padrão, antes do TileMap existir)
+  private int getMapWidthInTiles() {
+    return tileMap != null ? tileMap.getWidth() : GamePanel.DEFAULT_MAP_WIDTH;
+  }
+
+  private int getMapHeightInTiles() {
+    return tileMap != null ? tileMap.getHeight() : GamePanel.DEFAULT_MAP_HEIGHT;
+  }
+
+  // Maior x/y do jogador com a hitbox ainda dentro do mapa
+  private double maxHitboxX() {
+    return getMapWidthInTiles() * GamePanel.TILE_SIZE - HITBOX_WIDTH - HITBOX_OFFSET_X;
+  }
+
+  private double maxHitboxY() {
+    return getMapHeightInTiles() * GamePanel.TILE_SIZE - HITBOX_HEIGHT - HITBOX_OFFSET_Y;
   }
 
   /**
@@ -1143,7 +1179,7 @@ public class Player {
    * Adiciona um texto flutuante na tela do jogador.
    */
   public void addFloatingText(String text, Color color) {
-    FloatingText ft = new FloatingText(x + WIDTH / 2, y - 20, text, color);
+    FloatingText ft = FloatingText.obtain(x + WIDTH / 2, y - 20, text, color);
     floatingTexts.add(ft);
   }
 
@@ -1182,7 +1218,7 @@ public class Player {
     gold += amount;
     showGoldUI = true;
     goldUITimer = GOLD_UI_DISPLAY_TIME;
-    addFloatingText("+" + amount + " Gold", new Color(255, 215, 0));
+    addFloatingText("+" + amount + " Gold", RenderResources.color(255, 215, 0));
     System.out.println("💰 +" + amount + " gold (Total: " + gold + ")");
   }
 
@@ -1316,6 +1352,7 @@ public class Player {
       }
       if (!p.isActive()) {
         projectiles.remove(i);
+        Projectile.free(p);
       }
     }
 
@@ -1325,6 +1362,7 @@ public class Player {
       ft.update();
       if (!ft.isActive()) {
         floatingTexts.remove(i);
+        FloatingText.free(ft);
       }
     }
 
@@ -1358,8 +1396,8 @@ public class Player {
     // Usar stunTimer para animação de rotação
     double angleOffset = (stunTimer / 10.0) * Math.PI * 2; // Gira conforme o tempo
 
-    g.setColor(new Color(255, 255, 0));
-    g.setFont(new Font("Arial", Font.BOLD, 20));
+    g.setColor(RenderResources.color(255, 255, 0));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 20));
 
     for (int i = 0; i < numStars; i++) {
       double angle = (Math.PI * 2 / numStars) * i + angleOffset;
@@ -1372,8 +1410,8 @@ public class Player {
     // Indicador de tempo restante
     if (stunTimer > 0) {
       float alpha = Math.min(1.0f, stunTimer / 30.0f);
-      g.setColor(new Color(255, 255, 255, (int) (200 * alpha)));
-      g.setFont(new Font("Arial", Font.BOLD, 10));
+      g.setColor(RenderResources.color(255, 255, 255, (int) (200 * alpha)));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 10));
       String timeText = String.format("%.1fs", stunTimer / 60.0);
       FontMetrics fm = g.getFontMetrics();
       int textWidth = fm.stringWidth(timeText);
@@ -3,7 +3,9 @@ package com.rpggame.entities;
 import java.awt.*;
 import com.rpggame.core.GamePanel;
 import com.rpggame.core.Game;
+import com.rpggame.systems.ObjectPool;
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Classe para representar projéteis no jogo
@@ -25,7 +27,40 @@ public class Projectile {
   public static final String ARROW = "arrow";
   public static final String SWORD_SLASH = "sword_slash";
 
+  // Cores fixas por tipo (compartilhadas entre instâncias)
+  private static final Color MAGIC_BOLT_COLOR = new Color(100, 100, 255);
+  private static final Color ARROW_COLOR = new Color(139, 69, 19);
+  private static final Color SWORD_SLASH_COLOR = new Color(255, 215, 0);
+
+  // Instâncias reaproveitadas entre ataques (ver obtain/free)
+  private static final ObjectPool<Projectile> POOL = new ObjectPool<>("Projectile", 256, Projectile::new);
+
   public Projectile(double x, double y, double angle, String type, int damage) {
+    init(x, y, angle, type, damage);
+  }
+
+  private Projectile() {
+  }
+
+  /**
+   * Projétil do pool, já inicializado. Deve voltar com free() quando sai da
+   * lista de projéteis.
+   */
+  public static Projectile obtain(double x, double y, double angle, String type, int damage) {
+    Projectile projectile = POOL.obtain();
+    projectile.init(x, y, angle, type, damage);
+    return projectile;
+  }
+
+  /**
+   * Devolve o projétil ao pool (fica inativo)
+   */
+  public static void free(Projectile projectile) {
+    projectile.active = false;
+    POOL.free(projectile);
+  }
+
+  private void init(double x, double y, double angle, String type, int damage) {
     this.x = x;
     this.y = y;
     this.type = type;
@@ -36,19 +71,19 @@ public class Projectile {
     switch (type) {
       case MAGIC_BOLT:
         this.speed = 8.0;
-        this.color = new Color(100, 100, 255);
+        this.color = MAGIC_BOLT_COLOR;
         this.size = 6;
         this.lifetime = 120; // 2 segundos a 60 FPS
         break;
       case ARROW:
         this.speed = 12.0;
-        this.color = new Color(139, 69, 19);
+        this.color = ARROW_COLOR;
         this.size = 4;
         this.lifetime = 180; // 3 segundos a 60 FPS
         break;
       case SWORD_SLASH:
         this.speed = 6.0;
-        this.color = new Color(255, 215, 0);
+        this.color = SWORD_SLASH_COLOR;
         this.size = 12;
         this.lifetime = 20; // 0.33 segundos - ataque rápido
         break;
@@ -76,11 +111,7 @@ public class Projectile {
       active = false;
     }
 
-    // Verificar limites do mundo
-    if (x < 0 || x > GamePanel.MAP_WIDTH * GamePanel.TILE_SIZE ||
-        y < 0 || y > GamePanel.MAP_HEIGHT * GamePanel.TILE_SIZE) {
-      active = false;
-    }
+    // Limites do mundo: checkWallCollision (fora do mapa não é caminhável)
   }
   
   /**
@@ -89,8 +120,8 @@ public class Projectile {
   public boolean checkWallCollision(com.rpggame.world.TileMap tileMap) {
     if (!active) return false;
     
-    int tileX = (int)(x / GamePanel.TILE_SIZE);
-    int tileY = (int)(y / GamePanel.TILE_SIZE);
+    int tileX = (int) Math.floor(x / GamePanel.TILE_SIZE);
+    int tileY = (int) Math.floor(y / GamePanel.TILE_SIZE);
     
     if (!tileMap.isWalkable(tileX, tileY)) {
       active = false;
@@ -116,7 +147,7 @@ public class Projectile {
         case MAGIC_BOLT:
           // Desenhar um orbe mágico
           g.fillOval(screenX - size / 2, screenY - size / 2, size, size);
-          g.setColor(new Color(200, 200, 255, 150));
+          g.setColor(RenderResources.color(200, 200, 255, 150));
           g.fillOval(screenX - size / 3, screenY - size / 3, size / 2, size / 2);
           break;
 
@@ -139,7 +170,7 @@ public class Projectile {
         case SWORD_SLASH:
           // Desenhar um efeito de corte
           float alpha = 1.0f - ((float) currentLife / lifetime);
-          g.setColor(new Color(255, 215, 0, (int) (alpha * 255)));
+          g.setColor(RenderResources.color(255, 215, 0, (int) (alpha * 255)));
 
           double slashAngle = Math.atan2(dy, dx);
           int slashLength = size;
@@ -148,9 +179,9 @@ public class Projectile {
           int x2 = (int) (screenX + Math.cos(slashAngle) * slashLength / 2);
           int y2 = (int) (screenY + Math.sin(slashAngle) * slashLength / 2);
 
-          g.setStroke(new BasicStroke(3));
+          g.setStroke(RenderResources.stroke(3));
           g.drawLine(x1, y1, x2, y2);
-          g.setStroke(new BasicStroke(1));
+          g.setStroke(RenderResources.stroke(1));
           break;
       }
     }
@@ -1,11 +1,10 @@
 package com.rpggame.entities;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.InputStream;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
+import com.rpggame.world.Sprite;
+import com.rpggame.world.RenderResources;
 
 /**
  * Representa uma estrutura no mapa (como cabanas de goblins)
@@ -13,7 +12,8 @@ import com.rpggame.world.Camera;
 public class Structure {
     private double x, y;
     private int width, height;
-    private BufferedImage sprite;
+    private Sprite sprite;
+    private String spritePath; // Chave no AssetCache (null depois do release)
     private String structureType;
     private boolean isOccupied;
 
@@ -65,41 +65,23 @@ public class Structure {
     }
 
     /**
-     * Carrega sprite da estrutura
+     * Obtém do AssetCache o sprite da estrutura já redimensionado
      */
     private void loadSprite(String spritePath) {
-        try {
-            BufferedImage originalSprite = null;
-
-            // Tentar carregar como recurso do classpath (funciona no JAR)
-            InputStream is = getClass().getClassLoader().getResourceAsStream(spritePath);
-            if (is != null) {
-                originalSprite = ImageIO.read(is);
-                is.close();
-                System.out.println("✅ Estrutura carregada do JAR: " + spritePath);
-            } else {
-                // Fallback: tentar carregar como arquivo externo (desenvolvimento)
-                String resolvedPath = com.rpggame.world.ResourceResolver.getResourcePath(spritePath);
-                File spriteFile = new File(resolvedPath);
-                if (spriteFile.exists()) {
-                    originalSprite = ImageIO.read(spriteFile);
-                    System.out.println("✅ Estrutura carregada do arquivo: " + resolvedPath);
-                } else {
-                    System.out.println("Sprite de estrutura não encontrado: " + spritePath);
-                }
-            }
+        this.spritePath = spritePath;
+        sprite = AssetCache.acquire(spritePath, width, height);
+        if (sprite == null) {
+            System.out.println("Sprite de estrutura não encontrado: " + spritePath);
+        }
+    }
 
-            if (originalSprite != null) {
-                // Redimensionar para tamanho adequado
-                sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g2d = sprite.createGraphics();
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                        RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-                g2d.drawImage(originalSprite, 0, 0, width, height, null);
-                g2d.dispose();
-            }
-        } catch (Exception e) {
-            System.out.println("Erro ao carregar sprite da estrutura: " + e.getMessage());
+    /**
+     * Devolve o sprite ao AssetCache (estrutura removida do mapa)
+     */
+    public void releaseAssets() {
+        if (sprite != null && spritePath != null) {
+            AssetCache.release(spritePath, width, height);
+            spritePath = null;
         }
     }
 
@@ -112,16 +94,16 @@ public class Structure {
 
         if (isDestroyed) {
             // Renderizar cabana destruída (cinza escuro apenas)
-            g.setColor(new Color(64, 64, 64));
+            g.setColor(RenderResources.color(64, 64, 64));
             g.fillRect(screenX, screenY, width, height);
             g.setColor(Color.RED);
             g.drawRect(screenX, screenY, width - 1, height - 1);
         } else {
             if (sprite != null) {
-                g.drawImage(sprite, screenX, screenY, null);
+                sprite.draw(g, screenX, screenY);
             } else {
                 // Fallback: retângulo colorido
-                g.setColor(new Color(139, 69, 19)); // Marrom
+                g.setColor(RenderResources.color(139, 69, 19)); // Marrom
                 g.fillRect(screenX, screenY, width, height);
                 g.setColor(Color.BLACK);
                 g.drawRect(screenX, screenY, width - 1, height - 1);
@@ -130,9 +112,9 @@ public class Structure {
             // Borda vermelha se vulnerável
             if (isVulnerable) {
                 g.setColor(Color.RED);
-                g.setStroke(new BasicStroke(2));
+                g.setStroke(RenderResources.stroke(2));
                 g.drawRect(screenX - 1, screenY - 1, width + 1, height + 1);
-                g.setStroke(new BasicStroke(1)); // Restaurar stroke padrão
+                g.setStroke(RenderResources.stroke(1)); // Restaurar stroke padrão
             }
 
             // Barra de vida se vulnerável e danificada
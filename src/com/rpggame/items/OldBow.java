@@ -2,6 +2,7 @@ package com.rpggame.items;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import com.rpggame.world.RenderResources;
 
 /**
  * Arco Velho - Arma para Caçador
@@ -27,22 +28,22 @@ public class OldBow extends EquippableItem {
     g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     // Arco de madeira (curva)
-    g.setColor(new Color(120, 80, 40));
-    g.setStroke(new BasicStroke(3));
+    g.setColor(RenderResources.color(120, 80, 40));
+    g.setStroke(RenderResources.stroke(3));
     g.drawArc(8, 4, 16, 24, -30, 240);
 
     // Corda
-    g.setColor(new Color(200, 200, 180));
-    g.setStroke(new BasicStroke(1));
+    g.setColor(RenderResources.color(200, 200, 180));
+    g.setStroke(RenderResources.stroke(1));
     g.drawLine(11, 7, 11, 25);
 
     // Flecha decorativa
-    g.setColor(new Color(180, 140, 90));
-    g.setStroke(new BasicStroke(2));
+    g.setColor(RenderResources.color(180, 140, 90));
+    g.setStroke(RenderResources.stroke(2));
     g.drawLine(20, 16, 12, 16);
 
     // Ponta da flecha
-    g.setColor(new Color(150, 150, 150));
+    g.setColor(RenderResources.color(150, 150, 150));
     int[] xPoints = { 20, 24, 20 };
     int[] yPoints = { 14, 16, 18 };
     g.fillPolygon(xPoints, yPoints, 3);
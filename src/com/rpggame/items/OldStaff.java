@@ -2,6 +2,7 @@ package com.rpggame.items;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import com.rpggame.world.RenderResources;
 
 /**
  * Cajado Velho - Arma para Mago
@@ -26,17 +27,17 @@ public class OldStaff extends EquippableItem {
     Graphics2D g = sprite.createGraphics();
 
     // Haste de madeira marrom
-    g.setColor(new Color(100, 70, 40));
+    g.setColor(RenderResources.color(100, 70, 40));
     g.fillRect(14, 10, 4, 22);
 
     // Cristal roxo no topo
-    g.setColor(new Color(150, 80, 200));
+    g.setColor(RenderResources.color(150, 80, 200));
     int[] xPoints = { 16, 12, 16, 20 };
     int[] yPoints = { 5, 10, 15, 10 };
     g.fillPolygon(xPoints, yPoints, 4);
 
     // Brilho no cristal
-    g.setColor(new Color(200, 150, 255, 180));
+    g.setColor(RenderResources.color(200, 150, 255, 180));
     g.fillOval(14, 8, 4, 4);
 
     g.dispose();
@@ -2,6 +2,7 @@ package com.rpggame.items;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import com.rpggame.world.RenderResources;
 
 /**
  * Espada Velha - Arma para Guerreiro
@@ -26,19 +27,19 @@ public class OldSword extends EquippableItem {
     Graphics2D g = sprite.createGraphics();
 
     // Lâmina cinza
-    g.setColor(new Color(150, 150, 150));
+    g.setColor(RenderResources.color(150, 150, 150));
     g.fillRect(14, 5, 4, 20);
 
     // Guarda dourada
-    g.setColor(new Color(180, 140, 0));
+    g.setColor(RenderResources.color(180, 140, 0));
     g.fillRect(8, 24, 16, 3);
 
     // Cabo marrom
-    g.setColor(new Color(120, 80, 40));
+    g.setColor(RenderResources.color(120, 80, 40));
     g.fillRect(13, 27, 6, 5);
 
     // Brilho na lâmina
-    g.setColor(new Color(200, 200, 200));
+    g.setColor(RenderResources.color(200, 200, 200));
     g.fillRect(15, 8, 1, 10);
 
     g.dispose();
@@ -3,8 +3,8 @@ package com.rpggame.items.consumables;
 import com.rpggame.items.Item;
 import com.rpggame.items.ItemType;
 import com.rpggame.entities.Player;
+import com.rpggame.world.RenderResources;
 import java.awt.image.BufferedImage;
-import java.awt.Color;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.InputStream;
@@ -37,7 +37,7 @@ public class HealthPotion extends Item {
   public void use() {
     if (player != null) {
       player.heal(healAmount);
-      player.addFloatingText("+" + healAmount + " HP", new Color(220, 20, 60)); // Vermelho sangue (Crimson)
+      player.addFloatingText("+" + healAmount + " HP", RenderResources.color(220, 20, 60)); // Vermelho sangue (Crimson)
       System.out.println("✨ Usou Poção de Vida! +" + healAmount + " HP");
     }
   }
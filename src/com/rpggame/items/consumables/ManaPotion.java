@@ -3,8 +3,8 @@ package com.rpggame.items.consumables;
 import com.rpggame.items.Item;
 import com.rpggame.items.ItemType;
 import com.rpggame.entities.Player;
+import com.rpggame.world.RenderResources;
 import java.awt.image.BufferedImage;
-import java.awt.Color;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.InputStream;
@@ -37,7 +37,7 @@ public class ManaPotion extends Item {
   public void use() {
     if (player != null) {
       player.restoreMana(manaAmount);
-      player.addFloatingText("+" + manaAmount + " MP", new Color(100, 150, 255)); // Azul claro
+      player.addFloatingText("+" + manaAmount + " MP", RenderResources.color(100, 150, 255)); // Azul claro
       System.out.println("✨ Usou Poção de Mana! +" + manaAmount + " MP");
     }
   }
@@ -1,8 +1,12 @@
 package com.rpggame.npcs;
 
+import com.rpggame.entities.Enemy;
 import com.rpggame.entities.Goblin;
+import com.rpggame.systems.SpatialIndex;
+import com.rpggame.world.PathFollower;
+import com.rpggame.world.PathService;
+import com.rpggame.world.RenderResources;
 import java.awt.*;
-import java.util.ArrayList;
 
 /**
  * NPC Guarda Real - Protege a área e oferece informações sobre segurança
@@ -39,6 +43,11 @@ public class GuardNPC extends NPC {
 
   private int logTimer = 0; // Timer para controlar logs de debug
 
+  // Caminho até o goblin perseguido ou de volta ao posto
+  private final PathFollower pathFollower = new PathFollower();
+  private final double[] pathDirection = new double[2];
+  private PathService pathService;
+
   public GuardNPC(double x, double y) {
     super(x, y, "Guarda Real", "sprites/GuardNPC.png");
     this.originalX = x;
@@ -59,7 +68,9 @@ public class GuardNPC extends NPC {
   /**
    * Atualiza o guarda, incluindo detecção e ataque de goblins
    */
-  public void updateGuardBehavior(ArrayList<Goblin> goblins) {
+  public void updateGuardBehavior(SpatialIndex<Enemy> enemyIndex, PathService pathService) {
+    this.pathService = pathService;
+
     // Atualizar timers
     if (attackCooldown > 0)
       attackCooldown--;
@@ -83,7 +94,7 @@ public class GuardNPC extends NPC {
     // Máquina de estados do guarda
     switch (currentState) {
       case PATROLLING:
-        handlePatrolling(goblins);
+        handlePatrolling(enemyIndex);
         break;
       case PURSUING:
         handlePursuing();
@@ -97,9 +108,9 @@ public class GuardNPC extends NPC {
     }
   }
 
-  private void handlePatrolling(ArrayList<Goblin> goblins) {
+  private void handlePatrolling(SpatialIndex<Enemy> enemyIndex) {
     // Procurar goblins próximos
-    Goblin closestGoblin = findClosestGoblin(goblins);
+    Goblin closestGoblin = findClosestGoblin(enemyIndex);
 
     if (closestGoblin != null) {
       targetGoblin = closestGoblin;
@@ -162,33 +173,29 @@ public class GuardNPC extends NPC {
       y = originalY;
       currentState = GuardState.PATROLLING;
       targetGoblin = null;
+      pathFollower.reset();
     } else {
       // Mover em direção à posição original
       moveTowards(originalX, originalY);
     }
   }
 
-  private Goblin findClosestGoblin(ArrayList<Goblin> goblins) {
-    Goblin closestGoblin = null;
-    double closestDistance = Double.MAX_VALUE;
-
-    for (Goblin goblin : goblins) {
-      if (goblin.isAlive()) {
-        double distance = Math.sqrt(
-            Math.pow(goblin.getX() - x, 2) +
-                Math.pow(goblin.getY() - y, 2));
-
-        if (distance <= GUARD_RANGE && distance < closestDistance) {
-          closestGoblin = goblin;
-          closestDistance = distance;
-        }
-      }
-    }
-
-    return closestGoblin;
+  private Goblin findClosestGoblin(SpatialIndex<Enemy> enemyIndex) {
+    // Goblin vivo mais próximo (centro a centro) dentro do alcance
+    Enemy closest = enemyIndex.findNearest(x + width / 2.0, y + height / 2.0, GUARD_RANGE,
+        enemy -> enemy instanceof Goblin && enemy.isAlive());
+    return (Goblin) closest;
   }
 
   private void moveTowards(double targetX, double targetY) {
+    // Contornar pedras e paredes pelo caminho do PathService, se já estiver pronto
+    if (pathService != null && pathFollower.getDirection(pathService, x + width / 2.0, y + height / 2.0,
+        targetX + width / 2.0, targetY + height / 2.0, pathDirection)) {
+      x += pathDirection[0] * GUARD_SPEED;
+      y += pathDirection[1] * GUARD_SPEED;
+      return;
+    }
+
     double dx = targetX - x;
     double dy = targetY - y;
     double distance = Math.sqrt(dx * dx + dy * dy);
@@ -253,20 +260,20 @@ public class GuardNPC extends NPC {
     if (isPreparingAttack) {
       // Círculo pulsante vermelho
       int pulseRadius = 15 + (int) (Math.sin(attackPreparationTimer * 0.3) * 5);
-      g.setColor(new Color(255, 0, 0, 100));
+      g.setColor(RenderResources.color(255, 0, 0, 100));
       g.fillOval(screenX + width / 2 - pulseRadius, screenY + height / 2 - pulseRadius,
           pulseRadius * 2, pulseRadius * 2);
 
       // Texto de aviso
       g.setColor(Color.RED);
-      g.setFont(new Font("Arial", Font.BOLD, 12));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
       g.drawString("PREPARANDO!", screenX - 15, screenY - 30);
     }
 
     // Efeito visual de ataque
     if (isAttacking) {
       // Flash branco intenso
-      g.setColor(new Color(255, 255, 255, 150));
+      g.setColor(RenderResources.color(255, 255, 255, 150));
       g.fillOval(screenX - 10, screenY - 10, width + 20, height + 20);
 
       // Raios de energia
@@ -276,8 +283,8 @@ public class GuardNPC extends NPC {
         int endX = screenX + width / 2 + (int) (Math.cos(angle) * rayLength);
         int endY = screenY + height / 2 + (int) (Math.sin(angle) * rayLength);
 
-        g.setStroke(new BasicStroke(3));
-        g.setColor(new Color(255, 255, 0, 200));
+        g.setStroke(RenderResources.stroke(3));
+        g.setColor(RenderResources.color(255, 255, 0, 200));
         g.drawLine(screenX + width / 2, screenY + height / 2, endX, endY);
       }
     }
@@ -308,10 +315,10 @@ public class GuardNPC extends NPC {
     }
 
     if (!stateIndicator.isEmpty()) {
-      g.setColor(new Color(0, 0, 0, 180));
+      g.setColor(RenderResources.color(0, 0, 0, 180));
       g.fillRoundRect(screenX + width / 2 - 10, screenY - 25, 20, 18, 5, 5);
       g.setColor(stateColor);
-      g.setFont(new Font("Arial", Font.BOLD, 14));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
       g.drawString(stateIndicator, screenX + width / 2 - 5, screenY - 10);
     }
   }
@@ -2,13 +2,11 @@ package com.rpggame.npcs;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import com.rpggame.entities.Player;
+import com.rpggame.world.AssetCache;
 import com.rpggame.world.Camera;
-import com.rpggame.world.ResourceResolver;
+import com.rpggame.world.Sprite;
+import com.rpggame.world.RenderResources;
 
 /**
  * Classe base abstrata para NPCs
@@ -22,8 +20,10 @@ public abstract class NPC {
   protected int currentDialogIndex = 0;
 
   // Sprite
-  protected BufferedImage sprite;
+  protected Sprite sprite; // Já na escala de desenho
   protected String spritePath;
+  private boolean spriteFromCache = false;
+  private static final double SPRITE_SCALE = 1.5;
 
   // Indicador de interação
   protected boolean showInteractionPrompt = false;
@@ -52,37 +52,39 @@ public abstract class NPC {
   protected abstract String[] initializeDialogues();
 
   /**
-   * Carrega o sprite do NPC
+   * Obtém do AssetCache o sprite do NPC já na escala de desenho
    */
   private void loadSprite() {
-    try {
-      // Tentar carregar como recurso do classpath (funciona no JAR)
-      InputStream is = getClass().getClassLoader().getResourceAsStream(spritePath);
-      if (is != null) {
-        sprite = ImageIO.read(is);
-        is.close();
-        width = sprite.getWidth();
-        height = sprite.getHeight();
-        System.out.println("✅ Sprite do NPC carregado do JAR: " + name);
-      } else {
-        // Fallback: tentar carregar como arquivo externo (desenvolvimento)
-        String resolvedPath = ResourceResolver.getResourcePath(spritePath);
-        File spriteFile = new File(resolvedPath);
-
-        if (spriteFile.exists()) {
-          sprite = ImageIO.read(spriteFile);
-          width = sprite.getWidth();
-          height = sprite.getHeight();
-          System.out.println("✅ Sprite do NPC carregado do arquivo: " + name);
-        } else {
-          System.err.println("❌ Sprite do NPC não encontrado: " + resolvedPath);
-          createDefaultSprite();
-        }
-      }
-    } catch (IOException e) {
-      System.err.println("❌ Erro ao carregar sprite do NPC: " + e.getMessage());
+    Sprite original = AssetCache.acquire(spritePath);
+    if (original == null) {
+      System.err.println("❌ Sprite do NPC não encontrado: " + spritePath);
       createDefaultSprite();
+      return;
     }
+
+    width = original.getWidth();
+    height = original.getHeight();
+    sprite = AssetCache.acquire(spritePath, scaled(width), scaled(height));
+    spriteFromCache = true;
+    // Só a versão redimensionada fica em uso
+    AssetCache.release(spritePath);
+  }
+
+  /**
+   * Devolve o sprite ao AssetCache (NPC removido do mapa)
+   */
+  public void releaseAssets() {
+    if (spriteFromCache) {
+      AssetCache.release(spritePath, scaled(width), scaled(height));
+      spriteFromCache = false;
+    }
+  }
+
+  /**
+   * Tamanho de desenho do sprite (1.5x o original)
+   */
+  private static int scaled(int size) {
+    return (int) (size * SPRITE_SCALE);
   }
 
   /**
@@ -91,15 +93,17 @@ public abstract class NPC {
   private void createDefaultSprite() {
     width = 48;
     height = 48;
-    sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-    Graphics2D g = sprite.createGraphics();
+    BufferedImage image = new BufferedImage(scaled(width), scaled(height), BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.scale(SPRITE_SCALE, SPRITE_SCALE);
 
-    g.setColor(new Color(100, 100, 200));
+    g.setColor(RenderResources.color(100, 100, 200));
     g.fillRect(14, 10, 20, 28);
-    g.setColor(new Color(255, 200, 150));
+    g.setColor(RenderResources.color(255, 200, 150));
     g.fillOval(16, 5, 16, 16);
 
     g.dispose();
+    sprite = Sprite.of(image);
   }
 
   /**
@@ -123,11 +127,9 @@ public abstract class NPC {
     int screenX = (int) (x - camera.getX());
     int screenY = (int) (y - camera.getY());
 
-    // Desenhar sprite com escala maior (1.5x)
+    // Sprite já vem com escala maior (1.5x)
     if (sprite != null) {
-      int scaledWidth = (int) (width * 1.5);
-      int scaledHeight = (int) (height * 1.5);
-      g.drawImage(sprite, screenX, screenY, scaledWidth, scaledHeight, null);
+      sprite.draw(g, screenX, screenY);
     }
 
     // Desenhar indicador de quest
@@ -150,27 +152,27 @@ public abstract class NPC {
     int indicatorSize = 20;
 
     // Sombra do ícone
-    g.setColor(new Color(0, 0, 0, 100));
+    g.setColor(RenderResources.color(0, 0, 0, 100));
     g.fillOval(indicatorX - indicatorSize / 2 + 2, indicatorY - indicatorSize / 2 + 2, indicatorSize, indicatorSize);
 
     // Fundo do ícone
     if (hasQuestCompleted) {
       // Dourado para quest completa
-      g.setColor(new Color(255, 215, 0));
+      g.setColor(RenderResources.color(255, 215, 0));
     } else {
       // Amarelo para quest disponível
-      g.setColor(new Color(255, 255, 0));
+      g.setColor(RenderResources.color(255, 255, 0));
     }
     g.fillOval(indicatorX - indicatorSize / 2, indicatorY - indicatorSize / 2, indicatorSize, indicatorSize);
 
     // Borda do ícone
-    g.setColor(new Color(150, 120, 0));
-    g.setStroke(new BasicStroke(2));
+    g.setColor(RenderResources.color(150, 120, 0));
+    g.setStroke(RenderResources.stroke(2));
     g.drawOval(indicatorX - indicatorSize / 2, indicatorY - indicatorSize / 2, indicatorSize, indicatorSize);
 
     // Símbolo de exclamação ou interrogação
     g.setColor(Color.BLACK);
-    g.setFont(new Font("Arial", Font.BOLD, 16));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 16));
     if (hasQuestCompleted) {
       g.drawString("?", indicatorX - 5, indicatorY + 6);
     } else {
@@ -185,13 +187,13 @@ public abstract class NPC {
     int promptY = screenY - 15;
     int promptX = screenX + (int) (width * 1.5) / 2; // Ajustado para o tamanho escalado
 
-    g.setColor(new Color(0, 0, 0, 180));
+    g.setColor(RenderResources.color(0, 0, 0, 180));
     g.fillRoundRect(promptX - 12, promptY - 12, 24, 20, 5, 5);
 
     g.setColor(Color.WHITE);
     g.drawRoundRect(promptX - 12, promptY - 12, 24, 20, 5, 5);
 
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     g.drawString("E", promptX - 5, promptY + 4);
   }
 
@@ -6,8 +6,13 @@ import java.util.Iterator;
 import java.util.Random;
 import com.rpggame.entities.*;
 import com.rpggame.enemies.Golem.Golem;
+import com.rpggame.enemies.Golem.GolemStone;
 import com.rpggame.world.*;
 import com.rpggame.core.GamePanel;
+import com.rpggame.core.RenderSnapshot;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
+import com.rpggame.world.RenderResources;
 
 /**
  * Gerenciador de inimigos do jogo.
@@ -16,6 +21,9 @@ public class EnemyManager {
   private ArrayList<Enemy> enemies;
   private ArrayList<GoblinFamily> goblinFamilies;
   private ArrayList<Structure> structures;
+  private SpatialIndex<Enemy> enemyIndex;
+  // Estado quente e efeitos de status dos inimigos deste mundo
+  private final EntityStore store = new EntityStore();
   private Player player;
   private TileMap tileMap;
   private Random random;
@@ -26,6 +34,10 @@ public class EnemyManager {
   private boolean golemSpawned = false;
   private Golem activeGolem = null;
 
+  // Listas reutilizadas na colisão de projéteis
+  private final ArrayList<Enemy> collisionCandidates = new ArrayList<>();
+  private final ArrayList<Enemy> damagedByProjectile = new ArrayList<>();
+
   // Controle de população
   private static final int MIN_ENEMIES = 1;
   private static final int MAX_ENEMIES = 4;
@@ -48,10 +60,12 @@ public class EnemyManager {
     this.enemies = new ArrayList<>();
     this.goblinFamilies = new ArrayList<>();
     this.structures = new ArrayList<>();
+    this.enemyIndex = tileMap != null ? new SpatialIndex<>(tileMap.getWidth(), tileMap.getHeight())
+        : new SpatialIndex<>(GamePanel.DEFAULT_MAP_WIDTH, GamePanel.DEFAULT_MAP_HEIGHT);
     this.player = player;
     this.tileMap = tileMap;
     this.random = new Random();
-    this.goblinCouncil = new GoblinCouncil();
+    this.goblinCouncil = new GoblinCouncil(store);
     this.usedFamilyNames = new java.util.HashSet<>();
   }
 
@@ -66,18 +80,43 @@ public class EnemyManager {
    * Adiciona um inimigo à lista.
    */
   public void addEnemy(Enemy enemy) {
+    if (enemy.getStore() != store) {
+      throw new IllegalArgumentException("Inimigo criado com o EntityStore de outro EnemyManager");
+    }
     enemy.setTileMap(tileMap);
     enemy.setEnemyManager(this); // Configurar referência ao EnemyManager
     enemies.add(enemy);
+    indexEnemy(enemy);
+  }
+
+  /**
+   * Atualiza a posição de um inimigo no índice espacial
+   */
+  private void indexEnemy(Enemy enemy) {
+    enemyIndex.update(enemy, enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+  }
+
+  /**
+   * Store onde os inimigos deste EnemyManager devem ser criados
+   */
+  public EntityStore getStore() {
+    return store;
+  }
+
+  /**
+   * Índice espacial dos inimigos (consultas por raio, retângulo e mais próximo)
+   */
+  public SpatialIndex<Enemy> getEnemyIndex() {
+    return enemyIndex;
   }
 
   /**
    * Spawn de Goblins em posições específicas.
    */
   public void spawnGoblin(double x, double y) {
-    Goblin goblin = new Goblin(x, y);
+    Goblin goblin = new Goblin(store, x, y);
     addEnemy(goblin);
-    System.out.println("Goblin spawnou em: (" + x + ", " + y + ")");
+    Log.debug(LogCategory.WORLD, "Goblin spawnou em: (" + x + ", " + y + ")");
   }
 
   /**
@@ -136,7 +175,7 @@ public class EnemyManager {
 
     // Verificar se Golem morreu e retomar spawn de goblins
     if (activeGolem != null && !activeGolem.isAlive() && familyRespawnTimer == -1) {
-      System.out.println("💀 Golem foi derrotado! Retomando spawn de goblins...");
+      Log.info(LogCategory.COMBAT, "💀 Golem foi derrotado! Retomando spawn de goblins...");
       familyRespawnTimer = FAMILY_RESPAWN_DELAY;
       activeGolem = null;
     }
@@ -151,17 +190,17 @@ public class EnemyManager {
         // Debug: mostrar tempo restante a cada 60 frames (1 segundo)
         if (familyRespawnTimer % 60 == 0) {
           int secondsRemaining = familyRespawnTimer / 60;
-          System.out.println("⏱️ Nova família em " + secondsRemaining + " segundos... (Famílias atuais: "
-              + goblinFamilies.size() + "/" + MAX_FAMILIES + ")");
+          Log.debug(LogCategory.WORLD, () -> "⏱️ Nova família em " + secondsRemaining
+              + " segundos... (Famílias atuais: " + goblinFamilies.size() + "/" + MAX_FAMILIES + ")");
         }
 
         if (familyRespawnTimer == 0 && goblinFamilies.size() < MAX_FAMILIES) {
           // Não spawnar novas famílias se o império estiver ativo
           if (!goblinCouncil.isGoblinEmpireActive()) {
-            System.out.println("🎯 Timer zerou! Chamando spawnNewFamily()...");
+            Log.debug(LogCategory.WORLD, "🎯 Timer zerou! Chamando spawnNewFamily()...");
             spawnNewFamily();
           } else {
-            System.out.println("👑 Império Goblin está ativo - novas famílias não podem surgir!");
+            Log.info(LogCategory.WORLD, "👑 Império Goblin está ativo - novas famílias não podem surgir!");
             familyRespawnTimer = FAMILY_RESPAWN_DELAY; // Resetar timer para tentar depois
           }
         }
@@ -171,6 +210,15 @@ public class EnemyManager {
     // Atualizar lista de goblins para guerra
     updateGoblinWarLists();
 
+    // Posições podem ter mudado fora do update (knockback de habilidades)
+    for (int i = 0; i < enemies.size(); i++) {
+      indexEnemy(enemies.get(i));
+    }
+
+    // Efeitos de status e cooldowns de todos os inimigos, um passe cada
+    store.getEffects().update();
+    store.updateCooldowns();
+
     // Usar cópia da lista para evitar ConcurrentModificationException
     java.util.List<Enemy> enemiesToUpdate = new java.util.ArrayList<>(enemies);
 
@@ -184,7 +232,9 @@ public class EnemyManager {
       } else {
         // Remove inimigos mortos
         enemies.remove(enemy);
-        System.out.println("Inimigo removido da lista");
+        enemyIndex.remove(enemy);
+        enemy.dispose();
+        Log.debug(LogCategory.WORLD, "Inimigo removido da lista");
 
         // Se for um goblin, remover da família e atualizar quest
         if (enemy instanceof Goblin) {
@@ -200,10 +250,23 @@ public class EnemyManager {
       }
     }
 
+    // Aplicar as velocidades definidas pela IA, com colisão
+    store.move(tileMap, GamePanel.TILE_SIZE);
+    for (int i = 0; i < enemies.size(); i++) {
+      indexEnemy(enemies.get(i));
+    }
+
     // Sistema de respawn automático
     manageEnemyPopulation();
   }
 
+  /**
+   * Guarda a posição de todos os inimigos para interpolação no render.
+   */
+  public void storePreviousPositions() {
+    store.storePreviousPositions();
+  }
+
   /**
    * Gerencia a população de inimigos no mapa.
    */
@@ -219,7 +282,7 @@ public class EnemyManager {
     if (currentCount < MIN_ENEMIES) {
       spawnGoblinOnGrass(tileMap);
       respawnTimer = RESPAWN_DELAY; // Reset timer após spawn
-      System.out.println("Respawn imediato! Inimigos: " + (currentCount + 1));
+      Log.debug(LogCategory.WORLD, "Respawn imediato! Inimigos: " + (currentCount + 1));
       return;
     }
 
@@ -231,7 +294,7 @@ public class EnemyManager {
         // 50% de chance de spawnar a cada cycle do timer
         if (Math.random() < 0.5) {
           spawnGoblinOnGrass(tileMap);
-          System.out.println("Respawn programado! Inimigos: " + (currentCount + 1));
+          Log.debug(LogCategory.WORLD, "Respawn programado! Inimigos: " + (currentCount + 1));
         }
 
         // Reset timer
@@ -244,23 +307,47 @@ public class EnemyManager {
   }
 
   /**
-   * Renderiza todos os inimigos.
+   * Copia para o snapshot de renderização os inimigos vivos, as estruturas e
+   * as pedras do Golem (chamado pela thread do jogo ao fim do tick).
    */
-  public void render(Graphics2D g, Camera camera) {
-    for (Enemy enemy : enemies) {
-      if (enemy.isAlive()) {
-        enemy.render(g, camera);
+  public void captureSnapshot(RenderSnapshot snapshot) {
+    for (int i = 0; i < enemies.size(); i++) {
+      Enemy enemy = enemies.get(i);
+      if (!enemy.isAlive()) {
+        continue;
+      }
+      snapshot.addEnemy(enemy);
+      if (enemy instanceof Golem) {
+        java.util.List<GolemStone> stones = ((Golem) enemy).getActiveStones();
+        for (int j = 0; j < stones.size(); j++) {
+          snapshot.addGolemStone(stones.get(j));
+        }
       }
     }
+    for (int i = 0; i < structures.size(); i++) {
+      snapshot.addStructure(structures.get(i));
+    }
   }
 
   /**
    * Renderiza apenas inimigos visíveis pelo jogador.
    */
-  public void render(Graphics2D g, Camera camera, FogOfWar fogOfWar) {
-    for (Enemy enemy : enemies) {
-      if (enemy.isAlive() && isEnemyVisible(enemy, fogOfWar)) {
+  public void render(Graphics2D g, Camera camera, FogOfWar fogOfWar, RenderSnapshot snapshot) {
+    java.util.List<Enemy> visibleEnemies = snapshot.getEnemies();
+    boolean golemVisible = false;
+    for (int i = 0; i < visibleEnemies.size(); i++) {
+      Enemy enemy = visibleEnemies.get(i);
+      if (isEnemyVisible(enemy, fogOfWar)) {
         enemy.render(g, camera);
+        golemVisible |= enemy instanceof Golem;
+      }
+    }
+
+    // Pedras do Golem aparecem junto com ele
+    if (golemVisible) {
+      java.util.List<GolemStone> stones = snapshot.getGolemStones();
+      for (int i = 0; i < stones.size(); i++) {
+        stones.get(i).render(g, camera);
       }
     }
   }
@@ -268,11 +355,13 @@ public class EnemyManager {
   /**
    * Renderiza cones de visão dos goblins (debug)
    */
-  public void renderVisionCones(Graphics2D g, Camera camera) {
-    for (Enemy enemy : enemies) {
-      if (enemy instanceof Goblin && enemy.isAlive()) {
+  public void renderVisionCones(Graphics2D g, Camera camera, RenderSnapshot snapshot) {
+    java.util.List<Enemy> aliveEnemies = snapshot.getEnemies();
+    for (int i = 0; i < aliveEnemies.size(); i++) {
+      Enemy enemy = aliveEnemies.get(i);
+      if (enemy instanceof Goblin) {
         ((Goblin) enemy).renderVisionCone(g, camera);
-      } else if (enemy instanceof Golem && enemy.isAlive()) {
+      } else if (enemy instanceof Golem) {
         renderGolemVisionCone(g, camera, (Golem) enemy);
       }
     }
@@ -289,7 +378,7 @@ public class EnemyManager {
     int detectionRange = 200;
 
     // Círculo de detecção vermelho translúcido
-    g.setColor(new Color(255, 0, 0, 40));
+    g.setColor(RenderResources.color(255, 0, 0, 40));
     g.fillOval(
         screenX + width / 2 - detectionRange,
         screenY + height / 2 - detectionRange,
@@ -297,8 +386,8 @@ public class EnemyManager {
         detectionRange * 2);
 
     // Borda do círculo
-    g.setColor(new Color(255, 0, 0, 120));
-    g.setStroke(new java.awt.BasicStroke(2));
+    g.setColor(RenderResources.color(255, 0, 0, 120));
+    g.setStroke(RenderResources.stroke(2));
     g.drawOval(
         screenX + width / 2 - detectionRange,
         screenY + height / 2 - detectionRange,
@@ -307,16 +396,18 @@ public class EnemyManager {
 
     // Label "GOLEM"
     g.setColor(Color.RED);
-    g.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", java.awt.Font.BOLD, 12));
     g.drawString("GOLEM", screenX + width / 2 - 25, screenY - 10);
   }
 
   /**
    * Renderiza efeitos visuais de ataque dos goblins
    */
-  public void renderAttackEffects(Graphics2D g, Camera camera) {
-    for (Enemy enemy : enemies) {
-      if (enemy instanceof Goblin && enemy.isAlive()) {
+  public void renderAttackEffects(Graphics2D g, Camera camera, RenderSnapshot snapshot) {
+    java.util.List<Enemy> aliveEnemies = snapshot.getEnemies();
+    for (int i = 0; i < aliveEnemies.size(); i++) {
+      Enemy enemy = aliveEnemies.get(i);
+      if (enemy instanceof Goblin) {
         ((Goblin) enemy).renderAttackEffects(g, camera);
       }
     }
@@ -341,29 +432,42 @@ public class EnemyManager {
    * Verifica colisão dos projéteis do jogador com inimigos.
    */
   public void checkProjectileCollisions(ArrayList<Projectile> projectiles) {
-    for (Enemy enemy : enemies) {
-      if (!enemy.isAlive())
-        continue;
-
-      Rectangle enemyBounds = enemy.getBounds();
-
-      Iterator<Projectile> projIterator = projectiles.iterator();
-      while (projIterator.hasNext()) {
-        Projectile projectile = projIterator.next();
-        Rectangle projBounds = projectile.getBounds();
+    if (projectiles.isEmpty()) {
+      return;
+    }
+    damagedByProjectile.clear();
+
+    Iterator<Projectile> projIterator = projectiles.iterator();
+    while (projIterator.hasNext()) {
+      Projectile projectile = projIterator.next();
+      Rectangle projBounds = projectile.getBounds();
+
+      // Apenas inimigos nas células do projétil
+      collisionCandidates.clear();
+      enemyIndex.queryRect(projBounds.x, projBounds.y, projBounds.width, projBounds.height, collisionCandidates);
+
+      for (int i = 0; i < collisionCandidates.size(); i++) {
+        Enemy enemy = collisionCandidates.get(i);
+        // Cada inimigo recebe no máximo um projétil por tick
+        if (!enemy.isAlive() || damagedByProjectile.contains(enemy)) {
+          continue;
+        }
 
-        if (enemyBounds.intersects(projBounds)) {
+        if (enemy.getBounds().intersects(projBounds)) {
           // Dano ao inimigo
           enemy.takeDamage(projectile.getDamage());
+          damagedByProjectile.add(enemy);
 
-          // Remove projétil
+          // Remove projétil e devolve ao pool
           projIterator.remove();
+          Projectile.free(projectile);
 
-          System.out.println("Projétil atingiu inimigo!");
+          Log.debug(LogCategory.COMBAT, "Projétil atingiu inimigo!");
           break; // Projétil só pode atingir um inimigo
         }
       }
     }
+    collisionCandidates.clear();
   }
 
   /**
@@ -384,7 +488,7 @@ public class EnemyManager {
 
       if (playerBounds.intersects(enemyBounds)) {
         // TODO: Implementar sistema de dano ao jogador
-        System.out.println("Jogador colidiu com inimigo!");
+        Log.debug(LogCategory.COMBAT, "Jogador colidiu com inimigo!");
 
         // Empurrar jogador para longe do inimigo (knockback simples)
         double pushX = player.getX() - enemy.getX();
@@ -396,7 +500,7 @@ public class EnemyManager {
           pushY = (pushY / distance) * 20;
 
           // TODO: Aplicar knockback ao jogador
-          System.out.println("Knockback aplicado!");
+          Log.debug(LogCategory.COMBAT, "Knockback aplicado!");
         }
       }
     }
@@ -426,7 +530,7 @@ public class EnemyManager {
     // Inicializar timer de respawn
     respawnTimer = RESPAWN_DELAY;
 
-    System.out.println("Inimigos iniciais spawnados: " + initialCount);
+    Log.info(LogCategory.WORLD, "Inimigos iniciais spawnados: " + initialCount);
   }
 
   /**
@@ -463,18 +567,20 @@ public class EnemyManager {
         initializeVillageStructures();
       }
       familiesInitialized = true;
-      System.out.println("🏞️ Mapa seguro (" + currentMapId + ") - sem goblins");
+      Log.info(LogCategory.WORLD, "🏞️ Mapa seguro (" + currentMapId + ") - sem goblins");
       return;
     }
 
-    System.out.println("Inicializando famílias de goblins...");
+    Log.info(LogCategory.WORLD, "Inicializando famílias de goblins...");
 
     // Limpar inimigos existentes
+    disposeEnemies();
     enemies.clear();
+    enemyIndex.clear();
 
     // Encontrar posições para cabanas
     ArrayList<Point> hutPositions = findGoodHutPositions(tileMap, MAX_FAMILIES);
-    System.out.println("Posições encontradas para cabanas: " + hutPositions.size());
+    Log.info(LogCategory.WORLD, "Posições encontradas para cabanas: " + hutPositions.size());
 
     // Criar famílias
     for (int i = 0; i < hutPositions.size(); i++) {
@@ -492,14 +598,14 @@ public class EnemyManager {
       // Spawnar membros da família
       spawnFamilyMembers(family, tileMap);
 
-      System.out.println("Família " + familyName + " criada em (" + hutPos.x + ", " + hutPos.y + ")");
+      Log.info(LogCategory.WORLD, "Família " + familyName + " criada em (" + hutPos.x + ", " + hutPos.y + ")");
     }
 
     // Configurar guerras entre famílias (chance aleatória)
     setupFamilyWars();
 
     familiesInitialized = true;
-    System.out.println("Sistema de famílias de goblins inicializado!");
+    Log.info(LogCategory.WORLD, "Sistema de famílias de goblins inicializado!");
   }
 
   /**
@@ -510,7 +616,7 @@ public class EnemyManager {
       return;
     }
 
-    System.out.println("Inicializando estruturas do vilarejo...");
+    Log.info(LogCategory.WORLD, "Inicializando estruturas do vilarejo...");
 
     // Igreja - largura reduzida (144x192 pixels)
     structures.add(new Structure(466, 00, "Church", "sprites/curch.png", 144, 192, false));
@@ -529,7 +635,7 @@ public class EnemyManager {
     structures.add(new Structure(612, 936, "Lamp", "sprites/Lamp.png", 48, 48, false));
     structures.add(new Structure(612, 264, "Lamp", "sprites/Lamp.png", 48, 48, false));
 
-    System.out.println("✅ " + structures.size() + " estruturas decorativas adicionadas ao vilarejo");
+    Log.info(LogCategory.WORLD, "✅ " + structures.size() + " estruturas decorativas adicionadas ao vilarejo");
   }
 
   /**
@@ -540,7 +646,8 @@ public class EnemyManager {
     int attempts = 0;
     int maxAttempts = count * 20;
 
-    System.out.println("Procurando " + count + " posições em mapa " + tileMap.getWidth() + "x" + tileMap.getHeight());
+    Log.debug(LogCategory.WORLD,
+        "Procurando " + count + " posições em mapa " + tileMap.getWidth() + "x" + tileMap.getHeight());
 
     while (positions.size() < count && attempts < maxAttempts) {
       // Posição aleatória alinhada com tiles (evitando bordas)
@@ -554,13 +661,13 @@ public class EnemyManager {
       // Verificar se é uma boa posição
       if (isGoodHutPosition(x, y, positions, tileMap)) {
         positions.add(new Point(x, y));
-        System.out.println("Posição válida encontrada: tile (" + tileX + ", " + tileY +
+        Log.debug(LogCategory.WORLD, "Posição válida encontrada: tile (" + tileX + ", " + tileY +
             ") pixel (" + x + ", " + y + ")");
       }
       attempts++;
     }
 
-    System.out.println("Tentativas: " + attempts + "/" + maxAttempts);
+    Log.debug(LogCategory.WORLD, "Tentativas: " + attempts + "/" + maxAttempts);
 
     return positions;
   }
@@ -625,11 +732,11 @@ public class EnemyManager {
       Point spawnPos = findValidGrassSpawnPosition(hutPos, tileMap);
 
       // Criar goblin com personalidade específica
-      Goblin goblin = new Goblin(spawnPos.x, spawnPos.y, familyComposition[i]);
+      Goblin goblin = new Goblin(store, spawnPos.x, spawnPos.y, familyComposition[i]);
       family.addMember(goblin);
       addEnemy(goblin);
 
-      System.out.println("  " + familyComposition[i] + " spawnou em tile (" +
+      Log.debug(LogCategory.WORLD, "  " + familyComposition[i] + " spawnou em tile (" +
           (spawnPos.x / 48) + ", " + (spawnPos.y / 48) + ") centro: (" +
           spawnPos.x + ", " + spawnPos.y + ")");
     }
@@ -672,7 +779,7 @@ public class EnemyManager {
     }
 
     // Fallback: usar posição da cabana se não encontrar tile válido
-    System.out.println("  Aviso: Não foi possível encontrar tile de grama válido, usando posição da cabana");
+    Log.warn(LogCategory.WORLD, "  Aviso: Não foi possível encontrar tile de grama válido, usando posição da cabana");
     return new Point(hutPos.x + 48, hutPos.y + 48);
   }
 
@@ -687,7 +794,7 @@ public class EnemyManager {
           GoblinFamily family1 = goblinFamilies.get(i);
           GoblinFamily family2 = goblinFamilies.get(j);
           family1.declareWarAgainst(family2);
-          System.out.println("Guerra declarada entre " + family1.getFamilyName() +
+          Log.info(LogCategory.WORLD, "Guerra declarada entre " + family1.getFamilyName() +
               " e " + family2.getFamilyName());
         }
       }
@@ -698,21 +805,22 @@ public class EnemyManager {
    * Spawna uma nova família após uma ser derrotada
    */
   private void spawnNewFamily() {
-    System.out.println("\n🔔 spawnNewFamily() CHAMADO! Famílias atuais: " + goblinFamilies.size() + "/" + MAX_FAMILIES);
+    Log.info(LogCategory.WORLD,
+        "\n🔔 spawnNewFamily() CHAMADO! Famílias atuais: " + goblinFamilies.size() + "/" + MAX_FAMILIES);
 
     // Não spawnar em mapas seguros
     if ("village".equals(currentMapId) || "cave".equals(currentMapId)) {
-      System.out.println("❌ Tentativa de spawn em mapa seguro (" + currentMapId + "). Cancelando.");
+      Log.warn(LogCategory.WORLD, "❌ Tentativa de spawn em mapa seguro (" + currentMapId + "). Cancelando.");
       familyRespawnTimer = 600; // Tentar novamente em 10 segundos
       return;
     }
 
     if (goblinFamilies.size() >= MAX_FAMILIES) {
-      System.out.println("❌ Já temos " + MAX_FAMILIES + " famílias. Cancelando spawn.");
+      Log.warn(LogCategory.WORLD, "❌ Já temos " + MAX_FAMILIES + " famílias. Cancelando spawn.");
       return;
     }
 
-    System.out.println("\n🆕 ===== NOVA FAMÍLIA GOBLIN CHEGANDO =====");
+    Log.info(LogCategory.WORLD, "\n🆕 ===== NOVA FAMÍLIA GOBLIN CHEGANDO =====");
 
     // Encontrar posição para nova cabana
     ArrayList<Point> existingPositions = new ArrayList<>();
@@ -723,7 +831,7 @@ public class EnemyManager {
     ArrayList<Point> newHutPositions = findGoodHutPositions(tileMap, 1);
 
     if (newHutPositions.isEmpty()) {
-      System.out.println("⚠️ Não foi possível encontrar posição válida para nova família");
+      Log.warn(LogCategory.WORLD, "⚠️ Não foi possível encontrar posição válida para nova família");
       familyRespawnTimer = 600; // Tentar novamente em 10 segundos
       return;
     }
@@ -742,15 +850,15 @@ public class EnemyManager {
     // Spawnar membros da família
     spawnFamilyMembers(family, tileMap);
 
-    System.out.println("🏕️ " + familyName + " estabeleceu território em (" + hutPos.x + ", " + hutPos.y + ")");
-    System.out.println("==========================================\n");
+    Log.info(LogCategory.WORLD, "🏕️ " + familyName + " estabeleceu território em (" + hutPos.x + ", " + hutPos.y + ")");
+    Log.info(LogCategory.WORLD, "==========================================\n");
 
     // Pequena chance de começar em guerra com família existente (20%)
     if (!goblinFamilies.isEmpty() && random.nextDouble() < 0.2) {
       GoblinFamily enemy = goblinFamilies.get(random.nextInt(goblinFamilies.size()));
       if (enemy != family) {
         family.declareWarAgainst(enemy);
-        System.out.println("⚔️ " + familyName + " já chegou em conflito com " + enemy.getFamilyName() + "!");
+        Log.info(LogCategory.WORLD, "⚔️ " + familyName + " já chegou em conflito com " + enemy.getFamilyName() + "!");
       }
     }
   }
@@ -807,9 +915,10 @@ public class EnemyManager {
   /**
    * Renderiza estruturas
    */
-  public void renderStructures(Graphics2D g, Camera camera) {
-    for (Structure structure : structures) {
-      structure.render(g, camera);
+  public void renderStructures(Graphics2D g, Camera camera, RenderSnapshot snapshot) {
+    java.util.List<Structure> snapshotStructures = snapshot.getStructures();
+    for (int i = 0; i < snapshotStructures.size(); i++) {
+      snapshotStructures.get(i).render(g, camera);
     }
   }
 
@@ -844,7 +953,7 @@ public class EnemyManager {
     for (GoblinFamily family : new java.util.ArrayList<>(goblinFamilies)) {
       Point hutPos = family.getHutPosition();
       if (hutPos.x == structurePos.x && hutPos.y == structurePos.y) {
-        System.out.println("🏚️ Cabana de " + family.getFamilyName() + " foi destruída pelo jogador!");
+        Log.info(LogCategory.WORLD, "🏚️ Cabana de " + family.getFamilyName() + " foi destruída pelo jogador!");
 
         // Matar todos os goblins da família
         java.util.List<com.rpggame.entities.Goblin> familyMembers = new java.util.ArrayList<>();
@@ -873,7 +982,7 @@ public class EnemyManager {
    * Lida com família derrotada - torna a cabana vulnerável
    */
   private void handleFamilyDefeated(GoblinFamily family) {
-    System.out.println("🏴 " + family.getFamilyName() + " foi completamente derrotada!");
+    Log.info(LogCategory.WORLD, "🏴 " + family.getFamilyName() + " foi completamente derrotada!");
 
     // Verificar se é o Império Goblin
     boolean isEmpire = family.getFamilyName().equals("IMPÉRIO GOBLIN");
@@ -890,36 +999,36 @@ public class EnemyManager {
     goblinFamilies.remove(family);
 
     // DEBUG: Verificar estado das famílias
-    System.out.println("📊 Famílias restantes: " + goblinFamilies.size());
-    System.out.println("🗺️ Mapa atual: " + currentMapId);
-    System.out.println("🗿 Golem já foi spawnado? " + golemSpawned);
+    Log.debug(LogCategory.WORLD, "📊 Famílias restantes: " + goblinFamilies.size());
+    Log.debug(LogCategory.WORLD, "🗺️ Mapa atual: " + currentMapId);
+    Log.debug(LogCategory.WORLD, "🗿 Golem já foi spawnado? " + golemSpawned);
 
     // Verificar se todas as famílias foram derrotadas e spawnar o Golem
     // Aceitar tanto "goblin_territories" quanto "goblin_territories_25x25"
     boolean isGoblinMap = currentMapId != null && currentMapId.startsWith("goblin_territories");
 
     if (goblinFamilies.isEmpty() && !golemSpawned && isGoblinMap) {
-      System.out.println("✅ TODAS AS CONDIÇÕES ATENDIDAS! Tentando spawnar Golem...");
+      Log.info(LogCategory.WORLD, "✅ TODAS AS CONDIÇÕES ATENDIDAS! Tentando spawnar Golem...");
       checkAndSpawnGolem();
     } else {
-      System.out.println("❌ Condições para spawn do Golem não atendidas:");
+      Log.debug(LogCategory.WORLD, "❌ Condições para spawn do Golem não atendidas:");
       if (!goblinFamilies.isEmpty())
-        System.out.println("   - Ainda há " + goblinFamilies.size() + " família(s)");
+        Log.debug(LogCategory.WORLD, "   - Ainda há " + goblinFamilies.size() + " família(s)");
       if (golemSpawned)
-        System.out.println("   - Golem já foi spawnado");
+        Log.debug(LogCategory.WORLD, "   - Golem já foi spawnado");
       if (!isGoblinMap)
-        System.out.println("   - Mapa incorreto: " + currentMapId);
+        Log.debug(LogCategory.WORLD, "   - Mapa incorreto: " + currentMapId);
     }
 
     // Iniciar timer de respawn de nova família (3 minutos)
     // Mas NÃO respawnar se o império foi derrotado
     if (!isEmpire && goblinFamilies.size() < MAX_FAMILIES) {
       familyRespawnTimer = FAMILY_RESPAWN_DELAY;
-      System.out.println("⏳ Nova família goblin aparecerá em 3 minutos...");
+      Log.info(LogCategory.WORLD, "⏳ Nova família goblin aparecerá em 3 minutos...");
     } else if (isEmpire) {
       // Após império ser derrotado, permitir respawn de novas famílias normais
       familyRespawnTimer = FAMILY_RESPAWN_DELAY;
-      System.out.println("⏳ Novas famílias goblin surgirão em 3 minutos...");
+      Log.info(LogCategory.WORLD, "⏳ Novas famílias goblin surgirão em 3 minutos...");
     }
 
     // Encontrar a cabana desta família e torná-la vulnerável (se ainda não foi
@@ -928,7 +1037,7 @@ public class EnemyManager {
     for (Structure structure : structures) {
       if (structure.getX() == hutPos.x && structure.getY() == hutPos.y && !structure.isDestroyed()) {
         structure.makeVulnerable();
-        System.out.println("🏚️ A cabana de " + family.getFamilyName() + " agora está vulnerável!");
+        Log.info(LogCategory.WORLD, "🏚️ A cabana de " + family.getFamilyName() + " agora está vulnerável!");
         break;
       }
     }
@@ -941,7 +1050,7 @@ public class EnemyManager {
     if (random.nextDouble() < 0.5) {
       spawnGolem();
     } else {
-      System.out.println("🗿 O Guardião do Equilíbrio não surgiu... o ecossistema permanece em paz.");
+      Log.info(LogCategory.WORLD, "🗿 O Guardião do Equilíbrio não surgiu... o ecossistema permanece em paz.");
     }
   }
 
@@ -991,7 +1100,7 @@ public class EnemyManager {
    * Spawna o boss Golem em local fora do campo de visão do player
    */
   private void spawnGolem() {
-    System.out.println("\n" +
+    Log.info(LogCategory.WORLD, "\n" +
         "═══════════════════════════════════════════════════\n" +
         "🗿 O GOLEM DESPERTA! 🗿\n" +
         "Guardião do Equilíbrio do Ecossistema\n" +
@@ -1031,12 +1140,12 @@ public class EnemyManager {
     if (!foundSpot) {
       spawnX = (tileMap.getWidth() / 2) * GamePanel.TILE_SIZE;
       spawnY = (tileMap.getHeight() / 2) * GamePanel.TILE_SIZE;
-      System.out.println("⚠️ Não encontrou posição escondida, usando centro do mapa");
+      Log.warn(LogCategory.WORLD, "⚠️ Não encontrou posição escondida, usando centro do mapa");
     } else {
-      System.out.println("✅ Posição escondida encontrada após " + attempts + " tentativas");
+      Log.info(LogCategory.WORLD, "✅ Posição escondida encontrada após " + attempts + " tentativas");
     }
 
-    activeGolem = new Golem(spawnX, spawnY);
+    activeGolem = new Golem(store, spawnX, spawnY);
     activeGolem.setTileMap(tileMap);
     activeGolem.setEnemyManager(this);
 
@@ -1046,9 +1155,9 @@ public class EnemyManager {
     // PAUSAR spawn de goblins enquanto Golem está vivo
     familyRespawnTimer = -1; // Timer negativo = pausado
 
-    System.out.println("✅ Golem criado e adicionado à lista de inimigos!");
-    System.out.println("📍 Posição: (" + spawnX + ", " + spawnY + ")");
-    System.out.println("⏸️ Spawn de goblins PAUSADO até Golem ser derrotado");
+    Log.info(LogCategory.WORLD, "✅ Golem criado e adicionado à lista de inimigos!");
+    Log.info(LogCategory.WORLD, "📍 Posição: (" + spawnX + ", " + spawnY + ")");
+    Log.info(LogCategory.WORLD, "⏸️ Spawn de goblins PAUSADO até Golem ser derrotado");
   }
 
   /**
@@ -1091,7 +1200,7 @@ public class EnemyManager {
     }
 
     if (empire == null) {
-      System.out.println("⚠️ Erro: Império não encontrado!");
+      Log.warn(LogCategory.WORLD, "⚠️ Erro: Império não encontrado!");
       return;
     }
 
@@ -1105,7 +1214,7 @@ public class EnemyManager {
 
     // Eliminar todos os goblins das outras famílias
     for (GoblinFamily family : toRemove) {
-      System.out.println("💀 Eliminando família: " + family.getFamilyName());
+      Log.info(LogCategory.WORLD, "💀 Eliminando família: " + family.getFamilyName());
 
       // Destruir todos os membros
       for (com.rpggame.entities.Goblin goblin : family.getMembers()) {
@@ -1121,34 +1230,27 @@ public class EnemyManager {
         if (structure.getX() == hutPos.x && structure.getY() == hutPos.y && !structure.isDestroyed()) {
           structure.makeVulnerable();
           structure.takeDamage(99999); // Destruir imediatamente
-          System.out.println("🏚️ Cabana de " + family.getFamilyName() + " destruída!");
+          Log.info(LogCategory.WORLD, "🏚️ Cabana de " + family.getFamilyName() + " destruída!");
           break;
         }
       }
     }
 
-    System.out.println("✅ Apenas o " + empire.getFamilyName() + " permanece!");
-    System.out.println("   Total de goblins no império: " + empire.getMembers().size());
+    Log.info(LogCategory.WORLD, "✅ Apenas o " + empire.getFamilyName() + " permanece!");
+    Log.info(LogCategory.WORLD, "   Total de goblins no império: " + empire.getMembers().size());
   }
 
   /**
-   * Atualiza lista de goblins para cada goblin (para sistema de guerra)
+   * Passa o conselho para cada goblin (para sistema de guerra). Os inimigos de
+   * guerra são encontrados pelo índice espacial.
    */
   private void updateGoblinWarLists() {
-    java.util.List<Goblin> allGoblins = new java.util.ArrayList<>();
-
-    // Coletar todos os goblins vivos
-    for (Enemy enemy : enemies) {
+    for (int i = 0; i < enemies.size(); i++) {
+      Enemy enemy = enemies.get(i);
       if (enemy instanceof Goblin && enemy.isAlive()) {
-        allGoblins.add((Goblin) enemy);
+        ((Goblin) enemy).setGoblinCouncil(goblinCouncil);
       }
     }
-
-    // Passar a lista e o conselho para cada goblin
-    for (Goblin goblin : allGoblins) {
-      goblin.setAllGoblins(allGoblins);
-      goblin.setGoblinCouncil(goblinCouncil);
-    }
   }
 
   /**
@@ -1168,11 +1270,12 @@ public class EnemyManager {
     int err = dx - dy;
     int x = tileX1;
     int y = tileY1;
+    TileGrid grid = tileMap.getGrid();
 
     while (true) {
       // Verificar se o tile atual é uma parede (exceto origem e destino)
       if ((x != tileX1 || y != tileY1) && (x != tileX2 || y != tileY2)) {
-        if (!tileMap.isWalkable(x, y)) {
+        if (!grid.isWalkable(x, y)) {
           return false; // Há uma parede no caminho
         }
       }
@@ -1195,15 +1298,33 @@ public class EnemyManager {
     return true; // Linha de visão clara
   }
 
+  /**
+   * Tira do jogo todos os inimigos da lista (sprites e slots do EntityStore)
+   */
+  private void disposeEnemies() {
+    for (Enemy enemy : enemies) {
+      enemy.dispose();
+    }
+  }
+
   /**
    * Limpa todos os inimigos para troca de mapa
    */
   public void clearAllEnemies() {
+    disposeEnemies();
     enemies.clear();
+    if (tileMap != null && !enemyIndex.hasSize(tileMap.getWidth(), tileMap.getHeight())) {
+      enemyIndex = new SpatialIndex<>(tileMap.getWidth(), tileMap.getHeight()); // Mapa de outro tamanho
+    } else {
+      enemyIndex.clear();
+    }
     goblinFamilies.clear();
+    for (Structure structure : structures) {
+      structure.releaseAssets();
+    }
     structures.clear();
     familiesInitialized = false;
-    System.out.println("Todos os inimigos foram removidos");
+    Log.info(LogCategory.WORLD, "Todos os inimigos foram removidos");
   }
 
   /**
@@ -0,0 +1,380 @@
+package com.rpggame.systems;
+
+import com.rpggame.world.TileGrid;
+import com.rpggame.world.TileMap;
+
+/**
+ * Estado "quente" das entidades (posição, velocidade, vida, flags e cooldown)
+ * guardado em arrays paralelos de primitivos, um slot por entidade. Os passes
+ * de cooldown, movimento e posição anterior percorrem esses arrays em
+ * sequência, em vez de visitar um objeto espalhado pela heap para cada inimigo.
+ * As flags de status são ligadas e desligadas pelo StatusEffects.
+ *
+ * Entidades são referenciadas por handles com geração: quando um slot é
+ * liberado a geração sobe, e handles antigos deixam de ser válidos mesmo que o
+ * slot seja reaproveitado por outra entidade.
+ *
+ * Cada mundo tem o seu store (o EnemyManager cria um), então entidades de
+ * mundos diferentes nunca dividem slots. Só a thread do jogo altera o store.
+ */
+public class EntityStore {
+  // Flags
+  public static final int ALIVE = 1;
+  public static final int AGGRESSIVE = 1 << 1;
+  public static final int FROZEN = 1 << 2;
+  public static final int FEARED = 1 << 3;
+  public static final int CHARMED = 1 << 4;
+  public static final int STUNNED = 1 << 5;
+  public static final int NO_COLLISION = 1 << 6; // Anda sem checar tiles (spawn safety)
+  public static final int SLOWED = 1 << 7;
+  public static final int BURNING = 1 << 8;
+  public static final int BLEEDING = 1 << 9;
+
+  // Congelado ou atordoado: não age, não anda e o cooldown não corre
+  public static final int DISABLED = FROZEN | STUNNED;
+
+  // Handle = geração nos bits altos, slot nos 20 bits baixos (sempre positivo)
+  public static final int NO_HANDLE = 0;
+  private static final int SLOT_BITS = 20;
+  private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+  private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private int capacity;
+  private int used; // Slots já usados alguma vez; os passes vão de 0 a used
+  private int count;
+
+  private int[] generation;
+  private int[] freeSlots;
+  private int freeCount;
+
+  private double[] x, y;
+  private double[] dx, dy;
+  private double[] prevX, prevY;
+  private double[] fearDx, fearDy; // Velocidade de fuga enquanto com medo
+  private double[] speedScale; // Lentidão aplicada no movimento (1 = normal)
+  private int[] width, height;
+  private int[] health;
+  private int[] flags;
+  private int[] attackCooldown; // Em ticks
+
+  private final StatusEffects effects;
+
+  public EntityStore() {
+    allocate(INITIAL_CAPACITY);
+    effects = new StatusEffects(this);
+  }
+
+  /**
+   * Efeitos de status ativos das entidades deste store
+   */
+  public StatusEffects getEffects() {
+    return effects;
+  }
+
+  /**
+   * Cria uma entidade viva na posição informada e retorna o seu handle
+   */
+  public int create(double startX, double startY) {
+    int slot;
+    if (freeCount > 0) {
+      slot = freeSlots[--freeCount];
+    } else {
+      if (used == capacity) {
+        if (capacity == SLOT_MASK + 1) {
+          throw new IllegalStateException("EntityStore cheio (" + capacity + " entidades)");
+        }
+        allocate(Math.min(capacity * 2, SLOT_MASK + 1));
+      }
+      slot = used++;
+      generation[slot] = 1;
+    }
+    count++;
+
+    x[slot] = startX;
+    y[slot] = startY;
+    prevX[slot] = startX;
+    prevY[slot] = startY;
+    dx[slot] = 0;
+    dy[slot] = 0;
+    fearDx[slot] = 0;
+    fearDy[slot] = 0;
+    speedScale[slot] = 1.0;
+    width[slot] = 0;
+    height[slot] = 0;
+    health[slot] = 0;
+    flags[slot] = ALIVE;
+    attackCooldown[slot] = 0;
+    return (generation[slot] << SLOT_BITS) | slot;
+  }
+
+  /**
+   * Libera o slot da entidade. Handles antigos para ele deixam de ser válidos.
+   */
+  public void destroy(int handle) {
+    if (!isValid(handle)) {
+      return;
+    }
+    int slot = slotOf(handle);
+    flags[slot] = 0;
+    // Geração 0 nunca é usada, então NO_HANDLE nunca é válido
+    generation[slot] = (generation[slot] & GENERATION_MASK) == GENERATION_MASK ? 1 : generation[slot] + 1;
+    freeSlots[freeCount++] = slot;
+    count--;
+  }
+
+  public boolean isValid(int handle) {
+    int slot = handle & SLOT_MASK;
+    return handle != NO_HANDLE && slot < used && generation[slot] == handle >>> SLOT_BITS;
+  }
+
+  public static int slotOf(int handle) {
+    return handle & SLOT_MASK;
+  }
+
+  /**
+   * Número de entidades no store
+   */
+  public int size() {
+    return count;
+  }
+
+  // ---- Passes sobre todas as entidades vivas ----
+
+  /**
+   * Guarda a posição atual como posição do tick anterior (interpolação)
+   */
+  public void storePreviousPositions() {
+    for (int i = 0; i < used; i++) {
+      if ((flags[i] & ALIVE) != 0) {
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+      }
+    }
+  }
+
+  /**
+   * Desconta o cooldown de ataque de quem não está congelado nem atordoado
+   */
+  public void updateCooldowns() {
+    for (int i = 0; i < used; i++) {
+      if ((flags[i] & (ALIVE | DISABLED)) == ALIVE && attackCooldown[i] > 0) {
+        attackCooldown[i]--;
+      }
+    }
+  }
+
+  /**
+   * Aplica a velocidade de cada entidade (com lentidão), eixo por eixo,
+   * parando no eixo que colidir com um tile não caminhável
+   */
+  public void move(TileMap tileMap, int tileSize) {
+    for (int i = 0; i < used; i++) {
+      int f = flags[i];
+      if ((f & (ALIVE | DISABLED)) != ALIVE) {
+        continue;
+      }
+      double scale = speedScale[i];
+
+      if (tileMap == null || (f & NO_COLLISION) != 0) {
+        x[i] += dx[i] * scale;
+        y[i] += dy[i] * scale;
+        continue;
+      }
+
+      double newX = x[i] + dx[i] * scale;
+      if (fits(tileMap, tileSize, newX, y[i], width[i], height[i])) {
+        x[i] = newX;
+      } else {
+        dx[i] = 0; // Parar movimento horizontal se colidir
+      }
+
+      double newY = y[i] + dy[i] * scale;
+      if (fits(tileMap, tileSize, x[i], newY, width[i], height[i])) {
+        y[i] = newY;
+      } else {
+        dy[i] = 0; // Parar movimento vertical se colidir
+      }
+    }
+  }
+
+  /**
+   * Os 4 cantos da caixa estão em tiles caminháveis (bitset do TileGrid)
+   */
+  private static boolean fits(TileMap tileMap, int tileSize, double left, double top, int w, int h) {
+    int leftTile = (int) (left / tileSize);
+    int rightTile = (int) ((left + w - 1) / tileSize);
+    int topTile = (int) (top / tileSize);
+    int bottomTile = (int) ((top + h - 1) / tileSize);
+    TileGrid grid = tileMap.getGrid();
+    return grid.isWalkable(leftTile, topTile) &&
+        grid.isWalkable(rightTile, topTile) &&
+        grid.isWalkable(leftTile, bottomTile) &&
+        grid.isWalkable(rightTile, bottomTile);
+  }
+
+  // ---- Acesso por handle ----
+  // Handles de entidades que já saíram falham na checagem de geração: leituras
+  // devolvem valores neutros (0, sem flags) e escritas são ignoradas, em vez de
+  // tocar o slot que pode já ser de outra entidade.
+
+  /**
+   * Slot do handle, ou -1 se o handle não é mais válido
+   */
+  private int slotIfValid(int handle) {
+    return isValid(handle) ? slotOf(handle) : -1;
+  }
+
+  public double getX(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : x[slot];
+  }
+
+  public double getY(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : y[slot];
+  }
+
+  public void setPosition(int handle, double newX, double newY) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      x[slot] = newX;
+      y[slot] = newY;
+    }
+  }
+
+  public double getPrevX(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : prevX[slot];
+  }
+
+  public double getPrevY(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : prevY[slot];
+  }
+
+  public double getDx(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : dx[slot];
+  }
+
+  public double getDy(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : dy[slot];
+  }
+
+  public void setVelocity(int handle, double newDx, double newDy) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      dx[slot] = newDx;
+      dy[slot] = newDy;
+    }
+  }
+
+  public void setFearVelocity(int handle, double newDx, double newDy) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      fearDx[slot] = newDx;
+      fearDy[slot] = newDy;
+    }
+  }
+
+  /**
+   * Usa a velocidade de fuga como velocidade do tick
+   */
+  public void applyFearVelocity(int handle) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      dx[slot] = fearDx[slot];
+      dy[slot] = fearDy[slot];
+    }
+  }
+
+  public void setSpeedScale(int handle, double scale) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      speedScale[slot] = scale;
+    }
+  }
+
+  public void setSize(int handle, int newWidth, int newHeight) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      width[slot] = newWidth;
+      height[slot] = newHeight;
+    }
+  }
+
+  public int getHealth(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : health[slot];
+  }
+
+  public void setHealth(int handle, int value) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      health[slot] = value;
+    }
+  }
+
+  public boolean hasFlag(int handle, int flag) {
+    int slot = slotIfValid(handle);
+    return slot >= 0 && (flags[slot] & flag) != 0;
+  }
+
+  public void setFlag(int handle, int flag, boolean value) {
+    int slot = slotIfValid(handle);
+    if (slot < 0) {
+      return;
+    }
+    if (value) {
+      flags[slot] |= flag;
+    } else {
+      flags[slot] &= ~flag;
+    }
+  }
+
+  public int getAttackCooldown(int handle) {
+    int slot = slotIfValid(handle);
+    return slot < 0 ? 0 : attackCooldown[slot];
+  }
+
+  public void setAttackCooldown(int handle, int ticks) {
+    int slot = slotIfValid(handle);
+    if (slot >= 0) {
+      attackCooldown[slot] = ticks;
+    }
+  }
+
+  /**
+   * Aumenta todos os arrays para a nova capacidade, mantendo os dados
+   */
+  private void allocate(int newCapacity) {
+    generation = grow(generation, newCapacity);
+    freeSlots = grow(freeSlots, newCapacity);
+    x = grow(x, newCapacity);
+    y = grow(y, newCapacity);
+    dx = grow(dx, newCapacity);
+    dy = grow(dy, newCapacity);
+    prevX = grow(prevX, newCapacity);
+    prevY = grow(prevY, newCapacity);
+    fearDx = grow(fearDx, newCapacity);
+    fearDy = grow(fearDy, newCapacity);
+    speedScale = grow(speedScale, newCapacity);
+    width = grow(width, newCapacity);
+    height = grow(height, newCapacity);
+    health = grow(health, newCapacity);
+    flags = grow(flags, newCapacity);
+    attackCooldown = grow(attackCooldown, newCapacity);
+    capacity = newCapacity;
+  }
+
+  private static int[] grow(int[] array, int size) {
+    return array == null ? new int[size] : java.util.Arrays.copyOf(array, size);
+  }
+
+  private static double[] grow(double[] array, int size) {
+    return array == null ? new double[size] : java.util.Arrays.copyOf(array, size);
+  }
+}
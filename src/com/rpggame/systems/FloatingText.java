@@ -3,6 +3,7 @@ package com.rpggame.systems;
 import java.awt.*;
 import com.rpggame.world.Camera;
 import com.rpggame.core.Game;
+import com.rpggame.world.RenderResources;
 
 /**
  * Classe para representar texto flutuante temporário (evasão, dano, etc.)
@@ -16,7 +17,35 @@ public class FloatingText {
   private boolean active;
   private double velocityY;
 
+  // Instâncias reaproveitadas entre acertos (ver obtain/free)
+  private static final ObjectPool<FloatingText> POOL = new ObjectPool<>("FloatingText", 128, FloatingText::new);
+
   public FloatingText(double x, double y, String text, Color color) {
+    init(x, y, text, color);
+  }
+
+  private FloatingText() {
+  }
+
+  /**
+   * Texto do pool, já inicializado. Deve voltar com free() quando sai da
+   * lista de textos.
+   */
+  public static FloatingText obtain(double x, double y, String text, Color color) {
+    FloatingText floatingText = POOL.obtain();
+    floatingText.init(x, y, text, color);
+    return floatingText;
+  }
+
+  /**
+   * Devolve o texto ao pool (fica inativo)
+   */
+  public static void free(FloatingText floatingText) {
+    floatingText.active = false;
+    POOL.free(floatingText);
+  }
+
+  private void init(double x, double y, String text, Color color) {
     this.x = x;
     this.y = y;
     this.text = text;
@@ -56,12 +85,11 @@ public class FloatingText {
 
       // Calcular transparência baseada no tempo de vida
       float alpha = 1.0f - ((float) currentLife / lifetime);
-      Color fadeColor = new Color(color.getRed(), color.getGreen(), color.getBlue(),
-          (int) (alpha * 255));
+      Color fadeColor = RenderResources.withAlpha(color, (int) (alpha * 255));
 
       // Configurar fonte e cor
       g.setColor(fadeColor);
-      g.setFont(new Font("Arial", Font.BOLD, 14));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
       FontMetrics fm = g.getFontMetrics();
 
       // Centralizar o texto
@@ -69,7 +97,7 @@ public class FloatingText {
       g.drawString(text, screenX - textWidth / 2, screenY);
 
       // Adicionar contorno para melhor visibilidade
-      g.setColor(new Color(0, 0, 0, (int) (alpha * 180)));
+      g.setColor(RenderResources.color(0, 0, 0, (int) (alpha * 180)));
       g.drawString(text, screenX - textWidth / 2 + 1, screenY + 1);
     }
   }
@@ -38,6 +38,13 @@ public class GoblinCouncil {
 
     private Random random = new Random();
 
+    // Store do EnemyManager dono do conselho (novos membros do império)
+    private final EntityStore store;
+
+    public GoblinCouncil(EntityStore store) {
+        this.store = store;
+    }
+
     /**
      * Atualiza o sistema do conselho
      */
@@ -232,7 +239,7 @@ public class GoblinCouncil {
                     ? com.rpggame.entities.GoblinPersonality.COMMON
                     : com.rpggame.entities.GoblinPersonality.AGGRESSIVE;
 
-            com.rpggame.entities.Goblin newMember = new com.rpggame.entities.Goblin(
+            com.rpggame.entities.Goblin newMember = new com.rpggame.entities.Goblin(store,
                     empire.getHutPosition().x + random.nextInt(200) - 100,
                     empire.getHutPosition().y + random.nextInt(200) - 100,
                     personality);
@@ -1,19 +1,50 @@
 package com.rpggame.systems;
 
 import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Gerencia a reprodução de músicas de fundo no jogo
+ * Gerencia a reprodução de músicas de fundo no jogo.
+ *
+ * As músicas são tocadas em streaming por uma SourceDataLine numa thread de
+ * áudio própria ("Music"): o arquivo é lido em blocos de BLOCK_FRAMES quadros
+ * e a linha guarda só LINE_BUFFER_BLOCKS blocos à frente, então a memória
+ * não depende da duração da faixa. Quem chama (o loop do jogo na troca de
+ * mapa) só registra o pedido; abrir o arquivo acontece na thread de áudio.
+ *
+ * No fim do arquivo a faixa é reaberta dentro do mesmo bloco (loop sem
+ * intervalo). Trocar de faixa faz crossfade de CROSSFADE_MS entre as duas;
+ * parar faz um fade curto. Faixas em outra taxa ou com um canal são
+ * convertidas para MIX_FORMAT na mixagem.
  */
 public class MusicManager {
-  private Clip currentClip;
-  private String currentTrack;
+  private static final float MIX_RATE = 44100f;
+  private static final AudioFormat MIX_FORMAT = new AudioFormat(MIX_RATE, 16, 2, true, false);
+  private static final int BLOCK_FRAMES = 2048; // ~46ms por escrita na linha
+  private static final int LINE_BUFFER_BLOCKS = 4; // ~186ms bufferizados na linha
+  private static final int CROSSFADE_MS = 1500;
+  private static final int STOP_FADE_MS = 300;
+
   private Map<String, String> musicFiles;
-  private float volume = 0.7f; // Volume padrão (0.0 a 1.0)
+  private volatile float volume = 0.7f; // Volume padrão (0.0 a 1.0)
+
+  // Pedido do jogo para a thread de áudio (protegido por lock)
+  private final Object lock = new Object();
+  private String currentTrack; // null = silêncio
+  private int requestVersion = 0;
+  private int requestFadeFrames = 0;
+  private boolean paused = false;
+  private boolean audioUnavailable = false; // Sem saída de áudio: ignorar pedidos
+  private Thread audioThread; // null = parada (só existe enquanto há som)
 
   public MusicManager() {
     this.musicFiles = new HashMap<>();
@@ -41,12 +72,6 @@ public class MusicManager {
       return;
     }
 
-    // Se já está tocando a mesma música, não fazer nada
-    if (currentTrack != null && currentTrack.equals(musicPath)) {
-      return;
-    }
-
-    stopMusic();
     playMusic(musicPath);
   }
 
@@ -54,72 +79,64 @@ public class MusicManager {
    * Toca uma música diretamente pelo caminho do arquivo
    */
   public void playMusicByPath(String filePath) {
-    // Se já está tocando a mesma música, não fazer nada
-    if (currentTrack != null && currentTrack.equals(filePath)) {
-      return;
-    }
-
-    stopMusic();
     playMusic(filePath);
   }
 
   /**
-   * Toca uma música
+   * Toca uma música (com crossfade se outra estiver tocando). Retorna na
+   * hora: o arquivo é aberto pela thread de áudio.
    */
   private void playMusic(String filePath) {
-    try {
-      // Tentar carregar o arquivo de áudio
-      File audioFile = new File(filePath);
+    synchronized (lock) {
+      // Se já está tocando a mesma música, não fazer nada
+      if (filePath.equals(currentTrack) || audioUnavailable) {
+        return;
+      }
 
-      if (!audioFile.exists()) {
+      if (!new File(filePath).exists()) {
         System.err.println("❌ Arquivo de música não encontrado: " + filePath);
         return;
       }
 
-      AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-      currentClip = AudioSystem.getClip();
-      currentClip.open(audioStream);
-
-      // Configurar volume
-      setVolume(volume);
-
-      // Loop infinito
-      currentClip.loop(Clip.LOOP_CONTINUOUSLY);
-      currentClip.start();
-
-      currentTrack = filePath;
+      request(filePath, CROSSFADE_MS);
+      paused = false;
+      if (audioThread == null) {
+        audioThread = new Thread(this::runAudio, "Music");
+        audioThread.setDaemon(true);
+        audioThread.start();
+      }
       System.out.println("🎵 Tocando: " + filePath);
-
-    } catch (UnsupportedAudioFileException e) {
-      System.err.println("❌ Formato de áudio não suportado: " + filePath);
-      System.err.println("   Nota: Java suporta nativamente .wav, .aiff, .au");
-      System.err.println("   Para MP3, é necessário converter para WAV ou usar biblioteca externa");
-    } catch (IOException e) {
-      System.err.println("❌ Erro ao ler arquivo de áudio: " + e.getMessage());
-    } catch (LineUnavailableException e) {
-      System.err.println("❌ Linha de áudio não disponível: " + e.getMessage());
     }
   }
 
   /**
-   * Para a música atual
+   * Para a música atual (com um fade curto)
    */
   public void stopMusic() {
-    if (currentClip != null && currentClip.isRunning()) {
-      currentClip.stop();
-      currentClip.close();
-      System.out.println("⏹️ Música parada: " + currentTrack);
+    synchronized (lock) {
+      if (currentTrack != null) {
+        System.out.println("⏹️ Música parada: " + currentTrack);
+        request(null, STOP_FADE_MS);
+        paused = false;
+      }
     }
-    currentClip = null;
-    currentTrack = null;
+  }
+
+  private void request(String filePath, int fadeMs) {
+    currentTrack = filePath;
+    requestFadeFrames = Math.max(1, (int) (fadeMs * MIX_RATE / 1000));
+    requestVersion++;
+    lock.notifyAll();
   }
 
   /**
    * Pausa a música
    */
   public void pauseMusic() {
-    if (currentClip != null && currentClip.isRunning()) {
-      currentClip.stop();
+    synchronized (lock) {
+      if (currentTrack != null) {
+        paused = true;
+      }
     }
   }
 
@@ -127,27 +144,17 @@ public class MusicManager {
    * Resume a música
    */
   public void resumeMusic() {
-    if (currentClip != null && !currentClip.isRunning()) {
-      currentClip.start();
+    synchronized (lock) {
+      paused = false;
+      lock.notifyAll();
     }
   }
 
   /**
-   * Define o volume (0.0 a 1.0)
+   * Define o volume (0.0 a 1.0), aplicado no próximo bloco mixado
    */
   public void setVolume(float volume) {
     this.volume = Math.max(0.0f, Math.min(1.0f, volume));
-
-    if (currentClip != null && currentClip.isOpen()) {
-      try {
-        FloatControl volumeControl = (FloatControl) currentClip.getControl(FloatControl.Type.MASTER_GAIN);
-        // Converter de 0.0-1.0 para decibéis
-        float dB = (float) (Math.log(this.volume) / Math.log(10.0) * 20.0);
-        volumeControl.setValue(dB);
-      } catch (Exception e) {
-        System.err.println("⚠️ Não foi possível ajustar o volume: " + e.getMessage());
-      }
-    }
   }
 
   /**
@@ -161,7 +168,9 @@ public class MusicManager {
    * Verifica se há música tocando
    */
   public boolean isPlaying() {
-    return currentClip != null && currentClip.isRunning();
+    synchronized (lock) {
+      return currentTrack != null && !paused && !audioUnavailable;
+    }
   }
 
   /**
@@ -171,4 +180,286 @@ public class MusicManager {
     stopMusic();
     System.out.println("🎵 MusicManager finalizado");
   }
+
+  // ===================== Thread de áudio =====================
+
+  /**
+   * Mixa as faixas ativas em blocos e escreve na linha; a escrita bloqueia
+   * quando a linha está cheia, o que dá o ritmo da thread. Termina quando
+   * não há pedido nem faixa soando.
+   */
+  private void runAudio() {
+    List<Track> tracks = new ArrayList<>(2);
+    float[] mix = new float[BLOCK_FRAMES * 2];
+    byte[] out = new byte[BLOCK_FRAMES * MIX_FORMAT.getFrameSize()];
+    int seenVersion = -1;
+    SourceDataLine line = null;
+
+    try {
+      line = AudioSystem.getSourceDataLine(MIX_FORMAT);
+      line.open(MIX_FORMAT, out.length * LINE_BUFFER_BLOCKS);
+      line.start();
+
+      while (true) {
+        String target = null;
+        int fadeFrames = 0;
+        boolean changed = false;
+        synchronized (lock) {
+          if (paused) {
+            line.stop();
+            while (paused) {
+              lock.wait();
+            }
+            line.start();
+          }
+          if (requestVersion != seenVersion) {
+            seenVersion = requestVersion;
+            target = currentTrack;
+            fadeFrames = requestFadeFrames;
+            changed = true;
+          } else if (tracks.isEmpty() && currentTrack == null) {
+            audioThread = null;
+            break;
+          }
+        }
+
+        if (changed) {
+          retarget(tracks, target, fadeFrames);
+        }
+
+        Arrays.fill(mix, 0f);
+        float gain = volume;
+        for (Iterator<Track> it = tracks.iterator(); it.hasNext();) {
+          Track track = it.next();
+          if (!track.mixInto(mix, BLOCK_FRAMES, gain) || track.isSilent()) {
+            track.close();
+            it.remove();
+          }
+        }
+
+        for (int i = 0; i < mix.length; i++) {
+          int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, (int) mix[i]));
+          out[i * 2] = (byte) sample;
+          out[i * 2 + 1] = (byte) (sample >> 8);
+        }
+        line.write(out, 0, out.length);
+      }
+
+      line.drain(); // Tocar o fim do fade antes de fechar
+    } catch (LineUnavailableException | IllegalArgumentException e) {
+      System.err.println("❌ Linha de áudio não disponível: " + e.getMessage());
+      synchronized (lock) {
+        audioUnavailable = true;
+        audioThread = null;
+      }
+    } catch (InterruptedException e) {
+      synchronized (lock) {
+        audioThread = null;
+      }
+      Thread.currentThread().interrupt();
+    } finally {
+      for (Track track : tracks) {
+        track.close();
+      }
+      if (line != null) {
+        line.close();
+      }
+    }
+  }
+
+  /**
+   * Faz as faixas atuais sumirem e a faixa pedida entrar em fadeFrames
+   * quadros. Uma faixa que ainda está sumindo é reaproveitada.
+   */
+  private static void retarget(List<Track> tracks, String target, int fadeFrames) {
+    Track incoming = null;
+    boolean audible = false;
+    for (Track track : tracks) {
+      audible |= !track.isSilent();
+      if (track.path.equals(target)) {
+        incoming = track;
+      } else {
+        track.fadeTo(0f, fadeFrames);
+      }
+    }
+    if (target == null || incoming != null) {
+      if (incoming != null) {
+        incoming.fadeTo(1f, fadeFrames);
+      }
+      return;
+    }
+
+    Track track = Track.open(target);
+    if (track != null) {
+      if (audible) {
+        track.gain = 0f;
+        track.fadeTo(1f, fadeFrames);
+      }
+      tracks.add(track);
+    }
+  }
+
+  /**
+   * Uma faixa tocando: o stream do arquivo, o bloco lido dele e o ganho do
+   * fade. Só é usada pela thread de áudio.
+   */
+  private static final class Track {
+    final String path;
+    private AudioInputStream stream;
+    private final AudioFormat format; // PCM 16 bits little-endian, taxa e canais do arquivo
+    private final int channels;
+    private final int frameSize;
+    private final double step; // Quadros do arquivo por quadro de saída
+    private final byte[] buffer; // Quadros lidos; o índice 0 é o último do bloco anterior
+    private int bufferedFrames = 0;
+    private double position = 0; // Em quadros do buffer
+    float gain = 1f;
+    private float targetGain = 1f;
+    private float gainStep = 0f;
+
+    private Track(String path, AudioInputStream stream) {
+      this.path = path;
+      this.stream = stream;
+      this.format = stream.getFormat();
+      this.channels = format.getChannels();
+      this.frameSize = format.getFrameSize();
+      this.step = format.getSampleRate() / MIX_RATE;
+      this.buffer = new byte[((int) Math.ceil(BLOCK_FRAMES * step) + 2) * frameSize];
+    }
+
+    /**
+     * Abre a faixa já convertida para PCM 16 bits; null (com o erro no
+     * console) se o arquivo não puder ser tocado
+     */
+    static Track open(String path) {
+      try {
+        return new Track(path, openStream(path, null));
+      } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+        System.err.println("❌ Formato de áudio não suportado: " + path);
+        System.err.println("   Nota: Java suporta nativamente .wav, .aiff, .au");
+        System.err.println("   Para MP3, é necessário converter para WAV ou usar biblioteca externa");
+      } catch (IOException e) {
+        System.err.println("❌ Erro ao ler arquivo de áudio: " + e.getMessage());
+      }
+      return null;
+    }
+
+    private static AudioInputStream openStream(String path, AudioFormat format)
+        throws UnsupportedAudioFileException, IOException {
+      AudioInputStream raw = AudioSystem.getAudioInputStream(
+          new BufferedInputStream(new FileInputStream(path)));
+      AudioFormat source = raw.getFormat();
+      if (format == null) {
+        format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, source.getSampleRate(), 16,
+            source.getChannels(), source.getChannels() * 2, source.getSampleRate(), false);
+      }
+      if (source.matches(format)) {
+        return raw;
+      }
+      try {
+        return AudioSystem.getAudioInputStream(format, raw);
+      } catch (IllegalArgumentException e) {
+        raw.close();
+        throw e;
+      }
+    }
+
+    void fadeTo(float target, int frames) {
+      targetGain = target;
+      gainStep = Math.abs(target - gain) / frames;
+    }
+
+    boolean isSilent() {
+      return gain <= 0f && targetGain <= 0f;
+    }
+
+    /**
+     * Soma frames quadros da faixa em out (estéreo intercalado); false se o
+     * arquivo não puder mais ser lido
+     */
+    boolean mixInto(float[] out, int frames, float volume) throws InterruptedException {
+      for (int frame = 0; frame < frames; frame++) {
+        int index = (int) position;
+        while (index + 1 >= bufferedFrames) {
+          if (!refill(index)) {
+            return false;
+          }
+          index = (int) position;
+        }
+
+        float fraction = (float) (position - index);
+        float left = interpolate(index, 0, fraction);
+        float right = channels > 1 ? interpolate(index, 1, fraction) : left;
+        // Ganho de potência constante: o crossfade não afunda no meio
+        float amplitude = (float) Math.sin(gain * (Math.PI / 2)) * volume;
+        out[frame * 2] += left * amplitude;
+        out[frame * 2 + 1] += right * amplitude;
+
+        position += step;
+        if (gain < targetGain) {
+          gain = Math.min(targetGain, gain + gainStep);
+        } else if (gain > targetGain) {
+          gain = Math.max(targetGain, gain - gainStep);
+        }
+      }
+      return true;
+    }
+
+    private float interpolate(int frame, int channel, float fraction) {
+      float a = sample(frame, channel);
+      float b = sample(frame + 1, channel);
+      return a + (b - a) * fraction;
+    }
+
+    private int sample(int frame, int channel) {
+      int offset = frame * frameSize + channel * 2;
+      return (buffer[offset + 1] << 8) | (buffer[offset] & 0xFF);
+    }
+
+    /**
+     * Descarta os quadros antes de keepFrom e lê mais do arquivo; no fim do
+     * arquivo reabre a faixa e continua do começo no mesmo bloco
+     */
+    private boolean refill(int keepFrom) throws InterruptedException {
+      int kept = Math.max(0, bufferedFrames - keepFrom);
+      if (kept > 0 && keepFrom > 0) {
+        System.arraycopy(buffer, keepFrom * frameSize, buffer, 0, kept * frameSize);
+      }
+      position -= bufferedFrames - kept;
+      bufferedFrames = kept;
+
+      boolean reopened = false;
+      try {
+        while (bufferedFrames < 2 || bufferedFrames * frameSize < buffer.length / 2) {
+          int read = stream.read(buffer, bufferedFrames * frameSize, buffer.length - bufferedFrames * frameSize);
+          if (read > 0) {
+            bufferedFrames += read / frameSize;
+            reopened = false;
+          } else if (read < 0) {
+            if (reopened) {
+              return false; // Arquivo sem nenhum quadro
+            }
+            stream.close();
+            stream = openStream(path, format);
+            reopened = true;
+          }
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+        }
+      } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+        System.err.println("❌ Erro ao ler arquivo de áudio: " + path + " (" + e.getMessage() + ")");
+        return false;
+      }
+      return true;
+    }
+
+    void close() {
+      try {
+        stream.close();
+      } catch (IOException e) {
+        // Nada a fazer: a faixa já saiu da mixagem
+      }
+    }
+  }
 }
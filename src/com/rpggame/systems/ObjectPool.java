@@ -0,0 +1,137 @@
+package com.rpggame.systems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Pool de objetos de vida curta (projéteis, textos flutuantes, partículas).
+ * obtain() devolve uma instância livre ou cria uma nova; free() guarda a
+ * instância para o próximo obtain(), até capacity livres (o excedente fica
+ * para o GC). Em combate contínuo o número de objetos em uso se estabiliza e
+ * nada mais é alocado.
+ *
+ * Quem chama obtain() reinicializa o objeto (cada classe tem o seu init) e
+ * não deve usá-lo depois de free(). Não é thread-safe: os pools são usados
+ * só pela thread do jogo. O render pode ainda desenhar, no snapshot, um
+ * objeto já devolvido; como ele fica inativo ao ser liberado, no máximo um
+ * frame sai com o estado novo.
+ *
+ * Todos os pools se registram para o relatório do comando "pools" do console.
+ */
+public class ObjectPool<T> {
+  private static final List<ObjectPool<?>> POOLS = new CopyOnWriteArrayList<>();
+
+  private final String name;
+  private final int capacity;
+  private final Supplier<T> factory;
+  private final ArrayList<T> free;
+
+  // Estatísticas
+  private long created;
+  private long reused;
+  private long released;
+  private long dropped;
+
+  public ObjectPool(String name, int capacity, Supplier<T> factory) {
+    this.name = name;
+    this.capacity = capacity;
+    this.factory = factory;
+    this.free = new ArrayList<>(capacity);
+    POOLS.add(this);
+  }
+
+  /**
+   * Instância livre do pool (ou nova, se o pool está vazio)
+   */
+  public T obtain() {
+    int size = free.size();
+    if (size > 0) {
+      reused++;
+      return free.remove(size - 1);
+    }
+    created++;
+    return factory.get();
+  }
+
+  /**
+   * Devolve a instância ao pool. Retorna false se o pool já estava cheio e a
+   * instância foi descartada (quem segura recursos deve liberá-los nesse caso).
+   */
+  public boolean free(T object) {
+    released++;
+    if (free.size() >= capacity) {
+      dropped++;
+      return false;
+    }
+    free.add(object);
+    return true;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Instâncias guardadas esperando um obtain()
+   */
+  public int getFreeCount() {
+    return free.size();
+  }
+
+  /**
+   * Instâncias criadas pelo factory desde o início
+   */
+  public long getCreatedCount() {
+    return created;
+  }
+
+  /**
+   * Chamadas de obtain() atendidas sem alocar
+   */
+  public long getReusedCount() {
+    return reused;
+  }
+
+  /**
+   * Instâncias obtidas e ainda não devolvidas
+   */
+  public long getInUseCount() {
+    return created + reused - released;
+  }
+
+  /**
+   * Instâncias devolvidas com o pool cheio
+   */
+  public long getDroppedCount() {
+    return dropped;
+  }
+
+  @Override
+  public String toString() {
+    long obtained = created + reused;
+    double hitRate = obtained == 0 ? 0 : 100.0 * reused / obtained;
+    return String.format("%-14s em uso %4d | livres %4d/%-4d | criados %6d | reuso %5.1f%% | descartados %d",
+        name, getInUseCount(), free.size(), capacity, created, hitRate, dropped);
+  }
+
+  /**
+   * Estatísticas de todos os pools, uma linha por pool (para o log)
+   */
+  public static String report() {
+    StringBuilder builder = new StringBuilder("♻️ Pools de objetos\n");
+    for (ObjectPool<?> pool : POOLS) {
+      builder.append(pool).append('\n');
+    }
+    return builder.toString();
+  }
+
+  public static List<ObjectPool<?>> getPools() {
+    return POOLS;
+  }
+}
@@ -1,8 +1,11 @@
 package com.rpggame.systems;
 
 import java.awt.Graphics2D;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.world.Camera;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
 
 /**
  * Classe base para todas as habilidades do jogo
@@ -35,19 +38,20 @@ public abstract class Skill {
    */
   public boolean execute(Player player) {
     if (!isLearned) {
-      System.out.println("❌ Habilidade '" + name + "' ainda não foi aprendida!");
+      Log.debug(LogCategory.SKILLS, "❌ Habilidade '" + name + "' ainda não foi aprendida!");
       return false;
     }
 
     if (currentCooldown > 0) {
       int secondsLeft = (currentCooldown / 60) + 1;
-      System.out.println("⏱️ " + name + " em cooldown! " + secondsLeft + "s restantes");
+      Log.debug(LogCategory.SKILLS, () -> "⏱️ " + name + " em cooldown! " + secondsLeft + "s restantes");
       return false;
     }
 
     // Verificar mana
     if (manaCost > 0 && player.getCurrentMana() < manaCost) {
-      System.out.println("❌ Mana insuficiente! Necessário: " + manaCost + ", Atual: " + player.getCurrentMana());
+      Log.debug(LogCategory.SKILLS,
+          () -> "❌ Mana insuficiente! Necessário: " + manaCost + ", Atual: " + player.getCurrentMana());
       return false;
     }
 
@@ -56,7 +60,7 @@ public abstract class Skill {
       player.consumeMana(manaCost);
     }
 
-    System.out.println("🔥 " + player.getPlayerClass() + " usou: " + name + "!");
+    Log.debug(LogCategory.SKILLS, () -> "🔥 " + player.getPlayerClass() + " usou: " + name + "!");
     currentCooldown = cooldownTime;
     performSkill(player);
     return true;
@@ -77,9 +81,18 @@ public abstract class Skill {
   }
 
   /**
-   * Renderiza efeitos visuais da habilidade
+   * Copia para out os efeitos que render() percorre (projéteis, partículas,
+   * armadilhas). Chamado pela thread do jogo ao publicar o RenderSnapshot, para
+   * que a renderização não percorra as listas que o update() altera.
    */
-  public abstract void render(Graphics2D g, Camera camera);
+  public void captureEffects(List<Object> out) {
+  }
+
+  /**
+   * Renderiza efeitos visuais da habilidade. effects é a cópia feita por
+   * captureEffects no último tick publicado.
+   */
+  public abstract void render(Graphics2D g, Camera camera, List<Object> effects);
 
   // Getters e Setters
   public String getName() {
@@ -3,9 +3,12 @@ package com.rpggame.systems;
 import java.awt.Graphics2D;
 import java.util.HashMap;
 import java.util.Map;
+import com.rpggame.core.RenderSnapshot;
 import com.rpggame.entities.Player;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.skills.*;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
 
 /**
  * Gerenciador de habilidades do jogador
@@ -72,14 +75,15 @@ public class SkillManager {
   public boolean useSkill(int slot) {
     Skill skill = skills.get(slot);
     if (skill != null) {
-      System.out.println("🎯 Tentando usar habilidade " + skill.getName() + " (slot " + slot + ")");
+      Log.debug(LogCategory.SKILLS, () -> "🎯 Tentando usar habilidade " + skill.getName() + " (slot " + slot + ")");
       if (!skill.isLearned()) {
-        System.out.println("❌ Habilidade '" + skill.getName() + "' ainda não foi aprendida!");
+        Log.debug(LogCategory.SKILLS, () -> "❌ Habilidade '" + skill.getName() + "' ainda não foi aprendida!");
         return false;
       }
       return skill.execute(player);
     } else {
-      System.out.println("❌ Nenhuma habilidade no slot " + slot + " para classe " + player.getPlayerClass());
+      Log.debug(LogCategory.SKILLS,
+          () -> "❌ Nenhuma habilidade no slot " + slot + " para classe " + player.getPlayerClass());
     }
     return false;
   }
@@ -96,16 +100,26 @@ public class SkillManager {
   }
 
   /**
-   * Renderiza efeitos visuais de todas as habilidades
+   * Registra as habilidades e os efeitos delas no snapshot do tick
    */
-  public void render(Graphics2D g, Camera camera) {
+  public void captureSnapshot(RenderSnapshot snapshot) {
     for (Skill skill : skills.values()) {
       if (skill != null) {
-        skill.render(g, camera);
+        snapshot.addSkill(skill);
       }
     }
   }
 
+  /**
+   * Renderiza efeitos visuais das habilidades capturadas no snapshot
+   */
+  public static void render(Graphics2D g, Camera camera, RenderSnapshot snapshot) {
+    java.util.List<Skill> snapshotSkills = snapshot.getSkills();
+    for (int i = 0; i < snapshotSkills.size(); i++) {
+      snapshotSkills.get(i).render(g, camera, snapshot.getSkillEffects(i));
+    }
+  }
+
   /**
    * Ensina uma habilidade para o jogador
    */
@@ -113,8 +127,8 @@ public class SkillManager {
     Skill skill = skills.get(slot);
     if (skill != null && !skill.isLearned()) {
       skill.setLearned(true);
-      System.out.println("📚 " + player.getPlayerClass() + " aprendeu: " + skill.getName() + "!");
-      System.out.println("💡 " + skill.getDescription());
+      Log.info(LogCategory.SKILLS, "📚 " + player.getPlayerClass() + " aprendeu: " + skill.getName() + "!");
+      Log.info(LogCategory.SKILLS, "💡 " + skill.getDescription());
     }
   }
 
@@ -0,0 +1,323 @@
+package com.rpggame.systems;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.rpggame.core.GamePanel;
+import com.rpggame.world.TileGrid;
+
+/**
+ * Grade espacial uniforme (células do tamanho de um tile) para consultas de
+ * proximidade sem percorrer todas as entidades.
+ *
+ * Cada item é guardado pela sua caixa (x, y, largura, altura) em todas as
+ * células que ela cobre; posições fora do mapa caem nas células da borda. As
+ * consultas devolvem candidatos cuja caixa toca a área pedida; quem chama
+ * continua fazendo o teste exato de distância.
+ *
+ * As células ficam em blocos de TileGrid.CHUNK_SIZE x CHUNK_SIZE criados
+ * quando o primeiro item entra neles, então a memória acompanha a área onde
+ * há entidades, não o tamanho do mapa.
+ */
+public class SpatialIndex<T> {
+  private static final int CELL_SIZE = GamePanel.TILE_SIZE;
+  private static final int CHUNK_SHIFT = TileGrid.CHUNK_SHIFT;
+  private static final int CHUNK_MASK = TileGrid.CHUNK_SIZE - 1;
+
+  /**
+   * Posição de um item no índice
+   */
+  private static class Entry<T> {
+    final T item;
+    double x, y, width, height;
+    int minCellX, minCellY, maxCellX, maxCellY;
+    int queryStamp;
+
+    Entry(T item) {
+      this.item = item;
+    }
+
+    double centerX() {
+      return x + width / 2.0;
+    }
+
+    double centerY() {
+      return y + height / 2.0;
+    }
+  }
+
+  private final int columns;
+  private final int rows;
+  private final int chunksX;
+  private final ArrayList<Entry<T>>[][] chunks; // Blocos de células, criados sob demanda
+  private final IdentityHashMap<T, Entry<T>> entries = new IdentityHashMap<>();
+
+  // Marca de consulta para não devolver duas vezes itens em várias células
+  private int currentStamp = 0;
+
+  // Lista reutilizada pela busca do mais próximo
+  private final ArrayList<T> nearestCandidates = new ArrayList<>();
+
+  /**
+   * Cria um índice cobrindo um mapa com as dimensões informadas (em tiles)
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public SpatialIndex(int mapWidth, int mapHeight) {
+    this.columns = Math.max(1, mapWidth);
+    this.rows = Math.max(1, mapHeight);
+    this.chunksX = (columns + CHUNK_MASK) >> CHUNK_SHIFT;
+    this.chunks = new ArrayList[chunksX * ((rows + CHUNK_MASK) >> CHUNK_SHIFT)][];
+  }
+
+  /**
+   * Se o índice cobre um mapa com estas dimensões (em tiles)
+   */
+  public boolean hasSize(int mapWidth, int mapHeight) {
+    return columns == Math.max(1, mapWidth) && rows == Math.max(1, mapHeight);
+  }
+
+  /**
+   * Insere ou move um item. Só mexe nas células se a caixa mudou de células.
+   */
+  public void update(T item, double x, double y, double width, double height) {
+    Entry<T> entry = entries.get(item);
+    int minCellX = toColumn(x);
+    int minCellY = toRow(y);
+    int maxCellX = toColumn(x + width);
+    int maxCellY = toRow(y + height);
+
+    if (entry == null) {
+      entry = new Entry<>(item);
+      entries.put(item, entry);
+    } else if (entry.minCellX == minCellX && entry.minCellY == minCellY
+        && entry.maxCellX == maxCellX && entry.maxCellY == maxCellY) {
+      setBox(entry, x, y, width, height);
+      return;
+    } else {
+      removeFromCells(entry);
+    }
+
+    setBox(entry, x, y, width, height);
+    entry.minCellX = minCellX;
+    entry.minCellY = minCellY;
+    entry.maxCellX = maxCellX;
+    entry.maxCellY = maxCellY;
+    addToCells(entry);
+  }
+
+  /**
+   * Remove um item do índice
+   */
+  public void remove(T item) {
+    Entry<T> entry = entries.remove(item);
+    if (entry != null) {
+      removeFromCells(entry);
+    }
+  }
+
+  public boolean contains(T item) {
+    return entries.containsKey(item);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Esvazia o índice (troca de mapa)
+   */
+  public void clear() {
+    Arrays.fill(chunks, null);
+    entries.clear();
+  }
+
+  /**
+   * Adiciona a out os itens cuja caixa está a até radius do ponto
+   */
+  public List<T> queryRadius(double x, double y, double radius, List<T> out) {
+    int stamp = ++currentStamp;
+    double radiusSquared = radius * radius;
+    int minCellX = toColumn(x - radius);
+    int minCellY = toRow(y - radius);
+    int maxCellX = toColumn(x + radius);
+    int maxCellY = toRow(y + radius);
+
+    for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+      for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+        ArrayList<Entry<T>> cell = cellAt(cellX, cellY);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+          Entry<T> entry = cell.get(i);
+          if (entry.queryStamp == stamp) {
+            continue;
+          }
+          entry.queryStamp = stamp;
+          // Distância do ponto até a caixa (zero se estiver dentro)
+          double dx = Math.max(Math.max(entry.x - x, 0), x - (entry.x + entry.width));
+          double dy = Math.max(Math.max(entry.y - y, 0), y - (entry.y + entry.height));
+          if (dx * dx + dy * dy <= radiusSquared) {
+            out.add(entry.item);
+          }
+        }
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Adiciona a out os itens cuja caixa intersecta o retângulo informado
+   */
+  public List<T> queryRect(double x, double y, double width, double height, List<T> out) {
+    int stamp = ++currentStamp;
+    int minCellX = toColumn(x);
+    int minCellY = toRow(y);
+    int maxCellX = toColumn(x + width);
+    int maxCellY = toRow(y + height);
+
+    for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+      for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+        ArrayList<Entry<T>> cell = cellAt(cellX, cellY);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+          Entry<T> entry = cell.get(i);
+          if (entry.queryStamp == stamp) {
+            continue;
+          }
+          entry.queryStamp = stamp;
+          if (entry.x < x + width && entry.x + entry.width > x
+              && entry.y < y + height && entry.y + entry.height > y) {
+            out.add(entry.item);
+          }
+        }
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Item aceito pelo filtro com o centro mais próximo do ponto, a até
+   * maxDistance (use Double.MAX_VALUE para sem limite). Retorna null se não há.
+   */
+  public T findNearest(double x, double y, double maxDistance, Predicate<T> filter) {
+    double radius = Math.min(CELL_SIZE, maxDistance);
+
+    while (true) {
+      // Raio cobrindo a grade inteira: comparar todos os itens de uma vez
+      boolean coversAll = coversAllCells(x, y, radius);
+      nearestCandidates.clear();
+      if (coversAll) {
+        nearestCandidates.addAll(entries.keySet());
+      } else {
+        queryRadius(x, y, radius, nearestCandidates);
+      }
+      double limit = coversAll ? maxDistance : radius;
+
+      T nearest = null;
+      double nearestDistance = Double.MAX_VALUE;
+      for (int i = 0; i < nearestCandidates.size(); i++) {
+        T candidate = nearestCandidates.get(i);
+        if (!filter.test(candidate)) {
+          continue;
+        }
+        Entry<T> entry = entries.get(candidate);
+        double dx = entry.centerX() - x;
+        double dy = entry.centerY() - y;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance <= limit && distance < nearestDistance) {
+          nearestDistance = distance;
+          nearest = candidate;
+        }
+      }
+      nearestCandidates.clear();
+
+      // Qualquer item mais perto que o encontrado também estaria no raio
+      if (nearest != null || radius >= maxDistance || coversAll) {
+        return nearest;
+      }
+      radius = Math.min(radius * 2, maxDistance);
+    }
+  }
+
+  /**
+   * Verifica se o quadrado da consulta já cobre a grade inteira
+   */
+  private boolean coversAllCells(double x, double y, double radius) {
+    return toColumn(x - radius) == 0 && toRow(y - radius) == 0
+        && toColumn(x + radius) == columns - 1 && toRow(y + radius) == rows - 1;
+  }
+
+  private void setBox(Entry<T> entry, double x, double y, double width, double height) {
+    entry.x = x;
+    entry.y = y;
+    entry.width = width;
+    entry.height = height;
+  }
+
+  private void addToCells(Entry<T> entry) {
+    for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+      for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+        ArrayList<Entry<T>>[] chunk = chunks[chunkIndex(cellX, cellY)];
+        if (chunk == null) {
+          chunk = newChunk();
+          chunks[chunkIndex(cellX, cellY)] = chunk;
+        }
+        int index = cellIndex(cellX, cellY);
+        if (chunk[index] == null) {
+          chunk[index] = new ArrayList<>(4);
+        }
+        chunk[index].add(entry);
+      }
+    }
+  }
+
+  private void removeFromCells(Entry<T> entry) {
+    for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+      for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+        ArrayList<Entry<T>> cell = cellAt(cellX, cellY);
+        if (cell != null) {
+          cell.remove(entry);
+        }
+      }
+    }
+  }
+
+  /**
+   * Célula já criada (null se o bloco ou a célula ainda não tiveram itens)
+   */
+  private ArrayList<Entry<T>> cellAt(int cellX, int cellY) {
+    ArrayList<Entry<T>>[] chunk = chunks[chunkIndex(cellX, cellY)];
+    return chunk != null ? chunk[cellIndex(cellX, cellY)] : null;
+  }
+
+  private int chunkIndex(int cellX, int cellY) {
+    return (cellY >> CHUNK_SHIFT) * chunksX + (cellX >> CHUNK_SHIFT);
+  }
+
+  private static int cellIndex(int cellX, int cellY) {
+    return ((cellY & CHUNK_MASK) << CHUNK_SHIFT) | (cellX & CHUNK_MASK);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> ArrayList<Entry<T>>[] newChunk() {
+    return new ArrayList[TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE];
+  }
+
+  private int toColumn(double x) {
+    return clamp((int) Math.floor(x / CELL_SIZE), columns);
+  }
+
+  private int toRow(double y) {
+    return clamp((int) Math.floor(y / CELL_SIZE), rows);
+  }
+
+  private static int clamp(int cell, int count) {
+    return cell < 0 ? 0 : (cell >= count ? count - 1 : cell);
+  }
+}
@@ -0,0 +1,79 @@
+package com.rpggame.systems;
+
+/**
+ * Tipos de efeito de status que podem ser aplicados a um inimigo, com a regra
+ * de acúmulo e os valores padrão de cada um.
+ */
+public enum StatusEffect {
+  // Não age, não anda e não recebe dano
+  FREEZE(EntityStore.FROZEN, Stacking.REFRESH, 1, 180, 0, 0),
+  // Velocidade multiplicada pela magnitude (0.6 = 60%); o mais forte vale
+  SLOW(EntityStore.SLOWED, Stacking.REFRESH, 1, 240, 0, 0),
+  // Dano por segundo; cada aplicação é uma pilha independente
+  BURN(EntityStore.BURNING, Stacking.STACK, 3, 180, 60, 5),
+  BLEED(EntityStore.BLEEDING, Stacking.STACK, 5, 300, 60, 3),
+  // Não age nem anda
+  STUN(EntityStore.STUNNED, Stacking.REFRESH, 1, 120, 0, 0),
+  // Foge na direção definida, sem IA
+  FEAR(EntityStore.FEARED, Stacking.REFRESH, 1, 180, 0, 0),
+  // Ataca os próprios aliados
+  CHARM(EntityStore.CHARMED, Stacking.REFRESH, 1, 300, 0, 0);
+
+  /**
+   * Como uma nova aplicação se combina com as já ativas no mesmo alvo
+   */
+  public enum Stacking {
+    REFRESH, // Uma instância: fica a maior duração e a maior magnitude
+    STACK // Instâncias independentes até maxStacks; acima disso renova a mais curta
+  }
+
+  private final int flag;
+  private final Stacking stacking;
+  private final int maxStacks;
+  private final int defaultDuration;
+  private final int tickInterval;
+  private final int tickDamage;
+
+  StatusEffect(int flag, Stacking stacking, int maxStacks, int defaultDuration, int tickInterval,
+      int tickDamage) {
+    this.flag = flag;
+    this.stacking = stacking;
+    this.maxStacks = maxStacks;
+    this.defaultDuration = defaultDuration;
+    this.tickInterval = tickInterval;
+    this.tickDamage = tickDamage;
+  }
+
+  /**
+   * Flag do EntityStore ligada enquanto o efeito estiver ativo
+   */
+  public int getFlag() {
+    return flag;
+  }
+
+  public Stacking getStacking() {
+    return stacking;
+  }
+
+  public int getMaxStacks() {
+    return maxStacks;
+  }
+
+  /**
+   * Duração padrão em ticks
+   */
+  public int getDefaultDuration() {
+    return defaultDuration;
+  }
+
+  /**
+   * Ticks entre aplicações de dano (0 = efeito sem dano)
+   */
+  public int getTickInterval() {
+    return tickInterval;
+  }
+
+  public int getTickDamage() {
+    return tickDamage;
+  }
+}
@@ -0,0 +1,200 @@
+package com.rpggame.systems;
+
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
+
+/**
+ * Efeitos de status ativos (congelamento, lentidão, queimadura, sangramento,
+ * atordoamento, medo e encantamento) de todas as entidades de um EntityStore.
+ *
+ * Cada instância ativa ocupa uma posição em arrays paralelos; update() passa
+ * uma vez por eles, descontando a duração, aplicando dano periódico e
+ * removendo os que acabaram. O estado visível para o resto do jogo são as
+ * flags (e a escala de velocidade) no EntityStore, ligadas enquanto houver
+ * alguma instância do tipo no alvo.
+ */
+public class StatusEffects {
+  /**
+   * Quem recebe o dano periódico (queimadura, sangramento)
+   */
+  public interface Target {
+    void takeDamage(int damage);
+  }
+
+  private static final StatusEffect[] TYPES = StatusEffect.values();
+  private static final int INITIAL_CAPACITY = 32;
+
+  private final EntityStore store;
+
+  private int count;
+  private int[] handles = new int[INITIAL_CAPACITY];
+  private Target[] targets = new Target[INITIAL_CAPACITY];
+  private byte[] types = new byte[INITIAL_CAPACITY];
+  private int[] remaining = new int[INITIAL_CAPACITY];
+  private int[] tickTimers = new int[INITIAL_CAPACITY];
+  private double[] magnitudes = new double[INITIAL_CAPACITY];
+
+  /**
+   * Criado pelo próprio EntityStore (um conjunto de efeitos por store)
+   */
+  StatusEffects(EntityStore store) {
+    this.store = store;
+  }
+
+  /**
+   * Aplica um efeito seguindo a regra de acúmulo do tipo. A magnitude só é
+   * usada pela lentidão (fator de velocidade).
+   */
+  public void apply(int handle, Target target, StatusEffect type, int duration, double magnitude) {
+    if (!store.isValid(handle) || duration <= 0) {
+      return;
+    }
+
+    // Instâncias já ativas deste tipo no alvo
+    int stacks = 0;
+    int shortest = -1;
+    for (int i = 0; i < count; i++) {
+      if (handles[i] == handle && types[i] == type.ordinal()) {
+        stacks++;
+        if (shortest < 0 || remaining[i] < remaining[shortest]) {
+          shortest = i;
+        }
+      }
+    }
+
+    if (stacks > 0 && (type.getStacking() == StatusEffect.Stacking.REFRESH || stacks >= type.getMaxStacks())) {
+      // Renovar a instância existente (ou a mais curta)
+      remaining[shortest] = Math.max(remaining[shortest], duration);
+      if (type == StatusEffect.SLOW) {
+        magnitudes[shortest] = Math.min(magnitudes[shortest], magnitude); // A mais lenta vale
+      }
+    } else {
+      add(handle, target, type, duration, magnitude);
+      shortest = count - 1;
+    }
+
+    store.setFlag(handle, type.getFlag(), true);
+    if (type == StatusEffect.SLOW) {
+      store.setSpeedScale(handle, magnitudes[shortest]);
+    }
+  }
+
+  /**
+   * Avança todos os efeitos ativos em um passe só (chamado uma vez por tick,
+   * antes da IA dos inimigos)
+   */
+  public void update() {
+    int i = 0;
+    while (i < count) {
+      int handle = handles[i];
+      if (!store.hasFlag(handle, EntityStore.ALIVE)) {
+        removeAt(i); // Alvo morreu ou saiu do jogo
+        continue;
+      }
+
+      StatusEffect type = TYPES[types[i]];
+      if (type == StatusEffect.FEAR) {
+        store.applyFearVelocity(handle); // Continuar fugindo na direção definida
+      }
+
+      if (type.getTickInterval() > 0 && ++tickTimers[i] >= type.getTickInterval()) {
+        tickTimers[i] = 0;
+        targets[i].takeDamage(type.getTickDamage());
+        Log.debug(LogCategory.SKILLS,
+            () -> (type == StatusEffect.BURN ? "🔥 Dano de queimadura: " : "🩸 Dano de sangramento: ")
+                + type.getTickDamage());
+      }
+
+      if (--remaining[i] <= 0) {
+        expire(i, type, handle);
+        continue;
+      }
+      i++;
+    }
+  }
+
+  /**
+   * Ticks restantes do efeito no alvo (a maior entre as pilhas; 0 se inativo)
+   */
+  public int getRemaining(int handle, StatusEffect type) {
+    int result = 0;
+    for (int i = 0; i < count; i++) {
+      if (handles[i] == handle && types[i] == type.ordinal()) {
+        result = Math.max(result, remaining[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Número de instâncias ativas (todas as entidades)
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Remove a instância e desliga a flag se era a última do tipo no alvo
+   */
+  private void expire(int index, StatusEffect type, int handle) {
+    removeAt(index);
+    if (type.getStacking() == StatusEffect.Stacking.STACK && getRemaining(handle, type) > 0) {
+      return; // Ainda há outras pilhas
+    }
+
+    store.setFlag(handle, type.getFlag(), false);
+    switch (type) {
+      case FREEZE:
+        Log.info(LogCategory.SKILLS, "❄️ Inimigo descongelado!");
+        break;
+      case SLOW:
+        store.setSpeedScale(handle, 1.0);
+        break;
+      case STUN:
+        Log.info(LogCategory.SKILLS, "💥 Inimigo recuperou do atordoamento!");
+        break;
+      case FEAR:
+        store.setVelocity(handle, 0, 0);
+        Log.info(LogCategory.SKILLS, "💢 Inimigo recuperou coragem!");
+        break;
+      case CHARM:
+        Log.info(LogCategory.SKILLS, "💜 Encantamento dissipado!");
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void add(int handle, Target target, StatusEffect type, int duration, double magnitude) {
+    if (count == handles.length) {
+      int size = count * 2;
+      handles = java.util.Arrays.copyOf(handles, size);
+      targets = java.util.Arrays.copyOf(targets, size);
+      types = java.util.Arrays.copyOf(types, size);
+      remaining = java.util.Arrays.copyOf(remaining, size);
+      tickTimers = java.util.Arrays.copyOf(tickTimers, size);
+      magnitudes = java.util.Arrays.copyOf(magnitudes, size);
+    }
+    handles[count] = handle;
+    targets[count] = target;
+    types[count] = (byte) type.ordinal();
+    remaining[count] = duration;
+    tickTimers[count] = 0;
+    magnitudes[count] = magnitude;
+    count++;
+  }
+
+  /**
+   * Remove trocando com a última instância (a ordem não importa)
+   */
+  private void removeAt(int index) {
+    int last = --count;
+    handles[index] = handles[last];
+    targets[index] = targets[last];
+    types[index] = types[last];
+    remaining[index] = remaining[last];
+    tickTimers[index] = tickTimers[last];
+    magnitudes[index] = magnitudes[last];
+    targets[last] = null;
+  }
+}
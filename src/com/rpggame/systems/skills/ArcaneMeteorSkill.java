@@ -2,15 +2,16 @@ package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
 import java.awt.Color;
-import java.awt.AlphaComposite;
-import java.awt.BasicStroke;
 import java.util.ArrayList;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.systems.StatusEffect;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade Ultimate: Meteoro Arcano
@@ -25,43 +26,12 @@ public class ArcaneMeteorSkill extends Skill {
     IMPACT // Explosão (animação rápida)
   }
 
-  private class BurnEffect {
-    Enemy enemy;
-    int duration;
-    int tickTimer;
-
-    BurnEffect(Enemy enemy) {
-      this.enemy = enemy;
-      this.duration = 180; // 3 segundos a 60 FPS
-      this.tickTimer = 0;
-    }
-
-    void update() {
-      duration--;
-      tickTimer++;
-
-      // Causar dano de queimadura a cada 60 frames (1 segundo)
-      if (tickTimer >= 60) {
-        if (enemy.isAlive()) {
-          enemy.takeDamage(5);
-          System.out.println("🔥 Dano de queimadura: 5");
-        }
-        tickTimer = 0;
-      }
-    }
-
-    boolean isActive() {
-      return duration > 0 && enemy.isAlive();
-    }
-  }
-
   private MeteorPhase currentPhase;
   private int phaseTimer;
   private double targetX, targetY; // Posição do alvo no mundo
   private double meteorY; // Posição Y do meteoro durante queda
   private int explosionRadius;
   private int explosionTimer;
-  private ArrayList<BurnEffect> burnEffects;
   private Player currentPlayer;
 
   private static final int TARGETING_DURATION = 60; // 1 segundo
@@ -80,7 +50,6 @@ public class ArcaneMeteorSkill extends Skill {
     this.currentPhase = MeteorPhase.NONE;
     this.phaseTimer = 0;
     this.explosionRadius = 0;
-    this.burnEffects = new ArrayList<>();
   }
 
   @Override
@@ -150,12 +119,6 @@ public class ArcaneMeteorSkill extends Skill {
         }
         break;
     }
-
-    // Atualizar efeitos de queimadura
-    burnEffects.removeIf(effect -> {
-      effect.update();
-      return !effect.isActive();
-    });
   }
 
   private void applyMeteorDamage() {
@@ -172,8 +135,7 @@ public class ArcaneMeteorSkill extends Skill {
       return;
     }
 
-    ArrayList<Enemy> enemies = enemyManager.getEnemies();
-    System.out.println("🎯 Inimigos disponíveis: " + enemies.size());
+    System.out.println("🎯 Inimigos disponíveis: " + enemyManager.getEnemies().size());
 
     int intelligence = currentPlayer.getStats().getIntelligence();
     System.out.println("🧠 Inteligência do player: " + intelligence);
@@ -185,6 +147,10 @@ public class ArcaneMeteorSkill extends Skill {
     System.out.println("📍 Área de efeito - Raio: " + areaRadius + ", Centro: " + centerRadius);
     System.out.println("📍 Alvo: (" + (int) targetX + ", " + (int) targetY + ")");
 
+    // Apenas inimigos dentro da área de impacto
+    ArrayList<Enemy> enemies = new ArrayList<>();
+    enemyManager.getEnemyIndex().queryRadius(targetX, targetY, areaRadius, enemies);
+
     int enemiesHit = 0;
     for (Enemy enemy : enemies) {
       if (!enemy.isAlive())
@@ -216,7 +182,7 @@ public class ArcaneMeteorSkill extends Skill {
         enemy.takeDamage(damage);
 
         // Aplicar queimadura
-        burnEffects.add(new BurnEffect(enemy));
+        enemy.applyEffect(StatusEffect.BURN);
         System.out.println("🔥 Queimadura aplicada!");
 
         // Aplicar knockback (empurrar inimigo para fora)
@@ -226,20 +192,7 @@ public class ArcaneMeteorSkill extends Skill {
           double knockbackY = (dy / distance) * knockbackForce;
 
           // Aplicar knockback diretamente nas coordenadas do inimigo
-          try {
-            java.lang.reflect.Field xField = enemy.getClass().getSuperclass().getDeclaredField("x");
-            java.lang.reflect.Field yField = enemy.getClass().getSuperclass().getDeclaredField("y");
-            xField.setAccessible(true);
-            yField.setAccessible(true);
-
-            double newX = (double) xField.get(enemy) + knockbackX;
-            double newY = (double) yField.get(enemy) + knockbackY;
-
-            xField.set(enemy, newX);
-            yField.set(enemy, newY);
-          } catch (Exception e) {
-            // Knockback falhou, mas o dano foi aplicado
-          }
+          enemy.moveBy(knockbackX, knockbackY);
         }
       }
     }
@@ -248,7 +201,7 @@ public class ArcaneMeteorSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (currentPhase == MeteorPhase.NONE) {
       return;
     }
@@ -265,14 +218,14 @@ public class ArcaneMeteorSkill extends Skill {
       case TARGETING:
         // Círculo de alvo vermelho pulsante
         float pulse = 0.3f + 0.3f * (float) Math.sin(phaseTimer * 0.2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulse));
+        g.setComposite(RenderResources.composite(pulse));
 
         // Área de impacto
-        g.setColor(new Color(255, 0, 0, 100));
+        g.setColor(RenderResources.color(255, 0, 0, 100));
         g.fillOval(screenX - halfArea, screenY - halfArea, areaSize, areaSize);
 
         // Bordas pulsantes
-        g.setStroke(new BasicStroke(3));
+        g.setStroke(RenderResources.stroke(3));
         g.setColor(Color.RED);
         g.drawOval(screenX - halfArea, screenY - halfArea, areaSize, areaSize);
 
@@ -287,31 +240,31 @@ public class ArcaneMeteorSkill extends Skill {
         int meteorSize = 40;
 
         // Sombra no chão
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f));
-        g.setColor(new Color(50, 0, 0));
+        g.setComposite(RenderResources.composite(0.4f));
+        g.setColor(RenderResources.color(50, 0, 0));
         g.fillOval(screenX - halfArea, screenY - halfArea, areaSize, areaSize);
 
         // Meteoro com gradiente (simulado com círculos)
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.9f));
+        g.setComposite(RenderResources.composite(0.9f));
 
         // Aura externa laranja
-        g.setColor(new Color(255, 100, 0));
+        g.setColor(RenderResources.color(255, 100, 0));
         g.fillOval(screenX - meteorSize, meteorScreenY - meteorSize, meteorSize * 2, meteorSize * 2);
 
         // Núcleo vermelho
-        g.setColor(new Color(255, 0, 0));
+        g.setColor(RenderResources.color(255, 0, 0));
         g.fillOval(screenX - meteorSize / 2, meteorScreenY - meteorSize / 2, meteorSize, meteorSize);
 
         // Centro brilhante
-        g.setColor(new Color(255, 200, 100));
+        g.setColor(RenderResources.color(255, 200, 100));
         g.fillOval(screenX - meteorSize / 4, meteorScreenY - meteorSize / 4, meteorSize / 2, meteorSize / 2);
 
         // Trail de partículas
         for (int i = 0; i < 5; i++) {
           int trailY = meteorScreenY - (i * 20);
           float trailAlpha = 0.5f - (i * 0.1f);
-          g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, trailAlpha));
-          g.setColor(new Color(255, 150, 0));
+          g.setComposite(RenderResources.composite(trailAlpha));
+          g.setColor(RenderResources.color(255, 150, 0));
           g.fillOval(screenX - 10, trailY - 10, 20, 20);
         }
         break;
@@ -319,41 +272,25 @@ public class ArcaneMeteorSkill extends Skill {
       case IMPACT:
         // Explosão com ondas de choque
         g.setComposite(
-            AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f - (float) phaseTimer / EXPLOSION_DURATION));
+            RenderResources.composite(1.0f - (float) phaseTimer / EXPLOSION_DURATION));
 
         // Múltiplas ondas de choque
         for (int i = 0; i < 3; i++) {
           int waveRadius = explosionRadius + (i * 30);
-          g.setStroke(new BasicStroke(5 - i));
-          g.setColor(new Color(255, 100, 0, 200 - (i * 50)));
+          g.setStroke(RenderResources.stroke(5 - i));
+          g.setColor(RenderResources.color(255, 100, 0, 200 - (i * 50)));
           g.drawOval(screenX - waveRadius, screenY - waveRadius, waveRadius * 2, waveRadius * 2);
         }
 
         // Flash central
         if (phaseTimer > EXPLOSION_DURATION - 10) {
-          g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
+          g.setComposite(RenderResources.composite(0.7f));
           g.setColor(Color.WHITE);
           g.fillOval(screenX - areaSize / 2, screenY - areaSize / 2, areaSize, areaSize);
         }
         break;
     }
 
-    // Renderizar efeitos de queimadura nos inimigos
-    for (BurnEffect effect : burnEffects) {
-      if (effect.enemy.isAlive()) {
-        int enemyScreenX = (int) (effect.enemy.getX() - camera.getX());
-        int enemyScreenY = (int) (effect.enemy.getY() - camera.getY());
-
-        // Chamas acima do inimigo
-        float burnAlpha = 0.3f + 0.2f * (float) Math.sin(effect.duration * 0.15);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, burnAlpha));
-        g.setColor(new Color(255, 100, 0));
-        g.fillOval(enemyScreenX + 10, enemyScreenY - 5, 8, 8);
-        g.setColor(new Color(255, 200, 0));
-        g.fillOval(enemyScreenX + 12, enemyScreenY - 3, 4, 4);
-      }
-    }
-
     g.setComposite(originalComposite);
     g.setStroke(originalStroke);
   }
@@ -1,18 +1,19 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
-import java.awt.BasicStroke;
 import java.awt.Polygon;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.systems.ObjectPool;
+import com.rpggame.systems.StatusEffect;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade Ultimate: Chuva de Flechas
@@ -26,14 +27,14 @@ public class ArrowRainSkill extends Skill {
     RAINING // Chuva de flechas (4 segundos)
   }
 
-  private class FallingArrow {
+  private static class FallingArrow {
     double x, y; // Posição no chão onde vai cair
     double currentY; // Posição atual durante queda
     double velocity;
     boolean hasHit;
     int shadowAlpha;
 
-    FallingArrow(double x, double y) {
+    void init(double x, double y) {
       this.x = x;
       this.y = y;
       this.currentY = -100; // Começa acima da tela
@@ -42,7 +43,10 @@ public class ArrowRainSkill extends Skill {
       this.shadowAlpha = 0;
     }
 
-    void update() {
+    /**
+     * Retorna true no tick em que a flecha atinge o chão
+     */
+    boolean update() {
       if (!hasHit) {
         currentY += velocity;
 
@@ -52,133 +56,31 @@ public class ArrowRainSkill extends Skill {
 
         if (currentY >= y) {
           hasHit = true;
-          // Aplicar dano aos inimigos próximos
-          hitEnemies();
+          return true;
         }
       }
-    }
-
-    private void hitEnemies() {
-      if (currentPlayer == null) {
-        System.out.println("❌ Arrow: currentPlayer é null!");
-        return;
-      }
-
-      EnemyManager enemyManager = currentPlayer.getEnemyManager();
-      if (enemyManager == null) {
-        System.out.println("❌ Arrow: enemyManager é null!");
-        return;
-      }
-
-      ArrayList<Enemy> enemies = enemyManager.getEnemies();
-      int dexterity = currentPlayer.getStats().getDexterity();
-      int damage = 15 + (int) (dexterity * 1.5);
-
-      System.out.println("🎯 Flecha caiu em (" + (int) x + ", " + (int) y + ") - Dano: " + damage);
-
-      for (Enemy enemy : enemies) {
-        if (!enemy.isAlive())
-          continue;
-
-        double enemyX = enemy.getX() + enemy.getWidth() / 2;
-        double enemyY = enemy.getY() + enemy.getHeight() / 2;
-
-        double dx = enemyX - x;
-        double dy = enemyY - y;
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        // Raio de hit da flecha
-        if (distance < 25) {
-          System.out.println("✅ Flecha atingiu inimigo! Dano: " + damage);
-          enemy.takeDamage(damage);
-
-          // 30% de chance de sangramento
-          if (Math.random() < 0.3) {
-            bleedEffects.add(new BleedEffect(enemy));
-            System.out.println("🩸 Sangramento aplicado!");
-          }
-
-          break; // Cada flecha atinge apenas um inimigo
-        }
-      }
-    }
-  }
-
-  private class BleedEffect {
-    Enemy enemy;
-    int duration;
-    int tickTimer;
-
-    BleedEffect(Enemy enemy) {
-      this.enemy = enemy;
-      this.duration = 300; // 5 segundos a 60 FPS
-      this.tickTimer = 0;
-    }
-
-    void update() {
-      duration--;
-      tickTimer++;
-
-      // Causar dano de sangramento a cada 60 frames (1 segundo)
-      if (tickTimer >= 60) {
-        if (enemy.isAlive()) {
-          enemy.takeDamage(3);
-          System.out.println("🩸 Dano de sangramento: 3");
-        }
-        tickTimer = 0;
-      }
-    }
-
-    boolean isActive() {
-      return duration > 0 && enemy.isAlive();
+      return false;
     }
   }
 
-  private class SlowEffect {
-    Enemy enemy;
-    double originalSpeed;
-
-    SlowEffect(Enemy enemy) {
-      this.enemy = enemy;
-      // Reduzir velocidade em 40%
-      try {
-        java.lang.reflect.Field speedField = enemy.getClass().getSuperclass().getDeclaredField("speed");
-        speedField.setAccessible(true);
-        this.originalSpeed = (double) speedField.get(enemy);
-        speedField.set(enemy, originalSpeed * 0.6); // 60% da velocidade
-      } catch (Exception e) {
-        this.originalSpeed = -1;
-      }
-    }
-
-    void restore() {
-      if (originalSpeed > 0 && enemy.isAlive()) {
-        try {
-          java.lang.reflect.Field speedField = enemy.getClass().getSuperclass().getDeclaredField("speed");
-          speedField.setAccessible(true);
-          speedField.set(enemy, originalSpeed);
-        } catch (Exception e) {
-          // Falha ao restaurar
-        }
-      }
-    }
-  }
+  // Flechas reaproveitadas entre chuvas (TOTAL_ARROWS por chuva)
+  private static final ObjectPool<FallingArrow> ARROW_POOL = new ObjectPool<>("FallingArrow", 64, FallingArrow::new);
 
   private RainPhase currentPhase;
   private int phaseTimer;
   private double targetX, targetY; // Centro da área
   private ArrayList<FallingArrow> arrows;
-  private ArrayList<BleedEffect> bleedEffects;
-  private ArrayList<SlowEffect> slowEffects;
   private int arrowSpawnTimer;
   private int arrowsSpawned;
   private Player currentPlayer;
+  private final ArrayList<Enemy> nearbyEnemies = new ArrayList<>(); // Reaproveitada entre consultas
 
   private static final int PREPARING_DURATION = 30; // 0.5 segundo
   private static final int RAINING_DURATION = 240; // 4 segundos
   private static final int TOTAL_ARROWS = 20;
   private static final int AREA_SIZE = 5; // 5x5 tiles
   private static final int MAX_RANGE = 6; // 6 tiles
+  private static final double SLOW_FACTOR = 0.6; // 60% da velocidade
 
   public ArrowRainSkill() {
     super("Chuva de Flechas",
@@ -190,8 +92,6 @@ public class ArrowRainSkill extends Skill {
     this.currentPhase = RainPhase.NONE;
     this.phaseTimer = 0;
     this.arrows = new ArrayList<>();
-    this.bleedEffects = new ArrayList<>();
-    this.slowEffects = new ArrayList<>();
     this.arrowsSpawned = 0;
   }
 
@@ -209,7 +109,7 @@ public class ArrowRainSkill extends Skill {
     // Iniciar fase de preparação
     currentPhase = RainPhase.PREPARING;
     phaseTimer = PREPARING_DURATION;
-    arrows.clear();
+    releaseArrows();
     arrowsSpawned = 0;
     arrowSpawnTimer = 0;
 
@@ -234,7 +134,7 @@ public class ArrowRainSkill extends Skill {
           currentPhase = RainPhase.RAINING;
           phaseTimer = RAINING_DURATION;
 
-          // Aplicar slow em todos os inimigos na área
+          // Aplicar slow em todos os inimigos na área (dura a chuva toda)
           applySlowEffect();
 
           System.out.println("☔ Chuva de flechas começou!");
@@ -256,34 +156,27 @@ public class ArrowRainSkill extends Skill {
         Iterator<FallingArrow> arrowIterator = arrows.iterator();
         while (arrowIterator.hasNext()) {
           FallingArrow arrow = arrowIterator.next();
-          arrow.update();
+          if (arrow.update()) {
+            // Aplicar dano aos inimigos próximos
+            hitEnemies(arrow);
+          }
 
           // Remover flechas que já caíram há algum tempo
           if (arrow.hasHit && arrow.currentY > arrow.y + 50) {
             arrowIterator.remove();
+            ARROW_POOL.free(arrow);
           }
         }
 
         if (phaseTimer <= 0) {
           // Fim da chuva
           currentPhase = RainPhase.NONE;
-
-          // Restaurar velocidade dos inimigos
-          for (SlowEffect slow : slowEffects) {
-            slow.restore();
-          }
-          slowEffects.clear();
+          releaseArrows();
 
           System.out.println("🏹 Chuva de flechas terminou!");
         }
         break;
     }
-
-    // Atualizar efeitos de sangramento
-    bleedEffects.removeIf(effect -> {
-      effect.update();
-      return !effect.isActive();
-    });
   }
 
   private void spawnArrow() {
@@ -295,7 +188,73 @@ public class ArrowRainSkill extends Skill {
     double arrowX = targetX + Math.cos(angle) * distance;
     double arrowY = targetY + Math.sin(angle) * distance;
 
-    arrows.add(new FallingArrow(arrowX, arrowY));
+    FallingArrow arrow = ARROW_POOL.obtain();
+    arrow.init(arrowX, arrowY);
+    arrows.add(arrow);
+  }
+
+  /**
+   * Aplica o dano da flecha que caiu aos inimigos próximos
+   */
+  private void hitEnemies(FallingArrow arrow) {
+    if (currentPlayer == null) {
+      System.out.println("❌ Arrow: currentPlayer é null!");
+      return;
+    }
+
+    EnemyManager enemyManager = currentPlayer.getEnemyManager();
+    if (enemyManager == null) {
+      System.out.println("❌ Arrow: enemyManager é null!");
+      return;
+    }
+
+    double x = arrow.x;
+    double y = arrow.y;
+
+    // Apenas inimigos perto do ponto de queda
+    nearbyEnemies.clear();
+    enemyManager.getEnemyIndex().queryRadius(x, y, 25, nearbyEnemies);
+    int dexterity = currentPlayer.getStats().getDexterity();
+    int damage = 15 + (int) (dexterity * 1.5);
+
+    System.out.println("🎯 Flecha caiu em (" + (int) x + ", " + (int) y + ") - Dano: " + damage);
+
+    for (Enemy enemy : nearbyEnemies) {
+      if (!enemy.isAlive())
+        continue;
+
+      double enemyX = enemy.getX() + enemy.getWidth() / 2;
+      double enemyY = enemy.getY() + enemy.getHeight() / 2;
+
+      double dx = enemyX - x;
+      double dy = enemyY - y;
+      double distance = Math.sqrt(dx * dx + dy * dy);
+
+      // Raio de hit da flecha
+      if (distance < 25) {
+        System.out.println("✅ Flecha atingiu inimigo! Dano: " + damage);
+        enemy.takeDamage(damage);
+
+        // 30% de chance de sangramento
+        if (Math.random() < 0.3) {
+          enemy.applyEffect(StatusEffect.BLEED);
+          System.out.println("🩸 Sangramento aplicado!");
+        }
+
+        break; // Cada flecha atinge apenas um inimigo
+      }
+    }
+    nearbyEnemies.clear();
+  }
+
+  /**
+   * Devolve as flechas ao pool e esvazia a lista
+   */
+  private void releaseArrows() {
+    for (int i = 0; i < arrows.size(); i++) {
+      ARROW_POOL.free(arrows.get(i));
+    }
+    arrows.clear();
   }
 
   private void applySlowEffect() {
@@ -306,12 +265,11 @@ public class ArrowRainSkill extends Skill {
     if (enemyManager == null)
       return;
 
-    ArrayList<Enemy> enemies = enemyManager.getEnemies();
     double areaRadius = (AREA_SIZE * GamePanel.TILE_SIZE) / 2.0;
+    nearbyEnemies.clear();
+    enemyManager.getEnemyIndex().queryRadius(targetX, targetY, areaRadius, nearbyEnemies);
 
-    slowEffects.clear();
-
-    for (Enemy enemy : enemies) {
+    for (Enemy enemy : nearbyEnemies) {
       if (!enemy.isAlive())
         continue;
 
@@ -323,14 +281,20 @@ public class ArrowRainSkill extends Skill {
       double distance = Math.sqrt(dx * dx + dy * dy);
 
       if (distance <= areaRadius) {
-        slowEffects.add(new SlowEffect(enemy));
+        enemy.applyEffect(StatusEffect.SLOW, RAINING_DURATION, SLOW_FACTOR);
         System.out.println("🐌 Inimigo desacelerado!");
       }
     }
+    nearbyEnemies.clear();
+  }
+
+  @Override
+  public void captureEffects(List<Object> out) {
+    out.addAll(arrows);
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (currentPhase == RainPhase.NONE) {
       return;
     }
@@ -344,46 +308,47 @@ public class ArrowRainSkill extends Skill {
     int radius = areaSize / 2;
 
     // Área circular verde no chão
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-    g.setColor(new Color(0, 255, 0, 80));
+    g.setComposite(RenderResources.composite(0.3f));
+    g.setColor(RenderResources.color(0, 255, 0, 80));
     g.fillOval(screenX - radius, screenY - radius, areaSize, areaSize);
 
     // Borda verde brilhante
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
-    g.setStroke(new BasicStroke(3));
-    g.setColor(new Color(0, 255, 0));
+    g.setComposite(RenderResources.composite(0.7f));
+    g.setStroke(RenderResources.stroke(3));
+    g.setColor(RenderResources.color(0, 255, 0));
     g.drawOval(screenX - radius, screenY - radius, areaSize, areaSize);
 
     // Partículas verdes flutuando (apenas durante a chuva)
     if (currentPhase == RainPhase.RAINING) {
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+      g.setComposite(RenderResources.composite(0.5f));
       for (int i = 0; i < 10; i++) {
         double angle = (System.currentTimeMillis() * 0.001 + i) % (Math.PI * 2);
         double dist = radius * 0.7 + Math.sin(angle * 3) * 20;
         int px = screenX + (int) (Math.cos(angle) * dist);
         int py = screenY + (int) (Math.sin(angle) * dist);
 
-        g.setColor(new Color(150, 255, 150));
+        g.setColor(RenderResources.color(150, 255, 150));
         g.fillOval(px - 3, py - 3, 6, 6);
       }
     }
 
     // Renderizar flechas caindo
-    for (FallingArrow arrow : arrows) {
+    for (int index = 0; index < effects.size(); index++) {
+      FallingArrow arrow = (FallingArrow) effects.get(index);
       int arrowScreenX = (int) (arrow.x - camera.getX());
       int arrowScreenY = (int) (arrow.currentY - camera.getY());
       int arrowGroundY = (int) (arrow.y - camera.getY());
 
       if (!arrow.hasHit) {
         // Sombra no chão
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, arrow.shadowAlpha / 255.0f));
-        g.setColor(new Color(0, 50, 0));
+        g.setComposite(RenderResources.composite(arrow.shadowAlpha / 255.0f));
+        g.setColor(RenderResources.color(0, 50, 0));
         g.fillOval(arrowScreenX - 8, arrowGroundY - 4, 16, 8);
 
         // Flecha caindo (linha com ponta)
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.9f));
-        g.setStroke(new BasicStroke(2));
-        g.setColor(new Color(0, 200, 0));
+        g.setComposite(RenderResources.composite(0.9f));
+        g.setStroke(RenderResources.stroke(2));
+        g.setColor(RenderResources.color(0, 200, 0));
         g.drawLine(arrowScreenX, arrowScreenY - 15, arrowScreenX, arrowScreenY);
 
         // Ponta da flecha (triângulo)
@@ -394,44 +359,25 @@ public class ArrowRainSkill extends Skill {
         g.fillPolygon(arrowHead);
 
         // Trail luminoso
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
-        g.setColor(new Color(150, 255, 150));
+        g.setComposite(RenderResources.composite(0.5f));
+        g.setColor(RenderResources.color(150, 255, 150));
         g.drawLine(arrowScreenX, arrowScreenY - 15, arrowScreenX, arrowScreenY - 25);
       } else {
         // Flecha no chão (efeito de impacto)
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
-        g.setColor(new Color(0, 150, 0));
+        g.setComposite(RenderResources.composite(0.7f));
+        g.setColor(RenderResources.color(0, 150, 0));
         g.fillOval(arrowScreenX - 2, arrowGroundY - 2, 4, 4);
 
         // Ondas de impacto
         int impactRadius = (int) ((arrow.currentY - arrow.y) / 2);
         if (impactRadius < 20) {
-          g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
+          g.setComposite(RenderResources.composite(0.3f));
           g.drawOval(arrowScreenX - impactRadius, arrowGroundY - impactRadius,
               impactRadius * 2, impactRadius * 2);
         }
       }
     }
 
-    // Renderizar efeitos de sangramento
-    for (BleedEffect effect : bleedEffects) {
-      if (effect.enemy.isAlive()) {
-        int enemyScreenX = (int) (effect.enemy.getX() - camera.getX());
-        int enemyScreenY = (int) (effect.enemy.getY() - camera.getY());
-
-        // Gotas de sangue caindo
-        float bleedAlpha = 0.4f + 0.2f * (float) Math.sin(effect.duration * 0.1);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, bleedAlpha));
-        g.setColor(new Color(200, 0, 0));
-
-        for (int i = 0; i < 3; i++) {
-          int dropX = enemyScreenX + 15 + (i * 10);
-          int dropY = enemyScreenY + (effect.tickTimer % 20);
-          g.fillOval(dropX, dropY, 4, 6);
-        }
-      }
-    }
-
     g.setComposite(originalComposite);
     g.setStroke(originalStroke);
   }
@@ -2,12 +2,13 @@ package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
 import java.awt.Color;
-import java.awt.AlphaComposite;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade Ultimate: Fúria Berserk
@@ -134,7 +135,12 @@ public class BerserkFurySkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(particles);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (!berserkActive || currentPlayer == null) {
       return;
     }
@@ -149,35 +155,36 @@ public class BerserkFurySkill extends Skill {
 
     // Aura pulsante vermelha ao redor do guerreiro
     float pulse = 0.3f + 0.2f * (float) Math.sin(berserkTimer * 0.1);
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulse));
+    g.setComposite(RenderResources.composite(pulse));
 
     // Círculos concêntricos de aura
     for (int i = 3; i >= 1; i--) {
       int radius = 25 + (i * 15);
-      g.setColor(new Color(255, 0, 0, 80 / i));
+      g.setColor(RenderResources.color(255, 0, 0, 80 / i));
       g.fillOval(playerCenterX - radius, playerCenterY - radius, radius * 2, radius * 2);
     }
 
     // Renderizar partículas de fúria
-    for (FuryParticle particle : particles) {
+    for (int index = 0; index < effects.size(); index++) {
+      FuryParticle particle = (FuryParticle) effects.get(index);
       int screenX = (int) (particle.x - camera.getX());
       int screenY = (int) (particle.y - camera.getY());
 
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, particle.alpha));
+      g.setComposite(RenderResources.composite(particle.alpha));
 
       // Partícula vermelha brilhante
-      g.setColor(new Color(255, 50, 0));
+      g.setColor(RenderResources.color(255, 50, 0));
       g.fillOval(screenX - 3, screenY - 3, 6, 6);
 
       // Brilho interno
-      g.setColor(new Color(255, 150, 0));
+      g.setColor(RenderResources.color(255, 150, 0));
       g.fillOval(screenX - 1, screenY - 1, 2, 2);
     }
 
     // Indicador de tempo restante acima do player
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f));
+    g.setComposite(RenderResources.composite(0.8f));
     g.setColor(Color.RED);
-    g.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", java.awt.Font.BOLD, 12));
     String timeText = "FÚRIA: " + (berserkTimer / 60 + 1) + "s";
     java.awt.FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(timeText);
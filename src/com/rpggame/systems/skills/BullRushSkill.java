@@ -1,9 +1,8 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
 import java.util.ArrayList;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
@@ -11,6 +10,7 @@ import com.rpggame.world.TileMap;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade: Dash do Touro
@@ -176,9 +176,15 @@ public class BullRushSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(trails);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     // Renderizar rastros
-    for (DashTrail trail : trails) {
+    for (int index = 0; index < effects.size(); index++) {
+      DashTrail trail = (DashTrail) effects.get(index);
       int screenX = (int) (trail.x - camera.getX());
       int screenY = (int) (trail.y - camera.getY());
 
@@ -186,14 +192,14 @@ public class BullRushSkill extends Skill {
       float alpha = Math.min(1.0f, trail.duration / 15.0f);
 
       // Desenhar rastro vermelho
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.6f));
-      g.setColor(new Color(200, 50, 50));
+      g.setComposite(RenderResources.composite(alpha * 0.6f));
+      g.setColor(RenderResources.color(200, 50, 50));
       g.fillRect(screenX, screenY, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE);
 
       // Linhas de movimento
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.8f));
-      g.setColor(new Color(255, 100, 100));
-      g.setStroke(new java.awt.BasicStroke(3));
+      g.setComposite(RenderResources.composite(alpha * 0.8f));
+      g.setColor(RenderResources.color(255, 100, 100));
+      g.setStroke(RenderResources.stroke(3));
       for (int i = 0; i < 3; i++) {
         int offset = i * 12;
         g.drawLine(screenX + offset, screenY, screenX + offset, screenY + GamePanel.TILE_SIZE);
@@ -201,7 +207,7 @@ public class BullRushSkill extends Skill {
     }
 
     // Resetar composite e stroke
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-    g.setStroke(new java.awt.BasicStroke(1));
+    g.setComposite(RenderResources.composite(1.0f));
+    g.setStroke(RenderResources.stroke(1));
   }
 }
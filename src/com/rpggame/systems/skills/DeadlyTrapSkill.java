@@ -7,6 +7,7 @@ import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.InputStream;
@@ -15,6 +16,7 @@ import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade: Armadilha Mortal
@@ -78,14 +80,14 @@ public class DeadlyTrapSkill extends Skill {
       g.setComposite(AlphaComposite.SrcOver);
 
       // Desenhar armadilha simples (círculo com dentes)
-      g.setColor(new Color(100, 100, 100));
+      g.setColor(RenderResources.color(100, 100, 100));
       g.fillOval(8, 8, 32, 32);
 
-      g.setColor(new Color(150, 150, 150));
+      g.setColor(RenderResources.color(150, 150, 150));
       g.fillOval(12, 12, 24, 24);
 
       // Dentes da armadilha
-      g.setColor(new Color(80, 80, 80));
+      g.setColor(RenderResources.color(80, 80, 80));
       for (int i = 0; i < 8; i++) {
         double angle = i * Math.PI / 4;
         int x1 = 24 + (int) (Math.cos(angle) * 12);
@@ -132,10 +134,10 @@ public class DeadlyTrapSkill extends Skill {
 
         // Piscar nos últimos 3 segundos
         if (lifetime < 180 && (lifetime / 10) % 2 == 0) {
-          g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+          g.setComposite(RenderResources.composite(0.5f));
           g.setColor(Color.RED);
           g.fillRect(screenX, screenY, TRAP_SIZE, TRAP_SIZE);
-          g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+          g.setComposite(RenderResources.composite(1.0f));
         }
       }
     }
@@ -209,9 +211,15 @@ public class DeadlyTrapSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(traps);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     // Renderizar todas as armadilhas ativas
-    for (Trap trap : traps) {
+    for (int index = 0; index < effects.size(); index++) {
+      Trap trap = (Trap) effects.get(index);
       if (trap.active) {
         trap.render(g, camera);
       }
@@ -1,15 +1,15 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade: Encantamento
@@ -147,9 +147,15 @@ public class EnchantmentSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(projectiles);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     // Renderizar projéteis
-    for (EnchantmentProjectile proj : projectiles) {
+    for (int index = 0; index < effects.size(); index++) {
+      EnchantmentProjectile proj = (EnchantmentProjectile) effects.get(index);
       if (!proj.active)
         continue;
 
@@ -157,22 +163,22 @@ public class EnchantmentSkill extends Skill {
       int screenY = (int) (proj.posY - camera.getY());
 
       // Desenhar orbe roxa brilhante
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f));
+      g.setComposite(RenderResources.composite(0.8f));
 
       // Aura externa
-      g.setColor(new Color(200, 100, 255, 100));
+      g.setColor(RenderResources.color(200, 100, 255, 100));
       g.fillOval(screenX - 20, screenY - 20, 40, 40);
 
       // Orbe central
-      g.setColor(new Color(150, 50, 255));
+      g.setColor(RenderResources.color(150, 50, 255));
       g.fillOval(screenX - 8, screenY - 8, 16, 16);
 
       // Brilho interno
-      g.setColor(new Color(220, 150, 255));
+      g.setColor(RenderResources.color(220, 150, 255));
       g.fillOval(screenX - 4, screenY - 4, 8, 8);
 
       // Partículas ao redor
-      g.setColor(new Color(180, 100, 255));
+      g.setColor(RenderResources.color(180, 100, 255));
       for (int i = 0; i < 6; i++) {
         double angle = (System.currentTimeMillis() * 0.005 + i * Math.PI / 3);
         int px = screenX + (int) (Math.cos(angle) * 12);
@@ -181,6 +187,6 @@ public class EnchantmentSkill extends Skill {
       }
     }
 
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+    g.setComposite(RenderResources.composite(1.0f));
   }
 }
@@ -1,8 +1,8 @@
 package com.rpggame.systems.skills;
 
-import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.rpggame.entities.Enemy;
 import com.rpggame.entities.Player;
@@ -10,6 +10,7 @@ import com.rpggame.entities.Projectile;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.systems.Skill;
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade do Mago: Bola de Fogo
@@ -75,15 +76,21 @@ public class FireballSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
-    // Renderizar bolas de fogo
-    for (FireballProjectile fireball : activeFireballs) {
-      fireball.render(g, camera);
-    }
+  public void captureEffects(List<Object> out) {
+    out.addAll(activeFireballs);
+    out.addAll(activeExplosions);
+  }
 
-    // Renderizar explosões
-    for (FireballExplosion explosion : activeExplosions) {
-      explosion.render(g, camera);
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
+    // Bolas de fogo e depois explosões, na ordem em que foram capturadas
+    for (int index = 0; index < effects.size(); index++) {
+      Object effect = effects.get(index);
+      if (effect instanceof FireballProjectile) {
+        ((FireballProjectile) effect).render(g, camera);
+      } else {
+        ((FireballExplosion) effect).render(g, camera);
+      }
     }
   }
 
@@ -210,11 +217,11 @@ public class FireballSkill extends Skill {
       int flameSize = 20 + (int) (Math.sin(animationFrame * 0.3) * 5);
 
       // Núcleo da bola de fogo (branco quente)
-      g.setColor(new Color(255, 255, 200, 200));
+      g.setColor(RenderResources.color(255, 255, 200, 200));
       g.fillOval(screenX - flameSize / 3, screenY - flameSize / 3, flameSize * 2 / 3, flameSize * 2 / 3);
 
       // Chama externa (laranja/vermelho)
-      g.setColor(new Color(255, 100, 0, 150));
+      g.setColor(RenderResources.color(255, 100, 0, 150));
       g.fillOval(screenX - flameSize / 2, screenY - flameSize / 2, flameSize, flameSize);
 
       // Partículas ao redor
@@ -223,7 +230,7 @@ public class FireballSkill extends Skill {
         int particleX = screenX + (int) (Math.cos(angle) * 15);
         int particleY = screenY + (int) (Math.sin(angle) * 15);
 
-        g.setColor(new Color(255, 150, 0, 100));
+        g.setColor(RenderResources.color(255, 150, 0, 100));
         g.fillOval(particleX - 3, particleY - 3, 6, 6);
       }
     }
@@ -260,17 +267,17 @@ public class FireballSkill extends Skill {
 
       // Explosão em camadas
       // Onda de choque externa
-      g.setColor(new Color(255, 0, 0, (int) (intensity * 60)));
+      g.setColor(RenderResources.color(255, 0, 0, (int) (intensity * 60)));
       g.fillOval(screenX - radius, screenY - radius, radius * 2, radius * 2);
 
       // Núcleo da explosão
       int coreRadius = radius / 2;
-      g.setColor(new Color(255, 255, 0, (int) (intensity * 150)));
+      g.setColor(RenderResources.color(255, 255, 0, (int) (intensity * 150)));
       g.fillOval(screenX - coreRadius, screenY - coreRadius, coreRadius * 2, coreRadius * 2);
 
       // Centro branco quente
       int hotRadius = radius / 4;
-      g.setColor(new Color(255, 255, 255, (int) (intensity * 200)));
+      g.setColor(RenderResources.color(255, 255, 255, (int) (intensity * 200)));
       g.fillOval(screenX - hotRadius, screenY - hotRadius, hotRadius * 2, hotRadius * 2);
     }
   }
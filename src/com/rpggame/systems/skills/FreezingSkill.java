@@ -1,10 +1,9 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.world.Camera;
@@ -13,6 +12,7 @@ import com.rpggame.world.TileType;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade: Congelamento
@@ -89,7 +89,7 @@ public class FreezingSkill extends Skill {
       return;
     }
 
-    ArrayList<Enemy> enemies = enemyManager.getEnemies();
+    ArrayList<Enemy> enemies = new ArrayList<>();
     int frozenEnemyCount = 0;
     int frozenTileCount = 0;
 
@@ -105,7 +105,10 @@ public class FreezingSkill extends Skill {
       frozenTiles.add(new FrozenTile(targetTileX, targetTileY, FREEZE_DURATION, tileType));
       frozenTileCount++;
 
-      // Congelar inimigos neste tile
+      // Congelar inimigos neste tile (candidatos do índice espacial)
+      enemies.clear();
+      enemyManager.getEnemyIndex().queryRect(targetTileX * GamePanel.TILE_SIZE,
+          targetTileY * GamePanel.TILE_SIZE, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE, enemies);
       for (Enemy enemy : enemies) {
         if (!enemy.isAlive())
           continue;
@@ -125,23 +128,10 @@ public class FreezingSkill extends Skill {
   }
 
   /**
-   * Congela um inimigo usando reflection
+   * Congela um inimigo
    */
   private void freezeEnemy(Enemy enemy, int duration) {
-    try {
-      java.lang.reflect.Field frozenField = enemy.getClass().getSuperclass().getDeclaredField("frozen");
-      java.lang.reflect.Field freezeTimerField = enemy.getClass().getSuperclass().getDeclaredField("freezeTimer");
-
-      frozenField.setAccessible(true);
-      freezeTimerField.setAccessible(true);
-
-      frozenField.set(enemy, true);
-      freezeTimerField.set(enemy, duration);
-
-      System.out.println("❄️ Inimigo congelado!");
-    } catch (Exception e) {
-      System.err.println("❌ Erro ao congelar inimigo: " + e.getMessage());
-    }
+    enemy.applyFreeze(duration);
   }
 
   @Override
@@ -184,9 +174,15 @@ public class FreezingSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(frozenTiles);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     // Renderizar tiles congelados
-    for (FrozenTile tile : frozenTiles) {
+    for (int index = 0; index < effects.size(); index++) {
+      FrozenTile tile = (FrozenTile) effects.get(index);
       int screenX = (tile.tileX * GamePanel.TILE_SIZE) - (int) camera.getX();
       int screenY = (tile.tileY * GamePanel.TILE_SIZE) - (int) camera.getY();
 
@@ -194,18 +190,18 @@ public class FreezingSkill extends Skill {
       float alpha = Math.min(1.0f, tile.duration / 60.0f);
 
       // Desenhar quadrado azul semi-transparente
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.6f));
-      g.setColor(new Color(100, 200, 255));
+      g.setComposite(RenderResources.composite(alpha * 0.6f));
+      g.setColor(RenderResources.color(100, 200, 255));
       g.fillRect(screenX, screenY, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE);
 
       // Desenhar borda mais clara
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.8f));
-      g.setColor(new Color(200, 240, 255));
-      g.setStroke(new java.awt.BasicStroke(2));
+      g.setComposite(RenderResources.composite(alpha * 0.8f));
+      g.setColor(RenderResources.color(200, 240, 255));
+      g.setStroke(RenderResources.stroke(2));
       g.drawRect(screenX, screenY, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE);
 
       // Desenhar padrão de gelo (linhas diagonais)
-      g.setColor(new Color(220, 245, 255));
+      g.setColor(RenderResources.color(220, 245, 255));
       for (int i = 0; i < 3; i++) {
         int offset = i * 16;
         g.drawLine(screenX + offset, screenY, screenX, screenY + offset);
@@ -215,7 +211,7 @@ public class FreezingSkill extends Skill {
     }
 
     // Resetar composite e stroke
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-    g.setStroke(new java.awt.BasicStroke(1));
+    g.setComposite(RenderResources.composite(1.0f));
+    g.setStroke(RenderResources.stroke(1));
   }
 }
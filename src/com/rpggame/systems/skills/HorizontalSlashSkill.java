@@ -4,12 +4,14 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.Arc2D;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.rpggame.entities.Enemy;
 import com.rpggame.entities.Player;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.systems.Skill;
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade do Guerreiro: Golpe Horizontal
@@ -116,7 +118,7 @@ public class HorizontalSlashSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (!isAnimating)
       return;
 
@@ -128,7 +130,7 @@ public class HorizontalSlashSkill extends Skill {
     float intensity = (float) animationTimer / ANIMATION_DURATION;
 
     // Cor do efeito (dourado/amarelo para guerreiro)
-    Color slashColor = new Color(1.0f, 0.8f, 0.0f, intensity * 0.6f);
+    Color slashColor = RenderResources.color(1.0f, 0.8f, 0.0f, intensity * 0.6f);
     g.setColor(slashColor);
 
     // Desenhar arco representando o golpe
@@ -149,7 +151,7 @@ public class HorizontalSlashSkill extends Skill {
     g.fill(arc);
 
     // Contorno mais escuro
-    g.setColor(new Color(1.0f, 0.6f, 0.0f, intensity * 0.8f));
+    g.setColor(RenderResources.color(1.0f, 0.6f, 0.0f, intensity * 0.8f));
     g.draw(arc);
 
     // Linhas de movimento para dar sensação de velocidade
@@ -160,7 +162,7 @@ public class HorizontalSlashSkill extends Skill {
       int lineEndX = screenX + (int) (Math.cos(lineAngle) * lineLength);
       int lineEndY = screenY + (int) (Math.sin(lineAngle) * lineLength);
 
-      g.setColor(new Color(1.0f, 1.0f, 1.0f, intensity * 0.7f));
+      g.setColor(RenderResources.color(1.0f, 1.0f, 1.0f, intensity * 0.7f));
       g.drawLine(screenX, screenY, lineEndX, lineEndY);
     }
   }
@@ -1,14 +1,14 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
 import java.util.ArrayList;
+import java.util.List;
 import com.rpggame.entities.Player;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.entities.Enemy;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade: Intimidação Colossal
@@ -111,7 +111,7 @@ public class IntimidatingShoutSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (!isActive)
       return;
 
@@ -123,19 +123,19 @@ public class IntimidatingShoutSkill extends Skill {
     float intensity = effectTimer / (float) EFFECT_DURATION;
 
     // Desenhar onda vermelha expandindo
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, intensity * 0.5f));
+    g.setComposite(RenderResources.composite(intensity * 0.5f));
 
     // Onda externa (mais clara)
-    g.setColor(new Color(255, 50, 50, 150));
+    g.setColor(RenderResources.color(255, 50, 50, 150));
     int radius = (int) effectRadius;
     g.fillOval(screenX - radius, screenY - radius, radius * 2, radius * 2);
 
     // Onda interna (mais escura)
-    g.setColor(new Color(200, 0, 0, 200));
+    g.setColor(RenderResources.color(200, 0, 0, 200));
     int innerRadius = (int) (effectRadius * 0.7f);
     g.fillOval(screenX - innerRadius, screenY - innerRadius, innerRadius * 2, innerRadius * 2);
 
     // Resetar composite
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+    g.setComposite(RenderResources.composite(1.0f));
   }
 }
@@ -3,12 +3,14 @@ package com.rpggame.systems.skills;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.rpggame.entities.Enemy;
 import com.rpggame.entities.Player;
 import com.rpggame.systems.EnemyManager;
 import com.rpggame.systems.Skill;
 import com.rpggame.world.Camera;
+import com.rpggame.world.RenderResources;
 
 /**
  * Habilidade do Archer: Flecha Perfurante
@@ -62,9 +64,15 @@ public class PiercingArrowSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void captureEffects(List<Object> out) {
+    out.addAll(activeArrows);
+  }
+
+  @Override
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     // Renderizar flechas
-    for (PiercingArrow arrow : activeArrows) {
+    for (int index = 0; index < effects.size(); index++) {
+      PiercingArrow arrow = (PiercingArrow) effects.get(index);
       arrow.render(g, camera);
     }
   }
@@ -187,13 +195,13 @@ public class PiercingArrowSkill extends Skill {
         int trailScreenY = (int) (trailY - camera.getY());
 
         float alpha = 0.3f - (i * 0.05f);
-        g.setColor(new Color(0, 200, 255, (int) (alpha * 255)));
+        g.setColor(RenderResources.color(0, 200, 255, (int) (alpha * 255)));
         g.fillOval(trailScreenX - 2, trailScreenY - 2, 4, 4);
       }
     }
 
     private void renderArrow(Graphics2D g, int screenX, int screenY) {
-      g.setColor(new Color(139, 69, 19)); // Marrom para o cabo
+      g.setColor(RenderResources.color(139, 69, 19)); // Marrom para o cabo
 
       // Calcular posições da flecha baseado na direção
       double cos = Math.cos(direction);
@@ -216,13 +224,13 @@ public class PiercingArrowSkill extends Skill {
       g.fillPolygon(xPoints, yPoints, 3);
 
       // Cabo da flecha
-      g.setColor(new Color(139, 69, 19));
+      g.setColor(RenderResources.color(139, 69, 19));
       g.drawLine(
           screenX, screenY,
           screenX - (int) (cos * 12), screenY - (int) (sin * 12));
 
       // Penas
-      g.setColor(new Color(255, 255, 255, 180));
+      g.setColor(RenderResources.color(255, 255, 255, 180));
       for (int i = -1; i <= 1; i += 2) {
         g.drawLine(
             screenX - (int) (cos * 10), screenY - (int) (sin * 10),
@@ -235,11 +243,11 @@ public class PiercingArrowSkill extends Skill {
       float pulse = (float) (0.5 + 0.3 * Math.sin(trailTimer * 0.2));
 
       // Aura azul
-      g.setColor(new Color(0, 150, 255, (int) (pulse * 80)));
+      g.setColor(RenderResources.color(0, 150, 255, (int) (pulse * 80)));
       g.fillOval(screenX - 8, screenY - 8, 16, 16);
 
       // Brilho central
-      g.setColor(new Color(255, 255, 255, (int) (pulse * 120)));
+      g.setColor(RenderResources.color(255, 255, 255, (int) (pulse * 120)));
       g.fillOval(screenX - 3, screenY - 3, 6, 6);
     }
   }
@@ -1,12 +1,12 @@
 package com.rpggame.systems.skills;
 
 import java.awt.Graphics2D;
-import java.awt.Color;
-import java.awt.AlphaComposite;
 import com.rpggame.entities.Player;
 import com.rpggame.world.Camera;
 import com.rpggame.systems.Skill;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
+import java.util.List;
 
 /**
  * Habilidade: Salto Veloz
@@ -111,7 +111,7 @@ public class QuickDashSkill extends Skill {
   }
 
   @Override
-  public void render(Graphics2D g, Camera camera) {
+  public void render(Graphics2D g, Camera camera, List<Object> effects) {
     if (!isDashing)
       return;
 
@@ -125,12 +125,12 @@ public class QuickDashSkill extends Skill {
       // Calcular transparência baseada na posição no trail
       float alpha = (1.0f - (i / (float) MAX_TRAIL_POSITIONS)) * 0.5f;
 
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-      g.setColor(new Color(100, 255, 100));
+      g.setComposite(RenderResources.composite(alpha));
+      g.setColor(RenderResources.color(100, 255, 100));
       g.fillOval(screenX, screenY, 33, 48); // Tamanho do player
 
       // Desenhar linhas de velocidade
-      g.setColor(new Color(200, 255, 200));
+      g.setColor(RenderResources.color(200, 255, 200));
       for (int j = 0; j < 3; j++) {
         int lineOffset = j * 5;
         g.drawLine(screenX - 10 - lineOffset, screenY + 24,
@@ -139,7 +139,7 @@ public class QuickDashSkill extends Skill {
     }
 
     // Resetar composite
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+    g.setComposite(RenderResources.composite(1.0f));
   }
 
   /**
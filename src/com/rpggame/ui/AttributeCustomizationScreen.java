@@ -6,6 +6,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import com.rpggame.systems.CharacterStats;
 import com.rpggame.core.GamePanel;
+import com.rpggame.world.RenderResources;
 
 /**
  * Tela de customização de atributos do personagem
@@ -45,13 +46,13 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
   };
 
   // Cores do tema
-  private final Color BACKGROUND_COLOR = new Color(20, 30, 40);
-  // private final Color PANEL_COLOR = new Color(40, 50, 60); // TODO: Usar se
+  private final Color BACKGROUND_COLOR = RenderResources.color(20, 30, 40);
+  // private final Color PANEL_COLOR = RenderResources.color(40, 50, 60); // TODO: Usar se
   // necessário
-  private final Color TEXT_COLOR = new Color(220, 220, 220);
-  private final Color ACCENT_COLOR = new Color(100, 150, 200);
-  private final Color PRIMARY_COLOR = new Color(255, 215, 0); // Dourado para atributo principal
-  private final Color WARNING_COLOR = new Color(255, 100, 100);
+  private final Color TEXT_COLOR = RenderResources.color(220, 220, 220);
+  private final Color ACCENT_COLOR = RenderResources.color(100, 150, 200);
+  private final Color PRIMARY_COLOR = RenderResources.color(255, 215, 0); // Dourado para atributo principal
+  private final Color WARNING_COLOR = RenderResources.color(255, 100, 100);
 
   public AttributeCustomizationScreen(JFrame parentFrame, String selectedClass, String spritePath) {
     this.parentFrame = parentFrame;
@@ -89,7 +90,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Título
     titleLabel = new JLabel("CUSTOMIZAÇÃO DE ATRIBUTOS");
-    titleLabel.setFont(new Font("Arial", Font.BOLD, 28));
+    titleLabel.setFont(RenderResources.font("Arial", Font.BOLD, 28));
     titleLabel.setForeground(TEXT_COLOR);
     gbc.gridx = 0;
     gbc.gridy = 0;
@@ -99,7 +100,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Classe selecionada
     classLabel = new JLabel("Classe: " + selectedClass.toUpperCase());
-    classLabel.setFont(new Font("Arial", Font.BOLD, 18));
+    classLabel.setFont(RenderResources.font("Arial", Font.BOLD, 18));
     classLabel.setForeground(PRIMARY_COLOR);
     gbc.gridx = 0;
     gbc.gridy = 1;
@@ -109,7 +110,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Pontos disponíveis
     pointsLabel = new JLabel();
-    pointsLabel.setFont(new Font("Arial", Font.BOLD, 18));
+    pointsLabel.setFont(RenderResources.font("Arial", Font.BOLD, 18));
     gbc.gridx = 1;
     gbc.gridy = 1;
     gbc.anchor = GridBagConstraints.EAST;
@@ -128,21 +129,21 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Cabeçalhos
     JLabel nameHeader = new JLabel("ATRIBUTO");
-    nameHeader.setFont(new Font("Arial", Font.BOLD, 14));
+    nameHeader.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     nameHeader.setForeground(TEXT_COLOR);
     gbc.gridx = 0;
     gbc.gridy = 0;
     mainPanel.add(nameHeader, gbc);
 
     JLabel valueHeader = new JLabel("VALOR");
-    valueHeader.setFont(new Font("Arial", Font.BOLD, 14));
+    valueHeader.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     valueHeader.setForeground(TEXT_COLOR);
     gbc.gridx = 2;
     gbc.gridy = 0;
     mainPanel.add(valueHeader, gbc);
 
     JLabel bonusHeader = new JLabel("EFEITO");
-    bonusHeader.setFont(new Font("Arial", Font.BOLD, 14));
+    bonusHeader.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     bonusHeader.setForeground(TEXT_COLOR);
     gbc.gridx = 4;
     gbc.gridy = 0;
@@ -165,11 +166,11 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
     namePanel.setBackground(BACKGROUND_COLOR);
 
     attributeLabels[index] = new JLabel(ATTRIBUTE_NAMES[index]);
-    attributeLabels[index].setFont(new Font("Arial", Font.BOLD, 16));
+    attributeLabels[index].setFont(RenderResources.font("Arial", Font.BOLD, 16));
 
     JLabel descLabel = new JLabel(ATTRIBUTE_DESCRIPTIONS[index]);
-    descLabel.setFont(new Font("Arial", Font.PLAIN, 11));
-    descLabel.setForeground(new Color(180, 180, 180));
+    descLabel.setFont(RenderResources.font("Arial", Font.PLAIN, 11));
+    descLabel.setForeground(RenderResources.color(180, 180, 180));
 
     namePanel.add(attributeLabels[index]);
     namePanel.add(descLabel);
@@ -193,7 +194,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Valor atual
     valueLabels[index] = new JLabel("5");
-    valueLabels[index].setFont(new Font("Arial", Font.BOLD, 18));
+    valueLabels[index].setFont(RenderResources.font("Arial", Font.BOLD, 18));
     valueLabels[index].setForeground(TEXT_COLOR);
     valueLabels[index].setHorizontalAlignment(SwingConstants.CENTER);
     valueLabels[index].setPreferredSize(new Dimension(40, 30));
@@ -214,8 +215,8 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Bônus/Efeito
     bonusLabels[index] = new JLabel();
-    bonusLabels[index].setFont(new Font("Arial", Font.PLAIN, 13));
-    bonusLabels[index].setForeground(new Color(150, 255, 150));
+    bonusLabels[index].setFont(RenderResources.font("Arial", Font.PLAIN, 13));
+    bonusLabels[index].setForeground(RenderResources.color(150, 255, 150));
     gbc.gridx = 4;
     gbc.gridy = row;
     gbc.anchor = GridBagConstraints.WEST;
@@ -234,7 +235,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Botão Reset
     resetButton = new JButton("RESETAR");
-    resetButton.setFont(new Font("Arial", Font.BOLD, 14));
+    resetButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     resetButton.setPreferredSize(new Dimension(120, 40));
     resetButton.addActionListener(this);
     resetButton.setActionCommand("reset");
@@ -244,7 +245,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
 
     // Botão Confirmar
     confirmButton = new JButton("CONFIRMAR E JOGAR");
-    confirmButton.setFont(new Font("Arial", Font.BOLD, 14));
+    confirmButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     confirmButton.setPreferredSize(new Dimension(200, 40));
     confirmButton.addActionListener(this);
     confirmButton.setActionCommand("confirm");
@@ -374,7 +375,7 @@ public class AttributeCustomizationScreen extends JPanel implements ActionListen
     if (remaining < 0) {
       pointsLabel.setForeground(WARNING_COLOR);
     } else if (remaining == 0) {
-      pointsLabel.setForeground(new Color(150, 255, 150));
+      pointsLabel.setForeground(RenderResources.color(150, 255, 150));
     } else {
       pointsLabel.setForeground(TEXT_COLOR);
     }
@@ -9,6 +9,7 @@ import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import com.rpggame.world.RenderResources;
 
 /**
  * Tela de criação de personagem onde o jogador escolhe sua classe
@@ -35,10 +36,10 @@ public class CharacterCreationScreen extends JPanel implements ActionListener {
   // private BufferedImage selectedSprite; // TODO: Implementar se necessário
 
   // Cores do tema
-  private final Color BACKGROUND_COLOR = new Color(20, 30, 40);
-  private final Color PANEL_COLOR = new Color(40, 50, 60);
-  private final Color TEXT_COLOR = new Color(220, 220, 220);
-  private final Color ACCENT_COLOR = new Color(100, 150, 200);
+  private final Color BACKGROUND_COLOR = RenderResources.color(20, 30, 40);
+  private final Color PANEL_COLOR = RenderResources.color(40, 50, 60);
+  private final Color TEXT_COLOR = RenderResources.color(220, 220, 220);
+  private final Color ACCENT_COLOR = RenderResources.color(100, 150, 200);
 
   public CharacterCreationScreen(JFrame parentFrame) {
     this.parentFrame = parentFrame;
@@ -86,14 +87,14 @@ public class CharacterCreationScreen extends JPanel implements ActionListener {
     JPanel titlePanel = new JPanel();
     titlePanel.setBackground(BACKGROUND_COLOR);
     titleLabel = new JLabel("CRIAÇÃO DE PERSONAGEM");
-    titleLabel.setFont(new Font("Arial", Font.BOLD, 32));
+    titleLabel.setFont(RenderResources.font("Arial", Font.BOLD, 32));
     titleLabel.setForeground(TEXT_COLOR);
     titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
     titlePanel.add(titleLabel);
 
     // Instruções
     instructionLabel = new JLabel("Escolha sua classe:");
-    instructionLabel.setFont(new Font("Arial", Font.PLAIN, 18));
+    instructionLabel.setFont(RenderResources.font("Arial", Font.PLAIN, 18));
     instructionLabel.setForeground(TEXT_COLOR);
     instructionLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
@@ -109,7 +110,7 @@ public class CharacterCreationScreen extends JPanel implements ActionListener {
     buttonPanel.setBackground(BACKGROUND_COLOR);
     buttonPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 15, 0)); // Movido para cima
     continueButton = new JButton("CUSTOMIZAR ATRIBUTOS");
-    continueButton.setFont(new Font("Arial", Font.BOLD, 20));
+    continueButton.setFont(RenderResources.font("Arial", Font.BOLD, 20));
     continueButton.setPreferredSize(new Dimension(250, 50));
     continueButton.addActionListener(this);
     continueButton.setEnabled(false);
@@ -170,7 +171,7 @@ public class CharacterCreationScreen extends JPanel implements ActionListener {
 
     // Nome da classe
     JLabel nameLabel = new JLabel(className);
-    nameLabel.setFont(new Font("Arial", Font.BOLD, 18));
+    nameLabel.setFont(RenderResources.font("Arial", Font.BOLD, 18));
     nameLabel.setForeground(TEXT_COLOR);
     nameLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -184,7 +185,7 @@ public class CharacterCreationScreen extends JPanel implements ActionListener {
 
     // Descrição
     JTextArea descArea = new JTextArea(description);
-    descArea.setFont(new Font("Arial", Font.PLAIN, 12));
+    descArea.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     descArea.setForeground(TEXT_COLOR);
     descArea.setBackground(PANEL_COLOR);
     descArea.setLineWrap(true);
@@ -6,6 +6,7 @@ import javax.swing.*;
 import com.rpggame.core.GamePanel;
 import com.rpggame.entities.Player;
 import com.rpggame.systems.CharacterStats;
+import com.rpggame.world.RenderResources;
 
 /**
  * Tela de características do personagem onde o jogador pode distribuir pontos
@@ -28,11 +29,11 @@ public class CharacterScreen extends JPanel implements ActionListener, KeyListen
   private JButton cancelButton;
 
   // Cores
-  private Color backgroundColor = new Color(40, 40, 50);
-  private Color panelColor = new Color(60, 60, 70);
+  private Color backgroundColor = RenderResources.color(40, 40, 50);
+  private Color panelColor = RenderResources.color(60, 60, 70);
   private Color textColor = Color.WHITE;
-  private Color buttonColor = new Color(80, 80, 90);
-  private Color buttonHoverColor = new Color(100, 100, 110);
+  private Color buttonColor = RenderResources.color(80, 80, 90);
+  private Color buttonHoverColor = RenderResources.color(100, 100, 110);
 
   // Atributos temporários para preview
   private int tempStrength;
@@ -66,11 +67,11 @@ public class CharacterScreen extends JPanel implements ActionListener, KeyListen
 
     // Configurar fonts
     try {
-      font = new Font("Arial", Font.BOLD, 16);
-      titleFont = new Font("Arial", Font.BOLD, 24);
+      font = RenderResources.font("Arial", Font.BOLD, 16);
+      titleFont = RenderResources.font("Arial", Font.BOLD, 24);
     } catch (Exception e) {
-      font = new Font("SansSerif", Font.BOLD, 16);
-      titleFont = new Font("SansSerif", Font.BOLD, 24);
+      font = RenderResources.font("SansSerif", Font.BOLD, 16);
+      titleFont = RenderResources.font("SansSerif", Font.BOLD, 24);
     }
 
     initializeComponents();
@@ -234,7 +235,7 @@ public class CharacterScreen extends JPanel implements ActionListener, KeyListen
     JTextArea infoText = new JTextArea(20, 25); // Definir linhas e colunas
     infoText.setBackground(panelColor);
     infoText.setForeground(textColor);
-    infoText.setFont(new Font("Arial", Font.PLAIN, 11));
+    infoText.setFont(RenderResources.font("Arial", Font.PLAIN, 11));
     infoText.setEditable(false);
     infoText.setLineWrap(true);
     infoText.setWrapStyleWord(true);
@@ -256,8 +257,8 @@ public class CharacterScreen extends JPanel implements ActionListener, KeyListen
     // Fazer botões maiores e mais visíveis
     confirmButton.setPreferredSize(new Dimension(120, 40));
     cancelButton.setPreferredSize(new Dimension(120, 40));
-    confirmButton.setFont(new Font("Arial", Font.BOLD, 14));
-    cancelButton.setFont(new Font("Arial", Font.BOLD, 14));
+    confirmButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
+    cancelButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
 
     buttonPanel.add(confirmButton);
     buttonPanel.add(cancelButton);
@@ -23,6 +23,7 @@ import javax.swing.BoxLayout;
 import com.rpggame.core.GamePanel;
 import com.rpggame.systems.CharacterStats;
 import com.rpggame.systems.MusicManager;
+import com.rpggame.world.RenderResources;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -82,12 +83,12 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
   };
 
   // Cores do tema
-  private final Color backgroundColor = new Color(20, 30, 40);
-  private final Color panelColor = new Color(40, 50, 60);
-  private final Color textColor = new Color(220, 220, 220);
-  private final Color accentColor = new Color(100, 150, 200);
-  private final Color primaryColor = new Color(255, 215, 0);
-  private final Color warningColor = new Color(255, 100, 100);
+  private final Color backgroundColor = RenderResources.color(20, 30, 40);
+  private final Color panelColor = RenderResources.color(40, 50, 60);
+  private final Color textColor = RenderResources.color(220, 220, 220);
+  private final Color accentColor = RenderResources.color(100, 150, 200);
+  private final Color primaryColor = RenderResources.color(255, 215, 0);
+  private final Color warningColor = RenderResources.color(255, 100, 100);
 
   /**
    * Construtor da tela de criação de personagem.
@@ -176,15 +177,15 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     panel.setBorder(BorderFactory.createEmptyBorder(15, 20, 10, 20));
 
     titleLabel = new JLabel("CRIAÇÃO DE PERSONAGEM", SwingConstants.CENTER);
-    titleLabel.setFont(new Font("Arial", Font.BOLD, 28));
+    titleLabel.setFont(RenderResources.font("Arial", Font.BOLD, 28));
     titleLabel.setForeground(textColor);
 
     classLabel = new JLabel("Escolha sua classe:", SwingConstants.CENTER);
-    classLabel.setFont(new Font("Arial", Font.PLAIN, 16));
+    classLabel.setFont(RenderResources.font("Arial", Font.PLAIN, 16));
     classLabel.setForeground(textColor);
 
     pointsLabel = new JLabel("", SwingConstants.CENTER);
-    pointsLabel.setFont(new Font("Arial", Font.BOLD, 14));
+    pointsLabel.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     pointsLabel.setVisible(false);
 
     panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -253,13 +254,13 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     infoPanel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
 
     JLabel nameLabel = new JLabel(className);
-    nameLabel.setFont(new Font("Arial", Font.BOLD, 16));
+    nameLabel.setFont(RenderResources.font("Arial", Font.BOLD, 16));
     nameLabel.setForeground(textColor);
     nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
     JTextArea descArea = new JTextArea(description);
-    descArea.setFont(new Font("Arial", Font.PLAIN, 11));
-    descArea.setForeground(new Color(180, 180, 180));
+    descArea.setFont(RenderResources.font("Arial", Font.PLAIN, 11));
+    descArea.setForeground(RenderResources.color(180, 180, 180));
     descArea.setBackground(panelColor);
     descArea.setLineWrap(true);
     descArea.setWrapStyleWord(true);
@@ -311,7 +312,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
 
     // Título da seção
     JLabel attrTitle = new JLabel("DISTRIBUIÇÃO DE ATRIBUTOS", SwingConstants.CENTER);
-    attrTitle.setFont(new Font("Arial", Font.BOLD, 18));
+    attrTitle.setFont(RenderResources.font("Arial", Font.BOLD, 18));
     attrTitle.setForeground(textColor);
     attrTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
     topPanel.add(attrTitle);
@@ -325,7 +326,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
 
     // Aviso sobre pontos não utilizados
     JLabel warningLabel = new JLabel("⚠️ Pontos não utilizados serão perdidos!", SwingConstants.CENTER);
-    warningLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+    warningLabel.setFont(RenderResources.font("Arial", Font.ITALIC, 12));
     warningLabel.setForeground(warningColor);
     warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
     topPanel.add(warningLabel);
@@ -346,21 +347,21 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     gbc.gridy = 0;
     gbc.anchor = GridBagConstraints.WEST;
     JLabel nameHeader = new JLabel("ATRIBUTO");
-    nameHeader.setFont(new Font("Arial", Font.BOLD, 12));
+    nameHeader.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     nameHeader.setForeground(textColor);
     attributesGrid.add(nameHeader, gbc);
 
     gbc.gridx = 2;
     gbc.anchor = GridBagConstraints.CENTER;
     JLabel valueHeader = new JLabel("VALOR");
-    valueHeader.setFont(new Font("Arial", Font.BOLD, 12));
+    valueHeader.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     valueHeader.setForeground(textColor);
     attributesGrid.add(valueHeader, gbc);
 
     gbc.gridx = 4;
     gbc.anchor = GridBagConstraints.WEST;
     JLabel bonusHeader = new JLabel("EFEITO");
-    bonusHeader.setFont(new Font("Arial", Font.BOLD, 12));
+    bonusHeader.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     bonusHeader.setForeground(textColor);
     attributesGrid.add(bonusHeader, gbc);
 
@@ -380,12 +381,12 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     namePanel.setBackground(backgroundColor);
 
     attributeLabels[index] = new JLabel(attributeNames[index]);
-    attributeLabels[index].setFont(new Font("Arial", Font.BOLD, 14));
+    attributeLabels[index].setFont(RenderResources.font("Arial", Font.BOLD, 14));
     attributeLabels[index].setForeground(textColor);
 
     JLabel descLabel = new JLabel(attributeDescriptions[index]);
-    descLabel.setFont(new Font("Arial", Font.PLAIN, 10));
-    descLabel.setForeground(new Color(160, 160, 160));
+    descLabel.setFont(RenderResources.font("Arial", Font.PLAIN, 10));
+    descLabel.setForeground(RenderResources.color(160, 160, 160));
 
     namePanel.add(attributeLabels[index]);
     namePanel.add(descLabel);
@@ -402,7 +403,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     minusButtons[index].addActionListener(this);
     minusButtons[index].setBackground(warningColor);
     minusButtons[index].setForeground(Color.WHITE);
-    minusButtons[index].setFont(new Font("Arial", Font.BOLD, 18));
+    minusButtons[index].setFont(RenderResources.font("Arial", Font.BOLD, 18));
     minusButtons[index].setMargin(new Insets(0, 0, 0, 0));
     gbc.gridx = 1;
     gbc.anchor = GridBagConstraints.CENTER;
@@ -410,7 +411,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
 
     // Valor
     valueLabels[index] = new JLabel("5", SwingConstants.CENTER);
-    valueLabels[index].setFont(new Font("Arial", Font.BOLD, 16));
+    valueLabels[index].setFont(RenderResources.font("Arial", Font.BOLD, 16));
     valueLabels[index].setForeground(textColor);
     valueLabels[index].setPreferredSize(new Dimension(30, 25));
     valueLabels[index].setOpaque(true);
@@ -426,15 +427,15 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     plusButtons[index].addActionListener(this);
     plusButtons[index].setBackground(accentColor);
     plusButtons[index].setForeground(Color.WHITE);
-    plusButtons[index].setFont(new Font("Arial", Font.BOLD, 18));
+    plusButtons[index].setFont(RenderResources.font("Arial", Font.BOLD, 18));
     plusButtons[index].setMargin(new Insets(0, 0, 0, 0));
     gbc.gridx = 3;
     panel.add(plusButtons[index], gbc);
 
     // Bônus
     bonusLabels[index] = new JLabel();
-    bonusLabels[index].setFont(new Font("Arial", Font.PLAIN, 12));
-    bonusLabels[index].setForeground(new Color(150, 255, 150));
+    bonusLabels[index].setFont(RenderResources.font("Arial", Font.PLAIN, 12));
+    bonusLabels[index].setForeground(RenderResources.color(150, 255, 150));
     gbc.gridx = 4;
     gbc.anchor = GridBagConstraints.WEST;
     panel.add(bonusLabels[index], gbc);
@@ -452,7 +453,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
 
     // Botão Reset (inicialmente escondido)
     resetButton = new JButton("RESETAR");
-    resetButton.setFont(new Font("Arial", Font.BOLD, 14));
+    resetButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     resetButton.setPreferredSize(new Dimension(120, 40));
     resetButton.addActionListener(this);
     resetButton.setActionCommand("reset");
@@ -463,7 +464,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
 
     // Botão Confirmar (inicialmente escondido)
     confirmButton = new JButton("INICIAR AVENTURA");
-    confirmButton.setFont(new Font("Arial", Font.BOLD, 14));
+    confirmButton.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     confirmButton.setPreferredSize(new Dimension(180, 40));
     confirmButton.addActionListener(this);
     confirmButton.setActionCommand("confirm");
@@ -645,7 +646,7 @@ public class CombinedCharacterScreen extends JPanel implements ActionListener {
     if (remaining < 0) {
       pointsLabel.setForeground(warningColor);
     } else if (remaining == 0) {
-      pointsLabel.setForeground(new Color(150, 255, 150));
+      pointsLabel.setForeground(RenderResources.color(150, 255, 150));
     } else {
       pointsLabel.setForeground(textColor);
     }
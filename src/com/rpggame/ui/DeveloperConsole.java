@@ -4,6 +4,10 @@ import com.rpggame.entities.Player;
 import com.rpggame.entities.Enemy;
 import com.rpggame.systems.ExperienceSystem;
 import com.rpggame.systems.EnemyManager;
+import com.rpggame.systems.ObjectPool;
+import com.rpggame.core.FrameProfiler;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
@@ -112,6 +116,14 @@ public class DeveloperConsole {
         executeSpawnGolem();
         break;
 
+      case "profiler":
+        executeProfiler();
+        break;
+
+      case "pools":
+        executePools();
+        break;
+
       case "help":
         addOutputMessage("Comandos disponíveis:");
         addOutputMessage("  noclip - Atravessa paredes e aumenta velocidade");
@@ -119,6 +131,8 @@ public class DeveloperConsole {
         addOutputMessage("  kill <entidade> <quantidade|all> - Mata inimigos");
         addOutputMessage("    Exemplos: kill goblins all, kill goblins 5");
         addOutputMessage("  spawngolem - Força o spawn do Golem boss");
+        addOutputMessage("  profiler - Mostra/esconde o tempo de cada fase do frame");
+        addOutputMessage("  pools - Estatísticas dos pools de projéteis, textos e efeitos");
         break;
 
       default:
@@ -270,6 +284,31 @@ public class DeveloperConsole {
     }
   }
 
+  private void executeProfiler() {
+    boolean newState = !FrameProfiler.isEnabled();
+    if (!newState) {
+      // Deixar no log a tabela da última janela antes de desligar
+      Log.info(LogCategory.GAME, FrameProfiler.report());
+    }
+    FrameProfiler.setEnabled(newState);
+
+    if (newState) {
+      addOutputMessage("Profiler ATIVADO - min/média/p99 por fase (canto superior direito)");
+    } else {
+      addOutputMessage("Profiler DESATIVADO - tabela final enviada ao log");
+    }
+  }
+
+  private void executePools() {
+    // Lido fora da thread do jogo: números aproximados
+    for (ObjectPool<?> pool : ObjectPool.getPools()) {
+      long obtained = pool.getCreatedCount() + pool.getReusedCount();
+      addOutputMessage(pool.getName() + ": " + pool.getInUseCount() + " em uso, " + pool.getFreeCount()
+          + " livres, " + pool.getCreatedCount() + " criados de " + obtained + " pedidos");
+    }
+    Log.info(LogCategory.GAME, ObjectPool.report());
+  }
+
   private void addOutputMessage(String message) {
     outputMessages.add(message);
 
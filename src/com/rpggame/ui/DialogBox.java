@@ -1,6 +1,7 @@
 package com.rpggame.ui;
 
 import java.awt.*;
+import com.rpggame.world.RenderResources;
 
 /**
  * Caixa de diálogo estilo Pokemon Fire Red
@@ -97,7 +98,7 @@ public class DialogBox {
     int boxY = screenHeight - BOX_HEIGHT - 20;
 
     // Desenhar sombra
-    g.setColor(new Color(0, 0, 0, 100));
+    g.setColor(RenderResources.color(0, 0, 0, 100));
     g.fillRoundRect(boxX + 4, boxY + 4, BOX_WIDTH, BOX_HEIGHT, 10, 10);
 
     // Desenhar fundo da caixa
@@ -106,9 +107,9 @@ public class DialogBox {
 
     // Desenhar borda branca
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(3));
+    g.setStroke(RenderResources.stroke(3));
     g.drawRoundRect(boxX, boxY, BOX_WIDTH, BOX_HEIGHT, 10, 10);
-    g.setStroke(new BasicStroke(1));
+    g.setStroke(RenderResources.stroke(1));
 
     // Desenhar placa com nome do NPC
     int nameBoxWidth = 150;
@@ -122,9 +123,9 @@ public class DialogBox {
 
     // Borda da placa de nome
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(nameBoxX, nameBoxY, nameBoxWidth, nameBoxHeight, 8, 8);
-    g.setStroke(new BasicStroke(1));
+    g.setStroke(RenderResources.stroke(1));
 
     // Nome do NPC
     g.setFont(NAME_FONT);
@@ -2,6 +2,7 @@ package com.rpggame.ui;
 
 import java.awt.*;
 import com.rpggame.entities.Player;
+import com.rpggame.world.RenderResources;
 
 /**
  * UI para exibir o gold do jogador
@@ -41,7 +42,7 @@ public class GoldUI {
 
     // Borda dourada
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(x, y, width, height, 10, 10);
 
     // Ícone de moeda (círculo dourado)
@@ -50,7 +51,7 @@ public class GoldUI {
     int iconSize = 18;
 
     // Sombra do ícone
-    g.setColor(new Color(0, 0, 0, 100));
+    g.setColor(RenderResources.color(0, 0, 0, 100));
     g.fillOval(iconX + 2, iconY + 2, iconSize, iconSize);
 
     // Ícone de moeda
@@ -58,18 +59,18 @@ public class GoldUI {
     g.fillOval(iconX, iconY, iconSize, iconSize);
 
     // Borda da moeda
-    g.setColor(new Color(200, 170, 50));
-    g.setStroke(new BasicStroke(2));
+    g.setColor(RenderResources.color(200, 170, 50));
+    g.setStroke(RenderResources.stroke(2));
     g.drawOval(iconX, iconY, iconSize, iconSize);
 
     // Símbolo $ na moeda
-    g.setColor(new Color(150, 120, 30));
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setColor(RenderResources.color(150, 120, 30));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     g.drawString("$", iconX + 5, iconY + 14);
 
     // Texto de gold
     g.setColor(TEXT_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 16));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 16));
     String goldText = String.valueOf(gold);
 
     // Centralizar o texto
@@ -79,7 +80,7 @@ public class GoldUI {
     int textY = y + 26;
 
     // Sombra do texto
-    g.setColor(new Color(0, 0, 0, 150));
+    g.setColor(RenderResources.color(0, 0, 0, 150));
     g.drawString(goldText, textX + 1, textY + 1);
 
     // Texto principal
@@ -4,6 +4,7 @@ import com.rpggame.items.Inventory;
 import com.rpggame.items.ItemStack;
 import com.rpggame.items.EquippableItem;
 import com.rpggame.entities.Player;
+import com.rpggame.world.RenderResources;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
@@ -111,13 +112,13 @@ public class InventoryScreen extends JPanel implements KeyListener {
 
     // Desenha título
     g2d.setColor(TEXT_COLOR);
-    g2d.setFont(new Font("Arial", Font.BOLD, 24));
+    g2d.setFont(RenderResources.font("Arial", Font.BOLD, 24));
     String title = "INVENTÁRIO";
     int titleWidth = g2d.getFontMetrics().stringWidth(title);
     g2d.drawString(title, gridX + (gridWidth - titleWidth) / 2, gridY + 40);
 
     // Desenha instruções
-    g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+    g2d.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     String instructions = "WASD: navegar | ENTER: usar item | I: fechar";
     int instructionsWidth = g2d.getFontMetrics().stringWidth(instructions);
     g2d.drawString(instructions, gridX + (gridWidth - instructionsWidth) / 2, gridY + 60);
@@ -164,7 +165,7 @@ public class InventoryScreen extends JPanel implements KeyListener {
     int arrowX = slotX - 20;
     int arrowY = slotY + SLOT_SIZE / 2;
 
-    g2d.setColor(new Color(255, 215, 0)); // Dourado
+    g2d.setColor(RenderResources.color(255, 215, 0)); // Dourado
     int[] xPoints = { arrowX, arrowX + 10, arrowX + 10 };
     int[] yPoints = { arrowY, arrowY - 8, arrowY + 8 };
     g2d.fillPolygon(xPoints, yPoints, 3);
@@ -186,11 +187,11 @@ public class InventoryScreen extends JPanel implements KeyListener {
 
     // Desenha borda do slot
     if (slotIndex == selectedSlot) {
-      g2d.setColor(new Color(255, 215, 0)); // Borda dourada no selecionado
-      g2d.setStroke(new java.awt.BasicStroke(3));
+      g2d.setColor(RenderResources.color(255, 215, 0)); // Borda dourada no selecionado
+      g2d.setStroke(RenderResources.stroke(3));
     } else {
       g2d.setColor(BORDER_COLOR);
-      g2d.setStroke(new java.awt.BasicStroke(1));
+      g2d.setStroke(RenderResources.stroke(1));
     }
     g2d.drawRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 8, 8);
 
@@ -208,7 +209,7 @@ public class InventoryScreen extends JPanel implements KeyListener {
       // Desenha quantidade se empilhável
       if (stack.getItem().isStackable() && stack.getQuantity() > 1) {
         g2d.setColor(QUANTITY_COLOR);
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
+        g2d.setFont(RenderResources.font("Arial", Font.BOLD, 14));
         String quantityText = "x" + stack.getQuantity();
         int textWidth = g2d.getFontMetrics().stringWidth(quantityText);
         g2d.drawString(quantityText, x + SLOT_SIZE - textWidth - 4, y + SLOT_SIZE - 4);
@@ -219,12 +220,12 @@ public class InventoryScreen extends JPanel implements KeyListener {
         EquippableItem equippable = (EquippableItem) stack.getItem();
         if (player.getEquippedWeapon() == equippable) {
           // Fundo verde semi-transparente
-          g2d.setColor(new Color(0, 255, 0, 100));
+          g2d.setColor(RenderResources.color(0, 255, 0, 100));
           g2d.fillRoundRect(x + 2, y + 2, 18, 18, 4, 4);
 
           // Letra E verde
-          g2d.setColor(new Color(0, 255, 0));
-          g2d.setFont(new Font("Arial", Font.BOLD, 16));
+          g2d.setColor(RenderResources.color(0, 255, 0));
+          g2d.setFont(RenderResources.font("Arial", Font.BOLD, 16));
           g2d.drawString("E", x + 6, y + 16);
         }
       }
@@ -244,10 +245,10 @@ public class InventoryScreen extends JPanel implements KeyListener {
     String itemName = stack.getItem().getName();
     String itemDesc = stack.getItem().getDescription();
 
-    g2d.setFont(new Font("Arial", Font.BOLD, 14));
+    g2d.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     int nameWidth = g2d.getFontMetrics().stringWidth(itemName);
 
-    g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+    g2d.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     int descWidth = g2d.getFontMetrics().stringWidth(itemDesc);
 
     int balloonWidth = Math.max(nameWidth, descWidth) + 20;
@@ -263,22 +264,22 @@ public class InventoryScreen extends JPanel implements KeyListener {
     }
 
     // Fundo do balão
-    g2d.setColor(new Color(20, 20, 30, 240));
+    g2d.setColor(RenderResources.color(20, 20, 30, 240));
     g2d.fillRoundRect(balloonX, balloonY, balloonWidth, balloonHeight, 10, 10);
 
     // Borda do balão
-    g2d.setColor(new Color(255, 215, 0));
-    g2d.setStroke(new java.awt.BasicStroke(2));
+    g2d.setColor(RenderResources.color(255, 215, 0));
+    g2d.setStroke(RenderResources.stroke(2));
     g2d.drawRoundRect(balloonX, balloonY, balloonWidth, balloonHeight, 10, 10);
 
     // Nome do item
-    g2d.setColor(new Color(255, 215, 0));
-    g2d.setFont(new Font("Arial", Font.BOLD, 14));
+    g2d.setColor(RenderResources.color(255, 215, 0));
+    g2d.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     g2d.drawString(itemName, balloonX + 10, balloonY + 25);
 
     // Descrição
     g2d.setColor(TEXT_COLOR);
-    g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+    g2d.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     g2d.drawString(itemDesc, balloonX + 10, balloonY + 45);
   }
 
@@ -1,6 +1,5 @@
 package com.rpggame.ui;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
@@ -10,6 +9,7 @@ import java.awt.event.KeyEvent;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
+import com.rpggame.world.RenderResources;
 
 /**
  * Minigame de lockpicking para abrir baús.
@@ -37,12 +37,12 @@ public class LockpickingMinigame {
   private int dotRadius = 3; // Raio de cada ponto no círculo
 
   // Cores
-  private Color backgroundColor = new Color(0, 0, 0, 200);
-  private Color circleColor = new Color(30, 30, 30);
-  private Color greenZoneColor = new Color(50, 200, 50);
-  private Color markerColor = new Color(255, 215, 0);
-  private Color successColor = new Color(0, 255, 0);
-  private Color failColor = new Color(255, 0, 0);
+  private Color backgroundColor = RenderResources.color(0, 0, 0, 200);
+  private Color circleColor = RenderResources.color(30, 30, 30);
+  private Color greenZoneColor = RenderResources.color(50, 200, 50);
+  private Color markerColor = RenderResources.color(255, 215, 0);
+  private Color successColor = RenderResources.color(0, 255, 0);
+  private Color failColor = RenderResources.color(255, 0, 0);
 
   /**
    * Inicia o minigame
@@ -161,7 +161,7 @@ public class LockpickingMinigame {
     int markerEndY = centerY + (int) (Math.sin(markerRadians) * radius);
 
     g.setColor(markerColor);
-    g.setStroke(new BasicStroke(3));
+    g.setStroke(RenderResources.stroke(3));
     g.drawLine(centerX, centerY, markerEndX, markerEndY);
 
     // Círculo central
@@ -170,7 +170,7 @@ public class LockpickingMinigame {
 
     // Instruções
     g.setColor(Color.WHITE);
-    g.setFont(new Font("Arial", Font.BOLD, 20));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 20));
     String instruction = "Aperte [F] quando o marcador estiver no VERDE!";
     FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(instruction);
@@ -178,7 +178,7 @@ public class LockpickingMinigame {
 
     // Resultado (se finalizado)
     if (finished) {
-      g.setFont(new Font("Arial", Font.BOLD, 36));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 36));
       String result = success ? "SUCESSO!" : "FALHOU!";
       g.setColor(success ? successColor : failColor);
       textWidth = g.getFontMetrics().stringWidth(result);
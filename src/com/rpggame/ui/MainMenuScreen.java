@@ -4,6 +4,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import com.rpggame.systems.MusicManager;
+import com.rpggame.world.AssetPreloader;
+import com.rpggame.world.RenderResources;
 
 /**
  * Tela de menu principal do jogo
@@ -23,6 +25,9 @@ public class MainMenuScreen extends JPanel {
   private boolean exitHover = false;
   private boolean musicHover = false;
 
+  // Progresso do pré-carregamento de sprites
+  private Timer loadingTimer;
+
   // Cores do tema
   private static final Color BACKGROUND_COLOR = new Color(20, 20, 30);
   private static final Color TITLE_COLOR = new Color(220, 180, 100);
@@ -70,6 +75,18 @@ public class MainMenuScreen extends JPanel {
     // Iniciar música do menu
     musicManager.playMusicByPath("songs/MainOST.wav");
 
+    // Acompanhar o pré-carregamento (já iniciado em Game.main)
+    AssetPreloader.start();
+    if (!AssetPreloader.isDone()) {
+      loadingTimer = new Timer(50, e -> {
+        if (AssetPreloader.isDone()) {
+          loadingTimer.stop();
+        }
+        repaint();
+      });
+      loadingTimer.start();
+    }
+
     System.out.println("🎮 Menu Principal iniciado");
   }
 
@@ -112,6 +129,10 @@ public class MainMenuScreen extends JPanel {
   }
 
   private void startGame() {
+    if (loadingTimer != null) {
+      loadingTimer.stop();
+    }
+
     // Parar música do menu
     musicManager.stopMusic();
 
@@ -161,11 +182,35 @@ public class MainMenuScreen extends JPanel {
 
     // Desenhar botão de música
     drawMusicButton(g2d);
+
+    // Barra de carregamento enquanto os sprites são pré-carregados
+    if (!AssetPreloader.isDone()) {
+      drawLoadingBar(g2d);
+    }
+  }
+
+  private void drawLoadingBar(Graphics2D g) {
+    int barWidth = 300;
+    int barHeight = 8;
+    int barX = (1024 - barWidth) / 2;
+    int barY = 640;
+    float progress = AssetPreloader.getProgress();
+
+    g.setColor(BUTTON_COLOR);
+    g.fillRoundRect(barX, barY, barWidth, barHeight, 6, 6);
+    g.setColor(TITLE_COLOR);
+    g.fillRoundRect(barX, barY, (int) (barWidth * progress), barHeight, 6, 6);
+
+    g.setFont(RenderResources.font("Sans-serif", Font.PLAIN, 14));
+    g.setColor(RenderResources.color(180, 180, 180));
+    String text = "Carregando sprites... " + (int) (progress * 100) + "%";
+    int textWidth = g.getFontMetrics().stringWidth(text);
+    g.drawString(text, (1024 - textWidth) / 2, barY - 8);
   }
 
   private void drawTitle(Graphics2D g) {
     // Título principal
-    Font titleFont = new Font("Serif", Font.BOLD, 56);
+    Font titleFont = RenderResources.font("Serif", Font.BOLD, 56);
     g.setFont(titleFont);
     g.setColor(TITLE_COLOR);
 
@@ -175,7 +220,7 @@ public class MainMenuScreen extends JPanel {
     int titleX = (1024 - titleWidth) / 2;
 
     // Sombra do título
-    g.setColor(new Color(0, 0, 0, 150));
+    g.setColor(RenderResources.color(0, 0, 0, 150));
     g.drawString(title, titleX + 3, 153);
 
     // Título
@@ -183,9 +228,9 @@ public class MainMenuScreen extends JPanel {
     g.drawString(title, titleX, 150);
 
     // Subtítulo
-    Font subtitleFont = new Font("Sans-serif", Font.ITALIC, 18);
+    Font subtitleFont = RenderResources.font("Sans-serif", Font.ITALIC, 18);
     g.setFont(subtitleFont);
-    g.setColor(new Color(180, 180, 180));
+    g.setColor(RenderResources.color(180, 180, 180));
     String subtitle = "Um RPG de aventura épica";
     int subtitleWidth = g.getFontMetrics().stringWidth(subtitle);
     g.drawString(subtitle, (1024 - subtitleWidth) / 2, 200);
@@ -204,11 +249,11 @@ public class MainMenuScreen extends JPanel {
 
     // Borda do botão
     g.setColor(TITLE_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(button.x, button.y, button.width, button.height, 15, 15);
 
     // Texto do botão
-    Font buttonFont = new Font("Sans-serif", Font.BOLD, 24);
+    Font buttonFont = RenderResources.font("Sans-serif", Font.BOLD, 24);
     g.setFont(buttonFont);
     g.setColor(BUTTON_TEXT_COLOR);
 
@@ -232,7 +277,7 @@ public class MainMenuScreen extends JPanel {
 
     // Borda
     g.setColor(TITLE_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(musicToggleButton.x, musicToggleButton.y,
         musicToggleButton.width, musicToggleButton.height, 10, 10);
 
@@ -243,11 +288,11 @@ public class MainMenuScreen extends JPanel {
     if (musicEnabled) {
       g.setColor(MUSIC_ICON_COLOR);
     } else {
-      g.setColor(new Color(100, 100, 100));
+      g.setColor(RenderResources.color(100, 100, 100));
     }
 
     // Desenhar nota musical (♪)
-    Font musicFont = new Font("Serif", Font.BOLD, 36);
+    Font musicFont = RenderResources.font("Serif", Font.BOLD, 36);
     g.setFont(musicFont);
     String note = "♪";
     FontMetrics fm = g.getFontMetrics();
@@ -256,8 +301,8 @@ public class MainMenuScreen extends JPanel {
 
     // Desenhar X se desativado
     if (!musicEnabled) {
-      g.setColor(new Color(200, 50, 50));
-      g.setStroke(new BasicStroke(3));
+      g.setColor(RenderResources.color(200, 50, 50));
+      g.setStroke(RenderResources.stroke(3));
       int margin = 10;
       g.drawLine(musicToggleButton.x + margin, musicToggleButton.y + margin,
           musicToggleButton.x + musicToggleButton.width - margin,
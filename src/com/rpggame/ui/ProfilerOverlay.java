@@ -0,0 +1,85 @@
+package com.rpggame.ui;
+
+import java.awt.*;
+
+import com.rpggame.core.FrameProfiler;
+
+/**
+ * Painel do FrameProfiler no canto superior direito: mínimo, média e p99 de
+ * cada seção, com uma barra da média em relação ao orçamento de 16.6ms.
+ * As estatísticas são recalculadas a cada REFRESH_FRAMES frames.
+ */
+public class ProfilerOverlay {
+  private static final int REFRESH_FRAMES = 15;
+  private static final int WIDTH = 360;
+  private static final int ROW_HEIGHT = 16;
+  private static final int PADDING = 8;
+  private static final int BAR_WIDTH = 60;
+
+  private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12); // Colunas alinhadas
+  private static final Color BG_COLOR = new Color(0, 0, 0, 190);
+  private static final Color TEXT_COLOR = Color.WHITE;
+  private static final Color TOTAL_COLOR = new Color(255, 220, 120);
+  private static final Color BAR_COLOR = new Color(90, 200, 90);
+  private static final Color BAR_OVER_COLOR = new Color(230, 80, 60);
+
+  private final FrameProfiler.Section[] sections = FrameProfiler.Section.values();
+  private final FrameProfiler.Stats[] stats = new FrameProfiler.Stats[sections.length];
+  private int framesUntilRefresh = 0;
+
+  public ProfilerOverlay() {
+    for (int i = 0; i < stats.length; i++) {
+      stats[i] = new FrameProfiler.Stats();
+    }
+  }
+
+  public void render(Graphics2D g, int screenWidth) {
+    if (!FrameProfiler.isEnabled()) {
+      return;
+    }
+
+    if (--framesUntilRefresh <= 0) {
+      for (int i = 0; i < sections.length; i++) {
+        FrameProfiler.getStats(sections[i], stats[i]);
+      }
+      framesUntilRefresh = REFRESH_FRAMES;
+    }
+
+    int height = PADDING * 2 + ROW_HEIGHT * (sections.length + 2);
+    int x = screenWidth - WIDTH - PADDING;
+    int y = PADDING;
+
+    g.setColor(BG_COLOR);
+    g.fillRect(x, y, WIDTH, height);
+    g.setFont(FONT);
+
+    int textX = x + PADDING;
+    int rowY = y + PADDING + ROW_HEIGHT - 4;
+    g.setColor(TEXT_COLOR);
+    g.drawString(String.format("%-20s %5s %5s %5s", "ms", "min", "méd", "p99"), textX, rowY);
+
+    for (int i = 0; i < sections.length; i++) {
+      rowY += ROW_HEIGHT;
+      FrameProfiler.Section section = sections[i];
+      FrameProfiler.Stats s = stats[i];
+
+      g.setColor(section.isChild() ? TEXT_COLOR : TOTAL_COLOR);
+      String label = (section.isChild() ? "  " : "") + section.getLabel();
+      g.drawString(String.format("%-20.20s %5.2f %5.2f %5.2f", label, s.min, s.avg, s.p99), textX, rowY);
+
+      // Barra da média (cheia = orçamento do frame inteiro)
+      double fraction = s.avg / FrameProfiler.FRAME_BUDGET_MS;
+      int barX = x + WIDTH - PADDING - BAR_WIDTH;
+      g.setColor(fraction > 1.0 ? BAR_OVER_COLOR : BAR_COLOR);
+      g.fillRect(barX, rowY - 9, (int) (Math.min(1.0, fraction) * BAR_WIDTH), 8);
+    }
+
+    // Total: um tick por frame no caso normal (até 5 quando atrasado)
+    double used = stats[FrameProfiler.Section.UPDATE.ordinal()].avg
+        + stats[FrameProfiler.Section.RENDER.ordinal()].avg;
+    rowY += ROW_HEIGHT;
+    g.setColor(used > FrameProfiler.FRAME_BUDGET_MS ? BAR_OVER_COLOR : TOTAL_COLOR);
+    g.drawString(String.format("Tick + frame: %.2f de %.1f ms", used, FrameProfiler.FRAME_BUDGET_MS),
+        textX, rowY);
+  }
+}
@@ -1,6 +1,7 @@
 package com.rpggame.ui;
 
 import java.awt.*;
+import com.rpggame.world.RenderResources;
 
 /**
  * Caixa de escolha para aceitar ou recusar quests
@@ -76,7 +77,7 @@ public class QuestChoiceBox {
     int boxY = screenHeight - 200;
 
     // Desenhar sombra
-    g.setColor(new Color(0, 0, 0, 150));
+    g.setColor(RenderResources.color(0, 0, 0, 150));
     g.fillRoundRect(boxX + 5, boxY + 5, BOX_WIDTH, BOX_HEIGHT, 15, 15);
 
     // Desenhar fundo
@@ -85,7 +86,7 @@ public class QuestChoiceBox {
 
     // Desenhar borda dourada
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(2.5f));
+    g.setStroke(RenderResources.stroke(2.5f));
     g.drawRoundRect(boxX, boxY, BOX_WIDTH, BOX_HEIGHT, 15, 15);
 
     // Desenhar título "Aceitar Quest?"
@@ -4,6 +4,7 @@ import java.awt.*;
 import java.util.ArrayList;
 import com.rpggame.systems.Quest;
 import com.rpggame.systems.QuestManager;
+import com.rpggame.world.RenderResources;
 
 /**
  * Interface para exibir quests ativas
@@ -79,7 +80,7 @@ public class QuestUI {
     updatePosition(screenWidth, screenHeight);
 
     // Overlay escuro de fundo
-    g.setColor(new Color(0, 0, 0, 150));
+    g.setColor(RenderResources.color(0, 0, 0, 150));
     g.fillRect(0, 0, screenWidth, screenHeight);
 
     // Ajustar altura baseado no número de quests
@@ -92,17 +93,17 @@ public class QuestUI {
 
     // Borda dourada
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(3));
+    g.setStroke(RenderResources.stroke(3));
     g.drawRoundRect(x, y, width, actualHeight, 15, 15);
 
     // Título
     g.setColor(TITLE_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 24));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
     g.drawString("📜 Quests Ativas", x + 15, y + 35);
 
     // Instruções
-    g.setColor(new Color(150, 150, 150));
-    g.setFont(new Font("Arial", Font.PLAIN, 12));
+    g.setColor(RenderResources.color(150, 150, 150));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     g.drawString("Pressione Q ou ESC para fechar", x + 15, y + actualHeight - 15);
 
     // Linha separadora
@@ -111,7 +112,7 @@ public class QuestUI {
 
     // Renderizar cada quest
     int currentY = y + 70;
-    g.setFont(new Font("Arial", Font.PLAIN, 14));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 14));
 
     for (Quest quest : activeQuests) {
       renderQuest(g, quest, currentY);
@@ -125,7 +126,7 @@ public class QuestUI {
   private void renderQuest(Graphics2D g, Quest quest, int yPos) {
     // Nome da quest
     g.setColor(quest.isCompleted() ? COMPLETED_COLOR : TEXT_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     String questName = quest.getName();
     if (quest.isCompleted()) {
       questName = "✓ " + questName;
@@ -133,8 +134,8 @@ public class QuestUI {
     g.drawString(questName, x + 15, yPos);
 
     // Descrição (com suporte a quebra de linha)
-    g.setFont(new Font("Arial", Font.PLAIN, 12));
-    g.setColor(new Color(180, 180, 180));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
+    g.setColor(RenderResources.color(180, 180, 180));
     String desc = quest.getDescription();
 
     // Renderizar descrição com quebra de linha
@@ -183,17 +184,17 @@ public class QuestUI {
       int barY = yPos + 56;
 
       // Fundo da barra
-      g.setColor(new Color(40, 40, 40));
+      g.setColor(RenderResources.color(40, 40, 40));
       g.fillRoundRect(barX, barY, barWidth, barHeight, 4, 4);
 
       // Progresso da barra
       float progress = (float) quest.getCurrentAmount() / quest.getTargetAmount();
       int fillWidth = (int) (barWidth * progress);
-      g.setColor(quest.isCompleted() ? COMPLETED_COLOR : new Color(100, 180, 255));
+      g.setColor(quest.isCompleted() ? COMPLETED_COLOR : RenderResources.color(100, 180, 255));
       g.fillRoundRect(barX, barY, fillWidth, barHeight, 4, 4);
 
       // Borda da barra
-      g.setColor(new Color(80, 80, 80));
+      g.setColor(RenderResources.color(80, 80, 80));
       g.drawRoundRect(barX, barY, barWidth, barHeight, 4, 4);
     }
   }
@@ -215,22 +216,22 @@ public class QuestUI {
     int miniHeight = 30 + (activeQuests.size() * 25);
 
     // Fundo compacto
-    g.setColor(new Color(20, 20, 30, 180));
+    g.setColor(RenderResources.color(20, 20, 30, 180));
     g.fillRoundRect(miniX, miniY, miniWidth, miniHeight, 10, 10);
 
     // Borda
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(1.5f));
+    g.setStroke(RenderResources.stroke(1.5f));
     g.drawRoundRect(miniX, miniY, miniWidth, miniHeight, 10, 10);
 
     // Título mini
     g.setColor(TITLE_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     g.drawString("Quests (" + activeQuests.size() + ")", miniX + 10, miniY + 17);
 
     // Listar quests compactamente
     int currentY = miniY + 30;
-    g.setFont(new Font("Arial", Font.PLAIN, 11));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 11));
 
     for (Quest quest : activeQuests) {
       g.setColor(quest.isCompleted() ? COMPLETED_COLOR : TEXT_COLOR);
@@ -244,9 +245,9 @@ public class QuestUI {
       // Progresso compacto
       if (quest.getType().toString().equals("KILL")) {
         g.setColor(quest.isCompleted() ? COMPLETED_COLOR : PROGRESS_COLOR);
-        g.setFont(new Font("Arial", Font.PLAIN, 10));
+        g.setFont(RenderResources.font("Arial", Font.PLAIN, 10));
         g.drawString(quest.getProgressString(), miniX + miniWidth - 40, currentY);
-        g.setFont(new Font("Arial", Font.PLAIN, 11));
+        g.setFont(RenderResources.font("Arial", Font.PLAIN, 11));
       }
 
       currentY += 25;
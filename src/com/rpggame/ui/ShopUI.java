@@ -4,6 +4,7 @@ import com.rpggame.items.Inventory;
 import com.rpggame.items.ItemStack;
 import com.rpggame.items.EquippableItem;
 import com.rpggame.entities.Player;
+import com.rpggame.world.RenderResources;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 
@@ -83,24 +84,24 @@ public class ShopUI {
 
     // Desenha borda
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(3));
+    g.setStroke(RenderResources.stroke(3));
     g.drawRoundRect(gridX, gridY, gridWidth, gridHeight, 20, 20);
 
     // Desenha título
     g.setColor(GOLD_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 24));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
     String title = "LOJA DO MERCADOR";
     int titleWidth = g.getFontMetrics().stringWidth(title);
     g.drawString(title, gridX + (gridWidth - titleWidth) / 2, gridY + 40);
 
     // Desenha gold do player
     g.setColor(TEXT_COLOR);
-    g.setFont(new Font("Arial", Font.PLAIN, 14));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 14));
     String goldText = "Seu Gold: " + player.getGold();
     g.drawString(goldText, gridX + 20, gridY + 65);
 
     // Desenha instruções
-    g.setFont(new Font("Arial", Font.PLAIN, 12));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     String instructions = "WASD: navegar | ENTER: comprar | ESC: fechar";
     int instructionsWidth = g.getFontMetrics().stringWidth(instructions);
     g.drawString(instructions, gridX + (gridWidth - instructionsWidth) / 2, gridY + 80);
@@ -143,10 +144,10 @@ public class ShopUI {
     // Desenha borda
     if (slotIndex == selectedSlot) {
       g.setColor(GOLD_COLOR);
-      g.setStroke(new BasicStroke(3));
+      g.setStroke(RenderResources.stroke(3));
     } else {
       g.setColor(BORDER_COLOR);
-      g.setStroke(new BasicStroke(1));
+      g.setStroke(RenderResources.stroke(1));
     }
     g.drawRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 8, 8);
 
@@ -156,7 +157,7 @@ public class ShopUI {
       // Desenha nome do item ao invés do sprite
       String itemName = stack.getItem().getName();
       g.setColor(TEXT_COLOR);
-      g.setFont(new Font("Arial", Font.BOLD, 12));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
 
       // Calcular posição centralizada do texto
       FontMetrics fm = g.getFontMetrics();
@@ -173,7 +174,7 @@ public class ShopUI {
         boolean canAfford = player.getGold() >= price;
 
         g.setColor(canAfford ? PRICE_COLOR : CANT_AFFORD_COLOR);
-        g.setFont(new Font("Arial", Font.BOLD, 12));
+        g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
         String priceText = price + "G";
         textWidth = g.getFontMetrics().stringWidth(priceText);
         g.drawString(priceText, x + (SLOT_SIZE - textWidth) / 2, y + SLOT_SIZE - 4);
@@ -206,12 +207,12 @@ public class ShopUI {
     String itemDesc = stack.getItem().getDescription();
 
     // Calcular largura do balão
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     int nameWidth = g.getFontMetrics().stringWidth(itemName);
 
     String[] descLines = itemDesc.split("\\n");
     int maxDescWidth = 0;
-    g.setFont(new Font("Arial", Font.PLAIN, 12));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     for (String line : descLines) {
       int lineWidth = g.getFontMetrics().stringWidth(line);
       if (lineWidth > maxDescWidth) {
@@ -239,21 +240,21 @@ public class ShopUI {
     int balloonY = gridY + 100;
 
     // Fundo
-    g.setColor(new Color(20, 20, 30, 240));
+    g.setColor(RenderResources.color(20, 20, 30, 240));
     g.fillRoundRect(balloonX, balloonY, balloonWidth, balloonHeight, 10, 10);
 
     // Borda
     g.setColor(canEquip ? PRICE_COLOR : CANT_AFFORD_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.drawRoundRect(balloonX, balloonY, balloonWidth, balloonHeight, 10, 10);
 
     // Nome
     g.setColor(TEXT_COLOR);
-    g.setFont(new Font("Arial", Font.BOLD, 14));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
     g.drawString(itemName, balloonX + 15, balloonY + 20);
 
     // Descrição
-    g.setFont(new Font("Arial", Font.PLAIN, 12));
+    g.setFont(RenderResources.font("Arial", Font.PLAIN, 12));
     int textY = balloonY + 40;
     for (String line : descLines) {
       g.drawString(line, balloonX + 15, textY);
@@ -2,6 +2,7 @@ package com.rpggame.ui;
 
 import com.rpggame.systems.Skill;
 import com.rpggame.systems.SkillManager;
+import com.rpggame.world.RenderResources;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
@@ -18,6 +19,8 @@ public class SkillSlotUI {
   private static final int SLOT_SIZE = 60;
   private static final int SLOT_SPACING = 10;
   private static final int SLOTS_COUNT = 4;
+  private static final BasicStroke EMPTY_SLOT_STROKE = new BasicStroke(2, BasicStroke.CAP_ROUND,
+      BasicStroke.JOIN_ROUND, 0, new float[] { 5, 5 }, 0); // Tracejado do slot vazio
   private static final int MARGIN_RIGHT = 20;
   private static final int MARGIN_TOP = 100;
 
@@ -77,11 +80,11 @@ public class SkillSlotUI {
 
     // Desenhar borda
     g.setColor(BORDER_COLOR);
-    g.setStroke(new BasicStroke(2));
+    g.setStroke(RenderResources.stroke(2));
     g.draw(slotRect);
 
     // Desenhar número do slot
-    g.setFont(new Font("Arial", Font.BOLD, 12));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 12));
     g.setColor(TEXT_COLOR);
     g.drawString(String.valueOf(slotNumber), x + 5, y + 15);
 
@@ -128,7 +131,7 @@ public class SkillSlotUI {
       renderCooldownProgress(g, skill, x, y);
 
       // Mostrar tempo restante no centro
-      g.setFont(new Font("Arial", Font.BOLD, 16));
+      g.setFont(RenderResources.font("Arial", Font.BOLD, 16));
       g.setColor(COOLDOWN_TEXT);
       String cooldownText = String.valueOf(cooldownSeconds);
       FontMetrics fm = g.getFontMetrics();
@@ -160,12 +163,12 @@ public class SkillSlotUI {
     progress = Math.max(0.0, Math.min(1.0, progress));
 
     // Desenhar círculo de fundo
-    g.setColor(new Color(0, 0, 0, 100));
+    g.setColor(RenderResources.color(0, 0, 0, 100));
     g.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
 
     // Desenhar progresso do cooldown
-    g.setColor(new Color(100, 255, 100, 150));
-    g.setStroke(new BasicStroke(3));
+    g.setColor(RenderResources.color(100, 255, 100, 150));
+    g.setStroke(RenderResources.stroke(3));
     int angle = (int) (360 * progress);
     g.drawArc(centerX - radius, centerY - radius, radius * 2, radius * 2, 90, -angle);
   }
@@ -177,7 +180,7 @@ public class SkillSlotUI {
     // Mostrar primeira letra da habilidade no centro
     String initial = skill.getName().substring(0, 1).toUpperCase();
 
-    g.setFont(new Font("Arial", Font.BOLD, 24));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 24));
     g.setColor(TEXT_COLOR);
     FontMetrics fm = g.getFontMetrics();
     int textWidth = fm.stringWidth(initial);
@@ -188,7 +191,7 @@ public class SkillSlotUI {
         y + (SLOT_SIZE + textHeight) / 2 - 5);
 
     // Adicionar pequeno brilho para indicar que está pronta
-    g.setColor(new Color(255, 255, 255, 50));
+    g.setColor(RenderResources.color(255, 255, 255, 50));
     g.fillOval(x + 5, y + 5, SLOT_SIZE - 10, SLOT_SIZE - 10);
   }
 
@@ -196,8 +199,8 @@ public class SkillSlotUI {
    * Renderiza habilidade bloqueada (não aprendida).
    */
   private void renderLockedSkill(Graphics2D g, int x, int y) {
-    g.setFont(new Font("Arial", Font.BOLD, 20));
-    g.setColor(new Color(150, 150, 150));
+    g.setFont(RenderResources.font("Arial", Font.BOLD, 20));
+    g.setColor(RenderResources.color(150, 150, 150));
     g.drawString("?", x + SLOT_SIZE / 2 - 5, y + SLOT_SIZE / 2 + 5);
   }
 
@@ -205,9 +208,8 @@ public class SkillSlotUI {
    * Renderiza slot vazio.
    */
   private void renderEmptySlot(Graphics2D g, int x, int y) {
-    g.setColor(new Color(100, 100, 100, 100));
-    g.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 0,
-        new float[] { 5, 5 }, 0));
+    g.setColor(RenderResources.color(100, 100, 100, 100));
+    g.setStroke(EMPTY_SLOT_STROKE);
     g.drawRect(x + 10, y + 10, SLOT_SIZE - 20, SLOT_SIZE - 20);
   }
 
@@ -0,0 +1,209 @@
+package com.rpggame.world;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * Cache central de sprites. Cada imagem é decodificada uma única vez por
+ * caminho e guardada já no formato da tela (e já redimensionada, quando um
+ * tamanho é pedido), então novas instâncias de inimigos, pedras e cabanas
+ * reaproveitam a mesma imagem.
+ *
+ * Cada acquire() deve ter um release() correspondente quando a entidade sai do
+ * jogo; evictUnused() (chamado na troca de mapa) descarta o que ninguém usa.
+ * Pode ser usado de qualquer thread (ver AssetPreloader). Os sprites devolvidos
+ * ficam agrupados em páginas de um TextureAtlas (ver packAtlas()).
+ */
+public class AssetCache {
+  private static final Map<String, Entry> entries = new HashMap<>();
+
+  private static class Entry {
+    final BufferedImage image; // null = arquivo não encontrado (não tentar de novo)
+    final Sprite sprite;
+    int refCount;
+
+    Entry(BufferedImage image) {
+      this.image = image;
+      this.sprite = image != null ? Sprite.of(image) : null;
+    }
+  }
+
+  /**
+   * Obtém o sprite no tamanho original. Retorna null se não existir.
+   */
+  public static Sprite acquire(String path) {
+    return acquire(path, 0, 0);
+  }
+
+  /**
+   * Obtém o sprite redimensionado para width x height. Retorna null se não
+   * existir.
+   */
+  public static Sprite acquire(String path, int width, int height) {
+    Entry loaded = getOrLoad(path, width, height);
+    synchronized (entries) {
+      // Se a entrada foi descartada no meio tempo, volta para o mapa
+      Entry entry = entries.computeIfAbsent(key(path, width, height), k -> loaded);
+      entry.refCount++;
+      return entry.sprite;
+    }
+  }
+
+  /**
+   * Libera uma referência obtida com acquire(path)
+   */
+  public static void release(String path) {
+    release(path, 0, 0);
+  }
+
+  /**
+   * Libera uma referência obtida com acquire(path, width, height)
+   */
+  public static void release(String path, int width, int height) {
+    synchronized (entries) {
+      Entry entry = entries.get(key(path, width, height));
+      if (entry != null && entry.refCount > 0) {
+        entry.refCount--;
+      }
+    }
+  }
+
+  /**
+   * Descarta as imagens sem referências (chamado na troca de mapa)
+   */
+  public static int evictUnused() {
+    int evicted = 0;
+    int remaining;
+    synchronized (entries) {
+      Iterator<Entry> iterator = entries.values().iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().refCount <= 0) {
+          iterator.remove();
+          evicted++;
+        }
+      }
+      remaining = entries.size();
+    }
+    if (evicted > 0) {
+      System.out.println("🧹 AssetCache: " + evicted + " imagens descartadas, " + remaining + " em uso");
+    }
+    return evicted;
+  }
+
+  /**
+   * Refaz o atlas com todas as imagens em cache (início do jogo e troca de
+   * mapa). Imagens carregadas depois ficam avulsas até o próximo empacotamento.
+   */
+  public static void packAtlas() {
+    long startTime = System.nanoTime();
+    List<Sprite> sprites = new ArrayList<>();
+    int pages;
+    synchronized (entries) {
+      for (Entry entry : entries.values()) {
+        if (entry.sprite != null) {
+          sprites.add(entry.sprite);
+        }
+      }
+      pages = TextureAtlas.pack(sprites);
+    }
+    long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+    System.out.println("🧩 Atlas: " + sprites.size() + " sprites em " + pages + " página(s) (" + elapsedMs + "ms)");
+  }
+
+  /**
+   * Número de imagens em cache
+   */
+  public static int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Busca a entrada ou decodifica a imagem. A decodificação acontece fora do
+   * lock para que o pré-carregamento possa ler vários arquivos em paralelo.
+   */
+  private static Entry getOrLoad(String path, int width, int height) {
+    String key = key(path, width, height);
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        return entry;
+      }
+    }
+
+    BufferedImage image;
+    if (width > 0 && height > 0) {
+      // Variante redimensionada feita a partir da imagem original em cache
+      BufferedImage original = getOrLoad(path, 0, 0).image;
+      image = original != null ? toCompatible(original, width, height) : null;
+    } else {
+      BufferedImage decoded = decode(path);
+      image = decoded != null ? toCompatible(decoded, decoded.getWidth(), decoded.getHeight()) : null;
+    }
+
+    synchronized (entries) {
+      // Outra thread pode ter carregado a mesma imagem enquanto isso
+      return entries.computeIfAbsent(key, k -> new Entry(image));
+    }
+  }
+
+  /**
+   * Lê o PNG do classpath (JAR) ou, no desenvolvimento, do disco
+   */
+  private static BufferedImage decode(String path) {
+    try {
+      InputStream is = AssetCache.class.getClassLoader().getResourceAsStream(path);
+      if (is != null) {
+        try {
+          return ImageIO.read(is);
+        } finally {
+          is.close();
+        }
+      }
+
+      File file = new File(ResourceResolver.getResourcePath(path));
+      if (file.exists()) {
+        return ImageIO.read(file);
+      }
+    } catch (IOException e) {
+      System.err.println("❌ Erro ao carregar sprite " + path + ": " + e.getMessage());
+    }
+
+    System.err.println("❌ Sprite não encontrado: " + path);
+    return null;
+  }
+
+  /**
+   * Copia a imagem para o formato da tela (acelerável pelo Java2D), já no
+   * tamanho pedido
+   */
+  private static BufferedImage toCompatible(BufferedImage source, int width, int height) {
+    BufferedImage image;
+    if (GraphicsEnvironment.isHeadless()) {
+      image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    } else {
+      image = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+          .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    Graphics2D g2d = image.createGraphics();
+    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    g2d.drawImage(source, 0, 0, width, height, null);
+    g2d.dispose();
+    return image;
+  }
+
+  private static String key(String path, int width, int height) {
+    return width > 0 && height > 0 ? path + "@" + width + "x" + height : path;
+  }
+}
@@ -0,0 +1,117 @@
+package com.rpggame.world;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pré-carrega em segundo plano os sprites usados pelo jogo, enquanto o menu e a
+ * criação de personagem estão na tela.
+ *
+ * As imagens são decodificadas em paralelo por um pequeno pool de threads e
+ * ficam no AssetCache (fixas durante a sessão). Assim o primeiro frame e o
+ * primeiro spawn de cada inimigo não precisam mais ler PNGs do disco.
+ */
+public class AssetPreloader {
+  // Sprites carregados no início (tiles, jogador, inimigos, estruturas e NPCs)
+  private static final String[] MANIFEST = {
+      // Tiles
+      "sprites/GRASS.png", "sprites/STONE.png", "sprites/BORDER.png", "sprites/Wather.png",
+      "sprites/WalknableWather.png", "sprites/CaminhoGrama.png",
+      // Jogador (todas as classes)
+      "sprites/WarriorPlayer.png", "sprites/WarriorPlayer2.png",
+      "sprites/WarriorPlayerLeft.png", "sprites/WarriorPlayerLeft2.png",
+      "sprites/MagePlayer.png", "sprites/MagePlayer2.png",
+      "sprites/MagePlayerLeft.png", "sprites/MagePlayerLeft2.png",
+      "sprites/HunterPlayer.png", "sprites/HunterPlayer2.png",
+      "sprites/HunterPlayerLeft.png", "sprites/HunterPlayerLeft2.png",
+      // Inimigos
+      "sprites/CommonGoblin.png", "sprites/AgresiveGoblin.png", "sprites/TinyGoblin.png",
+      "sprites/goblinLeader.png", "sprites/GOLEMFront.png", "sprites/GOLEMBack.png",
+      "sprites/GOLEMLeft.png", "sprites/GOLEMRight.png", "sprites/GOLEMStone1.png",
+      "sprites/GOLEMStone2.png", "sprites/GOLEMStone3.png", "sprites/GOLEMStone4.png",
+      "sprites/Mimic.png", "sprites/MimicAttack1.png", "sprites/MimicAttack2.png",
+      // Estruturas e baús
+      "sprites/goblinHut.png", "sprites/curch.png", "sprites/MarketTend.png",
+      "sprites/House1.png", "sprites/House2.png", "sprites/Lamp.png",
+      "sprites/ClosedChest.png", "sprites/OpenedChest.png",
+      // NPCs
+      "sprites/GuardNPC.png", "sprites/Vilager.png", "sprites/Sabio.png"
+  };
+
+  private static final int MAX_THREADS = 4;
+
+  private static ExecutorService executor;
+  private static CountDownLatch remaining;
+  private static final AtomicInteger loaded = new AtomicInteger(0);
+
+  /**
+   * Inicia o pré-carregamento (chamadas seguintes são ignoradas)
+   */
+  public static synchronized void start() {
+    if (executor != null) {
+      return;
+    }
+
+    int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    AtomicInteger threadNumber = new AtomicInteger(1);
+    executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "AssetPreloader-" + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      thread.setPriority(Thread.NORM_PRIORITY - 1);
+      return thread;
+    });
+    remaining = new CountDownLatch(MANIFEST.length);
+    long startTime = System.nanoTime();
+
+    for (String path : MANIFEST) {
+      executor.execute(() -> {
+        try {
+          // Referência nunca liberada: o sprite fica fixo no cache
+          AssetCache.acquire(path);
+        } catch (RuntimeException e) {
+          System.err.println("❌ Erro ao pré-carregar " + path + ": " + e.getMessage());
+        } finally {
+          if (loaded.incrementAndGet() == MANIFEST.length) {
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+            System.out.println("✅ " + MANIFEST.length + " sprites pré-carregados em " + elapsedMs + "ms ("
+                + threads + " threads)");
+          }
+          remaining.countDown();
+        }
+      });
+    }
+    // As threads terminam sozinhas depois da última tarefa
+    executor.shutdown();
+  }
+
+  /**
+   * Fração já carregada, de 0.0 a 1.0 (0 se ainda não começou)
+   */
+  public static float getProgress() {
+    return (float) loaded.get() / MANIFEST.length;
+  }
+
+  /**
+   * Verifica se todos os sprites já foram carregados
+   */
+  public static boolean isDone() {
+    return loaded.get() >= MANIFEST.length;
+  }
+
+  /**
+   * Espera o pré-carregamento terminar (inicia se ainda não começou)
+   */
+  public static void awaitCompletion() {
+    start();
+    try {
+      if (!remaining.await(30, TimeUnit.SECONDS)) {
+        System.err.println("⚠️ Pré-carregamento de sprites não terminou a tempo, continuando assim mesmo");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
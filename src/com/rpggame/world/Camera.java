@@ -10,29 +10,72 @@ import com.rpggame.core.GamePanel;
 public class Camera {
   private double x, y;
 
+  // Posição no tick anterior (para interpolação na renderização)
+  private double prevX, prevY;
+
+  // Fração do próximo tick já decorrida no momento do render (0.0 a 1.0)
+  private volatile double interpolation = 1.0;
+
   public Camera(double x, double y) {
     this.x = x;
     this.y = y;
+    this.prevX = x;
+    this.prevY = y;
   }
 
-  public void centerOnPlayer(Player player) {
+  /**
+   * Centraliza no jogador sem sair dos limites do mapa carregado
+   */
+  public void centerOnPlayer(Player player, TileMap tileMap) {
     // Centralizar a câmera no jogador
     x = player.getX() + player.getWidth() / 2.0 - Game.SCREEN_WIDTH / 2.0;
     y = player.getY() + player.getHeight() / 2.0 - Game.SCREEN_HEIGHT / 2.0;
 
     // Limitar a câmera aos bounds do mapa
-    double mapWidth = GamePanel.MAP_WIDTH * GamePanel.TILE_SIZE;
-    double mapHeight = GamePanel.MAP_HEIGHT * GamePanel.TILE_SIZE;
+    double mapWidth = tileMap.getWidth() * GamePanel.TILE_SIZE;
+    double mapHeight = tileMap.getHeight() * GamePanel.TILE_SIZE;
 
     x = Math.max(0, Math.min(x, mapWidth - Game.SCREEN_WIDTH));
     y = Math.max(0, Math.min(y, mapHeight - Game.SCREEN_HEIGHT));
   }
 
+  /**
+   * Guarda a posição atual como posição do tick anterior
+   */
+  public void storePreviousPosition() {
+    prevX = x;
+    prevY = y;
+  }
+
+  /**
+   * Define a fração de tick usada para interpolar posições no render
+   */
+  public void setInterpolation(double interpolation) {
+    this.interpolation = Math.max(0.0, Math.min(1.0, interpolation));
+  }
+
+  public double getInterpolation() {
+    return interpolation;
+  }
+
+  /**
+   * Interpola entre a posição do tick anterior e a atual
+   */
+  public double interpolate(double previous, double current) {
+    return previous + (current - previous) * interpolation;
+  }
+
+  /**
+   * Posição X de renderização (interpolada entre os dois últimos ticks)
+   */
   public double getX() {
-    return x;
+    return interpolate(prevX, x);
   }
 
+  /**
+   * Posição Y de renderização (interpolada entre os dois últimos ticks)
+   */
   public double getY() {
-    return y;
+    return interpolate(prevY, y);
   }
-}
\ No newline at end of file
+}
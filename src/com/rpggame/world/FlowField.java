@@ -0,0 +1,176 @@
+package com.rpggame.world;
+
+import com.rpggame.core.GamePanel;
+
+/**
+ * Campo de fluxo em direção a um alvo (o jogador): a distância, em passos, de
+ * cada tile caminhável até o tile do alvo, calculada por uma busca em largura.
+ *
+ * O campo só é refeito quando o alvo muda de tile ou o mapa muda. Cada
+ * perseguidor só olha os vizinhos do próprio tile para decidir a direção, então
+ * o custo por inimigo é constante, não importa quantos estão perseguindo.
+ *
+ * A busca cobre só uma janela de até WINDOW_RADIUS tiles ao redor do alvo (o
+ * mapa inteiro nos mapas pequenos), então o custo não cresce com o mapa.
+ * Perseguidores fora da janela recebem UNREACHABLE e seguem em linha reta.
+ */
+public class FlowField {
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+  public static final int WINDOW_RADIUS = 48; // Bem além do alcance de perseguição
+
+  // Vizinhos: 4 ortogonais primeiro, depois as 4 diagonais
+  private static final int[] STEP_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+  private static final int[] STEP_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+  private final TileMap tileMap;
+  private final int tileSize = GamePanel.TILE_SIZE;
+
+  // Janela da última busca, em tiles
+  private int originX;
+  private int originY;
+  private int width;
+  private int height;
+  private int[] distance;
+  private int[] queue;
+
+  private int targetTileX = -1;
+  private int targetTileY = -1;
+  private int builtMapVersion = -1;
+
+  public FlowField(TileMap tileMap) {
+    this.tileMap = tileMap;
+  }
+
+  /**
+   * Atualiza o campo para o alvo na posição informada (em pixels). Só refaz a
+   * busca se o alvo mudou de tile ou o mapa mudou.
+   */
+  public void update(double targetX, double targetY) {
+    int tileX = (int) Math.floor(targetX / tileSize);
+    int tileY = (int) Math.floor(targetY / tileSize);
+    if (tileX == targetTileX && tileY == targetTileY && builtMapVersion == tileMap.getMapVersion()) {
+      return;
+    }
+    rebuild(tileX, tileY);
+  }
+
+  /**
+   * Busca em largura a partir do tile do alvo
+   */
+  private void rebuild(int tileX, int tileY) {
+    targetTileX = tileX;
+    targetTileY = tileY;
+    builtMapVersion = tileMap.getMapVersion();
+
+    int windowWidth = Math.min(tileMap.getWidth(), WINDOW_RADIUS * 2 + 1);
+    int windowHeight = Math.min(tileMap.getHeight(), WINDOW_RADIUS * 2 + 1);
+    if (distance == null || width != windowWidth || height != windowHeight) {
+      width = windowWidth;
+      height = windowHeight;
+      distance = new int[width * height];
+      queue = new int[width * height];
+    }
+    java.util.Arrays.fill(distance, UNREACHABLE);
+
+    if (!tileMap.isWalkable(tileX, tileY)) {
+      return; // Alvo fora do mapa ou em tile bloqueado
+    }
+
+    // Janela centrada no alvo, encostada nas bordas do mapa
+    originX = Math.max(0, Math.min(tileX - WINDOW_RADIUS, tileMap.getWidth() - width));
+    originY = Math.max(0, Math.min(tileY - WINDOW_RADIUS, tileMap.getHeight() - height));
+
+    int head = 0;
+    int tail = 0;
+    int start = (tileY - originY) * width + (tileX - originX);
+    distance[start] = 0;
+    queue[tail++] = start;
+
+    while (head < tail) {
+      int current = queue[head++];
+      int currentX = current % width;
+      int currentY = current / width;
+      int nextDistance = distance[current] + 1;
+
+      // Só vizinhos ortogonais: as diagonais aparecem na hora de escolher o passo
+      for (int i = 0; i < 4; i++) {
+        int nx = currentX + STEP_X[i];
+        int ny = currentY + STEP_Y[i];
+        if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+          continue;
+        }
+        int index = ny * width + nx;
+        if (distance[index] == UNREACHABLE && tileMap.isWalkable(originX + nx, originY + ny)) {
+          distance[index] = nextDistance;
+          queue[tail++] = index;
+        }
+      }
+    }
+  }
+
+  /**
+   * Força a reconstrução na próxima atualização
+   */
+  public void invalidate() {
+    builtMapVersion = -1;
+  }
+
+  /**
+   * Distância em passos do tile até o alvo (UNREACHABLE se não há caminho)
+   */
+  public int getDistance(int tileX, int tileY) {
+    int x = tileX - originX;
+    int y = tileY - originY;
+    if (distance == null || x < 0 || y < 0 || x >= width || y >= height) {
+      return UNREACHABLE;
+    }
+    return distance[y * width + x];
+  }
+
+  /**
+   * Direção normalizada para seguir o campo a partir do ponto informado (o
+   * centro da entidade), escrita em out[0] e out[1]. Retorna false quando não
+   * há passo a dar (já está no tile do alvo, ao lado dele ou sem caminho); nesse
+   * caso quem chama segue em linha reta.
+   */
+  public boolean getDirection(double centerX, double centerY, double[] out) {
+    int tileX = (int) Math.floor(centerX / tileSize);
+    int tileY = (int) Math.floor(centerY / tileSize);
+    int current = getDistance(tileX, tileY);
+    if (current == UNREACHABLE || current <= 1) {
+      return false;
+    }
+
+    int bestX = 0;
+    int bestY = 0;
+    int best = current;
+    for (int i = 0; i < STEP_X.length; i++) {
+      int nx = tileX + STEP_X[i];
+      int ny = tileY + STEP_Y[i];
+      // Diagonal só se os dois tiles ortogonais estiverem livres (não cortar quinas)
+      if (i >= 4 && (!tileMap.isWalkable(nx, tileY) || !tileMap.isWalkable(tileX, ny))) {
+        continue;
+      }
+      int d = getDistance(nx, ny);
+      if (d < best) {
+        best = d;
+        bestX = nx;
+        bestY = ny;
+      }
+    }
+    if (best == current) {
+      return false;
+    }
+
+    // Ir para o centro do próximo tile
+    double deltaX = bestX * tileSize + tileSize / 2.0 - centerX;
+    double deltaY = bestY * tileSize + tileSize / 2.0 - centerY;
+    double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+    if (length == 0) {
+      return false;
+    }
+    out[0] = deltaX / length;
+    out[1] = deltaY / length;
+    return true;
+  }
+}
@@ -1,40 +1,84 @@
 package com.rpggame.world;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import com.rpggame.entities.Player;
-import com.rpggame.core.GamePanel;
 import com.rpggame.core.Game;
+import com.rpggame.core.GamePanel;
 import com.rpggame.systems.CharacterStats;
 
 /**
  * Sistema de Fog of War - controla a visibilidade dos tiles baseado na posição
  * do jogador
+ *
+ * Os estados dos tiles ficam em blocos do tamanho dos blocos do TileGrid,
+ * criados só quando algum tile do bloco é visto, e a máscara desenhada cobre
+ * apenas uma janela de MASK_WINDOW tiles ao redor da câmera. Assim o custo em
+ * memória acompanha a área explorada, não o tamanho do mapa.
  */
 public class FogOfWar {
-  private boolean[][] explored; // Tiles que já foram explorados
-  private boolean[][] visible; // Tiles atualmente visíveis
+  private static final byte EXPLORED = 1; // Tile já foi explorado
+  private static final byte VISIBLE = 2; // Tile atualmente visível
+  private static final int MASK_WINDOW = 64; // Lado máximo da máscara, em tiles
+
+  private byte[][] flagChunks; // Um byte por tile, bloco null = nada explorado
+  private final int chunksX;
   private int mapWidth, mapHeight;
   private float visionRange;
 
+  // Multiplicadores de coordenadas dos 8 octantes do shadowcasting
+  private static final int[] OCTANT_XX = { 1, 0, 0, -1, -1, 0, 0, 1 };
+  private static final int[] OCTANT_XY = { 0, 1, -1, 0, 0, -1, 1, 0 };
+  private static final int[] OCTANT_YX = { 0, 1, 1, 0, 0, -1, -1, 0 };
+  private static final int[] OCTANT_YY = { 1, 0, 0, 1, -1, 0, 0, -1 };
+
+  // Entrada do último cálculo (recalcular só quando alguma muda)
+  private int lastTileX = Integer.MIN_VALUE;
+  private int lastTileY = Integer.MIN_VALUE;
+  private float lastVisionRange = -1;
+  private TileGrid lastMap;
+  private boolean needsRecompute = true;
+
+  // Limites dos tiles visíveis no último cálculo (vazio quando min > max)
+  private int visibleMinX = Integer.MAX_VALUE;
+  private int visibleMinY = Integer.MAX_VALUE;
+  private int visibleMaxX = Integer.MIN_VALUE;
+  private int visibleMaxY = Integer.MIN_VALUE;
+
+  // Área alterada ainda não consumida pelo render (em tiles)
+  private Rectangle dirtyRegion;
+  private volatile int visibilityVersion = 0;
+
+  // Máscara de fog com um pixel por tile da janela (só a thread de renderização
+  // escreve na máscara e move a janela)
+  private final BufferedImage fogMask;
+  private final int windowWidth, windowHeight;
+  private int windowX = -1, windowY = -1; // Canto da janela em tiles (-1 = ainda não posicionada)
+  private static final int UNEXPLORED_FOG = 200 << 24; // Preto com alpha 200
+  private static final int EXPLORED_FOG = 100 << 24; // Preto com alpha 100
+
+  // -Drpggame.smoothFog=false desliga a suavização bilinear das bordas
+  private static final boolean SMOOTH_FOG = Boolean
+      .parseBoolean(System.getProperty("rpggame.smoothFog", "true"));
+
   public FogOfWar(int mapWidth, int mapHeight) {
     this.mapWidth = mapWidth;
     this.mapHeight = mapHeight;
-    this.explored = new boolean[mapHeight][mapWidth];
-    this.visible = new boolean[mapHeight][mapWidth];
+    this.chunksX = (mapWidth + TileGrid.CHUNK_SIZE - 1) >> TileGrid.CHUNK_SHIFT;
+    int chunksY = (mapHeight + TileGrid.CHUNK_SIZE - 1) >> TileGrid.CHUNK_SHIFT;
+    this.flagChunks = new byte[chunksX * chunksY][];
     this.visionRange = 3.0f; // Range base de visão
+    this.windowWidth = Math.min(mapWidth, MASK_WINDOW);
+    this.windowHeight = Math.min(mapHeight, MASK_WINDOW);
+    this.fogMask = new BufferedImage(windowWidth, windowHeight, BufferedImage.TYPE_INT_ARGB);
+    markDirty(0, 0, mapWidth - 1, mapHeight - 1);
   }
 
   /**
-   * Atualiza a visibilidade baseada na posição do jogador
+   * Atualiza a visibilidade baseada na posição do jogador. Só recalcula quando
+   * o tile do jogador, o alcance de visão ou o mapa mudam.
    */
-  public void updateVisibility(Player player, TileType[][] map) {
-    // Limpar visibilidade atual
-    for (int y = 0; y < mapHeight; y++) {
-      for (int x = 0; x < mapWidth; x++) {
-        visible[y][x] = false;
-      }
-    }
-
+  public void updateVisibility(Player player, TileGrid map) {
     // Calcular posição do jogador em tiles
     int playerTileX = (int) (player.getX() / GamePanel.TILE_SIZE);
     int playerTileY = (int) (player.getY() / GamePanel.TILE_SIZE);
@@ -45,80 +89,201 @@ public class FogOfWar {
       actualVisionRange = visionRange * getVisionMultiplier(player.getStats().getWisdom());
     }
 
-    // Usar algoritmo de ray-casting para determinar visibilidade
+    if (!needsRecompute && playerTileX == lastTileX && playerTileY == lastTileY
+        && actualVisionRange == lastVisionRange && map == lastMap) {
+      return;
+    }
+    lastTileX = playerTileX;
+    lastTileY = playerTileY;
+    lastVisionRange = actualVisionRange;
+    lastMap = map;
+    needsRecompute = false;
+
+    // Apagar a visibilidade anterior apenas na área que estava visível
+    clearVisible();
+
+    // Shadowcasting recursivo: cada tile do raio é visitado uma vez por octante
     int visionRadius = (int) Math.ceil(actualVisionRange);
+    double rangeSquared = (double) actualVisionRange * actualVisionRange;
 
-    for (int dy = -visionRadius; dy <= visionRadius; dy++) {
-      for (int dx = -visionRadius; dx <= visionRadius; dx++) {
-        int targetX = playerTileX + dx;
-        int targetY = playerTileY + dy;
-
-        // Verificar se está dentro dos limites do mapa
-        if (targetX >= 0 && targetX < mapWidth && targetY >= 0 && targetY < mapHeight) {
-          // Calcular distância
-          double distance = Math.sqrt(dx * dx + dy * dy);
-
-          if (distance <= actualVisionRange) {
-            // Verificar se há linha de visão clara
-            if (hasLineOfSight(playerTileX, playerTileY, targetX, targetY, map)) {
-              visible[targetY][targetX] = true;
-              explored[targetY][targetX] = true;
-            }
-          }
-        }
-      }
+    markVisible(playerTileX, playerTileY, map);
+    for (int octant = 0; octant < 8; octant++) {
+      castLight(playerTileX, playerTileY, 1, 1.0, 0.0, visionRadius, rangeSquared,
+          OCTANT_XX[octant], OCTANT_XY[octant], OCTANT_YX[octant], OCTANT_YY[octant], map);
     }
+
+    // A região suja cobre o que deixou de ser visível e o que passou a ser
+    markDirty(visibleMinX, visibleMinY, visibleMaxX, visibleMaxY);
+    visibilityVersion++;
   }
 
   /**
-   * Verifica se há linha de visão entre dois pontos usando algoritmo de Bresenham
+   * Ilumina um octante a partir da linha informada, entre as inclinações start e
+   * end (algoritmo de shadowcasting recursivo)
    */
-  private boolean hasLineOfSight(int x0, int y0, int x1, int y1, TileType[][] map) {
-    int dx = Math.abs(x1 - x0);
-    int dy = Math.abs(y1 - y0);
+  private void castLight(int originX, int originY, int row, double start, double end, int radius,
+      double rangeSquared, int xx, int xy, int yx, int yy, TileGrid map) {
+    if (start < end) {
+      return;
+    }
 
-    int sx = x0 < x1 ? 1 : -1;
-    int sy = y0 < y1 ? 1 : -1;
+    double newStart = 0.0;
+    for (int distance = row; distance <= radius; distance++) {
+      int dy = -distance;
+      boolean blocked = false;
+
+      for (int dx = -distance; dx <= 0; dx++) {
+        double leftSlope = (dx - 0.5) / (dy + 0.5);
+        double rightSlope = (dx + 0.5) / (dy - 0.5);
+        if (start < rightSlope) {
+          continue;
+        } else if (end > leftSlope) {
+          break;
+        }
 
-    int err = dx - dy;
-    int x = x0;
-    int y = y0;
+        int mapX = originX + dx * xx + dy * xy;
+        int mapY = originY + dx * yx + dy * yy;
 
-    while (true) {
-      // Se chegou ao destino, verificar se o tile de destino bloqueia visão
-      if (x == x1 && y == y1) {
-        // Apenas paredes e pedras bloqueiam visão (água não bloqueia)
-        if (x >= 0 && x < mapWidth && y >= 0 && y < mapHeight) {
-          TileType tileType = map[y][x];
-          return tileType != TileType.WALL && tileType != TileType.STONE;
+        if (dx * dx + dy * dy <= rangeSquared) {
+          markVisible(mapX, mapY, map);
         }
-        return true;
-      }
 
-      // Se encontrou uma parede ou pedra (exceto na posição inicial), bloqueia a
-      // visão
-      // Água NÃO bloqueia a visão
-      if (x >= 0 && x < mapWidth && y >= 0 && y < mapHeight) {
-        if (!(x == x0 && y == y0)) {
-          TileType tileType = map[y][x];
-          if (tileType == TileType.WALL || tileType == TileType.STONE) {
-            return false;
+        boolean opaque = blocksVision(mapX, mapY, map);
+        if (blocked) {
+          if (opaque) {
+            newStart = rightSlope;
+          } else {
+            blocked = false;
+            start = newStart;
           }
+        } else if (opaque && distance < radius) {
+          // Início de uma sombra: iluminar o trecho antes dela na próxima linha
+          blocked = true;
+          castLight(originX, originY, distance + 1, start, leftSlope, radius, rangeSquared,
+              xx, xy, yx, yy, map);
+          newStart = rightSlope;
         }
       }
 
-      int e2 = 2 * err;
-
-      if (e2 > -dy) {
-        err -= dy;
-        x += sx;
+      if (blocked) {
+        break;
       }
+    }
+  }
+
+  /**
+   * Apenas paredes e pedras bloqueiam visão (água não bloqueia). Fora do mapa
+   * também bloqueia. Lê o bitset de opacidade do TileGrid.
+   */
+  private boolean blocksVision(int x, int y, TileGrid map) {
+    return map.isOpaque(x, y);
+  }
+
+  /**
+   * Marca um tile como visível e explorado (tiles que bloqueiam a visão
+   * continuam cobertos, como antes)
+   */
+  private void markVisible(int x, int y, TileGrid map) {
+    if (blocksVision(x, y, map)) {
+      return;
+    }
+    byte[] chunk = flagChunk(x, y);
+    int index = flagIndex(x, y);
+    if ((chunk[index] & VISIBLE) == 0) {
+      chunk[index] = EXPLORED | VISIBLE;
+      visibleMinX = Math.min(visibleMinX, x);
+      visibleMinY = Math.min(visibleMinY, y);
+      visibleMaxX = Math.max(visibleMaxX, x);
+      visibleMaxY = Math.max(visibleMaxY, y);
+    }
+  }
 
-      if (e2 < dx) {
-        err += dx;
-        y += sy;
+  /**
+   * Limpa os tiles visíveis do último cálculo e marca a área como suja
+   */
+  private void clearVisible() {
+    if (visibleMinX <= visibleMaxX) {
+      for (int y = visibleMinY; y <= visibleMaxY; y++) {
+        for (int x = visibleMinX; x <= visibleMaxX; x++) {
+          byte[] chunk = flagChunks[chunkIndex(x, y)];
+          if (chunk != null) {
+            chunk[flagIndex(x, y)] &= ~VISIBLE;
+          }
+        }
       }
+      markDirty(visibleMinX, visibleMinY, visibleMaxX, visibleMaxY);
     }
+    visibleMinX = Integer.MAX_VALUE;
+    visibleMinY = Integer.MAX_VALUE;
+    visibleMaxX = Integer.MIN_VALUE;
+    visibleMaxY = Integer.MIN_VALUE;
+  }
+
+  private int chunkIndex(int x, int y) {
+    return (y >> TileGrid.CHUNK_SHIFT) * chunksX + (x >> TileGrid.CHUNK_SHIFT);
+  }
+
+  private static int flagIndex(int x, int y) {
+    return ((y & (TileGrid.CHUNK_SIZE - 1)) << TileGrid.CHUNK_SHIFT) | (x & (TileGrid.CHUNK_SIZE - 1));
+  }
+
+  /**
+   * Estado do tile (0 enquanto o bloco dele não foi visto)
+   */
+  private byte flags(int x, int y) {
+    byte[] chunk = flagChunks[chunkIndex(x, y)];
+    return chunk != null ? chunk[flagIndex(x, y)] : 0;
+  }
+
+  /**
+   * Bloco de estados do tile, criado na primeira escrita
+   */
+  private byte[] flagChunk(int x, int y) {
+    int index = chunkIndex(x, y);
+    byte[] chunk = flagChunks[index];
+    if (chunk == null) {
+      chunk = new byte[TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE];
+      flagChunks[index] = chunk;
+    }
+    return chunk;
+  }
+
+  /**
+   * Força o recálculo da visibilidade no próximo update (ex: tile alterado)
+   */
+  public void invalidate() {
+    needsRecompute = true;
+  }
+
+  /**
+   * Soma uma área (em tiles, inclusiva) à região suja
+   */
+  private synchronized void markDirty(int minX, int minY, int maxX, int maxY) {
+    if (minX > maxX || minY > maxY) {
+      return;
+    }
+    if (dirtyRegion == null) {
+      dirtyRegion = new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    } else {
+      dirtyRegion.add(new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1));
+    }
+  }
+
+  /**
+   * Retorna a região (em tiles) alterada desde a última chamada e a limpa, ou
+   * null se nada mudou
+   */
+  public synchronized Rectangle consumeDirtyRegion() {
+    Rectangle region = dirtyRegion;
+    dirtyRegion = null;
+    return region;
+  }
+
+  /**
+   * Contador incrementado a cada recálculo de visibilidade
+   */
+  public int getVisibilityVersion() {
+    return visibilityVersion;
   }
 
   /**
@@ -130,29 +295,76 @@ public class FogOfWar {
   }
 
   /**
-   * Renderiza o fog of war
+   * Renderiza o fog of war: a máscara (um pixel por tile da janela ao redor da
+   * câmera) é atualizada só na região que mudou e desenhada esticada sobre o
+   * mapa em um único drawImage
    */
-  public void render(Graphics2D g, Camera camera, TileType[][] map) {
-    int startTileX = Math.max(0, (int) (camera.getX() / GamePanel.TILE_SIZE));
-    int endTileX = Math.min(mapWidth, (int) ((camera.getX() + Game.SCREEN_WIDTH) / GamePanel.TILE_SIZE) + 1);
-    int startTileY = Math.max(0, (int) (camera.getY() / GamePanel.TILE_SIZE));
-    int endTileY = Math.min(mapHeight, (int) ((camera.getY() + Game.SCREEN_HEIGHT) / GamePanel.TILE_SIZE) + 1);
+  public void render(Graphics2D g, Camera camera) {
+    Rectangle dirty = consumeDirtyRegion();
+    if (moveWindow(camera)) {
+      updateMask(new Rectangle(windowX, windowY, windowWidth, windowHeight));
+    } else if (dirty != null) {
+      updateMask(dirty);
+    }
 
-    for (int tileY = startTileY; tileY < endTileY; tileY++) {
-      for (int tileX = startTileX; tileX < endTileX; tileX++) {
-        int screenX = (int) (tileX * GamePanel.TILE_SIZE - camera.getX());
-        int screenY = (int) (tileY * GamePanel.TILE_SIZE - camera.getY());
+    int tileSize = GamePanel.TILE_SIZE;
+    int screenX = (int) -camera.getX() + windowX * tileSize;
+    int screenY = (int) -camera.getY() + windowY * tileSize;
+
+    Object previousHint = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+        SMOOTH_FOG ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+            : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    g.drawImage(fogMask, screenX, screenY, windowWidth * tileSize, windowHeight * tileSize, null);
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+        previousHint != null ? previousHint : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+  }
+
+  /**
+   * Recentraliza a janela da máscara quando a área visível da câmera sai dela.
+   * Retorna true se a janela mudou (e a máscara inteira precisa ser refeita).
+   */
+  private boolean moveWindow(Camera camera) {
+    int tileSize = GamePanel.TILE_SIZE;
+    int viewX = (int) Math.floor(camera.getX() / tileSize);
+    int viewY = (int) Math.floor(camera.getY() / tileSize);
+    int viewEndX = (int) Math.floor((camera.getX() + Game.SCREEN_WIDTH) / tileSize);
+    int viewEndY = (int) Math.floor((camera.getY() + Game.SCREEN_HEIGHT) / tileSize);
 
-        if (!explored[tileY][tileX]) {
-          // Tile não explorado - fog completo
-          g.setColor(new Color(0, 0, 0, 200));
-          g.fillRect(screenX, screenY, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE);
-        } else if (!visible[tileY][tileX]) {
-          // Tile explorado mas não visível - fog parcial
-          g.setColor(new Color(0, 0, 0, 100));
-          g.fillRect(screenX, screenY, GamePanel.TILE_SIZE, GamePanel.TILE_SIZE);
+    boolean insideX = windowWidth == mapWidth
+        || (viewX >= windowX && viewEndX < windowX + windowWidth);
+    boolean insideY = windowHeight == mapHeight
+        || (viewY >= windowY && viewEndY < windowY + windowHeight);
+    if (windowX >= 0 && insideX && insideY) {
+      return false;
+    }
+
+    int centerX = (viewX + viewEndX) / 2;
+    int centerY = (viewY + viewEndY) / 2;
+    windowX = Math.max(0, Math.min(centerX - windowWidth / 2, mapWidth - windowWidth));
+    windowY = Math.max(0, Math.min(centerY - windowHeight / 2, mapHeight - windowHeight));
+    return true;
+  }
+
+  /**
+   * Reescreve os pixels da máscara na região informada (em tiles), limitada à
+   * janela
+   */
+  private void updateMask(Rectangle region) {
+    int endX = Math.min(windowX + windowWidth, region.x + region.width);
+    int endY = Math.min(windowY + windowHeight, region.y + region.height);
+    for (int y = Math.max(windowY, region.y); y < endY; y++) {
+      for (int x = Math.max(windowX, region.x); x < endX; x++) {
+        int state = flags(x, y);
+        int argb;
+        if ((state & EXPLORED) == 0) {
+          argb = UNEXPLORED_FOG; // Tile não explorado - fog completo
+        } else if ((state & VISIBLE) == 0) {
+          argb = EXPLORED_FOG; // Tile explorado mas não visível - fog parcial
+        } else {
+          argb = 0; // Tiles visíveis não têm fog
         }
-        // Tiles visíveis não têm fog
+        fogMask.setRGB(x - windowX, y - windowY, argb);
       }
     }
   }
@@ -164,7 +376,7 @@ public class FogOfWar {
     if (tileX < 0 || tileX >= mapWidth || tileY < 0 || tileY >= mapHeight) {
       return false;
     }
-    return visible[tileY][tileX];
+    return (flags(tileX, tileY) & VISIBLE) != 0;
   }
 
   /**
@@ -174,30 +386,37 @@ public class FogOfWar {
     if (tileX < 0 || tileX >= mapWidth || tileY < 0 || tileY >= mapHeight) {
       return false;
     }
-    return explored[tileY][tileX];
+    return (flags(tileX, tileY) & EXPLORED) != 0;
   }
 
   /**
-   * Revela todo o mapa (para debug)
+   * Revela todo o mapa (para debug; cria todos os blocos de estado)
    */
   public void revealAll() {
-    for (int y = 0; y < mapHeight; y++) {
-      for (int x = 0; x < mapWidth; x++) {
-        explored[y][x] = true;
-        visible[y][x] = true;
-      }
+    for (int i = 0; i < flagChunks.length; i++) {
+      byte[] chunk = new byte[TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE];
+      java.util.Arrays.fill(chunk, (byte) (EXPLORED | VISIBLE));
+      flagChunks[i] = chunk;
     }
+    visibleMinX = 0;
+    visibleMinY = 0;
+    visibleMaxX = mapWidth - 1;
+    visibleMaxY = mapHeight - 1;
+    markDirty(0, 0, mapWidth - 1, mapHeight - 1);
+    visibilityVersion++;
   }
 
   /**
    * Reseta a fog of war (para trocar de mapa)
    */
   public void resetFog() {
-    for (int y = 0; y < mapHeight; y++) {
-      for (int x = 0; x < mapWidth; x++) {
-        explored[y][x] = false;
-        visible[y][x] = false;
-      }
-    }
+    flagChunks = new byte[flagChunks.length][];
+    visibleMinX = Integer.MAX_VALUE;
+    visibleMinY = Integer.MAX_VALUE;
+    visibleMaxX = Integer.MIN_VALUE;
+    visibleMaxY = Integer.MIN_VALUE;
+    needsRecompute = true;
+    markDirty(0, 0, mapWidth - 1, mapHeight - 1);
+    visibilityVersion++;
   }
 }
\ No newline at end of file
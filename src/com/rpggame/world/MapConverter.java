@@ -0,0 +1,63 @@
+package com.rpggame.world;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte mapas .txt para o formato binário .rmap (ver MapFile), com os
+ * portais detectados pelos tiles e o spawn do MapManager.
+ *
+ * Sem argumentos, regenera os .rmap de todos os mapas do MapManager a partir
+ * dos .txt de mesmo nome (rodar da raiz do projeto depois de editar um mapa):
+ *
+ * java -cp bin com.rpggame.world.MapConverter
+ * java -cp bin com.rpggame.world.MapConverter entrada.txt saida.rmap [mapId]
+ */
+public class MapConverter {
+
+  public static void main(String[] args) {
+    if (args.length == 1 || args.length > 3) {
+      System.err.println("Uso: MapConverter [entrada.txt saida.rmap [mapId]]");
+      System.exit(1);
+    }
+
+    boolean ok = true;
+    if (args.length == 0) {
+      MapManager mapManager = new MapManager();
+      for (String mapId : mapManager.getMapIds()) {
+        MapManager.MapData data = mapManager.getMap(mapId);
+        ok &= convert(MapLoader.textPathFor(data.getFilePath()), data.getFilePath(), mapId,
+            data.getSpawnTileX(), data.getSpawnTileY());
+      }
+    } else {
+      ok = convert(args[0], args[1], args.length > 2 ? args[2] : null, -1, -1);
+    }
+    System.exit(ok ? 0 : 1);
+  }
+
+  /**
+   * Converte um mapa em texto; mapId define os portais (null = sem portais)
+   */
+  public static boolean convert(String textPath, String binaryPath, String mapId, int spawnTileX, int spawnTileY) {
+    if (!new File(textPath).isFile()) {
+      System.err.println("❌ Mapa não encontrado: " + textPath);
+      return false;
+    }
+
+    TileGrid grid = MapLoader.loadMapFromFile(textPath);
+    List<Portal> portals = mapId != null ? TileMap.findPortals(grid, mapId) : new ArrayList<>();
+    try {
+      MapFile.write(binaryPath, grid, portals, spawnTileX, spawnTileY);
+      MapFile.read(binaryPath); // Confere o checksum do que foi gravado
+    } catch (IOException e) {
+      System.err.println("❌ Erro ao converter " + textPath + ": " + e.getMessage());
+      return false;
+    }
+
+    System.out.println("✅ " + textPath + " -> " + binaryPath + " (" + grid.getWidth() + "x" + grid.getHeight()
+        + ", " + portals.size() + " portais, " + new File(binaryPath).length() + " bytes)");
+    return true;
+  }
+}
@@ -0,0 +1,294 @@
+package com.rpggame.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Mapa no formato binário .rmap: o TileGrid, os portais e o ponto de spawn,
+ * lidos sem converter caractere por caractere.
+ *
+ * Layout (big-endian):
+ *
+ * 0 int magic 'RMAP'
+ * 4 short versão (VERSION)
+ * 6 short número de camadas
+ * 8 int largura, 12 int altura (em tiles)
+ * 16 int início e 20 int tamanho dos metadados
+ * 24 int CRC32 de tudo a partir do byte HEADER_SIZE
+ * 28 tabela de camadas: int tipo, int início, int tamanho
+ *
+ * A camada LAYER_GROUND tem um byte (TileType.getId) por tile, linha a linha.
+ * Camadas de tipo desconhecido são ignoradas. Os metadados são: int spawnX,
+ * int spawnY (-1 = sem spawn), int número de portais e, por portal, int x,
+ * int y, texto do mapa de destino, int destinoX, int destinoY e texto do nome
+ * (texto = short tamanho sem sinal + bytes UTF-8). A versão 1 gravava esses
+ * números como short e ainda é lida.
+ *
+ * Arquivos do disco são mapeados em memória (FileChannel.map) e os blocos do
+ * grid são copiados do buffer conforme o jogo os usa; dentro do JAR o arquivo
+ * vem de uma única leitura do classpath. Só o CRC32 passa pelo arquivo todo.
+ */
+public final class MapFile {
+  public static final String EXTENSION = ".rmap";
+  public static final int MAGIC = 0x524D4150; // "RMAP"
+  public static final short VERSION = 2;
+  private static final short VERSION_SHORT_METADATA = 1; // Números dos metadados em short
+  public static final int LAYER_GROUND = 1;
+
+  private static final int HEADER_SIZE = 28;
+  private static final int LAYER_ENTRY_SIZE = 12;
+
+  private final TileGrid grid;
+  private final List<Portal> portals;
+  private final int spawnTileX;
+  private final int spawnTileY;
+
+  public MapFile(TileGrid grid, List<Portal> portals, int spawnTileX, int spawnTileY) {
+    this.grid = grid;
+    this.portals = Collections.unmodifiableList(new ArrayList<>(portals));
+    this.spawnTileX = spawnTileX;
+    this.spawnTileY = spawnTileY;
+  }
+
+  public TileGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Portais gravados no arquivo (vazia nos mapas em texto, que têm os portais
+   * detectados pelos tiles em TileMap.findPortals)
+   */
+  public List<Portal> getPortals() {
+    return portals;
+  }
+
+  public boolean hasSpawn() {
+    return spawnTileX >= 0 && spawnTileY >= 0;
+  }
+
+  public int getSpawnTileX() {
+    return spawnTileX;
+  }
+
+  public int getSpawnTileY() {
+    return spawnTileY;
+  }
+
+  // ===================== Leitura =====================
+
+  /**
+   * Lê um .rmap do classpath (uma leitura) ou do disco (mapeado em memória).
+   * Lança IOException se o arquivo não existe, está truncado ou o checksum
+   * não confere.
+   */
+  public static MapFile read(String path) throws IOException {
+    ByteBuffer data;
+    InputStream resourceStream = MapFile.class.getClassLoader().getResourceAsStream(path);
+    if (resourceStream != null) {
+      try (InputStream in = resourceStream) {
+        data = ByteBuffer.wrap(in.readAllBytes());
+      }
+    } else {
+      try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+        // O mapeamento continua válido depois de fechar o canal
+        data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+    return decode(data, path);
+  }
+
+  private static MapFile decode(ByteBuffer data, String path) throws IOException {
+    if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+      throw new IOException("Não é um mapa .rmap: " + path);
+    }
+    int version = data.getShort(4);
+    if (version != VERSION && version != VERSION_SHORT_METADATA) {
+      throw new IOException("Versão de .rmap não suportada (" + version + "): " + path);
+    }
+    int layerCount = data.getShort(6);
+    int width = data.getInt(8);
+    int height = data.getInt(12);
+    int metadataOffset = data.getInt(16);
+    int metadataLength = data.getInt(20);
+    int checksum = data.getInt(24);
+
+    if (width <= 0 || height <= 0 || width > TileGrid.MAX_DIMENSION || height > TileGrid.MAX_DIMENSION) {
+      throw new IOException("Dimensões inválidas (" + width + "x" + height + "): " + path);
+    }
+    if (layerCount < 0 || HEADER_SIZE + layerCount * LAYER_ENTRY_SIZE > data.limit()
+        || !fits(data, metadataOffset, metadataLength)) {
+      throw new IOException("Mapa .rmap truncado: " + path);
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(data.duplicate().position(HEADER_SIZE));
+    if ((int) crc.getValue() != checksum) {
+      throw new IOException("Checksum do mapa não confere: " + path);
+    }
+
+    int groundOffset = -1;
+    for (int i = 0; i < layerCount; i++) {
+      int entry = HEADER_SIZE + i * LAYER_ENTRY_SIZE;
+      int type = data.getInt(entry);
+      int offset = data.getInt(entry + 4);
+      int length = data.getInt(entry + 8);
+      if (type == LAYER_GROUND) {
+        if (length != width * height || !fits(data, offset, length)) {
+          throw new IOException("Camada de chão com tamanho inválido: " + path);
+        }
+        groundOffset = offset;
+      }
+    }
+    if (groundOffset < 0) {
+      throw new IOException("Mapa .rmap sem camada de chão: " + path);
+    }
+
+    TileGrid grid = new TileGrid(width, height, TileType.GRASS,
+        new BufferSource(data, groundOffset, width, height));
+
+    // Metadados
+    ByteBuffer metadata = data.duplicate().position(metadataOffset).limit(metadataOffset + metadataLength);
+    try {
+      boolean shortMetadata = version == VERSION_SHORT_METADATA;
+      int spawnX = readNumber(metadata, shortMetadata);
+      int spawnY = readNumber(metadata, shortMetadata);
+      int portalCount = readNumber(metadata, shortMetadata);
+      if (portalCount < 0 || portalCount > metadataLength) {
+        throw new IOException("Número de portais inválido (" + portalCount + ") em " + path);
+      }
+      List<Portal> portals = new ArrayList<>(portalCount);
+      for (int i = 0; i < portalCount; i++) {
+        int x = readNumber(metadata, shortMetadata);
+        int y = readNumber(metadata, shortMetadata);
+        String targetMapId = readString(metadata);
+        int targetX = readNumber(metadata, shortMetadata);
+        int targetY = readNumber(metadata, shortMetadata);
+        String name = readString(metadata);
+        portals.add(new Portal(x, y, targetMapId, targetX, targetY, name));
+      }
+      return new MapFile(grid, portals, spawnX, spawnY);
+    } catch (RuntimeException e) {
+      throw new IOException("Metadados inválidos em " + path + ": " + e.getMessage());
+    }
+  }
+
+  private static boolean fits(ByteBuffer data, int offset, int length) {
+    return offset >= HEADER_SIZE && length >= 0 && (long) offset + length <= data.limit();
+  }
+
+  private static int readNumber(ByteBuffer buffer, boolean shortMetadata) {
+    return shortMetadata ? buffer.getShort() : buffer.getInt();
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Blocos do grid copiados direto da camada de chão (mapeada ou lida)
+   */
+  private static final class BufferSource implements TileGrid.Source {
+    private final ByteBuffer data;
+    private final int offset;
+    private final int width;
+    private final int height;
+
+    BufferSource(ByteBuffer data, int offset, int width, int height) {
+      this.data = data;
+      this.offset = offset;
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public void load(int chunkX, int chunkY, byte[] out) {
+      int firstX = chunkX * TileGrid.CHUNK_SIZE;
+      int firstY = chunkY * TileGrid.CHUNK_SIZE;
+      int rowLength = Math.min(TileGrid.CHUNK_SIZE, width - firstX);
+      int endY = Math.min(TileGrid.CHUNK_SIZE, height - firstY);
+      // Cópia da visão por chamada: cada thread mexe só na posição da sua
+      ByteBuffer view = data.duplicate();
+      for (int y = 0; y < endY; y++) {
+        view.position(offset + (firstY + y) * width + firstX);
+        view.get(out, y * TileGrid.CHUNK_SIZE, rowLength);
+      }
+    }
+  }
+
+  // ===================== Escrita =====================
+
+  /**
+   * Grava o mapa no formato .rmap
+   */
+  public static void write(String path, TileGrid grid, List<Portal> portals, int spawnTileX, int spawnTileY)
+      throws IOException {
+    byte[][] texts = new byte[portals.size() * 2][];
+    int metadataLength = 12;
+    for (int i = 0; i < portals.size(); i++) {
+      texts[i * 2] = textBytes(portals.get(i).getTargetMapId(), path);
+      texts[i * 2 + 1] = textBytes(portals.get(i).getName(), path);
+      metadataLength += 16 + 4 + texts[i * 2].length + texts[i * 2 + 1].length;
+    }
+
+    int width = grid.getWidth();
+    int height = grid.getHeight();
+    int metadataOffset = HEADER_SIZE + LAYER_ENTRY_SIZE;
+    int groundOffset = metadataOffset + metadataLength;
+    ByteBuffer buffer = ByteBuffer.allocate(groundOffset + width * height);
+
+    buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 1);
+    buffer.putInt(width).putInt(height);
+    buffer.putInt(metadataOffset).putInt(metadataLength);
+    buffer.putInt(0); // Checksum, preenchido no fim
+    buffer.putInt(LAYER_GROUND).putInt(groundOffset).putInt(width * height);
+
+    buffer.putInt(spawnTileX).putInt(spawnTileY).putInt(portals.size());
+    for (int i = 0; i < portals.size(); i++) {
+      Portal portal = portals.get(i);
+      buffer.putInt(portal.getX()).putInt(portal.getY());
+      buffer.putShort((short) texts[i * 2].length).put(texts[i * 2]);
+      buffer.putInt(portal.getTargetX()).putInt(portal.getTargetY());
+      buffer.putShort((short) texts[i * 2 + 1].length).put(texts[i * 2 + 1]);
+    }
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        buffer.put((byte) grid.get(x, y).getId());
+      }
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+    buffer.putInt(24, (int) crc.getValue());
+
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * UTF-8 do texto; o tamanho é gravado em um short sem sinal
+   */
+  private static byte[] textBytes(String text, String path) throws IOException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > 0xFFFF) {
+      throw new IOException("Texto longo demais para o .rmap (" + bytes.length + " bytes): " + path);
+    }
+    return bytes;
+  }
+}
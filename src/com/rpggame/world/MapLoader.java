@@ -4,17 +4,58 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 import com.rpggame.core.GamePanel;
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
 
 /**
  * Classe para carregar e gerenciar mapas personalizados
  */
 public class MapLoader {
+  // Caractere usado para completar linhas curtas
+  private static final char EMPTY_TILE = '.';
 
   /**
-   * Carrega um mapa de um arquivo .txt
-   * Formato: cada linha representa uma linha do mapa, cada char um tile
+   * Carrega um mapa .rmap (binário, ver MapFile) ou .txt. Se o .rmap não puder
+   * ser lido, usa o .txt de mesmo nome; sem nenhum dos dois, o mapa padrão.
+   * Mapas em texto vêm sem portais nem spawn gravados.
    */
-  public static TileType[][] loadMapFromFile(String filePath) {
+  public static MapFile loadMap(String filePath) {
+    if (filePath.endsWith(MapFile.EXTENSION)) {
+      try {
+        MapFile mapFile = MapFile.read(filePath);
+        Log.info(LogCategory.WORLD, "Mapa carregado com sucesso: " + filePath);
+        Log.debug(LogCategory.WORLD, "Dimensões: " + mapFile.getGrid().getWidth() + "x"
+            + mapFile.getGrid().getHeight() + ", " + mapFile.getPortals().size() + " portais");
+        return mapFile;
+      } catch (IOException e) {
+        Log.warn(LogCategory.WORLD, "Erro ao carregar mapa binário: " + e.getMessage());
+        filePath = textPathFor(filePath);
+        Log.warn(LogCategory.WORLD, "Tentando a versão em texto: " + filePath);
+      }
+    }
+    return new MapFile(loadMapFromFile(filePath), new ArrayList<>(), -1, -1);
+  }
+
+  /**
+   * Caminho do .txt que dá origem ao .rmap informado
+   */
+  public static String textPathFor(String binaryPath) {
+    if (!binaryPath.endsWith(MapFile.EXTENSION)) {
+      return binaryPath;
+    }
+    return binaryPath.substring(0, binaryPath.length() - MapFile.EXTENSION.length()) + ".txt";
+  }
+
+  /**
+   * Carrega um mapa de um arquivo .txt (ou só o grid de um .rmap)
+   * Formato: cada linha representa uma linha do mapa, cada char um tile.
+   * O tamanho vem do arquivo (linhas curtas são completadas com '.'); os
+   * tiles são convertidos por blocos, conforme o jogo os usa (ver TileGrid).
+   */
+  public static TileGrid loadMapFromFile(String filePath) {
+    if (filePath.endsWith(MapFile.EXTENSION)) {
+      return loadMap(filePath).getGrid();
+    }
     try {
       List<String> lines = new ArrayList<>();
 
@@ -26,7 +67,7 @@ public class MapLoader {
           while ((line = reader.readLine()) != null) {
             lines.add(line);
           }
-          System.out.println("Mapa carregado como recurso: " + filePath);
+          Log.debug(LogCategory.WORLD, "Mapa carregado como recurso: " + filePath);
         }
       } else {
         // Fallback: tentar carregar como arquivo do sistema (desenvolvimento)
@@ -35,7 +76,7 @@ public class MapLoader {
           while ((line = reader.readLine()) != null) {
             lines.add(line);
           }
-          System.out.println("Mapa carregado como arquivo: " + filePath);
+          Log.debug(LogCategory.WORLD, "Mapa carregado como arquivo: " + filePath);
         }
       }
       if (lines.isEmpty()) {
@@ -48,74 +89,96 @@ public class MapLoader {
       for (String line : lines) {
         width = Math.max(width, line.length());
       }
-
-      // Criar array de tiles
-      TileType[][] map = new TileType[height][width];
-
-      for (int y = 0; y < height; y++) {
-        String line = lines.get(y);
-        for (int x = 0; x < width; x++) {
-          char tileChar = (x < line.length()) ? line.charAt(x) : '.';
-          map[y][x] = TileType.fromChar(tileChar);
-        }
+      if (width == 0 || width > TileGrid.MAX_DIMENSION || height > TileGrid.MAX_DIMENSION) {
+        Log.error(LogCategory.WORLD, "Mapa com dimensões inválidas (" + width + "x" + height + "): " + filePath);
+        return generateDefaultMap();
       }
 
-      System.out.println("Mapa carregado com sucesso: " + filePath);
-      System.out.println("Dimensões: " + height + "x" + width);
+      TileGrid map = new TileGrid(width, height, TileType.fromChar(EMPTY_TILE),
+          new TextSource(lines.toArray(new String[0])));
+
+      Log.info(LogCategory.WORLD, "Mapa carregado com sucesso: " + filePath);
+      Log.debug(LogCategory.WORLD, "Dimensões: " + width + "x" + height);
       return map;
 
     } catch (IOException e) {
-      System.err.println("Erro ao carregar mapa: " + filePath);
-      System.err.println("Motivo: " + e.getMessage());
-      System.err.println("Gerando mapa padrão...");
+      Log.error(LogCategory.WORLD, "Erro ao carregar mapa: " + filePath);
+      Log.error(LogCategory.WORLD, "Motivo: " + e.getMessage());
+      Log.warn(LogCategory.WORLD, "Gerando mapa padrão...");
       return generateDefaultMap();
     }
   }
 
+  /**
+   * Tiles de um mapa em texto, convertidos bloco a bloco. Guarda só as linhas
+   * lidas (um byte por tile nas Strings compactas). O texto é lido inteiro:
+   * é o formato de edição e o caminho de fallback; o jogo carrega os .rmap.
+   */
+  private static final class TextSource implements TileGrid.Source {
+    private final String[] lines;
+
+    TextSource(String[] lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public void load(int chunkX, int chunkY, byte[] out) {
+      int firstX = chunkX * TileGrid.CHUNK_SIZE;
+      int firstY = chunkY * TileGrid.CHUNK_SIZE;
+      int endY = Math.min(TileGrid.CHUNK_SIZE, lines.length - firstY);
+      for (int y = 0; y < endY; y++) {
+        String line = lines[firstY + y];
+        int rowStart = y * TileGrid.CHUNK_SIZE;
+        for (int x = 0; x < TileGrid.CHUNK_SIZE; x++) {
+          int mapX = firstX + x;
+          char tileChar = (mapX < line.length()) ? line.charAt(mapX) : EMPTY_TILE;
+          out[rowStart + x] = (byte) TileType.fromChar(tileChar).getId();
+        }
+      }
+    }
+  }
+
   /**
    * Salva um mapa em arquivo .txt
    */
-  public static void saveMapToFile(TileType[][] map, String filePath) {
+  public static void saveMapToFile(TileGrid map, String filePath) {
     try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-      for (int y = 0; y < map.length; y++) {
-        StringBuilder line = new StringBuilder();
-        for (int x = 0; x < map[y].length; x++) {
-          line.append(map[y][x].toChar());
+      for (int y = 0; y < map.getHeight(); y++) {
+        StringBuilder line = new StringBuilder(map.getWidth());
+        for (int x = 0; x < map.getWidth(); x++) {
+          line.append(map.get(x, y).toChar());
         }
         writer.println(line.toString());
       }
       System.out.println("Mapa salvo em: " + filePath);
     } catch (IOException e) {
-      System.err.println("Erro ao salvar mapa: " + e.getMessage());
+      Log.error(LogCategory.WORLD, "Erro ao salvar mapa: " + e.getMessage());
     }
   }
 
   /**
    * Gera um mapa padrão procedural com diferentes tiles
    */
-  public static TileType[][] generateDefaultMap() {
-    int width = GamePanel.MAP_WIDTH;
-    int height = GamePanel.MAP_HEIGHT;
-    TileType[][] map = new TileType[height][width];
+  public static TileGrid generateDefaultMap() {
+    int width = GamePanel.DEFAULT_MAP_WIDTH;
+    int height = GamePanel.DEFAULT_MAP_HEIGHT;
+    TileGrid map = new TileGrid(width, height, TileType.GRASS);
 
     for (int y = 0; y < height; y++) {
       for (int x = 0; x < width; x++) {
         // Bordas são sempre paredes
         if (x == 0 || x == width - 1 || y == 0 || y == height - 1) {
-          map[y][x] = TileType.WALL;
+          map.set(x, y, TileType.WALL);
         }
         // Algumas pedras aleatórias
         else if (Math.random() < 0.1) {
-          map[y][x] = TileType.STONE;
+          map.set(x, y, TileType.STONE);
         }
         // Algumas áreas de terra
         else if (Math.random() < 0.15) {
-          map[y][x] = TileType.DIRT;
-        }
-        // Resto é grama
-        else {
-          map[y][x] = TileType.GRASS;
+          map.set(x, y, TileType.DIRT);
         }
+        // Resto é grama (preenchimento da grade)
       }
     }
 
@@ -130,7 +193,7 @@ public class MapLoader {
           int nx = centerX + dx;
           int ny = centerY + dy;
           if (nx > 0 && nx < width - 1 && ny > 0 && ny < height - 1) {
-            map[ny][nx] = TileType.GRASS;
+            map.set(nx, ny, TileType.GRASS);
           }
         }
       }
@@ -140,7 +203,8 @@ public class MapLoader {
   }
 
   /**
-   * Cria um mapa de exemplo e salva em arquivo
+   * Cria um mapa de exemplo e salva em example_map.txt. Ferramenta de
+   * desenvolvimento: o jogo não chama este método.
    */
   public static void createExampleMap() {
     String exampleMap = "WWWWWWWWWWWWWWWWWWWWW\n" +
@@ -165,7 +229,7 @@ public class MapLoader {
       writer.print(exampleMap);
       System.out.println("Mapa de exemplo criado: example_map.txt");
     } catch (IOException e) {
-      System.err.println("Erro ao criar mapa de exemplo: " + e.getMessage());
+      Log.error(LogCategory.WORLD, "Erro ao criar mapa de exemplo: " + e.getMessage());
     }
   }
 }
\ No newline at end of file
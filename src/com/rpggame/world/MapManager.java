@@ -1,41 +1,67 @@
 package com.rpggame.world;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.rpggame.core.Log;
+import com.rpggame.core.LogCategory;
 
 /**
  * Gerencia múltiplos mapas e suas conexões via portais
+ *
+ * Os mapas já lidos ficam num cache LRU de até MAX_CACHED_MAPS PreparedMap
+ * (grid, portais, tiles de spawn e blocos de chão assados). Quando o jogador
+ * chega perto de um portal, prefetch prepara o destino numa thread de fundo,
+ * e a troca de mapa (prepare) só pega o resultado pronto.
+ *
+ * O cache e os pedidos pendentes são usados só pela thread do jogo; a thread
+ * de fundo apenas monta PreparedMaps novos.
  */
 public class MapManager {
+  private static final int MAX_CACHED_MAPS = 4;
+
   private Map<String, MapData> maps;
   private String currentMapId;
 
+  // Mapas preparados, do usado há mais tempo para o mais recente
+  private final LinkedHashMap<String, PreparedMap> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Future<PreparedMap>> pending = new HashMap<>();
+  private ExecutorService prefetcher; // Criado no primeiro prefetch
+
   public MapManager() {
     this.maps = new HashMap<>();
     initializeMaps();
   }
 
   /**
-   * Inicializa os mapas disponíveis no jogo
+   * Inicializa os mapas disponíveis no jogo. Os arquivos são os .rmap gerados
+   * pelo MapConverter a partir dos .txt de mesmo nome (usados se o .rmap
+   * faltar).
    */
   private void initializeMaps() {
     // Mapa principal (territórios de goblins)
     maps.put("goblin_territories", new MapData(
-        "maps/goblin_territories_25x25.txt",
+        "maps/goblin_territories_25x25.rmap",
         "Territórios Goblin",
         12, 3 // Spawn em tile (12, 3) - na frente dos portais (que estão em y=0)
     ));
 
     // Vila com praia à esquerda
     maps.put("village", new MapData(
-        "maps/village.txt",
+        "maps/village.rmap",
         "Vila da Praia",
         12, 22 // Spawn em tile (12, 22) - logo acima dos portais
     ));
 
     // Área secreta acessível pela vitória régia
     maps.put("secret_area", new MapData(
-        "maps/secret_area.txt",
+        "maps/secret_area.rmap",
         "Área Secreta",
         12, 22 // Spawn em tile (12, 22) - logo acima do portal
     ));
@@ -81,6 +107,103 @@ public class MapManager {
     return currentMapId;
   }
 
+  // ===================== Cache e pré-carregamento =====================
+
+  /**
+   * Mapa pronto para a troca: do cache, do pré-carregamento (esperando ele
+   * terminar, se preciso) ou lido agora. Retorna null se o mapa não existe.
+   */
+  public PreparedMap prepare(String mapId) {
+    MapData data = maps.get(mapId);
+    if (data == null) {
+      return null;
+    }
+
+    long start = System.nanoTime();
+    String origin = "cache";
+    PreparedMap prepared = cache.get(mapId);
+    if (prepared == null) {
+      Future<PreparedMap> future = pending.remove(mapId);
+      if (future != null) {
+        origin = future.isDone() ? "pré-carregado" : "aguardou pré-carregamento";
+        try {
+          prepared = future.get();
+        } catch (ExecutionException e) {
+          System.err.println("❌ Erro ao pré-carregar " + mapId + ": " + e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (prepared == null) {
+        origin = "lido agora";
+        prepared = PreparedMap.load(data.getFilePath(), mapId);
+      }
+      cache.put(mapId, prepared);
+      evictOldest();
+    }
+
+    long elapsedUs = (System.nanoTime() - start) / 1000;
+    Log.info(LogCategory.WORLD, "Mapa " + prepared + " pronto em " + elapsedUs + "µs (" + origin + ")");
+    return prepared;
+  }
+
+  /**
+   * Começa a preparar o mapa em segundo plano (ignorado se ele já está em
+   * cache, sendo preparado ou é o mapa atual). painter é o TileMap em uso,
+   * que assa os blocos de chão ao redor do spawn do destino.
+   */
+  public void prefetch(String mapId, TileMap painter) {
+    MapData data = maps.get(mapId);
+    if (data == null || mapId.equals(currentMapId) || cache.containsKey(mapId) || pending.containsKey(mapId)) {
+      return;
+    }
+    if (prefetcher == null) {
+      prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MapPrefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+      });
+    }
+
+    Log.debug(LogCategory.WORLD, () -> "Pré-carregando mapa " + mapId);
+    pending.put(mapId, prefetcher.submit(() -> {
+      PreparedMap prepared = PreparedMap.load(data.getFilePath(), mapId);
+      prepared.getGrassTiles();
+      painter.prebakeFloor(prepared, data.getSpawnTileX(), data.getSpawnTileY());
+      return prepared;
+    }));
+  }
+
+  /**
+   * Mapa já preparado (em cache ou com pré-carregamento concluído)
+   */
+  public boolean isPrepared(String mapId) {
+    Future<PreparedMap> future = pending.get(mapId);
+    return cache.containsKey(mapId) || (future != null && future.isDone());
+  }
+
+  /**
+   * Descarta os mapas usados há mais tempo além do limite (nunca o atual)
+   */
+  private void evictOldest() {
+    Iterator<Map.Entry<String, PreparedMap>> iterator = cache.entrySet().iterator();
+    while (cache.size() > MAX_CACHED_MAPS && iterator.hasNext()) {
+      Map.Entry<String, PreparedMap> entry = iterator.next();
+      if (!entry.getKey().equals(currentMapId)) {
+        Log.debug(LogCategory.WORLD, "Mapa descartado do cache: " + entry.getValue());
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * IDs de todos os mapas registrados
+   */
+  public java.util.Set<String> getMapIds() {
+    return maps.keySet();
+  }
+
   /**
    * Classe interna para armazenar dados de um mapa
    */
@@ -106,8 +106,8 @@ public class MapTransition {
       g.fill(fullScreen);
       
       // Desenhar borda do círculo para efeito visual (opcional)
-      g.setColor(new Color(0, 0, 0, 128));
-      g.setStroke(new BasicStroke(3));
+      g.setColor(RenderResources.color(0, 0, 0, 128));
+      g.setStroke(RenderResources.stroke(3));
       g.draw(circle);
       
     } else {
@@ -129,7 +129,7 @@ public class MapTransition {
     
     // Fade simples com alpha
     int alpha = (int)(transitionProgress * 255);
-    g.setColor(new Color(0, 0, 0, alpha));
+    g.setColor(RenderResources.color(0, 0, 0, alpha));
     g.fillRect(0, 0, screenWidth, screenHeight);
   }
   
@@ -0,0 +1,103 @@
+package com.rpggame.world;
+
+import com.rpggame.core.GamePanel;
+
+/**
+ * Segue um caminho do PathService até um ponto do mapa. Cada entidade que
+ * anda até alvos próprios (goblin inimigo, posto do guarda, patrulha) tem o
+ * seu.
+ *
+ * Enquanto o caminho não fica pronto (ou se não existe), getDirection()
+ * retorna false e a entidade segue em linha reta, como antes.
+ */
+public class PathFollower {
+  private final int tileSize = GamePanel.TILE_SIZE;
+
+  private PathService.Request request;
+  private int goalTileX = -1;
+  private int goalTileY = -1;
+  private int step; // Próximo tile do caminho
+
+  /**
+   * Direção normalizada do centro da entidade até o próximo tile do caminho
+   * para o destino (em pixels), escrita em out[0] e out[1].
+   */
+  public boolean getDirection(PathService service, double centerX, double centerY, double goalX, double goalY,
+      double[] out) {
+    int tileX = (int) Math.floor(centerX / tileSize);
+    int tileY = (int) Math.floor(centerY / tileSize);
+    int targetTileX = (int) Math.floor(goalX / tileSize);
+    int targetTileY = (int) Math.floor(goalY / tileSize);
+
+    // Mesmo tile ou vizinho do destino: linha reta basta
+    if (Math.abs(targetTileX - tileX) <= 1 && Math.abs(targetTileY - tileY) <= 1) {
+      reset();
+      return false;
+    }
+
+    if (request == null || targetTileX != goalTileX || targetTileY != goalTileY || request.isFailed()) {
+      if (request != null && request.isFailed() && targetTileX == goalTileX && targetTileY == goalTileY) {
+        return false; // Destino inalcançável: não pedir de novo a cada tick
+      }
+      startRequest(service, tileX, tileY, targetTileX, targetTileY);
+    }
+
+    if (!request.isFound()) {
+      return false; // Ainda na fila
+    }
+
+    int[] path = request.getPath();
+    int width = service.getMapWidth();
+    int current = tileY * width + tileX;
+
+    // Avançar se já chegou no tile do passo atual (ou em algum mais adiante)
+    for (int i = step; i < path.length; i++) {
+      if (path[i] == current) {
+        step = i + 1;
+      }
+    }
+    if (step >= path.length) {
+      reset();
+      return false;
+    }
+
+    // Saiu do caminho (empurrado, knockback): pedir um novo a partir daqui
+    int next = path[step];
+    int nextX = next % width;
+    int nextY = next / width;
+    if (Math.abs(nextX - tileX) > 1 || Math.abs(nextY - tileY) > 1) {
+      startRequest(service, tileX, tileY, targetTileX, targetTileY);
+      return false;
+    }
+
+    double deltaX = nextX * tileSize + tileSize / 2.0 - centerX;
+    double deltaY = nextY * tileSize + tileSize / 2.0 - centerY;
+    double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+    if (length == 0) {
+      return false;
+    }
+    out[0] = deltaX / length;
+    out[1] = deltaY / length;
+    return true;
+  }
+
+  /**
+   * Esquece o caminho atual (alvo perdido ou alcançado)
+   */
+  public void reset() {
+    if (request != null && request.isPending()) {
+      request.cancel();
+    }
+    request = null;
+    goalTileX = -1;
+    goalTileY = -1;
+    step = 0;
+  }
+
+  private void startRequest(PathService service, int tileX, int tileY, int targetTileX, int targetTileY) {
+    reset();
+    request = service.request(tileX, tileY, targetTileX, targetTileY);
+    goalTileX = targetTileX;
+    goalTileY = targetTileY;
+  }
+}
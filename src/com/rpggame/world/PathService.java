@@ -0,0 +1,427 @@
+package com.rpggame.world;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caminhos ponto a ponto (A*) entre tiles, para alvos que não são o jogador:
+ * goblin contra goblin, guardas e patrulhas em volta da cabana.
+ *
+ * Os pedidos entram numa fila e as buscas avançam no máximo NODE_BUDGET nós
+ * por tick, continuando no tick seguinte de onde pararam; nenhum frame paga
+ * por uma busca longa. Caminhos prontos ficam num cache LRU por (início,
+ * destino), descartado quando algum tile do mapa muda.
+ *
+ * Cada busca cobre só uma janela de até WINDOW_SIZE tiles de lado centrada
+ * entre início e destino (o mapa inteiro nos mapas pequenos), então a memória
+ * da busca não cresce com o mapa. Pares mais distantes que a janela falham na
+ * hora e a entidade segue em linha reta.
+ */
+public class PathService {
+  public static final int NODE_BUDGET = 256; // Nós expandidos por tick
+  private static final int CACHE_SIZE = 256;
+  public static final int WINDOW_SIZE = 128; // Lado da janela de busca, em tiles
+
+  // Custos de passo (ortogonal e diagonal)
+  private static final int STRAIGHT_COST = 10;
+  private static final int DIAGONAL_COST = 14;
+
+  private static final int[] STEP_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+  private static final int[] STEP_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+  private static final int[] NO_PATH = new int[0];
+
+  /**
+   * Pedido de caminho. Fica pronto (ou falha) em algum tick futuro; quem pediu
+   * consulta o estado a cada update.
+   */
+  public static class Request {
+    private final long key;
+    private final int startIndex;
+    private final int goalIndex;
+    private int[] path; // null enquanto pendente
+    private int waiters = 1; // Quem ainda espera por este pedido
+
+    private Request(long key, int startIndex, int goalIndex) {
+      this.key = key;
+      this.startIndex = startIndex;
+      this.goalIndex = goalIndex;
+    }
+
+    public boolean isPending() {
+      return path == null && waiters > 0;
+    }
+
+    public boolean isFound() {
+      return path != null && path.length > 0;
+    }
+
+    public boolean isFailed() {
+      return path == NO_PATH;
+    }
+
+    /**
+     * Tiles do caminho (índice y * largura + x), sem o tile inicial e com o
+     * destino. Só válido quando isFound().
+     */
+    public int[] getPath() {
+      return path;
+    }
+
+    public int getGoalIndex() {
+      return goalIndex;
+    }
+
+    /**
+     * Desiste do pedido. Quando ninguém mais espera por ele, a busca é pulada
+     * se ainda não começou.
+     */
+    public void cancel() {
+      if (waiters > 0) {
+        waiters--;
+      }
+    }
+
+    private boolean isCancelled() {
+      return waiters <= 0;
+    }
+  }
+
+  private final TileMap tileMap;
+
+  // Cache LRU de caminhos prontos (inclusive "sem caminho")
+  private final LinkedHashMap<Long, int[]> cache = new LinkedHashMap<Long, int[]>(CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  private final ArrayDeque<Request> queue = new ArrayDeque<>();
+  private final HashMap<Long, Request> pendingByKey = new HashMap<>();
+  private int cachedMapVersion;
+
+  // Estado da busca em andamento (reaproveitado entre buscas). Os nós são
+  // índices na janela: (y - windowY) * windowWidth + (x - windowX)
+  private Request active;
+  private int width; // Dimensões do mapa
+  private int height;
+  private int windowX;
+  private int windowY;
+  private int windowWidth;
+  private int windowHeight;
+  private int windowGoal;
+  private int[] gScore;
+  private int[] parent;
+  private int[] visitStamp; // Busca em que o nó foi visto (evita limpar arrays)
+  private boolean[] closed;
+  private int stamp = 0;
+  private int[] heapNodes = new int[64];
+  private int[] heapPriority = new int[64];
+  private int heapSize;
+
+  public PathService(TileMap tileMap) {
+    this.tileMap = tileMap;
+    this.cachedMapVersion = tileMap.getMapVersion();
+  }
+
+  /**
+   * Pede um caminho entre dois tiles. Se já estiver no cache, o pedido volta
+   * pronto; se o mesmo par já está na fila, devolve o pedido existente.
+   */
+  public Request request(int startX, int startY, int goalX, int goalY) {
+    checkMapVersion();
+    ensureGrid();
+
+    int startIndex = startY * width + startX;
+    int goalIndex = goalY * width + goalX;
+    long key = ((long) startIndex << 32) | (goalIndex & 0xffffffffL);
+
+    Request request = new Request(key, startIndex, goalIndex);
+    if (!inBounds(startX, startY) || !tileMap.isWalkable(goalX, goalY)
+        || Math.abs(goalX - startX) >= windowWidth || Math.abs(goalY - startY) >= windowHeight) {
+      request.path = NO_PATH;
+      return request;
+    }
+
+    int[] cached = cache.get(key);
+    if (cached != null) {
+      request.path = cached;
+      return request;
+    }
+
+    Request pending = pendingByKey.get(key);
+    if (pending != null && !pending.isCancelled()) {
+      pending.waiters++;
+      return pending;
+    }
+
+    pendingByKey.put(key, request);
+    queue.add(request);
+    return request;
+  }
+
+  /**
+   * Avança as buscas da fila, até NODE_BUDGET nós (chamado uma vez por tick)
+   */
+  public void update() {
+    checkMapVersion();
+    int budget = NODE_BUDGET;
+
+    while (budget > 0) {
+      if (active == null) {
+        active = nextRequest();
+        if (active == null) {
+          return;
+        }
+        // Outro pedido pode ter preenchido o cache enquanto este esperava
+        int[] cached = cache.get(active.key);
+        if (cached != null) {
+          finish(cached);
+          continue;
+        }
+        beginSearch();
+      } else if (active.isCancelled()) {
+        // Ninguém mais espera por esta busca
+        pendingByKey.remove(active.key, active);
+        active = null;
+        continue;
+      }
+      budget = expand(budget);
+    }
+  }
+
+  /**
+   * Largura do mapa usada nos índices dos caminhos
+   */
+  public int getMapWidth() {
+    return tileMap.getWidth();
+  }
+
+  /**
+   * Número de pedidos esperando (inclui a busca em andamento)
+   */
+  public int getQueueSize() {
+    return queue.size() + (active != null ? 1 : 0);
+  }
+
+  private Request nextRequest() {
+    while (!queue.isEmpty()) {
+      Request request = queue.poll();
+      if (!request.isCancelled()) {
+        return request;
+      }
+      pendingByKey.remove(request.key, request);
+    }
+    return null;
+  }
+
+  /**
+   * Mapa mudou: caminhos antigos não valem mais e a busca atual recomeça
+   */
+  private void checkMapVersion() {
+    if (cachedMapVersion == tileMap.getMapVersion()) {
+      return;
+    }
+    cachedMapVersion = tileMap.getMapVersion();
+    cache.clear();
+    if (active != null) {
+      queue.addFirst(active);
+      active = null;
+    }
+    if (width != tileMap.getWidth() || height != tileMap.getHeight()) {
+      // Índices dos pedidos na fila foram calculados para outro tamanho
+      for (Request request : queue) {
+        request.path = NO_PATH;
+      }
+      queue.clear();
+      pendingByKey.clear();
+      gScore = null;
+    }
+  }
+
+  private void ensureGrid() {
+    if (gScore == null || width != tileMap.getWidth() || height != tileMap.getHeight()) {
+      width = tileMap.getWidth();
+      height = tileMap.getHeight();
+      windowWidth = Math.min(width, WINDOW_SIZE);
+      windowHeight = Math.min(height, WINDOW_SIZE);
+      int size = windowWidth * windowHeight;
+      gScore = new int[size];
+      parent = new int[size];
+      visitStamp = new int[size];
+      closed = new boolean[size];
+      stamp = 0;
+    }
+  }
+
+  private void beginSearch() {
+    ensureGrid();
+    int startX = active.startIndex % width;
+    int startY = active.startIndex / width;
+    int goalX = active.goalIndex % width;
+    int goalY = active.goalIndex / width;
+    // Janela centrada entre início e destino, dentro do mapa
+    windowX = Math.max(0, Math.min((startX + goalX + 1 - windowWidth) / 2, width - windowWidth));
+    windowY = Math.max(0, Math.min((startY + goalY + 1 - windowHeight) / 2, height - windowHeight));
+    windowGoal = toWindow(goalX, goalY);
+
+    stamp++;
+    heapSize = 0;
+    int start = toWindow(startX, startY);
+    visit(start, 0, -1);
+    push(start, heuristic(start, windowGoal));
+  }
+
+  private int toWindow(int tileX, int tileY) {
+    return (tileY - windowY) * windowWidth + (tileX - windowX);
+  }
+
+  /**
+   * Expande nós da busca ativa até acabar o orçamento ou a busca terminar.
+   * Retorna o orçamento restante.
+   */
+  private int expand(int budget) {
+    int goal = windowGoal;
+
+    while (budget > 0) {
+      if (heapSize == 0) {
+        finish(NO_PATH);
+        return budget;
+      }
+
+      int current = pop();
+      if (closed[current]) {
+        continue; // Entrada antiga da heap
+      }
+      closed[current] = true;
+      budget--;
+
+      if (current == goal) {
+        finish(buildPath(current));
+        return budget;
+      }
+
+      int currentX = current % windowWidth;
+      int currentY = current / windowWidth;
+      for (int i = 0; i < STEP_X.length; i++) {
+        int nx = currentX + STEP_X[i];
+        int ny = currentY + STEP_Y[i];
+        if (nx < 0 || ny < 0 || nx >= windowWidth || ny >= windowHeight
+            || !tileMap.isWalkable(windowX + nx, windowY + ny)) {
+          continue;
+        }
+        boolean diagonal = i >= 4;
+        // Diagonal só se os dois tiles ortogonais estiverem livres (não cortar quinas)
+        if (diagonal && (!tileMap.isWalkable(windowX + nx, windowY + currentY)
+            || !tileMap.isWalkable(windowX + currentX, windowY + ny))) {
+          continue;
+        }
+
+        int next = ny * windowWidth + nx;
+        int cost = gScore[current] + (diagonal ? DIAGONAL_COST : STRAIGHT_COST);
+        if (visitStamp[next] != stamp || cost < gScore[next]) {
+          visit(next, cost, current);
+          push(next, cost + heuristic(next, goal));
+        }
+      }
+    }
+    return budget;
+  }
+
+  private void visit(int node, int cost, int from) {
+    if (visitStamp[node] != stamp) {
+      visitStamp[node] = stamp;
+      closed[node] = false;
+    }
+    gScore[node] = cost;
+    parent[node] = from;
+  }
+
+  /**
+   * Distância octil (admissível para passos de custo 10/14)
+   */
+  private int heuristic(int from, int to) {
+    int dx = Math.abs(from % windowWidth - to % windowWidth);
+    int dy = Math.abs(from / windowWidth - to / windowWidth);
+    return STRAIGHT_COST * Math.max(dx, dy) + (DIAGONAL_COST - STRAIGHT_COST) * Math.min(dx, dy);
+  }
+
+  /**
+   * Caminho do nó até o início, convertido para índices do mapa
+   */
+  private int[] buildPath(int goal) {
+    int length = 0;
+    for (int node = parent[goal]; node != -1; node = parent[node]) {
+      length++;
+    }
+    int[] path = new int[length];
+    int node = goal;
+    for (int i = length - 1; i >= 0; i--) {
+      path[i] = (windowY + node / windowWidth) * width + windowX + node % windowWidth;
+      node = parent[node];
+    }
+    return path;
+  }
+
+  private void finish(int[] path) {
+    cache.put(active.key, path);
+    active.path = path;
+    pendingByKey.remove(active.key, active);
+    active = null;
+  }
+
+  // Heap binária mínima de nós por prioridade (f = g + h)
+  private void push(int node, int priority) {
+    if (heapSize == heapNodes.length) {
+      heapNodes = java.util.Arrays.copyOf(heapNodes, heapSize * 2);
+      heapPriority = java.util.Arrays.copyOf(heapPriority, heapSize * 2);
+    }
+    int i = heapSize++;
+    while (i > 0) {
+      int parentSlot = (i - 1) / 2;
+      if (heapPriority[parentSlot] <= priority) {
+        break;
+      }
+      heapNodes[i] = heapNodes[parentSlot];
+      heapPriority[i] = heapPriority[parentSlot];
+      i = parentSlot;
+    }
+    heapNodes[i] = node;
+    heapPriority[i] = priority;
+  }
+
+  private int pop() {
+    int result = heapNodes[0];
+    heapSize--;
+    if (heapSize > 0) {
+      int node = heapNodes[heapSize];
+      int priority = heapPriority[heapSize];
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= heapSize) {
+          break;
+        }
+        if (child + 1 < heapSize && heapPriority[child + 1] < heapPriority[child]) {
+          child++;
+        }
+        if (heapPriority[child] >= priority) {
+          break;
+        }
+        heapNodes[i] = heapNodes[child];
+        heapPriority[i] = heapPriority[child];
+        i = child;
+      }
+      heapNodes[i] = node;
+      heapPriority[i] = priority;
+    }
+    return result;
+  }
+
+  private boolean inBounds(int tileX, int tileY) {
+    return tileX >= 0 && tileY >= 0 && tileX < width && tileY < height;
+  }
+}
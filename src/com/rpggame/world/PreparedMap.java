@@ -0,0 +1,99 @@
+package com.rpggame.world;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Um mapa pronto para entrar em jogo: os tiles e o que é derivado deles
+ * (portais, tiles de grama usados como pontos de spawn e, quando preparado em
+ * segundo plano, os blocos de chão já assados ao redor do spawn).
+ *
+ * O MapManager guarda os mapas preparados em cache, então voltar a um mapa
+ * reaproveita o grid, os portais e os blocos de chão que ainda estavam
+ * assados. Alterações de tile (TileMap.setTileAt) ficam no grid em cache até
+ * o mapa sair do cache.
+ */
+public final class PreparedMap {
+  private final String mapId;
+  private final String filePath;
+  private final TileGrid grid;
+  private final List<Portal> portals;
+
+  // Derivados preenchidos sob demanda (ou pela thread de pré-carregamento)
+  private volatile int[] grassTiles; // y * largura + x, null = recalcular
+  private volatile TileChunkCache.Layout floor; // null = nenhum bloco assado
+
+  private PreparedMap(String mapId, String filePath, TileGrid grid, List<Portal> portals) {
+    this.mapId = mapId;
+    this.filePath = filePath;
+    this.grid = grid;
+    this.portals = Collections.unmodifiableList(portals);
+  }
+
+  /**
+   * Lê o mapa (MapLoader.loadMap) e monta os portais: os gravados no .rmap
+   * ou, nos mapas em texto, os detectados pelos tiles
+   */
+  public static PreparedMap load(String filePath, String mapId) {
+    MapFile mapFile = MapLoader.loadMap(filePath);
+    List<Portal> portals = mapFile.getPortals();
+    if (portals.isEmpty()) {
+      portals = TileMap.findPortals(mapFile.getGrid(), mapId);
+    }
+    return new PreparedMap(mapId, filePath, mapFile.getGrid(), portals);
+  }
+
+  public String getMapId() {
+    return mapId;
+  }
+
+  public String getFilePath() {
+    return filePath;
+  }
+
+  public TileGrid getGrid() {
+    return grid;
+  }
+
+  public List<Portal> getPortals() {
+    return portals;
+  }
+
+  /**
+   * Tiles de grama (y * largura + x), candidatos a spawn. Calculado uma vez
+   * por mapa (e de novo depois de tilesChanged).
+   */
+  public int[] getGrassTiles() {
+    int[] tiles = grassTiles;
+    if (tiles == null) {
+      int[] count = { 0 };
+      grid.forEachTile(TileType.GRASS, (x, y) -> count[0]++);
+      int[] found = new int[count[0]];
+      int[] next = { 0 };
+      grid.forEachTile(TileType.GRASS, (x, y) -> found[next[0]++] = y * grid.getWidth() + x);
+      tiles = found;
+      grassTiles = tiles;
+    }
+    return tiles;
+  }
+
+  /**
+   * Descarta os derivados dos tiles (chamado quando um tile de grama muda)
+   */
+  void tilesChanged() {
+    grassTiles = null;
+  }
+
+  TileChunkCache.Layout getFloor() {
+    return floor;
+  }
+
+  void setFloor(TileChunkCache.Layout floor) {
+    this.floor = floor;
+  }
+
+  @Override
+  public String toString() {
+    return mapId + " (" + grid.getWidth() + "x" + grid.getHeight() + ", " + portals.size() + " portais)";
+  }
+}
@@ -0,0 +1,223 @@
+package com.rpggame.world;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Registro das fontes, cores, traços e composições usados no desenho. Cada
+ * combinação é criada uma vez e devolvida nas chamadas seguintes, então os
+ * métodos render() podem pedir o estado de desenho a cada frame sem alocar:
+ *
+ * g.setFont(RenderResources.font("Arial", Font.BOLD, 14));
+ * g.setColor(RenderResources.color(255, 0, 0, (int) (alpha * 255)));
+ * g.setStroke(RenderResources.stroke(2));
+ * g.setComposite(RenderResources.composite(0.5f));
+ *
+ * As cores ficam em rampas de transparência: cada RGB tem as 256 variações de
+ * alpha, preenchidas sob demanda, o que cobre os efeitos que desbotam a cada
+ * frame (withAlpha também parte de uma cor pronta). Valores fora da faixa
+ * lançam a mesma IllegalArgumentException dos construtores do AWT.
+ *
+ * Leituras não travam e podem vir de qualquer thread (render, EDT).
+ */
+public final class RenderResources {
+  private static final int MAX_FONT_SIZE = 128; // Acima disso, Font nova (raro)
+  private static final int FONT_STYLES = 4; // PLAIN, BOLD, ITALIC, BOLD|ITALIC
+
+  private static final ConcurrentHashMap<String, AtomicReferenceArray<Font>> fonts = new ConcurrentHashMap<>();
+  private static final IntTable<AtomicReferenceArray<Color>> alphaRamps = new IntTable<>();
+  private static final IntTable<BasicStroke> strokes = new IntTable<>();
+  private static final AtomicReferenceArray<AlphaComposite> composites = new AtomicReferenceArray<>(256);
+
+  private RenderResources() {
+  }
+
+  // ===================== Fontes =====================
+
+  /**
+   * Mesma fonte de new Font(family, style, size)
+   */
+  public static Font font(String family, int style, int size) {
+    if (size < 0 || size >= MAX_FONT_SIZE || style < 0 || style >= FONT_STYLES) {
+      return new Font(family, style, size);
+    }
+    AtomicReferenceArray<Font> sizes = fonts.get(family);
+    if (sizes == null) {
+      sizes = fonts.computeIfAbsent(family, f -> new AtomicReferenceArray<>(FONT_STYLES * MAX_FONT_SIZE));
+    }
+    int index = style * MAX_FONT_SIZE + size;
+    Font font = sizes.get(index);
+    if (font == null) {
+      font = new Font(family, style, size);
+      sizes.set(index, font);
+    }
+    return font;
+  }
+
+  // ===================== Cores =====================
+
+  /**
+   * Mesma cor de new Color(r, g, b)
+   */
+  public static Color color(int r, int g, int b) {
+    return color(r, g, b, 255);
+  }
+
+  /**
+   * Mesma cor de new Color(r, g, b, a)
+   */
+  public static Color color(int r, int g, int b, int a) {
+    if (((r | g | b | a) & ~0xFF) != 0) {
+      return new Color(r, g, b, a); // Lança a exceção do AWT
+    }
+    return rampEntry((r << 16) | (g << 8) | b, a);
+  }
+
+  /**
+   * Mesma cor de new Color(r, g, b) com componentes de 0.0 a 1.0
+   */
+  public static Color color(float r, float g, float b) {
+    return color(r, g, b, 1.0f);
+  }
+
+  /**
+   * Mesma cor de new Color(r, g, b, a) com componentes de 0.0 a 1.0
+   */
+  public static Color color(float r, float g, float b, float a) {
+    if (!(r >= 0 && r <= 1 && g >= 0 && g <= 1 && b >= 0 && b <= 1 && a >= 0 && a <= 1)) {
+      return new Color(r, g, b, a); // Lança a exceção do AWT
+    }
+    // Mesmo arredondamento do construtor de float do Color
+    return color((int) (r * 255 + 0.5), (int) (g * 255 + 0.5), (int) (b * 255 + 0.5), (int) (a * 255 + 0.5));
+  }
+
+  /**
+   * A cor base com outro alpha (0-255), para efeitos que desbotam
+   */
+  public static Color withAlpha(Color base, int alpha) {
+    return color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+  }
+
+  private static Color rampEntry(int rgb, int alpha) {
+    AtomicReferenceArray<Color> ramp = alphaRamps.get(rgb);
+    if (ramp == null) {
+      ramp = alphaRamps.putIfAbsent(rgb, new AtomicReferenceArray<>(256));
+    }
+    Color color = ramp.get(alpha);
+    if (color == null) {
+      color = new Color((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF, alpha);
+      ramp.set(alpha, color);
+    }
+    return color;
+  }
+
+  // ===================== Traços e composições =====================
+
+  /**
+   * Mesmo traço de new BasicStroke(width)
+   */
+  public static BasicStroke stroke(float width) {
+    int key = Float.floatToIntBits(width);
+    BasicStroke stroke = strokes.get(key);
+    if (stroke == null) {
+      stroke = strokes.putIfAbsent(key, new BasicStroke(width));
+    }
+    return stroke;
+  }
+
+  /**
+   * AlphaComposite.SRC_OVER com a opacidade dada (0.0 a 1.0), arredondada
+   * para 1/255 (a mesma precisão dos pixels)
+   */
+  public static AlphaComposite composite(float alpha) {
+    if (!(alpha >= 0.0f && alpha <= 1.0f)) {
+      return AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha); // Lança a exceção do AWT
+    }
+    int index = Math.round(alpha * 255);
+    AlphaComposite composite = composites.get(index);
+    if (composite == null) {
+      composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, index / 255.0f);
+      composites.set(index, composite);
+    }
+    return composite;
+  }
+
+  /**
+   * Tabela int -> valor com endereçamento aberto. A leitura usa o array
+   * publicado (volatile) sem travar; a inserção copia o array sob lock, o que
+   * só acontece enquanto o registro ainda está sendo preenchido.
+   */
+  private static final class IntTable<V> {
+    private static final class Slots {
+      final int[] keys;
+      final Object[] values; // null = vazio
+      final int size;
+
+      Slots(int capacity, int size) {
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.size = size;
+      }
+    }
+
+    private volatile Slots slots = new Slots(64, 0);
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+      Slots current = slots;
+      int mask = current.keys.length - 1;
+      for (int i = mix(key) & mask;; i = (i + 1) & mask) {
+        Object value = current.values[i];
+        if (value == null) {
+          return null;
+        }
+        if (current.keys[i] == key) {
+          return (V) value;
+        }
+      }
+    }
+
+    /**
+     * Insere o valor se a chave ainda não existe; retorna o valor guardado
+     */
+    synchronized V putIfAbsent(int key, V value) {
+      V existing = get(key);
+      if (existing != null) {
+        return existing;
+      }
+      Slots current = slots;
+      int capacity = current.keys.length;
+      if ((current.size + 1) * 2 > capacity) {
+        capacity *= 2; // Carga máxima de 50%
+      }
+      Slots next = new Slots(capacity, current.size + 1);
+      for (int i = 0; i < current.keys.length; i++) {
+        if (current.values[i] != null) {
+          insert(next, current.keys[i], current.values[i]);
+        }
+      }
+      insert(next, key, value);
+      slots = next;
+      return value;
+    }
+
+    private static void insert(Slots target, int key, Object value) {
+      int mask = target.keys.length - 1;
+      int i = mix(key) & mask;
+      while (target.values[i] != null) {
+        i = (i + 1) & mask;
+      }
+      target.keys[i] = key;
+      target.values[i] = value;
+    }
+
+    private static int mix(int key) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.rpggame.world;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Imagem pronta para desenho: uma região de uma página do TextureAtlas ou, até
+ * o próximo empacotamento, uma imagem própria.
+ *
+ * A região pode mudar quando o atlas é refeito (troca de mapa); a troca é
+ * atômica, então a thread de renderização sempre vê uma região completa.
+ */
+public class Sprite {
+  /**
+   * Onde os pixels do sprite estão guardados
+   */
+  private static final class Region {
+    final BufferedImage image;
+    final int x, y;
+    final boolean wholeImage; // A região é a imagem inteira (desenho direto)
+
+    Region(BufferedImage image, int x, int y, int width, int height) {
+      this.image = image;
+      this.x = x;
+      this.y = y;
+      this.wholeImage = x == 0 && y == 0 && image.getWidth() == width && image.getHeight() == height;
+    }
+  }
+
+  private final int width;
+  private final int height;
+  private volatile Region region;
+
+  private Sprite(BufferedImage image, int x, int y, int width, int height) {
+    this.width = width;
+    this.height = height;
+    this.region = new Region(image, x, y, width, height);
+  }
+
+  /**
+   * Sprite avulso a partir de uma imagem inteira (sprites gerados em código)
+   */
+  public static Sprite of(BufferedImage image) {
+    return new Sprite(image, 0, 0, image.getWidth(), image.getHeight());
+  }
+
+  /**
+   * Move o sprite para uma região de uma página do atlas
+   */
+  void moveTo(BufferedImage page, int x, int y) {
+    region = new Region(page, x, y, width, height);
+  }
+
+  /**
+   * Copia os pixels do sprite para g na posição informada, sem mistura
+   */
+  void copyTo(Graphics2D g, int x, int y) {
+    Composite previous = g.getComposite();
+    g.setComposite(AlphaComposite.Src);
+    draw(g, x, y);
+    g.setComposite(previous);
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Desenha o sprite no tamanho em que foi carregado
+   */
+  public void draw(Graphics g, int x, int y) {
+    Region r = region;
+    if (r.wholeImage) {
+      g.drawImage(r.image, x, y, null);
+    } else {
+      g.drawImage(r.image, x, y, x + width, y + height, r.x, r.y, r.x + width, r.y + height, null);
+    }
+  }
+
+  /**
+   * Desenha o sprite redimensionado (evitar no caminho quente: prefira carregar
+   * já no tamanho de desenho)
+   */
+  public void draw(Graphics g, int x, int y, int drawWidth, int drawHeight) {
+    Region r = region;
+    g.drawImage(r.image, x, y, x + drawWidth, y + drawHeight, r.x, r.y, r.x + width, r.y + height, null);
+  }
+}
@@ -0,0 +1,115 @@
+package com.rpggame.world;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Empacota sprites em poucas páginas grandes (atlas), para que o Java2D
+ * mantenha poucas imagens aceleradas e os desenhos não troquem de textura a
+ * cada sprite.
+ *
+ * O empacotamento é por prateleiras: sprites ordenados por altura e colocados
+ * lado a lado em faixas horizontais. Sprites maiores que uma página ficam
+ * avulsos.
+ */
+class TextureAtlas {
+  static final int PAGE_SIZE = 1024;
+  private static final int PADDING = 1; // Evita vazamento entre vizinhos ao redimensionar
+
+  private TextureAtlas() {
+  }
+
+  /**
+   * Empacota os sprites em páginas novas e move cada um para sua região.
+   * Retorna o número de páginas criadas.
+   */
+  static int pack(Collection<Sprite> sprites) {
+    List<Sprite> sorted = new ArrayList<>();
+    for (Sprite sprite : sprites) {
+      if (sprite.getWidth() + PADDING <= PAGE_SIZE && sprite.getHeight() + PADDING <= PAGE_SIZE) {
+        sorted.add(sprite);
+      }
+    }
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    sorted.sort((a, b) -> b.getHeight() != a.getHeight() ? b.getHeight() - a.getHeight() : b.getWidth() - a.getWidth());
+
+    // Primeira passada: posições de cada sprite
+    int count = sorted.size();
+    int[] pageOf = new int[count];
+    int[] posX = new int[count];
+    int[] posY = new int[count];
+    List<Integer> pageHeights = new ArrayList<>();
+
+    int page = 0;
+    int shelfX = 0;
+    int shelfY = 0;
+    int shelfHeight = 0;
+    for (int i = 0; i < count; i++) {
+      Sprite sprite = sorted.get(i);
+      int w = sprite.getWidth() + PADDING;
+      int h = sprite.getHeight() + PADDING;
+
+      if (shelfX + w > PAGE_SIZE) {
+        // Nova prateleira
+        shelfY += shelfHeight;
+        shelfX = 0;
+        shelfHeight = 0;
+      }
+      if (shelfY + h > PAGE_SIZE) {
+        // Nova página
+        pageHeights.add(shelfY);
+        page++;
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+      }
+
+      pageOf[i] = page;
+      posX[i] = shelfX;
+      posY[i] = shelfY;
+      shelfX += w;
+      shelfHeight = Math.max(shelfHeight, h);
+    }
+    pageHeights.add(shelfY + shelfHeight);
+
+    // Segunda passada: desenhar cada página e mover os sprites para ela
+    BufferedImage[] pages = new BufferedImage[pageHeights.size()];
+    for (int p = 0; p < pages.length; p++) {
+      pages[p] = createPage(PAGE_SIZE, pageHeights.get(p));
+    }
+
+    Graphics2D[] graphics = new Graphics2D[pages.length];
+    for (int p = 0; p < pages.length; p++) {
+      graphics[p] = pages[p].createGraphics();
+    }
+    for (int i = 0; i < count; i++) {
+      sorted.get(i).copyTo(graphics[pageOf[i]], posX[i], posY[i]);
+    }
+    for (Graphics2D g : graphics) {
+      g.dispose();
+    }
+
+    // Só depois das páginas prontas os sprites passam a apontar para elas
+    for (int i = 0; i < count; i++) {
+      sorted.get(i).moveTo(pages[pageOf[i]], posX[i], posY[i]);
+    }
+    return pages.length;
+  }
+
+  /**
+   * Página transparente no formato da tela (ou comum, sem monitor)
+   */
+  private static BufferedImage createPage(int width, int height) {
+    if (!GraphicsEnvironment.isHeadless()) {
+      GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+          .getDefaultScreenDevice().getDefaultConfiguration();
+      return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+    return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+  }
+}
@@ -0,0 +1,267 @@
+package com.rpggame.world;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cache da camada de chão do TileMap em blocos pré-renderizados de
+ * CHUNK_SIZE x CHUNK_SIZE tiles.
+ *
+ * Cada bloco é desenhado uma única vez numa imagem compatível com a tela
+ * (acelerada pelo Java2D) e só é refeito quando um tile dele muda. Com isso o
+ * render do mapa passa de um drawImage por tile para um por bloco visível.
+ *
+ * Só MAX_BAKED_CHUNKS blocos ficam com imagem ao mesmo tempo: ao assar um
+ * bloco novo com o limite cheio, o usado há mais tempo perde a imagem (que é
+ * reaproveitada). A tela precisa de no máximo 16, então nos mapas grandes a
+ * memória de imagens não cresce com o mapa.
+ *
+ * Os blocos de cada mapa ficam num Layout, que o PreparedMap guarda ao sair do
+ * mapa e devolve ao voltar (install); o pré-carregamento de portais assa os
+ * blocos ao redor do spawn do destino em segundo plano (prebake).
+ */
+public class TileChunkCache {
+  public static final int CHUNK_SIZE = 8; // Tiles por lado de cada bloco
+  private static final int MAX_BAKED_CHUNKS = 32;
+
+  /**
+   * Grade de blocos de um mapa. Trocada inteira (pela thread do jogo) quando o
+   * mapa muda e publicada pelo campo volatile layout; as imagens e a lista de
+   * blocos assados só são acessadas pela thread de renderização (ou, antes de
+   * ser instalada, pela thread que a preparou).
+   */
+  static final class Layout {
+    final TileGrid grid;
+    final int mapWidth;
+    final int mapHeight;
+    final int chunksX;
+    final int chunksY;
+    final BufferedImage[] images; // null = bloco sem imagem
+    final boolean[] dirty;
+
+    // Blocos com imagem e o frame em que foram desenhados por último (LRU)
+    final int[] baked = new int[MAX_BAKED_CHUNKS];
+    final long[] lastUsed = new long[MAX_BAKED_CHUNKS];
+    int bakedCount = 0;
+
+    Layout(TileGrid grid) {
+      this.grid = grid;
+      this.mapWidth = grid.getWidth();
+      this.mapHeight = grid.getHeight();
+      this.chunksX = (mapWidth + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      this.chunksY = (mapHeight + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      this.images = new BufferedImage[chunksX * chunksY];
+      this.dirty = new boolean[chunksX * chunksY];
+    }
+  }
+
+  private final TileMap tileMap;
+  private final int tileSize;
+  private volatile Layout layout;
+
+  // Escrita após cada invalidação para que a thread de renderização enxergue
+  // as marcações feitas pela thread do jogo
+  private volatile int invalidationCount = 0;
+  private long frame = 0; // Só a thread de renderização acessa
+
+  public TileChunkCache(TileMap tileMap, int tileSize) {
+    this.tileMap = tileMap;
+    this.tileSize = tileSize;
+    this.layout = new Layout(tileMap.getGrid());
+  }
+
+  /**
+   * Marca todos os blocos para serem refeitos; se o TileMap está com outro
+   * grid, recria a grade de blocos
+   */
+  public void invalidateAll() {
+    Layout current = layout;
+    if (current.grid != tileMap.getGrid()) {
+      layout = new Layout(tileMap.getGrid());
+    } else {
+      java.util.Arrays.fill(current.dirty, true);
+    }
+    invalidationCount++;
+  }
+
+  /**
+   * Passa a desenhar os blocos informados (troca de mapa). Sem blocos do grid
+   * atual do TileMap, começa uma grade vazia.
+   */
+  void install(Layout floor) {
+    layout = floor != null && floor.grid == tileMap.getGrid() ? floor : new Layout(tileMap.getGrid());
+    invalidationCount++;
+  }
+
+  /**
+   * Blocos do mapa atual (para o PreparedMap guardar ao sair do mapa)
+   */
+  Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Assa, fora da thread de renderização, os blocos de chão que aparecem numa
+   * tela centrada no tile informado do grid. Retorna os blocos para install.
+   */
+  Layout prebake(TileGrid grid, int centerTileX, int centerTileY, int viewWidth, int viewHeight) {
+    Layout floor = new Layout(grid);
+    int mapPixelsWide = grid.getWidth() * tileSize;
+    int mapPixelsHigh = grid.getHeight() * tileSize;
+    double cameraX = Math.max(0, Math.min(centerTileX * tileSize - viewWidth / 2.0, mapPixelsWide - viewWidth));
+    double cameraY = Math.max(0, Math.min(centerTileY * tileSize - viewHeight / 2.0, mapPixelsHigh - viewHeight));
+
+    int chunkPixels = CHUNK_SIZE * tileSize;
+    int startX = Math.max(0, (int) (cameraX / chunkPixels));
+    int endX = Math.min(floor.chunksX, (int) ((cameraX + viewWidth) / chunkPixels) + 1);
+    int startY = Math.max(0, (int) (cameraY / chunkPixels));
+    int endY = Math.min(floor.chunksY, (int) ((cameraY + viewHeight) / chunkPixels) + 1);
+    for (int chunkY = startY; chunkY < endY; chunkY++) {
+      for (int chunkX = startX; chunkX < endX; chunkX++) {
+        bakeChunk(floor, chunkX, chunkY);
+      }
+    }
+    return floor;
+  }
+
+  /**
+   * Marca o bloco que contém o tile informado para ser refeito
+   */
+  public void invalidateTile(int tileX, int tileY) {
+    Layout current = layout;
+    int chunkX = tileX / CHUNK_SIZE;
+    int chunkY = tileY / CHUNK_SIZE;
+    if (tileX >= 0 && tileY >= 0 && chunkX < current.chunksX && chunkY < current.chunksY) {
+      current.dirty[chunkY * current.chunksX + chunkX] = true;
+      invalidationCount++;
+    }
+  }
+
+  /**
+   * Desenha os blocos que intersectam a área visível da câmera
+   */
+  public void render(Graphics2D g, double cameraX, double cameraY, int viewWidth, int viewHeight) {
+    syncInvalidations(); // Barreira antes de consultar current.dirty
+    Layout current = layout;
+    frame++;
+
+    int chunkPixels = CHUNK_SIZE * tileSize;
+    int startX = Math.max(0, (int) (cameraX / chunkPixels));
+    int endX = Math.min(current.chunksX, (int) ((cameraX + viewWidth) / chunkPixels) + 1);
+    int startY = Math.max(0, (int) (cameraY / chunkPixels));
+    int endY = Math.min(current.chunksY, (int) ((cameraY + viewHeight) / chunkPixels) + 1);
+
+    for (int chunkY = startY; chunkY < endY; chunkY++) {
+      for (int chunkX = startX; chunkX < endX; chunkX++) {
+        int index = chunkY * current.chunksX + chunkX;
+        if (current.dirty[index] || current.images[index] == null) {
+          bakeChunk(current, chunkX, chunkY);
+        }
+        touch(current, index);
+        int screenX = (int) (chunkX * chunkPixels - cameraX);
+        int screenY = (int) (chunkY * chunkPixels - cameraY);
+        g.drawImage(current.images[index], screenX, screenY, null);
+      }
+    }
+  }
+
+  /**
+   * Barreira de memória para a thread de renderização: a leitura volátil de
+   * invalidationCount torna visíveis as marcações de blocos sujos feitas pela
+   * thread do jogo antes de cada invalidationCount++. Quem chama pode ignorar
+   * o valor (um bloco sujo fora da tela continua marcado até aparecer), mas a
+   * leitura não pode ser removida.
+   */
+  private int syncInvalidations() {
+    return invalidationCount;
+  }
+
+  /**
+   * Registra que o bloco foi desenhado neste frame
+   */
+  private void touch(Layout current, int index) {
+    for (int i = 0; i < current.bakedCount; i++) {
+      if (current.baked[i] == index) {
+        current.lastUsed[i] = frame;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Redesenha todos os tiles de um bloco na sua imagem
+   */
+  private void bakeChunk(Layout current, int chunkX, int chunkY) {
+    int index = chunkY * current.chunksX + chunkX;
+    int firstTileX = chunkX * CHUNK_SIZE;
+    int firstTileY = chunkY * CHUNK_SIZE;
+    int tilesWide = Math.min(CHUNK_SIZE, current.mapWidth - firstTileX);
+    int tilesHigh = Math.min(CHUNK_SIZE, current.mapHeight - firstTileY);
+
+    // Limpar antes de pintar: uma invalidação durante a pintura continua valendo
+    current.dirty[index] = false;
+
+    BufferedImage image = current.images[index];
+    if (image == null) {
+      image = claimImage(current, index);
+    }
+    if (image == null || image.getWidth() != tilesWide * tileSize || image.getHeight() != tilesHigh * tileSize) {
+      image = createChunkImage(tilesWide * tileSize, tilesHigh * tileSize);
+    }
+    current.images[index] = image;
+
+    Graphics2D g = image.createGraphics();
+    try {
+      // Fundo preto, igual ao do painel, para sprites com transparência
+      g.setColor(Color.BLACK);
+      g.fillRect(0, 0, image.getWidth(), image.getHeight());
+
+      for (int y = 0; y < tilesHigh; y++) {
+        for (int x = 0; x < tilesWide; x++) {
+          tileMap.paintTile(g, current.grid, firstTileX + x, firstTileY + y, x * tileSize, y * tileSize);
+        }
+      }
+    } finally {
+      g.dispose();
+    }
+  }
+
+  /**
+   * Reserva uma vaga de bloco assado para o bloco informado. Com o limite
+   * cheio, tira a imagem do bloco usado há mais tempo e a devolve para ser
+   * reaproveitada; senão retorna null.
+   */
+  private BufferedImage claimImage(Layout current, int index) {
+    if (current.bakedCount < MAX_BAKED_CHUNKS) {
+      current.baked[current.bakedCount] = index;
+      current.lastUsed[current.bakedCount] = frame;
+      current.bakedCount++;
+      return null;
+    }
+
+    int oldest = 0;
+    for (int i = 1; i < MAX_BAKED_CHUNKS; i++) {
+      if (current.lastUsed[i] < current.lastUsed[oldest]) {
+        oldest = i;
+      }
+    }
+    int evicted = current.baked[oldest];
+    BufferedImage image = current.images[evicted];
+    current.images[evicted] = null;
+    current.baked[oldest] = index;
+    current.lastUsed[oldest] = frame;
+    return image;
+  }
+
+  /**
+   * Cria uma imagem opaca no formato da tela (ou comum, sem monitor)
+   */
+  private static BufferedImage createChunkImage(int width, int height) {
+    if (!GraphicsEnvironment.isHeadless()) {
+      GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+          .getDefaultScreenDevice().getDefaultConfiguration();
+      return config.createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+    return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+  }
+}
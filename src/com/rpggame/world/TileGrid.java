@@ -0,0 +1,280 @@
+package com.rpggame.world;
+
+/**
+ * Grade de tiles de um mapa de qualquer tamanho (até MAX_DIMENSION por lado),
+ * guardada em blocos de CHUNK_SIZE x CHUNK_SIZE criados sob demanda.
+ *
+ * Um bloco só é decodificado (pela Source do mapa) na primeira vez que algum
+ * tile dele é lido, então memória e tempo de carga acompanham a área que o
+ * jogo realmente visita, não o retângulo inteiro. Blocos de um tile só (mar,
+ * paredes, campo aberto) apontam para um bloco uniforme compartilhado e só
+ * ganham cópia própria quando um tile deles muda.
+ *
+ * Cada bloco guarda um byte por tile (o id do TileType) e dois bitsets com
+ * uma palavra int por linha de 32 tiles: caminhável e opaco (bloqueia a
+ * visão). Colisão, linha de visão e fog consultam os bitsets com isWalkable e
+ * isOpaque, que leem uma palavra sem passar pelo enum.
+ *
+ * Pode ser lida de várias threads (o render assa os blocos de chão): a carga
+ * de um bloco é sincronizada e o bloco é publicado por um campo final.
+ */
+public class TileGrid {
+  public static final int CHUNK_SHIFT = 5;
+  public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 32 tiles por lado
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  public static final int MAX_DIMENSION = 4096;
+
+  /**
+   * Origem dos tiles de um mapa (arquivo, gerador). Preenche out, linha a
+   * linha com CHUNK_SIZE tiles por linha, com os ids (TileType.getId) dos
+   * tiles do bloco; posições além da borda do mapa podem ficar com qualquer
+   * valor.
+   */
+  public interface Source {
+    void load(int chunkX, int chunkY, byte[] out);
+  }
+
+  /**
+   * Recebe as coordenadas dos tiles encontrados por forEachTile
+   */
+  public interface TileVisitor {
+    void visit(int x, int y);
+  }
+
+  private static final class Chunk {
+    final byte[] tiles; // Id do tile, linha a linha
+    final int[] walkable = new int[CHUNK_SIZE]; // Bit x da palavra y = tile caminhável
+    final int[] opaque = new int[CHUNK_SIZE]; // Bit x da palavra y = tile bloqueia a visão
+    final boolean shared; // Bloco uniforme compartilhado: copiar antes de alterar
+
+    Chunk(byte[] tiles, boolean shared) {
+      this.tiles = tiles;
+      this.shared = shared;
+      for (int i = 0; i < tiles.length; i++) {
+        updateBits(i, tiles[i]);
+      }
+    }
+
+    void updateBits(int index, byte id) {
+      int row = index >> CHUNK_SHIFT;
+      int bit = 1 << (index & CHUNK_MASK);
+      walkable[row] = (walkable[row] & ~bit) | (WALKABLE_BY_ID[id] ? bit : 0);
+      opaque[row] = (opaque[row] & ~bit) | (OPAQUE_BY_ID[id] ? bit : 0);
+    }
+  }
+
+  // Tabelas por id de tile (ids são pequenos e sem buracos, ver TileType)
+  private static final TileType[] TYPE_BY_ID = new TileType[TileType.values().length];
+  private static final boolean[] WALKABLE_BY_ID = new boolean[TYPE_BY_ID.length];
+  private static final boolean[] OPAQUE_BY_ID = new boolean[TYPE_BY_ID.length];
+
+  // Um bloco uniforme por tipo de tile, compartilhado por todos os mapas
+  private static final Chunk[] UNIFORM = new Chunk[TYPE_BY_ID.length];
+
+  static {
+    for (TileType type : TileType.values()) {
+      TYPE_BY_ID[type.getId()] = type;
+      WALKABLE_BY_ID[type.getId()] = type.isWalkable();
+      OPAQUE_BY_ID[type.getId()] = type.blocksVision();
+    }
+    for (TileType type : TileType.values()) {
+      byte[] tiles = new byte[CHUNK_SIZE * CHUNK_SIZE];
+      java.util.Arrays.fill(tiles, (byte) type.getId());
+      UNIFORM[type.getId()] = new Chunk(tiles, true);
+    }
+  }
+
+  private final int width;
+  private final int height;
+  private final int chunksX;
+  private final int chunksY;
+  private final Chunk[] chunks;
+  private final Source source; // null = grade começa toda com o tile de preenchimento
+  private final byte fill;
+  private int loadedChunks = 0;
+
+  /**
+   * Grade toda preenchida com o tile informado
+   */
+  public TileGrid(int width, int height, TileType fill) {
+    this(width, height, fill, null);
+  }
+
+  /**
+   * Grade cujos blocos são lidos da source quando usados pela primeira vez
+   */
+  public TileGrid(int width, int height, TileType fill, Source source) {
+    if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+      throw new IllegalArgumentException("Dimensões de mapa inválidas: " + width + "x" + height
+          + " (máximo " + MAX_DIMENSION + ")");
+    }
+    this.width = width;
+    this.height = height;
+    this.chunksX = (width + CHUNK_MASK) >> CHUNK_SHIFT;
+    this.chunksY = (height + CHUNK_MASK) >> CHUNK_SHIFT;
+    this.chunks = new Chunk[chunksX * chunksY];
+    this.fill = (byte) fill.getId();
+    this.source = source;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public boolean contains(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  /**
+   * Tile na posição (que deve estar dentro do mapa, ver contains)
+   */
+  public TileType get(int x, int y) {
+    return TYPE_BY_ID[chunkAt(x, y).tiles[((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK)]];
+  }
+
+  /**
+   * Tile caminhável; fora do mapa é sempre false
+   */
+  public boolean isWalkable(int x, int y) {
+    if ((x | y | (width - 1 - x) | (height - 1 - y)) < 0) {
+      return false; // Algum dos quatro limites ficou negativo
+    }
+    return ((chunkAt(x, y).walkable[y & CHUNK_MASK] >>> x) & 1) != 0;
+  }
+
+  /**
+   * Tile bloqueia a visão (paredes, pedras); fora do mapa é sempre true
+   */
+  public boolean isOpaque(int x, int y) {
+    if ((x | y | (width - 1 - x) | (height - 1 - y)) < 0) {
+      return true;
+    }
+    return ((chunkAt(x, y).opaque[y & CHUNK_MASK] >>> x) & 1) != 0;
+  }
+
+  private Chunk chunkAt(int x, int y) {
+    Chunk chunk = chunks[(y >> CHUNK_SHIFT) * chunksX + (x >> CHUNK_SHIFT)];
+    if (chunk == null) {
+      chunk = loadChunk(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT);
+    }
+    return chunk;
+  }
+
+  /**
+   * Altera o tile na posição (que deve estar dentro do mapa)
+   */
+  public synchronized void set(int x, int y, TileType type) {
+    int index = (y >> CHUNK_SHIFT) * chunksX + (x >> CHUNK_SHIFT);
+    Chunk chunk = chunks[index];
+    if (chunk == null) {
+      chunk = loadChunk(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT);
+    }
+    if (chunk.shared) {
+      chunk = new Chunk(chunk.tiles.clone(), false);
+      chunks[index] = chunk;
+    }
+    int tileIndex = ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    byte id = (byte) type.getId();
+    chunk.tiles[tileIndex] = id;
+    chunk.updateBits(tileIndex, id);
+  }
+
+  /**
+   * Chama o visitor para cada tile do tipo informado, em ordem de linhas.
+   * Blocos ainda não usados são lidos da source sem ficarem guardados.
+   */
+  public void forEachTile(TileType type, TileVisitor visitor) {
+    byte id = (byte) type.getId();
+    byte[] scratch = null;
+    for (int chunkY = 0; chunkY < chunksY; chunkY++) {
+      for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+        Chunk chunk = chunks[chunkY * chunksX + chunkX];
+        byte[] tiles;
+        if (chunk != null) {
+          tiles = chunk.tiles;
+        } else if (source == null) {
+          if (fill != id) {
+            continue;
+          }
+          tiles = UNIFORM[fill].tiles;
+        } else {
+          if (scratch == null) {
+            scratch = new byte[CHUNK_SIZE * CHUNK_SIZE];
+          }
+          source.load(chunkX, chunkY, scratch);
+          tiles = scratch;
+        }
+
+        int firstX = chunkX << CHUNK_SHIFT;
+        int firstY = chunkY << CHUNK_SHIFT;
+        int endX = Math.min(CHUNK_SIZE, width - firstX);
+        int endY = Math.min(CHUNK_SIZE, height - firstY);
+        for (int y = 0; y < endY; y++) {
+          for (int x = 0; x < endX; x++) {
+            if (tiles[(y << CHUNK_SHIFT) | x] == id) {
+              visitor.visit(firstX + x, firstY + y);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Blocos já decodificados (para medir o quanto do mapa está em memória)
+   */
+  public synchronized int getLoadedChunkCount() {
+    return loadedChunks;
+  }
+
+  public int getChunkCount() {
+    return chunks.length;
+  }
+
+  /**
+   * Decodifica o bloco pela source (ou usa o bloco uniforme de preenchimento)
+   */
+  private synchronized Chunk loadChunk(int chunkX, int chunkY) {
+    int index = chunkY * chunksX + chunkX;
+    Chunk chunk = chunks[index];
+    if (chunk != null) {
+      return chunk; // Outra thread carregou primeiro
+    }
+
+    if (source == null) {
+      chunk = UNIFORM[fill];
+    } else {
+      byte[] tiles = new byte[CHUNK_SIZE * CHUNK_SIZE];
+      source.load(chunkX, chunkY, tiles);
+      // Além da borda do mapa (ou id desconhecido): repetir o preenchimento
+      int endX = Math.min(CHUNK_SIZE, width - (chunkX << CHUNK_SHIFT));
+      int endY = Math.min(CHUNK_SIZE, height - (chunkY << CHUNK_SHIFT));
+      for (int y = 0; y < CHUNK_SIZE; y++) {
+        for (int x = 0; x < CHUNK_SIZE; x++) {
+          int tileIndex = (y << CHUNK_SHIFT) | x;
+          if (x >= endX || y >= endY || (tiles[tileIndex] & 0xFF) >= TYPE_BY_ID.length) {
+            tiles[tileIndex] = fill;
+          }
+        }
+      }
+      chunk = uniformOrNew(tiles);
+    }
+    chunks[index] = chunk;
+    loadedChunks++;
+    return chunk;
+  }
+
+  private static Chunk uniformOrNew(byte[] tiles) {
+    byte first = tiles[0];
+    for (int i = 1; i < tiles.length; i++) {
+      if (tiles[i] != first) {
+        return new Chunk(tiles, false);
+      }
+    }
+    return UNIFORM[first];
+  }
+}
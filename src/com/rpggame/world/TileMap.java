@@ -1,11 +1,6 @@
 package com.rpggame.world;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.Map;
 import com.rpggame.core.GamePanel;
@@ -14,44 +9,67 @@ import com.rpggame.entities.Player;
 
 /**
  * Sistema de mapeamento com diferentes tipos de tiles e suporte a mapas
- * personalizados
+ * personalizados. O tamanho vem do mapa carregado (TileGrid, em blocos
+ * carregados sob demanda), não de constantes.
  */
 public class TileMap {
   private final int TILE_SIZE = GamePanel.TILE_SIZE;
-  private final int MAP_WIDTH = GamePanel.MAP_WIDTH;
-  private final int MAP_HEIGHT = GamePanel.MAP_HEIGHT;
 
-  // Mapa de tiles
-  private TileType[][] map;
+  // Mapa de tiles (e o PreparedMap de onde veio, com os derivados em cache)
+  private TileGrid map;
+  private PreparedMap current;
 
   // Sistema de fog of war
   private FogOfWar fogOfWar;
 
   // Cache de sprites dos tiles
-  private Map<TileType, BufferedImage> tileSprites;
+  private Map<TileType, Sprite> tileSprites;
+
+  // Camada de chão pré-renderizada em blocos
+  private TileChunkCache chunkCache;
 
   // Lista de portais no mapa
   private java.util.List<Portal> portals;
 
-  public TileMap() {
+  // Incrementado a cada mudança de tiles (pathfinding usa para invalidar caches)
+  private int mapVersion = 0;
+
+  // Campo de fluxo até o jogador, compartilhado pelos perseguidores
+  private FlowField playerFlowField;
+
+  // Caminhos ponto a ponto (A*) para os demais alvos
+  private PathService pathService;
+
+  /**
+   * Carrega o mapa informado (.rmap ou .txt, ver MapLoader.loadMap) com os
+   * portais do mapa mapId
+   */
+  public TileMap(String mapPath, String mapId) {
+    this(PreparedMap.load(mapPath, mapId));
+  }
+
+  /**
+   * Começa no mapa já preparado (ver MapManager.prepare)
+   */
+  public TileMap(PreparedMap prepared) {
     // Inicializar cache de sprites
     tileSprites = new HashMap<>();
     loadTileSprites();
 
     // Inicializar lista de portais
-    portals = new java.util.ArrayList<>();
+    portals = new java.util.ArrayList<>(prepared.getPortals());
 
-    // Tentar carregar mapa personalizado, senão usar o padrão
-    loadMap();
+    // Um único carregamento; se o arquivo falhou, o MapLoader usou o mapa padrão
+    current = prepared;
+    map = prepared.getGrid();
+    chunkCache = new TileChunkCache(this, TILE_SIZE);
+    chunkCache.install(prepared.getFloor());
 
     // Inicializar fog of war
-    fogOfWar = new FogOfWar(MAP_WIDTH, MAP_HEIGHT);
-
-    // Criar mapa de exemplo se não existir
-    MapLoader.createExampleMap();
+    fogOfWar = new FogOfWar(getWidth(), getHeight());
 
-    // Configurar portais do mapa
-    setupPortals();
+    playerFlowField = new FlowField(this);
+    pathService = new PathService(this);
   }
 
   /**
@@ -64,40 +82,13 @@ public class TileMap {
         TileType.GRASS_PATH };
 
     for (int i = 0; i < spriteFiles.length; i++) {
-      try {
-        BufferedImage sprite = null;
-        String resourcePath = "sprites/" + spriteFiles[i];
-
-        // Tentar carregar como recurso do classpath (funciona no JAR)
-        InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
-        if (is != null) {
-          sprite = ImageIO.read(is);
-          is.close();
-          System.out.println("✅ Sprite carregado do JAR: " + spriteFiles[i]);
-        } else {
-          // Fallback: tentar carregar como arquivo externo (desenvolvimento)
-          String spritePath = ResourceResolver.getResourcePath(resourcePath);
-          File spriteFile = new File(spritePath);
-          if (spriteFile.exists()) {
-            sprite = ImageIO.read(spriteFile);
-            System.out.println("✅ Sprite carregado do arquivo: " + spriteFiles[i]);
-          }
-        }
-
-        if (sprite != null) {
-          // Redimensionar para o tamanho do tile
-          BufferedImage scaledSprite = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
-          Graphics2D g2d = scaledSprite.createGraphics();
-          g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-          g2d.drawImage(sprite, 0, 0, TILE_SIZE, TILE_SIZE, null);
-          g2d.dispose();
-
-          tileSprites.put(tileTypes[i], scaledSprite);
-        } else {
-          System.out.println("⚠️ Sprite não encontrado: " + resourcePath + " - usando cor padrão");
-        }
-      } catch (IOException e) {
-        System.err.println("❌ Erro ao carregar sprite " + spriteFiles[i] + ": " + e.getMessage());
+      String resourcePath = "sprites/" + spriteFiles[i];
+      // Já redimensionado para o tamanho do tile (normalmente pré-carregado)
+      Sprite sprite = AssetCache.acquire(resourcePath, TILE_SIZE, TILE_SIZE);
+      if (sprite != null) {
+        tileSprites.put(tileTypes[i], sprite);
+      } else {
+        System.out.println("⚠️ Sprite não encontrado: " + resourcePath + " - usando cor padrão");
       }
     }
 
@@ -108,124 +99,110 @@ public class TileMap {
     }
   }
 
-  private void loadMap() {
-    // Lista de mapas para tentar carregar em ordem de preferência
-    String[] mapFiles = {
-        "maps/goblin_territories_25x25.txt",
-        "maps/enhanced_map_15x15.txt",
-        "maps/new_map_15x15.txt",
-        "maps/example.txt"
-    };
-
-    // Tentar carregar cada mapa usando o sistema de resolução de caminho
-    for (String mapFile : mapFiles) {
-      String resolvedPath = ResourceResolver.getResourcePath(mapFile);
-      map = MapLoader.loadMapFromFile(resolvedPath);
-      if (map != null) {
-        System.out.println("Mapa carregado com sucesso: " + resolvedPath);
-        break;
-      }
-    }
-
-    // Se não conseguiu carregar, tentar mapa personalizado
-    if (map == null || map.length != MAP_HEIGHT ||
-        (map.length > 0 && map[0].length != MAP_WIDTH)) {
-      map = MapLoader.loadMapFromFile("custom_map.txt");
-    }
+  /**
+   * Atualiza o fog of war com a posição do jogador (chamado a cada tick)
+   */
+  public void updateFogOfWar(Player player) {
+    fogOfWar.updateVisibility(player, map);
+  }
 
-    // Se ainda não conseguiu carregar ou dimensões não batem, usar mapa padrão
-    if (map == null || map.length != MAP_HEIGHT ||
-        (map.length > 0 && map[0].length != MAP_WIDTH)) {
-      map = MapLoader.generateDefaultMap();
-    }
+  /**
+   * Atualiza o campo de fluxo até o jogador (só refaz se ele mudou de tile)
+   */
+  public void updatePlayerFlowField(Player player) {
+    playerFlowField.update(player.getX() + player.getWidth() / 2.0, player.getY() + player.getHeight() / 2.0);
   }
 
-  public void render(Graphics2D g, Camera camera, Player player) {
-    // Atualizar fog of war
-    fogOfWar.updateVisibility(player, map);
+  public FlowField getPlayerFlowField() {
+    return playerFlowField;
+  }
 
-    // Calcular quais tiles estão visíveis na tela
-    int startX = Math.max(0, (int) (camera.getX() / TILE_SIZE));
-    int endX = Math.min(MAP_WIDTH, (int) ((camera.getX() + Game.SCREEN_WIDTH) / TILE_SIZE) + 1);
-    int startY = Math.max(0, (int) (camera.getY() / TILE_SIZE));
-    int endY = Math.min(MAP_HEIGHT, (int) ((camera.getY() + Game.SCREEN_HEIGHT) / TILE_SIZE) + 1);
+  public PathService getPathService() {
+    return pathService;
+  }
 
-    // Renderizar apenas os tiles visíveis
-    for (int tileY = startY; tileY < endY; tileY++) {
-      for (int tileX = startX; tileX < endX; tileX++) {
-        int screenX = (int) (tileX * TILE_SIZE - camera.getX());
-        int screenY = (int) (tileY * TILE_SIZE - camera.getY());
+  /**
+   * Versão do mapa, alterada sempre que algum tile muda
+   */
+  public int getMapVersion() {
+    return mapVersion;
+  }
 
-        // Obter tipo do tile
-        TileType tileType = map[tileY][tileX];
+  public void render(Graphics2D g, Camera camera) {
+    // Chão estático desenhado a partir dos blocos em cache
+    chunkCache.render(g, camera.getX(), camera.getY(), Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT);
 
-        // Verificar se existe sprite para este tipo de tile
-        BufferedImage tileSprite = tileSprites.get(tileType);
+    // Renderizar fog of war
+    fogOfWar.render(g, camera);
+  }
 
-        if (tileSprite != null) {
-          // Usar sprite se disponível
-          g.drawImage(tileSprite, screenX, screenY, null);
-        } else {
-          // Fallback para cores sólidas se sprite não estiver disponível
-          Color tileColor = getTileColor(tileType, tileX, tileY);
-          g.setColor(tileColor);
-          g.fillRect(screenX, screenY, TILE_SIZE, TILE_SIZE);
-
-          // Adicionar bordas para definir melhor os tiles
-          g.setColor(getTileBorderColor(tileType));
-          g.drawRect(screenX, screenY, TILE_SIZE - 1, TILE_SIZE - 1);
-        }
-      }
+  /**
+   * Desenha um tile na posição informada (usado ao montar os blocos do cache)
+   */
+  void paintTile(Graphics2D g, TileGrid grid, int tileX, int tileY, int x, int y) {
+    TileType tileType = grid.get(tileX, tileY);
+
+    // Verificar se existe sprite para este tipo de tile
+    Sprite tileSprite = tileSprites.get(tileType);
+
+    if (tileSprite != null) {
+      // Usar sprite se disponível
+      tileSprite.draw(g, x, y);
+    } else {
+      // Fallback para cores sólidas se sprite não estiver disponível
+      g.setColor(getTileColor(tileType, tileX, tileY));
+      g.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+
+      // Adicionar bordas para definir melhor os tiles
+      g.setColor(getTileBorderColor(tileType));
+      g.drawRect(x, y, TILE_SIZE - 1, TILE_SIZE - 1);
     }
-
-    // Renderizar fog of war
-    fogOfWar.render(g, camera, map);
   }
 
   private Color getTileColor(TileType tileType, int x, int y) {
     switch (tileType) {
       case GRASS:
         // Variação sutil de cor para grama (GRASS)
-        return (x + y) % 2 == 0 ? new Color(34, 139, 34) : new Color(0, 100, 0);
+        return (x + y) % 2 == 0 ? RenderResources.color(34, 139, 34) : RenderResources.color(0, 100, 0);
       case STONE:
         // Pedra cinza com textura rochosa (STONE - não caminhável)
-        return (x + y) % 2 == 0 ? new Color(128, 128, 128) : new Color(105, 105, 105);
+        return (x + y) % 2 == 0 ? RenderResources.color(128, 128, 128) : RenderResources.color(105, 105, 105);
       case WALL:
         // Borda/Parede mais escura e sólida (BORDER)
-        return new Color(64, 64, 64); // Cinza escuro para bordas
+        return RenderResources.color(64, 64, 64); // Cinza escuro para bordas
       case WATER:
         // Água com variação azul (mantém como WATER)
-        return (x + y) % 2 == 0 ? new Color(0, 100, 200) : new Color(0, 120, 220);
+        return (x + y) % 2 == 0 ? RenderResources.color(0, 100, 200) : RenderResources.color(0, 120, 220);
       case DIRT:
-        return new Color(101, 67, 33); // Marrom terra
+        return RenderResources.color(101, 67, 33); // Marrom terra
       case SAND:
-        return new Color(238, 203, 173); // Bege
+        return RenderResources.color(238, 203, 173); // Bege
       default:
-        return new Color(34, 139, 34); // Verde padrão
+        return RenderResources.color(34, 139, 34); // Verde padrão
     }
   }
 
   private Color getTileBorderColor(TileType tileType) {
     switch (tileType) {
       case GRASS:
-        return new Color(0, 80, 0); // Borda verde escura para grama
+        return RenderResources.color(0, 80, 0); // Borda verde escura para grama
       case STONE:
-        return new Color(70, 70, 70); // Borda cinza mais escura para pedras
+        return RenderResources.color(70, 70, 70); // Borda cinza mais escura para pedras
       case WALL:
-        return new Color(32, 32, 32); // Borda preta para bordas/paredes
+        return RenderResources.color(32, 32, 32); // Borda preta para bordas/paredes
       case WATER:
-        return new Color(0, 70, 140); // Borda azul escura para água
+        return RenderResources.color(0, 70, 140); // Borda azul escura para água
       case DIRT:
-        return new Color(80, 50, 20);
+        return RenderResources.color(80, 50, 20);
       case SAND:
-        return new Color(200, 170, 140);
+        return RenderResources.color(200, 170, 140);
       default:
-        return new Color(0, 80, 0);
+        return RenderResources.color(0, 80, 0);
     }
   }
 
   // Getters
-  public TileType[][] getMap() {
+  public TileGrid getGrid() {
     return map;
   }
 
@@ -235,33 +212,22 @@ public class TileMap {
 
   // Verificar se um tile é transitável
   public boolean isWalkable(int tileX, int tileY) {
-    if (tileX < 0 || tileX >= MAP_WIDTH || tileY < 0 || tileY >= MAP_HEIGHT) {
-      return false;
-    }
-    return map[tileY][tileX].isWalkable();
+    return map.isWalkable(tileX, tileY);
   }
 
   // Encontrar uma posição aleatória de grama para spawn do player
   public Point getRandomGrassPosition() {
-    java.util.List<Point> grassTiles = new java.util.ArrayList<>();
-
-    // Encontrar todos os tiles de grama
-    for (int y = 0; y < MAP_HEIGHT; y++) {
-      for (int x = 0; x < MAP_WIDTH; x++) {
-        if (map[y][x] == TileType.GRASS) {
-          grassTiles.add(new Point(x, y));
-        }
-      }
-    }
+    // Tiles de grama calculados uma vez por mapa (PreparedMap)
+    int[] grassTiles = current.getGrassTiles();
 
     // Se não encontrou grama, retorna uma posição padrão
-    if (grassTiles.isEmpty()) {
-      return new Point(MAP_WIDTH / 2, MAP_HEIGHT / 2);
+    if (grassTiles.length == 0) {
+      return new Point(getWidth() / 2, getHeight() / 2);
     }
 
     // Escolher uma posição aleatória
     java.util.Random random = new java.util.Random();
-    Point selectedTile = grassTiles.get(random.nextInt(grassTiles.size()));
+    Point selectedTile = grassTile(grassTiles[random.nextInt(grassTiles.length)]);
 
     // Converter coordenadas do tile para coordenadas do mundo (pixels)
     return new Point(selectedTile.x * TILE_SIZE + TILE_SIZE / 2,
@@ -272,27 +238,18 @@ public class TileMap {
    * Obtém posição centrada no tile considerando o tamanho do objeto
    */
   public Point getCenteredGrassPosition(int objectWidth, int objectHeight) {
-    java.util.List<Point> grassTiles = new java.util.ArrayList<>();
-
-    // Encontrar todos os tiles de grama
-    for (int y = 0; y < MAP_HEIGHT; y++) {
-      for (int x = 0; x < MAP_WIDTH; x++) {
-        if (map[y][x] == TileType.GRASS) {
-          grassTiles.add(new Point(x, y));
-        }
-      }
-    }
+    int[] grassTiles = current.getGrassTiles();
 
     // Se não encontrou grama, retorna uma posição padrão
-    if (grassTiles.isEmpty()) {
-      int centerX = (MAP_WIDTH / 2) * TILE_SIZE + (TILE_SIZE - objectWidth) / 2;
-      int centerY = (MAP_HEIGHT / 2) * TILE_SIZE + (TILE_SIZE - objectHeight) / 2;
+    if (grassTiles.length == 0) {
+      int centerX = (getWidth() / 2) * TILE_SIZE + (TILE_SIZE - objectWidth) / 2;
+      int centerY = (getHeight() / 2) * TILE_SIZE + (TILE_SIZE - objectHeight) / 2;
       return new Point(centerX, centerY);
     }
 
     // Escolher uma posição aleatória
     java.util.Random random = new java.util.Random();
-    Point selectedTile = grassTiles.get(random.nextInt(grassTiles.size()));
+    Point selectedTile = grassTile(grassTiles[random.nextInt(grassTiles.length)]);
 
     // Centralizar o objeto no tile considerando seu tamanho
     int centerX = selectedTile.x * TILE_SIZE + (TILE_SIZE - objectWidth) / 2;
@@ -301,112 +258,131 @@ public class TileMap {
     return new Point(centerX, centerY);
   }
 
+  private Point grassTile(int packed) {
+    return new Point(packed % getWidth(), packed / getWidth());
+  }
+
   /**
    * Getters para dimensões do mapa
    */
   public int getWidth() {
-    return MAP_WIDTH;
+    return map.getWidth();
   }
 
   public int getHeight() {
-    return MAP_HEIGHT;
+    return map.getHeight();
   }
 
   /**
    * Retorna o tipo de tile em uma coordenada específica
    */
   public TileType getTileAt(int x, int y) {
-    if (x >= 0 && x < MAP_WIDTH && y >= 0 && y < MAP_HEIGHT) {
-      return map[y][x];
+    if (map.contains(x, y)) {
+      return map.get(x, y);
     }
     return TileType.WALL; // Retorna parede se fora dos limites
   }
 
   /**
-   * Configura os portais do mapa atual
+   * Altera o tipo de um tile e invalida o bloco correspondente do cache
    */
+  public void setTileAt(int x, int y, TileType tileType) {
+    if (map.contains(x, y) && map.get(x, y) != tileType) {
+      if (tileType == TileType.GRASS || map.get(x, y) == TileType.GRASS) {
+        current.tilesChanged();
+      }
+      map.set(x, y, tileType);
+      chunkCache.invalidateTile(x, y);
+      fogOfWar.invalidate();
+      mapVersion++;
+    }
+  }
+
   /**
-   * Configura portais do mapa baseado no ID do mapa atual
+   * Refaz os portais a partir dos tiles do mapa atual, com as regras do mapa
+   * informado (a troca de mapa usa os portais do PreparedMap)
    */
   public void setupPortals(String currentMapId) {
     portals.clear();
+    portals.addAll(findPortals(map, currentMapId));
+  }
 
-    // Procurar tiles PORTAL e WALKABLE_WATER no mapa e criar portais
-    // automaticamente
-    for (int y = 0; y < MAP_HEIGHT; y++) {
-      for (int x = 0; x < MAP_WIDTH; x++) {
-        boolean isPortalTile = map[y][x] == TileType.PORTAL;
-        boolean isWaterlilyPortal = false;
-
-        // No village, a vitória régia na linha 15 (y=15) é um portal
-        if ("village".equals(currentMapId) && map[y][x] == TileType.WALKABLE_WATER) {
-          if (y == 15 && x == 0) {
-            isWaterlilyPortal = true;
-          }
-        }
-
-        // Na secret area, o WALKABLE_WATER ou PORTAL na direita é a saída
-        if ("secret_area".equals(currentMapId) && map[y][x] == TileType.WALKABLE_WATER) {
-          if (y == 15 && x >= 23) {
-            isWaterlilyPortal = true;
-          }
-        }
-
-        if (isPortalTile || isWaterlilyPortal) {
-          // Definir destino do portal baseado no mapa atual e posição
-
-          if ("village".equals(currentMapId)) {
-            // Village tem dois portais
-            if ((y >= 15 && y <= 16 && x <= 2) || isWaterlilyPortal) {
-              // Portal da vitória régia (canto superior esquerdo) -> Secret Area
-              // Spawna do lado direito na secret area (onde está o portal de volta)
-              portals.add(new Portal(x, y, "secret_area", 23, 15, "Passagem Secreta"));
-              System.out.println("🌀 Portal Village encontrado em (" + x + ", " + y + ") -> Secret Area");
-            } else {
-              // Portal sul -> Goblin Territories
-              portals.add(new Portal(x, y, "goblin_territories", 0, 0, "Portal dos Territórios"));
-              System.out.println("🌀 Portal Village encontrado em (" + x + ", " + y + ") -> Goblin Territories");
-            }
-          } else if ("secret_area".equals(currentMapId)) {
-            // Secret Area -> Village (volta pelo mesmo portal da vitória régia)
-            // Spawna ao lado do portal da vitória régia
-            portals.add(new Portal(x, y, "village", 2, 15, "Portal da Vila"));
-            System.out.println("🌀 Portal Secret Area encontrado em (" + x + ", " + y + ") -> Village");
-          } else {
-            // Goblin Territories -> Village
-            portals.add(new Portal(x, y, "village", 0, 0, "Portal da Vila"));
-            System.out.println("🌀 Portal Goblin encontrado em (" + x + ", " + y + ") -> Village");
-          }
-        }
-      }
-    }
+  public java.util.List<Portal> getPortals() {
+    return portals;
   }
 
   /**
-   * Versão antiga do setupPortals (sem parâmetro) - chama a nova versão com ID
-   * padrão
+   * Procura tiles PORTAL e WALKABLE_WATER no mapa e cria os portais
+   * automaticamente (sem carregar os blocos do mapa). Usada pelo PreparedMap
+   * nos mapas em texto e pelo MapConverter para gravar os portais no .rmap.
    */
-  private void setupPortals() {
-    setupPortals("goblin_territories"); // Mapa inicial padrão
+  public static java.util.List<Portal> findPortals(TileGrid map, String currentMapId) {
+    java.util.List<Portal> found = new java.util.ArrayList<>();
+    map.forEachTile(TileType.PORTAL, (x, y) -> addPortalAt(found, currentMapId, x, y, TileType.PORTAL));
+    map.forEachTile(TileType.WALKABLE_WATER,
+        (x, y) -> addPortalAt(found, currentMapId, x, y, TileType.WALKABLE_WATER));
+    return found;
   }
 
   /**
-   * Verifica se o mapa tem areia significativa (indica vila)
+   * Cria o portal do tile informado, se ele for um portal neste mapa
    */
-  private boolean hasSignificantSand() {
-    int sandCount = 0;
-    int totalTiles = 0;
-
-    for (int y = 0; y < MAP_HEIGHT; y++) {
-      for (int x = 0; x < MAP_WIDTH; x++) {
-        totalTiles++;
-        if (map[y][x] == TileType.SAND) {
-          sandCount++;
+  private static void addPortalAt(java.util.List<Portal> portals, String currentMapId, int x, int y,
+      TileType tileType) {
+    boolean isPortalTile = tileType == TileType.PORTAL;
+    boolean isWaterlilyPortal = false;
+
+    // No village, a vitória régia na linha 15 (y=15) é um portal
+    if ("village".equals(currentMapId) && tileType == TileType.WALKABLE_WATER) {
+      if (y == 15 && x == 0) {
+        isWaterlilyPortal = true;
+      }
+    }
+
+    // Na secret area, o WALKABLE_WATER ou PORTAL na direita é a saída
+    if ("secret_area".equals(currentMapId) && tileType == TileType.WALKABLE_WATER) {
+      if (y == 15 && x >= 23) {
+        isWaterlilyPortal = true;
+      }
+    }
+
+    if (isPortalTile || isWaterlilyPortal) {
+      // Definir destino do portal baseado no mapa atual e posição
+
+      if ("village".equals(currentMapId)) {
+        // Village tem dois portais
+        if ((y >= 15 && y <= 16 && x <= 2) || isWaterlilyPortal) {
+          // Portal da vitória régia (canto superior esquerdo) -> Secret Area
+          // Spawna do lado direito na secret area (onde está o portal de volta)
+          portals.add(new Portal(x, y, "secret_area", 23, 15, "Passagem Secreta"));
+          System.out.println("🌀 Portal Village encontrado em (" + x + ", " + y + ") -> Secret Area");
+        } else {
+          // Portal sul -> Goblin Territories
+          portals.add(new Portal(x, y, "goblin_territories", 0, 0, "Portal dos Territórios"));
+          System.out.println("🌀 Portal Village encontrado em (" + x + ", " + y + ") -> Goblin Territories");
         }
+      } else if ("secret_area".equals(currentMapId)) {
+        // Secret Area -> Village (volta pelo mesmo portal da vitória régia)
+        // Spawna ao lado do portal da vitória régia
+        portals.add(new Portal(x, y, "village", 2, 15, "Portal da Vila"));
+        System.out.println("🌀 Portal Secret Area encontrado em (" + x + ", " + y + ") -> Village");
+      } else {
+        // Goblin Territories -> Village
+        portals.add(new Portal(x, y, "village", 0, 0, "Portal da Vila"));
+        System.out.println("🌀 Portal Goblin encontrado em (" + x + ", " + y + ") -> Village");
       }
     }
+  }
+
+  /**
+   * Verifica se o mapa tem areia significativa (indica vila)
+   */
+  private boolean hasSignificantSand() {
+    int[] sandCount = { 0 };
+    map.forEachTile(TileType.SAND, (x, y) -> sandCount[0]++);
+    int totalTiles = getWidth() * getHeight();
 
-    return sandCount > (totalTiles * 0.05); // Mais de 5% é areia
+    return sandCount[0] > (totalTiles * 0.05); // Mais de 5% é areia
   }
 
   /**
@@ -430,16 +406,41 @@ public class TileMap {
   }
 
   /**
-   * Recarrega o mapa com novo arquivo e ID do mapa
+   * Recarrega o mapa com novo arquivo e ID do mapa (sem passar pelo cache do
+   * MapManager)
    */
   public void reloadMap(String mapPath, String mapId) {
     try {
-      map = MapLoader.loadMapFromFile(mapPath);
-      fogOfWar = new FogOfWar(MAP_WIDTH, MAP_HEIGHT);
-      setupPortals(mapId);
-      System.out.println("🗺️ Mapa recarregado: " + mapPath);
+      installMap(PreparedMap.load(mapPath, mapId));
     } catch (Exception e) {
       System.err.println("❌ Erro ao recarregar mapa: " + e.getMessage());
     }
   }
+
+  /**
+   * Troca para um mapa já preparado: usa o grid, os portais e os blocos de
+   * chão assados dele, e guarda os blocos do mapa que sai no PreparedMap
+   * correspondente (para a volta)
+   */
+  public void installMap(PreparedMap next) {
+    current.setFloor(chunkCache.getLayout());
+    current = next;
+    map = next.getGrid();
+    chunkCache.install(next.getFloor());
+    fogOfWar = new FogOfWar(getWidth(), getHeight());
+    mapVersion++;
+    portals.clear();
+    portals.addAll(next.getPortals());
+    System.out.println("🗺️ Mapa carregado: " + next.getFilePath() + " (" + getWidth() + "x" + getHeight()
+        + ", " + portals.size() + " portais)");
+  }
+
+  /**
+   * Assa os blocos de chão ao redor do spawn de um mapa preparado (chamado
+   * pela thread de pré-carregamento do MapManager)
+   */
+  public void prebakeFloor(PreparedMap prepared, int spawnTileX, int spawnTileY) {
+    prepared.setFloor(chunkCache.prebake(prepared.getGrid(), spawnTileX, spawnTileY,
+        Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT));
+  }
 }
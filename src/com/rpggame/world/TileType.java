@@ -1,13 +1,15 @@
 package com.rpggame.world;
 
 /**
- * Enumeração dos diferentes tipos de tiles no jogo
+ * Enumeração dos diferentes tipos de tiles no jogo. Os ids vão de 0 até
+ * values().length - 1, sem buracos: o TileGrid guarda o id em um byte e usa
+ * tabelas indexadas por ele.
  */
 public enum TileType {
   GRASS(0, "Grass", true),
-  STONE(1, "Stone", false),
-  WALL(2, "Border", false),
-  WATER(3, "Water", false),
+  STONE(1, "Stone", false, true),
+  WALL(2, "Border", false, true),
+  WATER(3, "Water", false), // Água não bloqueia a visão
   DIRT(4, "Terra", true),
   SAND(5, "Areia", true),
   PORTAL(6, "Portal", true), // Tile de transição entre mapas
@@ -17,11 +19,17 @@ public enum TileType {
   private final int id;
   private final String name;
   private final boolean walkable;
+  private final boolean blocksVision;
 
   TileType(int id, String name, boolean walkable) {
+    this(id, name, walkable, false);
+  }
+
+  TileType(int id, String name, boolean walkable, boolean blocksVision) {
     this.id = id;
     this.name = name;
     this.walkable = walkable;
+    this.blocksVision = blocksVision;
   }
 
   public int getId() {
@@ -36,6 +44,13 @@ public enum TileType {
     return walkable;
   }
 
+  /**
+   * Tile bloqueia a linha de visão do fog of war
+   */
+  public boolean blocksVision() {
+    return blocksVision;
+  }
+
   // Método para converter ID em TileType
   public static TileType fromId(int id) {
     for (TileType type : values()) {